@@ -7,7 +7,7 @@ package org.eqcoin.avro;
 
 @org.apache.avro.specific.AvroGenerated
 public interface EQCHiveSyncNetwork {
-  public static final org.apache.avro.Protocol PROTOCOL = org.apache.avro.Protocol.parse("{\"protocol\":\"EQCHiveSyncNetwork\",\"namespace\":\"org.eqcoin.avro\",\"types\":[{\"type\":\"record\",\"name\":\"O\",\"fields\":[{\"name\":\"o\",\"type\":\"bytes\"}]}],\"messages\":{\"registerSP\":{\"request\":[{\"name\":\"S\",\"type\":\"O\"}],\"response\":\"O\"},\"getSPList\":{\"request\":[{\"name\":\"F\",\"type\":\"O\"}],\"response\":\"O\"},\"getEQCHiveTail\":{\"request\":[],\"response\":\"O\"},\"getEQCHiveRootProof\":{\"request\":[{\"name\":\"H\",\"type\":\"O\"}],\"response\":\"O\"},\"getEQCHiveRoot\":{\"request\":[{\"name\":\"H\",\"type\":\"O\"}],\"response\":\"O\"},\"getEQCHive\":{\"request\":[{\"name\":\"H\",\"type\":\"O\"}],\"response\":\"O\"},\"getLockInfo\":{\"request\":[{\"name\":\"S\",\"type\":\"O\"}],\"response\":\"O\"}}}");
+  public static final org.apache.avro.Protocol PROTOCOL = org.apache.avro.Protocol.parse("{\"protocol\":\"EQCHiveSyncNetwork\",\"namespace\":\"org.eqcoin.avro\",\"types\":[{\"type\":\"record\",\"name\":\"O\",\"fields\":[{\"name\":\"o\",\"type\":\"bytes\"},{\"name\":\"c\",\"type\":\"int\",\"default\":0}]}],\"messages\":{\"registerSP\":{\"request\":[{\"name\":\"S\",\"type\":\"O\"}],\"response\":\"O\"},\"getSPList\":{\"request\":[{\"name\":\"F\",\"type\":\"O\"}],\"response\":\"O\"},\"getEQCHiveTail\":{\"request\":[],\"response\":\"O\"},\"getEQCHiveRootProof\":{\"request\":[{\"name\":\"H\",\"type\":\"O\"}],\"response\":\"O\"},\"getEQCHiveRoot\":{\"request\":[{\"name\":\"H\",\"type\":\"O\"}],\"response\":\"O\"},\"getEQCHive\":{\"request\":[{\"name\":\"H\",\"type\":\"O\"}],\"response\":\"O\"},\"getLockInfo\":{\"request\":[{\"name\":\"S\",\"type\":\"O\"}],\"response\":\"O\"}}}");
   /**
    */
   org.eqcoin.avro.O registerSP(org.eqcoin.avro.O S);
@@ -7,7 +7,7 @@ package org.eqcoin.avro;
 
 @org.apache.avro.specific.AvroGenerated
 public interface EQCTransactionNetwork {
-  public static final org.apache.avro.Protocol PROTOCOL = org.apache.avro.Protocol.parse("{\"protocol\":\"EQCTransactionNetwork\",\"namespace\":\"org.eqcoin.avro\",\"types\":[{\"type\":\"record\",\"name\":\"O\",\"fields\":[{\"name\":\"o\",\"type\":\"bytes\"}]}],\"messages\":{\"ping\":{\"request\":[],\"response\":\"O\"},\"registerSP\":{\"request\":[{\"name\":\"S\",\"type\":\"O\"}],\"response\":\"O\"},\"getSPList\":{\"request\":[{\"name\":\"F\",\"type\":\"O\"}],\"response\":\"O\"},\"sendTransaction\":{\"request\":[{\"name\":\"T\",\"type\":\"O\"}],\"response\":\"O\"},\"getPendingTransactionList\":{\"request\":[{\"name\":\"I\",\"type\":\"O\"}],\"response\":\"O\"},\"getTransactionIndexList\":{\"request\":[{\"name\":\"T\",\"type\":\"O\"}],\"response\":\"O\"},\"getTransactionList\":{\"request\":[{\"name\":\"L\",\"type\":\"O\"}],\"response\":\"O\"}}}");
+  public static final org.apache.avro.Protocol PROTOCOL = org.apache.avro.Protocol.parse("{\"protocol\":\"EQCTransactionNetwork\",\"namespace\":\"org.eqcoin.avro\",\"types\":[{\"type\":\"record\",\"name\":\"O\",\"fields\":[{\"name\":\"o\",\"type\":\"bytes\"},{\"name\":\"c\",\"type\":\"int\",\"default\":0}]}],\"messages\":{\"ping\":{\"request\":[],\"response\":\"O\"},\"registerSP\":{\"request\":[{\"name\":\"S\",\"type\":\"O\"}],\"response\":\"O\"},\"getSPList\":{\"request\":[{\"name\":\"F\",\"type\":\"O\"}],\"response\":\"O\"},\"sendTransaction\":{\"request\":[{\"name\":\"T\",\"type\":\"O\"}],\"response\":\"O\"},\"getPendingTransactionList\":{\"request\":[{\"name\":\"I\",\"type\":\"O\"}],\"response\":\"O\"},\"getTransactionIndexList\":{\"request\":[{\"name\":\"T\",\"type\":\"O\"}],\"response\":\"O\"},\"getTransactionList\":{\"request\":[{\"name\":\"L\",\"type\":\"O\"}],\"response\":\"O\"},\"getTransactionIndexListBySketch\":{\"request\":[{\"name\":\"K\",\"type\":\"O\"}],\"response\":\"O\"}}}");
   /**
    */
   org.eqcoin.avro.O ping();
@@ -29,6 +29,9 @@ public interface EQCTransactionNetwork {
   /**
    */
   org.eqcoin.avro.O getTransactionList(org.eqcoin.avro.O L);
+  /**
+   */
+  org.eqcoin.avro.O getTransactionIndexListBySketch(org.eqcoin.avro.O K);
 
   @SuppressWarnings("all")
   public interface Callback extends EQCTransactionNetwork {
@@ -61,5 +64,9 @@ public interface EQCTransactionNetwork {
      * @throws java.io.IOException The async call could not be completed.
      */
     void getTransactionList(org.eqcoin.avro.O L, org.apache.avro.ipc.Callback<org.eqcoin.avro.O> callback) throws java.io.IOException;
+    /**
+     * @throws java.io.IOException The async call could not be completed.
+     */
+    void getTransactionIndexListBySketch(org.eqcoin.avro.O K, org.apache.avro.ipc.Callback<org.eqcoin.avro.O> callback) throws java.io.IOException;
   }
 }
\ No newline at end of file
@@ -14,8 +14,8 @@ import org.apache.avro.message.SchemaStore;
 
 @org.apache.avro.specific.AvroGenerated
 public class O extends org.apache.avro.specific.SpecificRecordBase implements org.apache.avro.specific.SpecificRecord {
-  private static final long serialVersionUID = 7154151818883944514L;
-  public static final org.apache.avro.Schema SCHEMA$ = new org.apache.avro.Schema.Parser().parse("{\"type\":\"record\",\"name\":\"O\",\"namespace\":\"org.eqcoin.avro\",\"fields\":[{\"name\":\"o\",\"type\":\"bytes\"}]}");
+  private static final long serialVersionUID = 8801520610581085658L;
+  public static final org.apache.avro.Schema SCHEMA$ = new org.apache.avro.Schema.Parser().parse("{\"type\":\"record\",\"name\":\"O\",\"namespace\":\"org.eqcoin.avro\",\"fields\":[{\"name\":\"o\",\"type\":\"bytes\"},{\"name\":\"c\",\"type\":\"int\",\"default\":0}]}");
   public static org.apache.avro.Schema getClassSchema() { return SCHEMA$; }
 
   private static SpecificData MODEL$ = new SpecificData();
@@ -72,6 +72,7 @@ public class O extends org.apache.avro.specific.SpecificRecordBase implements or
   }
 
   @Deprecated public java.nio.ByteBuffer o;
+  @Deprecated public int c;
 
   /**
    * Default constructor.  Note that this does not initialize fields
@@ -83,9 +84,11 @@ public class O extends org.apache.avro.specific.SpecificRecordBase implements or
   /**
    * All-args constructor.
    * @param o The new value for o
+   * @param c The new value for c
    */
-  public O(java.nio.ByteBuffer o) {
+  public O(java.nio.ByteBuffer o, java.lang.Integer c) {
     this.o = o;
+    this.c = c;
   }
 
   public org.apache.avro.specific.SpecificData getSpecificData() { return MODEL$; }
@@ -94,6 +97,7 @@ public class O extends org.apache.avro.specific.SpecificRecordBase implements or
   public java.lang.Object get(int field$) {
     switch (field$) {
     case 0: return o;
+    case 1: return c;
     default: throw new org.apache.avro.AvroRuntimeException("Bad index");
     }
   }
@@ -103,6 +107,7 @@ public class O extends org.apache.avro.specific.SpecificRecordBase implements or
   public void put(int field$, java.lang.Object value$) {
     switch (field$) {
     case 0: o = (java.nio.ByteBuffer)value$; break;
+    case 1: c = (java.lang.Integer)value$; break;
     default: throw new org.apache.avro.AvroRuntimeException("Bad index");
     }
   }
@@ -124,6 +129,23 @@ public class O extends org.apache.avro.specific.SpecificRecordBase implements or
     this.o = value;
   }
 
+  /**
+   * Gets the value of the 'c' field.
+   * @return The value of the 'c' field.
+   */
+  public int getC() {
+    return c;
+  }
+
+
+  /**
+   * Sets the value of the 'c' field.
+   * @param value the value to set.
+   */
+  public void setC(int value) {
+    this.c = value;
+  }
+
   /**
    * Creates a new O RecordBuilder.
    * @return A new O RecordBuilder
@@ -165,6 +187,7 @@ public class O extends org.apache.avro.specific.SpecificRecordBase implements or
     implements org.apache.avro.data.RecordBuilder<O> {
 
     private java.nio.ByteBuffer o;
+    private int c;
 
     /** Creates a new Builder */
     private Builder() {
@@ -181,6 +204,10 @@ public class O extends org.apache.avro.specific.SpecificRecordBase implements or
         this.o = data().deepCopy(fields()[0].schema(), other.o);
         fieldSetFlags()[0] = other.fieldSetFlags()[0];
       }
+      if (isValidValue(fields()[1], other.c)) {
+        this.c = data().deepCopy(fields()[1].schema(), other.c);
+        fieldSetFlags()[1] = other.fieldSetFlags()[1];
+      }
     }
 
     /**
@@ -193,6 +220,10 @@ public class O extends org.apache.avro.specific.SpecificRecordBase implements or
         this.o = data().deepCopy(fields()[0].schema(), other.o);
         fieldSetFlags()[0] = true;
       }
+      if (isValidValue(fields()[1], other.c)) {
+        this.c = data().deepCopy(fields()[1].schema(), other.c);
+        fieldSetFlags()[1] = true;
+      }
     }
 
     /**
@@ -235,12 +266,52 @@ public class O extends org.apache.avro.specific.SpecificRecordBase implements or
       return this;
     }
 
+    /**
+      * Gets the value of the 'c' field.
+      * @return The value.
+      */
+    public int getC() {
+      return c;
+    }
+
+
+    /**
+      * Sets the value of the 'c' field.
+      * @param value The value of 'c'.
+      * @return This builder.
+      */
+    public org.eqcoin.avro.O.Builder setC(int value) {
+      validate(fields()[1], value);
+      this.c = value;
+      fieldSetFlags()[1] = true;
+      return this;
+    }
+
+    /**
+      * Checks whether the 'c' field has been set.
+      * @return True if the 'c' field has been set, false otherwise.
+      */
+    public boolean hasC() {
+      return fieldSetFlags()[1];
+    }
+
+
+    /**
+      * Clears the value of the 'c' field.
+      * @return This builder.
+      */
+    public org.eqcoin.avro.O.Builder clearC() {
+      fieldSetFlags()[1] = false;
+      return this;
+    }
+
     @Override
     @SuppressWarnings("unchecked")
     public O build() {
       try {
         O record = new O();
         record.o = fieldSetFlags()[0] ? this.o : (java.nio.ByteBuffer) defaultValue(fields()[0]);
+        record.c = fieldSetFlags()[1] ? this.c : (java.lang.Integer) defaultValue(fields()[1]);
         return record;
       } catch (org.apache.avro.AvroMissingFieldException e) {
         throw e;
@@ -275,6 +346,8 @@ public class O extends org.apache.avro.specific.SpecificRecordBase implements or
   {
     out.writeBytes(this.o);
 
+    out.writeInt(this.c);
+
   }
 
   @Override public void customDecode(org.apache.avro.io.ResolvingDecoder in)
@@ -284,13 +357,19 @@ public class O extends org.apache.avro.specific.SpecificRecordBase implements or
     if (fieldOrder == null) {
       this.o = in.readBytes(this.o);
 
+      this.c = in.readInt();
+
     } else {
-      for (int i = 0; i < 1; i++) {
+      for (int i = 0; i < 2; i++) {
         switch (fieldOrder[i].pos()) {
         case 0:
           this.o = in.readBytes(this.o);
           break;
 
+        case 1:
+          this.c = in.readInt();
+          break;
+
         default:
           throw new java.io.IOException("Corrupt ResolvingDecoder.");
         }
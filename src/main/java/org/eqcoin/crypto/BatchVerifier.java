@@ -0,0 +1,226 @@
+/**
+ * EQcoin core
+ *
+ * http://www.eqcoin.org
+ * 
+ * @Copyright 2018-present Xun Wang All Rights Reserved...
+ * The copyright of all works released by Xun Wang or jointly released by
+ * Xun Wang with cooperative partners are owned by Xun Wang and entitled
+ * to protection available from copyright law by country as well as international
+ * conventions.
+ * Attribution — You must give appropriate credit, provide a link to the license.
+ * Non Commercial — You may not use the material for commercial purposes.
+ * No Derivatives — If you remix, transform, or build upon the material, you may
+ * not distribute the modified material.
+ * Xun Wang reserves any and all current and future rights, titles and interests
+ * in any and all intellectual property rights of Xun Wang including but not limited
+ * to discoveries, ideas, marks, concepts, methods, formulas, processes, codes,
+ * software, inventions, compositions, techniques, information and data, whether
+ * or not protectable in trademark, copyrightable or patentable, and any trademarks,
+ * copyrights or patents based thereon. For the use of any and all intellectual
+ * property rights of Xun Wang without prior written permission, Xun Wang reserves
+ * all rights to take any legal action and pursue any rights or remedies under
+ * applicable law.
+ */
+package org.eqcoin.crypto;
+
+import java.math.BigInteger;
+import java.security.SecureRandom;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.bouncycastle.math.ec.ECAlgorithms;
+import org.bouncycastle.math.ec.ECPoint;
+
+/**
+ * BatchVerifier verify multiple ECDSA signatures of the same curve together so
+ * the shared work is only done once: all the s^-1 are computed with one
+ * modular inversion and all the u1G + u2Q are normalized with one field
+ * inversion.
+ * <p>
+ * When the signature's recovery id is known R can be decompressed from r and
+ * the signature satisfy u1G + u2Q - R = infinity. Then all of these signatures
+ * are checked with one multi scalar multiplication of the random weighted sum
+ * (sum of z*u1)G + sum of (z*u2)Q - sum of zR which share the point doublings.
+ * <p>
+ * The batch only tells whether all the signatures are valid, use
+ * {@link #findInvalid(int)} to verify them one by one to find the invalid one.
+ * The one by one verification only check R's x so the signature with a wrong
+ * recovery id fail the batch but pass the one by one verification.
+ * BatchVerifier isn't thread safe.
+ * 
+ * @author agent
+ * @date Oct 18, 2026
+ * @email agent@local
+ */
+public class BatchVerifier {
+	/**
+	 * The random weight's bit length which make the probability that an invalid
+	 * batch pass the verification negligible
+	 */
+	public final static int WEIGHT_BITS = 128;
+	
+	private final static SecureRandom SECURE_RANDOM = new SecureRandom();
+	
+	private final ECDSACurve ecdsaCurve;
+	private final List<Item> itemList;
+	
+	private static class Item {
+		private final byte[] messageHash;
+		private final ECDSASignature ecdsaSignature;
+		private final byte[] compressedPublickey;
+		private final int recId;
+		
+		private Item(byte[] messageHash, ECDSASignature ecdsaSignature, byte[] compressedPublickey, int recId) {
+			this.messageHash = messageHash;
+			this.ecdsaSignature = ecdsaSignature;
+			this.compressedPublickey = compressedPublickey;
+			this.recId = recId;
+		}
+	}
+	
+	public BatchVerifier(final ECDSACurve ecdsaCurve) {
+		this.ecdsaCurve = ecdsaCurve;
+		itemList = new ArrayList<>();
+	}
+	
+	/**
+	 * Add one signature whose recovery id is unknown.
+	 * 
+	 * @return the signature's index in the batch
+	 */
+	public int add(final byte[] messageHash, final ECDSASignature ecdsaSignature, final byte[] compressedPublickey) {
+		return add(messageHash, ecdsaSignature, compressedPublickey, -1);
+	}
+	
+	/**
+	 * Add one signature.
+	 * 
+	 * @param recId the recovery id which recover the publickey from the signature
+	 *              or -1 if unknown
+	 * @return the signature's index in the batch
+	 */
+	public int add(final byte[] messageHash, final ECDSASignature ecdsaSignature, final byte[] compressedPublickey,
+			final int recId) {
+		itemList.add(new Item(messageHash, ecdsaSignature, compressedPublickey, recId));
+		return itemList.size() - 1;
+	}
+	
+	public int size() {
+		return itemList.size();
+	}
+	
+	/**
+	 * @return true if all the signatures in the batch are valid
+	 */
+	public boolean verify() {
+		if (itemList.isEmpty()) {
+			return true;
+		}
+		final BigInteger n = ecdsaCurve.getCURVE().getN();
+		final BigInteger[] ss = new BigInteger[itemList.size()];
+		final ECPoint[] qs = new ECPoint[itemList.size()];
+		for (int i = 0; i < itemList.size(); ++i) {
+			final Item item = itemList.get(i);
+			if (!ecdsaCurve.isInRange(item.ecdsaSignature) || (qs[i] = decodePoint(item.compressedPublickey)) == null) {
+				return false;
+			}
+			ss[i] = item.ecdsaSignature.getS();
+		}
+		final BigInteger[] ws = ecdsaCurve.modInverseAll(ss, ss.length);
+
+		// The signatures whose R is known are checked by the weighted sum
+		final List<ECPoint> pointList = new ArrayList<>();
+		final List<BigInteger> scalarList = new ArrayList<>();
+		BigInteger gScalar = BigInteger.ZERO;
+		// The others are checked by u1G + u2Q's x equal r
+		final ECPoint[] ps = new ECPoint[itemList.size()];
+		final BigInteger[] rs = new BigInteger[itemList.size()];
+		int unknown = 0;
+		for (int i = 0; i < itemList.size(); ++i) {
+			final Item item = itemList.get(i);
+			final BigInteger r = item.ecdsaSignature.getR();
+			final BigInteger u1 = ecdsaCurve.calculateE(item.messageHash).multiply(ws[i]).mod(n);
+			final BigInteger u2 = r.multiply(ws[i]).mod(n);
+			if (item.recId >= 0) {
+				final ECPoint R = ecdsaCurve.decompressPoint(r.add(BigInteger.valueOf(item.recId / 2).multiply(n)),
+						(item.recId & 1) == 1);
+				if (R == null) {
+					return false;
+				}
+				final BigInteger z = new BigInteger(WEIGHT_BITS, SECURE_RANDOM).setBit(0);
+				gScalar = gScalar.add(z.multiply(u1));
+				pointList.add(qs[i]);
+				scalarList.add(z.multiply(u2).mod(n));
+				pointList.add(R);
+				scalarList.add(n.subtract(z));
+			} else {
+				ps[unknown] = ECAlgorithms.sumOfTwoMultiplies(ecdsaCurve.getCURVE().getG(), u1, qs[i], u2);
+				if (ps[unknown].isInfinity()) {
+					return false;
+				}
+				rs[unknown++] = r;
+			}
+		}
+		if (!pointList.isEmpty()) {
+			pointList.add(ecdsaCurve.getCURVE().getG());
+			scalarList.add(gScalar.mod(n));
+			if (!ECAlgorithms.sumOfMultiplies(pointList.toArray(new ECPoint[pointList.size()]),
+					scalarList.toArray(new BigInteger[scalarList.size()])).isInfinity()) {
+				return false;
+			}
+		}
+		ecdsaCurve.getCURVE().getCurve().normalizeAll(ps, 0, unknown, null);
+		for (int i = 0; i < unknown; ++i) {
+			if (!ps[i].getAffineXCoord().toBigInteger().mod(n).equals(rs[i])) {
+				return false;
+			}
+		}
+		return true;
+	}
+	
+	/**
+	 * Verify the signatures one by one from the given index.
+	 * 
+	 * @return the index of the first invalid signature or -1 if all of them are
+	 *         valid
+	 */
+	public int findInvalid(final int fromIndex) {
+		for (int i = fromIndex; i < itemList.size(); ++i) {
+			if (!verify(itemList.get(i))) {
+				return i;
+			}
+		}
+		return -1;
+	}
+	
+	public void clear() {
+		itemList.clear();
+	}
+	
+	private boolean verify(final Item item) {
+		if (!ecdsaCurve.isInRange(item.ecdsaSignature)) {
+			return false;
+		}
+		final ECPoint q = decodePoint(item.compressedPublickey);
+		if (q == null) {
+			return false;
+		}
+		final BigInteger n = ecdsaCurve.getCURVE().getN();
+		final BigInteger w = item.ecdsaSignature.getS().modInverse(n);
+		final ECPoint p = ECAlgorithms.sumOfTwoMultiplies(ecdsaCurve.getCURVE().getG(),
+				ecdsaCurve.calculateE(item.messageHash).multiply(w).mod(n), q, item.ecdsaSignature.getR().multiply(w).mod(n))
+				.normalize();
+		return !p.isInfinity() && p.getAffineXCoord().toBigInteger().mod(n).equals(item.ecdsaSignature.getR());
+	}
+	
+	private ECPoint decodePoint(final byte[] compressedPublickey) {
+		try {
+			final ECPoint q = ecdsaCurve.getCURVE().getCurve().decodePoint(compressedPublickey);
+			return q.isInfinity() ? null : q;
+		} catch (IllegalArgumentException e) {
+			return null;
+		}
+	}
+	
+}
@@ -0,0 +1,66 @@
+/**
+ * EQcoin core
+ *
+ * http://www.eqcoin.org
+ * 
+ * @Copyright 2018-present Xun Wang All Rights Reserved...
+ * The copyright of all works released by Xun Wang or jointly released by
+ * Xun Wang with cooperative partners are owned by Xun Wang and entitled
+ * to protection available from copyright law by country as well as international
+ * conventions.
+ * Attribution — You must give appropriate credit, provide a link to the license.
+ * Non Commercial — You may not use the material for commercial purposes.
+ * No Derivatives — If you remix, transform, or build upon the material, you may
+ * not distribute the modified material.
+ * Xun Wang reserves any and all current and future rights, titles and interests
+ * in any and all intellectual property rights of Xun Wang including but not limited
+ * to discoveries, ideas, marks, concepts, methods, formulas, processes, codes,
+ * software, inventions, compositions, techniques, information and data, whether
+ * or not protectable in trademark, copyrightable or patentable, and any trademarks,
+ * copyrights or patents based thereon. For the use of any and all intellectual
+ * property rights of Xun Wang without prior written permission, Xun Wang reserves
+ * all rights to take any legal action and pursue any rights or remedies under
+ * applicable law.
+ */
+package org.eqcoin.crypto;
+
+import org.bouncycastle.crypto.Digest;
+import org.bouncycastle.crypto.digests.SHA3Digest;
+
+/**
+ * BouncyCastleHashProvider use BouncyCastle's SHA3Digest directly without any
+ * provider overhead. Each thread reuse its own SHA3Digest.
+ * 
+ * @author agent
+ * @date Oct 18, 2026
+ * @email agent@local
+ */
+public class BouncyCastleHashProvider implements HashProvider {
+	
+	private final static ThreadLocal<SHA3Digest> SHA3_256_DIGEST = ThreadLocal.withInitial(() -> new SHA3Digest(256));
+	
+	private final static ThreadLocal<SHA3Digest> SHA3_512_DIGEST = ThreadLocal.withInitial(() -> new SHA3Digest(512));
+	
+	@Override
+	public String getName() {
+		return "BouncyCastle";
+	}
+	
+	@Override
+	public byte[] SHA3_256(final byte[] bytes) {
+		return HashTool.digest(SHA3_256_DIGEST.get(), bytes);
+	}
+	
+	@Override
+	public byte[] SHA3_512(final byte[] bytes) {
+		return HashTool.digest(SHA3_512_DIGEST.get(), bytes);
+	}
+	
+	@Override
+	public byte[] SHA3_512(final byte[] left, final byte[] right) {
+		final Digest digest = SHA3_512_DIGEST.get();
+		digest.update(left, 0, left.length);
+		return HashTool.digest(digest, right);
+	}
+	
+}
@@ -27,6 +27,7 @@ package org.eqcoin.crypto;
 import java.math.BigInteger;
 
 import org.bouncycastle.asn1.x9.X9ECParameters;
+import org.bouncycastle.asn1.x9.X9IntegerConverter;
 import org.bouncycastle.crypto.params.ECDomainParameters;
 import org.bouncycastle.jce.spec.ECNamedCurveParameterSpec;
 import org.bouncycastle.jce.spec.ECNamedCurveSpec;
@@ -38,6 +39,8 @@ import org.bouncycastle.math.ec.ECPoint;
  * @email 10509759@qq.com
  */
 public abstract class ECDSACurve {
+	private final static X9IntegerConverter X9_INTEGER_CONVERTER = new X9IntegerConverter();
+	
 	/**
 	 * The parameters of ECDSA curve that EQcoin uses.
 	 */
@@ -112,4 +115,68 @@ public abstract class ECDSACurve {
 		this.ecParams = ecParams;
 	}
 	
+	/**
+	 * Compute e from the message hash according to SEC1v2 section 4.1.4 step 5
+	 * which only use the leftmost bits of the hash when it is longer than the
+	 * curve order.
+	 */
+	public BigInteger calculateE(byte[] messageHash) {
+		int orderBitLength = CURVE.getN().bitLength();
+		BigInteger e = new BigInteger(1, messageHash);
+		if (messageHash.length * 8 > orderBitLength) {
+			e = e.shiftRight(messageHash.length * 8 - orderBitLength);
+		}
+		return e;
+	}
+	
+	/**
+	 * @return true if the signature's r and s are both in [1, n-1]
+	 */
+	public boolean isInRange(ECDSASignature ecdsaSignature) {
+		BigInteger n = CURVE.getN();
+		return ecdsaSignature.getR().signum() > 0 && ecdsaSignature.getR().compareTo(n) < 0
+				&& ecdsaSignature.getS().signum() > 0 && ecdsaSignature.getS().compareTo(n) < 0;
+	}
+	
+	/**
+	 * Decompress the point from its x coordinate and the low bit of its y
+	 * coordinate.
+	 * 
+	 * @return the point or null if x isn't on the curve
+	 */
+	public ECPoint decompressPoint(BigInteger x, boolean yBit) {
+		byte[] compEnc = X9_INTEGER_CONVERTER.integerToBytes(x, 1 + X9_INTEGER_CONVERTER.getByteLength(CURVE.getCurve()));
+		compEnc[0] = (byte) (yBit ? 0x03 : 0x02);
+		try {
+			return CURVE.getCurve().decodePoint(compEnc);
+		} catch (IllegalArgumentException e) {
+			return null;
+		}
+	}
+	
+	/**
+	 * Montgomery's trick compute the inverse modulo the curve order of the first
+	 * count values with only one modInverse and 3(count - 1) multiplications.
+	 * Each of the values should be in [1, n-1].
+	 */
+	public BigInteger[] modInverseAll(BigInteger[] values, int count) {
+		BigInteger n = CURVE.getN();
+		BigInteger[] inverses = new BigInteger[count];
+		if (count == 0) {
+			return inverses;
+		}
+		// inverses[i] = values[0] * ... * values[i]
+		inverses[0] = values[0];
+		for (int i = 1; i < count; ++i) {
+			inverses[i] = inverses[i - 1].multiply(values[i]).mod(n);
+		}
+		BigInteger inverse = inverses[count - 1].modInverse(n);
+		for (int i = count - 1; i > 0; --i) {
+			inverses[i] = inverse.multiply(inverses[i - 1]).mod(n);
+			inverse = inverse.multiply(values[i]).mod(n);
+		}
+		inverses[0] = inverse;
+		return inverses;
+	}
+	
 }
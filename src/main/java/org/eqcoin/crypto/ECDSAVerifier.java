@@ -0,0 +1,99 @@
+/**
+ * EQcoin core
+ *
+ * http://www.eqcoin.org
+ * 
+ * @Copyright 2018-present Xun Wang All Rights Reserved...
+ * The copyright of all works released by Xun Wang or jointly released by
+ * Xun Wang with cooperative partners are owned by Xun Wang and entitled
+ * to protection available from copyright law by country as well as international
+ * conventions.
+ * Attribution — You must give appropriate credit, provide a link to the license.
+ * Non Commercial — You may not use the material for commercial purposes.
+ * No Derivatives — If you remix, transform, or build upon the material, you may
+ * not distribute the modified material.
+ * Xun Wang reserves any and all current and future rights, titles and interests
+ * in any and all intellectual property rights of Xun Wang including but not limited
+ * to discoveries, ideas, marks, concepts, methods, formulas, processes, codes,
+ * software, inventions, compositions, techniques, information and data, whether
+ * or not protectable in trademark, copyrightable or patentable, and any trademarks,
+ * copyrights or patents based thereon. For the use of any and all intellectual
+ * property rights of Xun Wang without prior written permission, Xun Wang reserves
+ * all rights to take any legal action and pursue any rights or remedies under
+ * applicable law.
+ */
+package org.eqcoin.crypto;
+
+import java.math.BigInteger;
+
+import org.bouncycastle.crypto.params.ECPublicKeyParameters;
+import org.bouncycastle.crypto.signers.ECDSASigner;
+import org.bouncycastle.math.ec.ECPoint;
+import org.bouncycastle.math.ec.WNafUtil;
+
+/**
+ * ECDSAVerifier verify the ECDSA signature directly on BouncyCastle's ECPoint
+ * with the static curve parameters. Compare with the JCA Signature it doesn't
+ * need lookup the provider and build the PublicKey for each signature.
+ * <p>
+ * The ECDSASigner is kept in thread local so the ECDSAVerifier can be used by
+ * multiple threads. The generator's WNAF table is precomputed when the
+ * ECDSAVerifier is created so it can be shared by all the verifications.
+ *
+ * @author agent
+ * @date Oct 18, 2026
+ * @email agent@local
+ */
+public abstract class ECDSAVerifier {
+
+	private final static ThreadLocal<ECDSASigner> ECDSA_SIGNER = ThreadLocal.withInitial(ECDSASigner::new);
+
+	protected final ECDSACurve ecdsaCurve;
+
+	protected ECDSAVerifier(final ECDSACurve ecdsaCurve) {
+		this.ecdsaCurve = ecdsaCurve;
+		// Precompute the generator's table with the window size which the Shamir's
+		// trick used during verify
+		final ECPoint g = ecdsaCurve.getCURVE().getG();
+		WNafUtil.precompute(g, WNafUtil.getWindowSize(ecdsaCurve.getCURVE().getN().bitLength(), 8), true);
+	}
+
+	/**
+	 * Decode the compressed publickey to the ECPoint on current curve.
+	 *
+	 * @param compressedPublickey the compressed publickey
+	 * @return the ECPoint
+	 */
+	public ECPoint decodePoint(final byte[] compressedPublickey) {
+		return ecdsaCurve.getCURVE().getCurve().decodePoint(compressedPublickey);
+	}
+
+	/**
+	 * Verify the signature of the message hash with the compressed publickey.
+	 *
+	 * @param compressedPublickey the compressed publickey
+	 * @param messageHash         Hash of the data that was signed
+	 * @param ecdsaSignature      the R and S components of the signature
+	 * @return true if the signature is valid
+	 */
+	public boolean verify(final byte[] compressedPublickey, final byte[] messageHash,
+			final ECDSASignature ecdsaSignature) {
+		return verify(decodePoint(compressedPublickey), messageHash, ecdsaSignature.getR(), ecdsaSignature.getS());
+	}
+
+	/**
+	 * Verify the signature of the message hash with the publickey's ECPoint.
+	 *
+	 * @param publickey   the publickey's ECPoint
+	 * @param messageHash Hash of the data that was signed
+	 * @param r           the R component of the signature
+	 * @param s           the S component of the signature
+	 * @return true if the signature is valid
+	 */
+	public boolean verify(final ECPoint publickey, final byte[] messageHash, final BigInteger r, final BigInteger s) {
+		final ECDSASigner ecdsaSigner = ECDSA_SIGNER.get();
+		ecdsaSigner.init(false, new ECPublicKeyParameters(publickey, ecdsaCurve.getCURVE()));
+		return ecdsaSigner.verifySignature(messageHash, r, s);
+	}
+
+}
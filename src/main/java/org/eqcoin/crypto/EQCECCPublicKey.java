@@ -32,7 +32,6 @@ import java.security.interfaces.ECPublicKey;
 import java.security.spec.ECPublicKeySpec;
 import java.security.spec.InvalidKeySpecException;
 
-import org.bouncycastle.jce.ECPointUtil;
 import org.bouncycastle.jce.provider.BouncyCastleProvider;
 import org.bouncycastle.math.ec.ECPoint;
 import org.eqcoin.keystore.Keystore.ECCTYPE;
@@ -53,6 +52,20 @@ import org.eqcoin.util.Log;
  */
 public class EQCECCPublicKey implements PublicKey {
 	final long serialVersionUID = 1303765568188200263L;
+	/**
+	 * Create the BouncyCastleProvider is expensive so share it
+	 */
+	private final static BouncyCastleProvider BOUNCY_CASTLE_PROVIDER = new BouncyCastleProvider();
+	/**
+	 * KeyFactory isn't guaranteed thread safe so each thread reuse its own one
+	 */
+	private final static ThreadLocal<KeyFactory> KEY_FACTORY = ThreadLocal.withInitial(() -> {
+		try {
+			return KeyFactory.getInstance("ECDSA", BOUNCY_CASTLE_PROVIDER);
+		} catch (final NoSuchAlgorithmException e) {
+			throw new IllegalStateException(e);
+		}
+	});
 
 	private ECDSACurve ecdsaCurve;
 
@@ -117,18 +130,22 @@ public class EQCECCPublicKey implements PublicKey {
 	 * @param bytes Compressed public key
 	 */
 	public void setECPoint(final byte[] compressedPublicKey) {
-		ecPoint = ecdsaCurve.getCURVE().getCurve().decodePoint(compressedPublicKey);
-		ECPointUtil.decodePoint(ecdsaCurve.getEcParams().getCurve(), ecPoint.getEncoded(true));
-		KeyFactory kf = null;
-		try {
-			kf = KeyFactory.getInstance("ECDSA", new BouncyCastleProvider());
-		} catch (final NoSuchAlgorithmException e) {
-			// TODO Auto-generated catch block
-			e.printStackTrace();
-			Log.Error(e.getMessage());
-		}
+		setECPoint(ecdsaCurve.getCURVE().getCurve().decodePoint(compressedPublicKey));
+	}
+
+	/**
+	 * Construct an EQPublicKey with the publickey's ECPoint which already been
+	 * decoded so the compressed public key doesn't need to be decompressed again
+	 *
+	 * @param ecPoint The publickey's ECPoint on current curve
+	 */
+	public void setECPoint(final ECPoint ecPoint) {
+		this.ecPoint = ecPoint;
+		final ECPoint normalized = ecPoint.normalize();
+		final KeyFactory kf = KEY_FACTORY.get();
 		final ECPublicKeySpec pubKeySpec = new ECPublicKeySpec(
-				ECPointUtil.decodePoint(ecdsaCurve.getEcParams().getCurve(), ecPoint.getEncoded(true)), ecdsaCurve.getEcParams());
+				new java.security.spec.ECPoint(normalized.getAffineXCoord().toBigInteger(),
+						normalized.getAffineYCoord().toBigInteger()), ecdsaCurve.getEcParams());
 		try {
 			pk = (ECPublicKey) kf.generatePublic(pubKeySpec);
 		} catch (final InvalidKeySpecException e) {
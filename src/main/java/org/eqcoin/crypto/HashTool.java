@@ -0,0 +1,180 @@
+/**
+ * EQcoin core
+ *
+ * http://www.eqcoin.org
+ * 
+ * @Copyright 2018-present Xun Wang All Rights Reserved...
+ * The copyright of all works released by Xun Wang or jointly released by
+ * Xun Wang with cooperative partners are owned by Xun Wang and entitled
+ * to protection available from copyright law by country as well as international
+ * conventions.
+ * Attribution — You must give appropriate credit, provide a link to the license.
+ * Non Commercial — You may not use the material for commercial purposes.
+ * No Derivatives — If you remix, transform, or build upon the material, you may
+ * not distribute the modified material.
+ * Xun Wang reserves any and all current and future rights, titles and interests
+ * in any and all intellectual property rights of Xun Wang including but not limited
+ * to discoveries, ideas, marks, concepts, methods, formulas, processes, codes,
+ * software, inventions, compositions, techniques, information and data, whether
+ * or not protectable in trademark, copyrightable or patentable, and any trademarks,
+ * copyrights or patents based thereon. For the use of any and all intellectual
+ * property rights of Xun Wang without prior written permission, Xun Wang reserves
+ * all rights to take any legal action and pursue any rights or remedies under
+ * applicable law.
+ */
+package org.eqcoin.crypto;
+
+import java.util.Arrays;
+
+import org.bouncycastle.crypto.Digest;
+import org.bouncycastle.crypto.digests.RIPEMD128Digest;
+import org.bouncycastle.crypto.digests.RIPEMD160Digest;
+import org.bouncycastle.util.encoders.Hex;
+
+/**
+ * HashTool is the central hashing facility. All the SHA3 hashing such as the
+ * Transaction's sign bytes hash, the EQCHiveRoot's proof, the Lock's proof and
+ * the MerkleTree is routed through the HashProvider which is selected at
+ * startup from the JCA, BouncyCastle and Keccak providers. Only the providers
+ * which pass the known answer test can be selected and by default the first of
+ * them in this fixed preference order is used, so every node and every run
+ * ends up with the same provider and the class loading doesn't pay for any
+ * measurement. The system property {@value #HASH_PROVIDER_PROPERTY} can force
+ * the provider by its name, or with the value {@value #HASH_PROVIDER_BENCHMARK}
+ * opt in to selecting the fastest one by a short self benchmark.
+ * 
+ * The RIPEMD digests are BouncyCastle's which each thread keeps its own
+ * reusable instances, they are reset by doFinal so one thread can reuse them
+ * at will but they must never be shared between threads.
+ * 
+ * @author agent
+ * @date Oct 18, 2026
+ * @email agent@local
+ */
+public final class HashTool {
+	
+	public final static String HASH_PROVIDER_PROPERTY = "eqcoin.hashprovider";
+	
+	public final static String HASH_PROVIDER_BENCHMARK = "benchmark";
+	
+	private final static byte[] KAT_MESSAGE = { 'a', 'b', 'c' };
+	
+	private final static byte[] KAT_SHA3_256 = Hex.decode("3a985da74fe225b2045c172d6bd390bd855f086e3e9d525b46bfe24511431532");
+	
+	private final static byte[] KAT_SHA3_512 = Hex.decode(
+			"b751850b1a57168a5693cd924b6b096e08f621827444f70d884f5d0240d2712e10e116e9192af3c91a7ec57647e3934057340b4cf408d5a56592f8274eec53f0");
+	
+	private final static int BENCHMARK_SIZE = 256;
+	
+	private final static int BENCHMARK_ROUNDS = 2000;
+	
+	private final static ThreadLocal<RIPEMD128Digest> RIPEMD128_DIGEST = ThreadLocal.withInitial(RIPEMD128Digest::new);
+	
+	private final static ThreadLocal<RIPEMD160Digest> RIPEMD160_DIGEST = ThreadLocal.withInitial(RIPEMD160Digest::new);
+	
+	private final static HashProvider HASH_PROVIDER = selectHashProvider(System.getProperty(HASH_PROVIDER_PROPERTY),
+			new JCAHashProvider(), new BouncyCastleHashProvider(), new KeccakHashProvider());
+	
+	private HashTool() {
+	}
+	
+	public final static byte[] SHA3_256(final byte[] bytes) {
+		return HASH_PROVIDER.SHA3_256(bytes);
+	}
+	
+	public final static byte[] SHA3_512(final byte[] bytes) {
+		return HASH_PROVIDER.SHA3_512(bytes);
+	}
+	
+	/**
+	 * @return SHA3-512(left || right) without concatenating the two arrays
+	 */
+	public final static byte[] SHA3_512(final byte[] left, final byte[] right) {
+		return HASH_PROVIDER.SHA3_512(left, right);
+	}
+	
+	public final static byte[] RIPEMD128(final byte[] bytes) {
+		return digest(RIPEMD128_DIGEST.get(), bytes);
+	}
+	
+	public final static byte[] RIPEMD160(final byte[] bytes) {
+		return digest(RIPEMD160_DIGEST.get(), bytes);
+	}
+	
+	/**
+	 * @return the HashProvider which all the SHA3 hashing routed through
+	 */
+	public final static HashProvider getHashProvider() {
+		return HASH_PROVIDER;
+	}
+	
+	final static byte[] digest(final Digest digest, final byte[] bytes) {
+		final byte[] out = new byte[digest.getDigestSize()];
+		digest.update(bytes, 0, bytes.length);
+		digest.doFinal(out, 0);
+		return out;
+	}
+	
+	/**
+	 * Here doesn't log anything due to the Log depends on Util which may not
+	 * finished its initialization yet.
+	 * 
+	 * @param name          null to select the first valid HashProvider in the
+	 *                      given preference order, {@value #HASH_PROVIDER_BENCHMARK}
+	 *                      to select the fastest valid one or else the valid
+	 *                      HashProvider with this name
+	 * @param hashProviders the candidates in the preference order
+	 */
+	static HashProvider selectHashProvider(final String name, final HashProvider... hashProviders) {
+		final boolean isBenchmark = HASH_PROVIDER_BENCHMARK.equalsIgnoreCase(name);
+		HashProvider selected = null;
+		long fastestTime = Long.MAX_VALUE;
+		for (final HashProvider hashProvider : hashProviders) {
+			if (!isValid(hashProvider)) {
+				continue;
+			}
+			if (isBenchmark) {
+				final long time = benchmark(hashProvider);
+				if (time < fastestTime) {
+					fastestTime = time;
+					selected = hashProvider;
+				}
+			} else if (name == null || hashProvider.getName().equalsIgnoreCase(name)) {
+				selected = hashProvider;
+				break;
+			}
+		}
+		if (selected == null) {
+			throw new IllegalStateException("No valid HashProvider " + ((name == null) ? "" : "with name " + name));
+		}
+		return selected;
+	}
+	
+	private static boolean isValid(final HashProvider hashProvider) {
+		try {
+			return Arrays.equals(KAT_SHA3_256, hashProvider.SHA3_256(KAT_MESSAGE))
+					&& Arrays.equals(KAT_SHA3_512, hashProvider.SHA3_512(KAT_MESSAGE))
+					&& Arrays.equals(KAT_SHA3_512, hashProvider.SHA3_512(new byte[] { 'a' }, new byte[] { 'b', 'c' }));
+		} catch (final RuntimeException e) {
+			// For example the JDK before 9 doesn't support SHA3
+			return false;
+		}
+	}
+	
+	/**
+	 * @return the nanoseconds of the measured rounds after the same rounds warm up
+	 */
+	private static long benchmark(final HashProvider hashProvider) {
+		final byte[] bytes = new byte[BENCHMARK_SIZE];
+		for (int i = 0; i < BENCHMARK_ROUNDS; ++i) {
+			bytes[i % BENCHMARK_SIZE] ^= hashProvider.SHA3_256(bytes)[0];
+		}
+		final long begin = System.nanoTime();
+		for (int i = 0; i < BENCHMARK_ROUNDS; ++i) {
+			bytes[i % BENCHMARK_SIZE] ^= hashProvider.SHA3_256(bytes)[0];
+			bytes[(i + 1) % BENCHMARK_SIZE] ^= hashProvider.SHA3_512(bytes)[0];
+		}
+		return System.nanoTime() - begin;
+	}
+	
+}
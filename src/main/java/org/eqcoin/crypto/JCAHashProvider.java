@@ -0,0 +1,76 @@
+/**
+ * EQcoin core
+ *
+ * http://www.eqcoin.org
+ * 
+ * @Copyright 2018-present Xun Wang All Rights Reserved...
+ * The copyright of all works released by Xun Wang or jointly released by
+ * Xun Wang with cooperative partners are owned by Xun Wang and entitled
+ * to protection available from copyright law by country as well as international
+ * conventions.
+ * Attribution — You must give appropriate credit, provide a link to the license.
+ * Non Commercial — You may not use the material for commercial purposes.
+ * No Derivatives — If you remix, transform, or build upon the material, you may
+ * not distribute the modified material.
+ * Xun Wang reserves any and all current and future rights, titles and interests
+ * in any and all intellectual property rights of Xun Wang including but not limited
+ * to discoveries, ideas, marks, concepts, methods, formulas, processes, codes,
+ * software, inventions, compositions, techniques, information and data, whether
+ * or not protectable in trademark, copyrightable or patentable, and any trademarks,
+ * copyrights or patents based thereon. For the use of any and all intellectual
+ * property rights of Xun Wang without prior written permission, Xun Wang reserves
+ * all rights to take any legal action and pursue any rights or remedies under
+ * applicable law.
+ */
+package org.eqcoin.crypto;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+import org.eqcoin.util.Util;
+
+/**
+ * JCAHashProvider use the JDK's SHA3 MessageDigest which has intrinsics on
+ * some newer JDKs and platforms. Each thread reuse its own MessageDigest.
+ * 
+ * @author agent
+ * @date Oct 18, 2026
+ * @email agent@local
+ */
+public class JCAHashProvider implements HashProvider {
+	
+	private final static ThreadLocal<MessageDigest> SHA3_256_DIGEST = ThreadLocal.withInitial(() -> getMessageDigest(Util.SHA3_256));
+	
+	private final static ThreadLocal<MessageDigest> SHA3_512_DIGEST = ThreadLocal.withInitial(() -> getMessageDigest(Util.SHA3_512));
+	
+	@Override
+	public String getName() {
+		return "JCA";
+	}
+	
+	@Override
+	public byte[] SHA3_256(final byte[] bytes) {
+		return SHA3_256_DIGEST.get().digest(bytes);
+	}
+	
+	@Override
+	public byte[] SHA3_512(final byte[] bytes) {
+		return SHA3_512_DIGEST.get().digest(bytes);
+	}
+	
+	@Override
+	public byte[] SHA3_512(final byte[] left, final byte[] right) {
+		final MessageDigest messageDigest = SHA3_512_DIGEST.get();
+		messageDigest.update(left);
+		return messageDigest.digest(right);
+	}
+	
+	private static MessageDigest getMessageDigest(final String algorithm) {
+		try {
+			return MessageDigest.getInstance(algorithm);
+		} catch (final NoSuchAlgorithmException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+	
+}
@@ -0,0 +1,187 @@
+/**
+ * EQcoin core
+ *
+ * http://www.eqcoin.org
+ * 
+ * @Copyright 2018-present Xun Wang All Rights Reserved...
+ * The copyright of all works released by Xun Wang or jointly released by
+ * Xun Wang with cooperative partners are owned by Xun Wang and entitled
+ * to protection available from copyright law by country as well as international
+ * conventions.
+ * Attribution — You must give appropriate credit, provide a link to the license.
+ * Non Commercial — You may not use the material for commercial purposes.
+ * No Derivatives — If you remix, transform, or build upon the material, you may
+ * not distribute the modified material.
+ * Xun Wang reserves any and all current and future rights, titles and interests
+ * in any and all intellectual property rights of Xun Wang including but not limited
+ * to discoveries, ideas, marks, concepts, methods, formulas, processes, codes,
+ * software, inventions, compositions, techniques, information and data, whether
+ * or not protectable in trademark, copyrightable or patentable, and any trademarks,
+ * copyrights or patents based thereon. For the use of any and all intellectual
+ * property rights of Xun Wang without prior written permission, Xun Wang reserves
+ * all rights to take any legal action and pursue any rights or remedies under
+ * applicable law.
+ */
+package org.eqcoin.crypto;
+
+/**
+ * KeccakHashProvider is a pure Java SHA3 whose Keccak-f[1600] permutation keeps
+ * the 25 lanes in local variables and unrolls the theta, rho, pi and chi steps
+ * so the JIT can keep the whole state in registers. The sponge absorbs the
+ * input 8 bytes a lane when it is aligned.
+ * 
+ * @author agent
+ * @date Oct 18, 2026
+ * @email agent@local
+ */
+public class KeccakHashProvider implements HashProvider {
+	
+	private final static int STATE_LANES = 25;
+	
+	private final static int SHA3_256_RATE = 136;
+	
+	private final static int SHA3_512_RATE = 72;
+	
+	private final static long[] ROUND_CONSTANTS = { 0x0000000000000001L, 0x0000000000008082L, 0x800000000000808aL,
+			0x8000000080008000L, 0x000000000000808bL, 0x0000000080000001L, 0x8000000080008081L, 0x8000000000008009L,
+			0x000000000000008aL, 0x0000000000000088L, 0x0000000080008009L, 0x000000008000000aL, 0x000000008000808bL,
+			0x800000000000008bL, 0x8000000000008089L, 0x8000000000008003L, 0x8000000000008002L, 0x8000000000000080L,
+			0x000000000000800aL, 0x800000008000000aL, 0x8000000080008081L, 0x8000000000008080L, 0x0000000080000001L,
+			0x8000000080008008L };
+	
+	@Override
+	public String getName() {
+		return "Keccak";
+	}
+	
+	@Override
+	public byte[] SHA3_256(final byte[] bytes) {
+		final long[] state = new long[STATE_LANES];
+		return squeeze(state, SHA3_256_RATE, absorb(state, SHA3_256_RATE, 0, bytes), 32);
+	}
+	
+	@Override
+	public byte[] SHA3_512(final byte[] bytes) {
+		final long[] state = new long[STATE_LANES];
+		return squeeze(state, SHA3_512_RATE, absorb(state, SHA3_512_RATE, 0, bytes), 64);
+	}
+	
+	@Override
+	public byte[] SHA3_512(final byte[] left, final byte[] right) {
+		final long[] state = new long[STATE_LANES];
+		return squeeze(state, SHA3_512_RATE,
+				absorb(state, SHA3_512_RATE, absorb(state, SHA3_512_RATE, 0, left), right), 64);
+	}
+	
+	/**
+	 * @param position the position in the current block
+	 * @return the position in the current block after absorbed the bytes
+	 */
+	private static int absorb(final long[] state, final int rate, int position, final byte[] bytes) {
+		int offset = 0;
+		while (offset < bytes.length) {
+			if ((position & 7) == 0 && bytes.length - offset >= 8) {
+				state[position >>> 3] ^= (bytes[offset] & 0xFFL) | (bytes[offset + 1] & 0xFFL) << 8
+						| (bytes[offset + 2] & 0xFFL) << 16 | (bytes[offset + 3] & 0xFFL) << 24
+						| (bytes[offset + 4] & 0xFFL) << 32 | (bytes[offset + 5] & 0xFFL) << 40
+						| (bytes[offset + 6] & 0xFFL) << 48 | (bytes[offset + 7] & 0xFFL) << 56;
+				offset += 8;
+				position += 8;
+			} else {
+				state[position >>> 3] ^= (bytes[offset++] & 0xFFL) << ((position & 7) << 3);
+				++position;
+			}
+			if (position == rate) {
+				keccakF1600(state);
+				position = 0;
+			}
+		}
+		return position;
+	}
+	
+	/**
+	 * Pad with the SHA3 domain bits 01 and pad10*1 then squeeze the hash which is
+	 * never longer than the rate.
+	 */
+	private static byte[] squeeze(final long[] state, final int rate, final int position, final int length) {
+		state[position >>> 3] ^= 0x06L << ((position & 7) << 3);
+		state[(rate - 1) >>> 3] ^= 0x80L << (((rate - 1) & 7) << 3);
+		keccakF1600(state);
+		final byte[] hash = new byte[length];
+		for (int i = 0; i < length; ++i) {
+			hash[i] = (byte) (state[i >>> 3] >>> ((i & 7) << 3));
+		}
+		return hash;
+	}
+	
+	private static void keccakF1600(final long[] state) {
+		long a00 = state[0], a01 = state[1], a02 = state[2], a03 = state[3], a04 = state[4];
+		long a05 = state[5], a06 = state[6], a07 = state[7], a08 = state[8], a09 = state[9];
+		long a10 = state[10], a11 = state[11], a12 = state[12], a13 = state[13], a14 = state[14];
+		long a15 = state[15], a16 = state[16], a17 = state[17], a18 = state[18], a19 = state[19];
+		long a20 = state[20], a21 = state[21], a22 = state[22], a23 = state[23], a24 = state[24];
+		for (int round = 0; round < 24; ++round) {
+			// Theta
+			long c0 = a00 ^ a05 ^ a10 ^ a15 ^ a20;
+			long c1 = a01 ^ a06 ^ a11 ^ a16 ^ a21;
+			final long c2 = a02 ^ a07 ^ a12 ^ a17 ^ a22;
+			final long c3 = a03 ^ a08 ^ a13 ^ a18 ^ a23;
+			final long c4 = a04 ^ a09 ^ a14 ^ a19 ^ a24;
+			final long d0 = (c1 << 1 | c1 >>> 63) ^ c4;
+			final long d1 = (c2 << 1 | c2 >>> 63) ^ c0;
+			final long d2 = (c3 << 1 | c3 >>> 63) ^ c1;
+			final long d3 = (c4 << 1 | c4 >>> 63) ^ c2;
+			final long d4 = (c0 << 1 | c0 >>> 63) ^ c3;
+			a00 ^= d0; a05 ^= d0; a10 ^= d0; a15 ^= d0; a20 ^= d0;
+			a01 ^= d1; a06 ^= d1; a11 ^= d1; a16 ^= d1; a21 ^= d1;
+			a02 ^= d2; a07 ^= d2; a12 ^= d2; a17 ^= d2; a22 ^= d2;
+			a03 ^= d3; a08 ^= d3; a13 ^= d3; a18 ^= d3; a23 ^= d3;
+			a04 ^= d4; a09 ^= d4; a14 ^= d4; a19 ^= d4; a24 ^= d4;
+			// Rho and pi
+			c1  = a01 <<  1 | a01 >>> 63;
+			a01 = a06 << 44 | a06 >>> 20;
+			a06 = a09 << 20 | a09 >>> 44;
+			a09 = a22 << 61 | a22 >>>  3;
+			a22 = a14 << 39 | a14 >>> 25;
+			a14 = a20 << 18 | a20 >>> 46;
+			a20 = a02 << 62 | a02 >>>  2;
+			a02 = a12 << 43 | a12 >>> 21;
+			a12 = a13 << 25 | a13 >>> 39;
+			a13 = a19 <<  8 | a19 >>> 56;
+			a19 = a23 << 56 | a23 >>>  8;
+			a23 = a15 << 41 | a15 >>> 23;
+			a15 = a04 << 27 | a04 >>> 37;
+			a04 = a24 << 14 | a24 >>> 50;
+			a24 = a21 <<  2 | a21 >>> 62;
+			a21 = a08 << 55 | a08 >>>  9;
+			a08 = a16 << 45 | a16 >>> 19;
+			a16 = a05 << 36 | a05 >>> 28;
+			a05 = a03 << 28 | a03 >>> 36;
+			a03 = a18 << 21 | a18 >>> 43;
+			a18 = a17 << 15 | a17 >>> 49;
+			a17 = a11 << 10 | a11 >>> 54;
+			a11 = a07 <<  6 | a07 >>> 58;
+			a07 = a10 <<  3 | a10 >>> 61;
+			a10 = c1;
+			// Chi
+			c0 = a00 ^ (~a01 & a02); c1 = a01 ^ (~a02 & a03);
+			a02 ^= ~a03 & a04; a03 ^= ~a04 & a00; a04 ^= ~a00 & a01; a00 = c0; a01 = c1;
+			c0 = a05 ^ (~a06 & a07); c1 = a06 ^ (~a07 & a08);
+			a07 ^= ~a08 & a09; a08 ^= ~a09 & a05; a09 ^= ~a05 & a06; a05 = c0; a06 = c1;
+			c0 = a10 ^ (~a11 & a12); c1 = a11 ^ (~a12 & a13);
+			a12 ^= ~a13 & a14; a13 ^= ~a14 & a10; a14 ^= ~a10 & a11; a10 = c0; a11 = c1;
+			c0 = a15 ^ (~a16 & a17); c1 = a16 ^ (~a17 & a18);
+			a17 ^= ~a18 & a19; a18 ^= ~a19 & a15; a19 ^= ~a15 & a16; a15 = c0; a16 = c1;
+			c0 = a20 ^ (~a21 & a22); c1 = a21 ^ (~a22 & a23);
+			a22 ^= ~a23 & a24; a23 ^= ~a24 & a20; a24 ^= ~a20 & a21; a20 = c0; a21 = c1;
+			// Iota
+			a00 ^= ROUND_CONSTANTS[round];
+		}
+		state[0] = a00; state[1] = a01; state[2] = a02; state[3] = a03; state[4] = a04;
+		state[5] = a05; state[6] = a06; state[7] = a07; state[8] = a08; state[9] = a09;
+		state[10] = a10; state[11] = a11; state[12] = a12; state[13] = a13; state[14] = a14;
+		state[15] = a15; state[16] = a16; state[17] = a17; state[18] = a18; state[19] = a19;
+		state[20] = a20; state[21] = a21; state[22] = a22; state[23] = a23; state[24] = a24;
+	}
+	
+}
@@ -24,74 +24,144 @@
  */
 package org.eqcoin.crypto;
 
-import java.security.MessageDigest;
-import java.security.NoSuchAlgorithmException;
-import java.util.Iterator;
-import java.util.Vector;
-
-import org.eqcoin.util.Util;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.IntConsumer;
+import java.util.stream.IntStream;
 
 /**
+ * MerkleTree keeps each level of the tree in an array so the root can be
+ * computed level by level and the inclusion proof of any leaf can be generated
+ * from the sibling nodes. For the big tree the leaves and each level are hashed
+ * in parallel chunks, each thread hash the left and right node directly with
+ * its own reusable digest in HashTool without concatenating them.
+ * <p>
+ * The node is always the left one except the odd index's node. The last node
+ * of the level with odd size doesn't have its right node so it is paired with
+ * its pre right node.
+ * 
  * @author Xun Wang
  * @date Nov 12, 2018
  * @email 10509759@qq.com
  */
 public class MerkleTree {
+	/**
+	 * Only hash the nodes in parallel when there are enough nodes in the level
+	 */
+	public final static int MIN_PARALLEL_SIZE = 1024;
 	private byte[] root;
-	private Vector<byte[]> nodeList;
-	private MessageDigest messageDigest;
+	/**
+	 * levels[0] is the leaves and the last level is the root
+	 */
+	private byte[][][] levels;
 
-	public MerkleTree(Vector<byte[]> bytes, boolean isHashing) throws NoSuchAlgorithmException {
-		nodeList = bytes;
+	/**
+	 * The previous MerkleTree didn't hash the leaves even when isHashing is true,
+	 * so the consensus roots such as the EQcoinSeeds' proof are built with
+	 * isHashing false to keep the same root as the existing EQCHives.
+	 * 
+	 * @param bytes     the leaves
+	 * @param isHashing whether hash each leaf before build the tree
+	 */
+	public MerkleTree(List<byte[]> bytes, boolean isHashing) {
+		levels = new byte[][][] { bytes.toArray(new byte[bytes.size()][]) };
 		root = null;
-		messageDigest = MessageDigest.getInstance("SHA3-512");
 		if(isHashing) {
-			for(byte[] element:bytes) {
-				element = messageDigest.digest(element);
-			}
+			final byte[][] leaves = levels[0];
+			forEach(leaves.length, i -> leaves[i] = HashTool.SHA3_512(leaves[i]));
 		}
 	}
 
 	public void generateRoot() {
-		if(nodeList.size() == 0) {
+		if(levels[0].length == 0) {
 			return;
 		}
-		Vector<byte[]> nodes = nodeList;
-		if(nodeList.size() > 1) {
-			while ((nodes = getNextNodeList(nodes)).size() > 1) {
-			}
+		int height = 1;
+		for (int size = levels[0].length; size > 1; size = (size + 1) / 2) {
+			++height;
+		}
+		final byte[][][] tree = new byte[height][][];
+		tree[0] = levels[0];
+		for (int level = 1; level < height; ++level) {
+			tree[level] = getNextLevel(tree[level - 1]);
 		}
-		root = nodes.get(0);
+		levels = tree;
+		root = tree[height - 1][0];
 	}
 
-	public Vector<byte[]> getNextNodeList(Vector<byte[]> nodes) {
-		Vector<byte[]> nextNodeList = new Vector<byte[]>();
-		byte[] left = null, right = null, bytes = null;
-		Iterator<byte[]> iterator = nodes.iterator();
-		while (iterator.hasNext()) {
-			// Left node
-			left = iterator.next();
-			// Right node
-			if (iterator.hasNext()) {
-				right = iterator.next();
-				// Left node and right node's hash
-				bytes = new byte[left.length + right.length];
-				System.arraycopy(left, 0, bytes, 0, left.length);
-				System.arraycopy(right, 0, bytes, left.length, right.length);
-			}
-			else {
-				// Left node and pre right node's flip's hash
-				bytes = new byte[left.length + right.length];
-				System.arraycopy(left, 0, bytes, 0, left.length);
-				System.arraycopy(right, 0, bytes, left.length, right.length);
+	private static byte[][] getNextLevel(final byte[][] nodes) {
+		final byte[][] nextNodes = new byte[(nodes.length + 1) / 2][];
+		forEach(nextNodes.length, i -> nextNodes[i] = HashTool.SHA3_512(nodes[2 * i], nodes[getSibling(nodes.length, 2 * i)]));
+		return nextNodes;
+	}
+
+	/**
+	 * @return the index of the node's sibling, the last node of the level with
+	 *         odd size's sibling is its pre right node
+	 */
+	private static int getSibling(final int size, final int index) {
+		if (index % 2 == 1) {
+			return index - 1;
+		}
+		return (index + 1 < size) ? index + 1 : index - 1;
+	}
+
+	private static void forEach(final int size, final IntConsumer action) {
+		if (size < MIN_PARALLEL_SIZE) {
+			for (int i = 0; i < size; ++i) {
+				action.accept(i);
 			}
-			nextNodeList.add(messageDigest.digest(bytes));
+		} else {
+			IntStream.range(0, size).parallel().forEach(action);
 		}
-		return nextNodeList;
 	}
 
 	public byte[] getRoot() {
 		return root;
 	}
 
+	/**
+	 * Generate the inclusion proof of the leaf which should be called after
+	 * generateRoot.
+	 * 
+	 * @param index the leaf's index for example the Transaction's index
+	 * @return the sibling nodes from the leaves' level up to the root's children
+	 */
+	public byte[][] getProof(int index) {
+		if (root == null) {
+			throw new IllegalStateException("The root haven't been generated");
+		}
+		if (index < 0 || index >= levels[0].length) {
+			throw new IndexOutOfBoundsException("Invalid leaf index: " + index);
+		}
+		final byte[][] proof = new byte[levels.length - 1][];
+		for (int level = 0; level < proof.length; ++level) {
+			proof[level] = levels[level][getSibling(levels[level].length, index)];
+			index /= 2;
+		}
+		return proof;
+	}
+
+	/**
+	 * Verify the leaf is included in the MerkleTree with the given root.
+	 * 
+	 * @param leaf  the leaf which already been hashed if the MerkleTree hashing
+	 *              the leaves
+	 * @param index the leaf's index
+	 * @param proof the inclusion proof from {@link #getProof(int)}
+	 * @param root  the MerkleTree's root
+	 * @return true if the proof is valid
+	 */
+	public static boolean verifyProof(final byte[] leaf, int index, final byte[][] proof, final byte[] root) {
+		if (index < 0) {
+			return false;
+		}
+		byte[] node = leaf;
+		for (final byte[] sibling : proof) {
+			node = (index % 2 == 0) ? HashTool.SHA3_512(node, sibling) : HashTool.SHA3_512(sibling, node);
+			index /= 2;
+		}
+		return index == 0 && Arrays.equals(node, root);
+	}
+
 }
@@ -0,0 +1,147 @@
+/**
+ * EQcoin core
+ *
+ * http://www.eqcoin.org
+ * 
+ * @Copyright 2018-present Xun Wang All Rights Reserved...
+ * The copyright of all works released by Xun Wang or jointly released by
+ * Xun Wang with cooperative partners are owned by Xun Wang and entitled
+ * to protection available from copyright law by country as well as international
+ * conventions.
+ * Attribution — You must give appropriate credit, provide a link to the license.
+ * Non Commercial — You may not use the material for commercial purposes.
+ * No Derivatives — If you remix, transform, or build upon the material, you may
+ * not distribute the modified material.
+ * Xun Wang reserves any and all current and future rights, titles and interests
+ * in any and all intellectual property rights of Xun Wang including but not limited
+ * to discoveries, ideas, marks, concepts, methods, formulas, processes, codes,
+ * software, inventions, compositions, techniques, information and data, whether
+ * or not protectable in trademark, copyrightable or patentable, and any trademarks,
+ * copyrights or patents based thereon. For the use of any and all intellectual
+ * property rights of Xun Wang without prior written permission, Xun Wang reserves
+ * all rights to take any legal action and pursue any rights or remedies under
+ * applicable law.
+ */
+package org.eqcoin.crypto;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.bouncycastle.math.ec.ECPoint;
+import org.eqcoin.util.ID;
+
+/**
+ * PublickeyPointCache keeps the decompressed ECPoint of the LockMate's
+ * publickey which keyed by the LockMate's id. The LockMate only stores the
+ * compressed publickey and decompress it need one modular square root so when
+ * the same sender's Transaction arrives again the cached ECPoint can be used to
+ * verify the signature directly. BouncyCastle also keeps the WNAF table which
+ * built during the verification in the ECPoint so the later verifications of
+ * the same publickey reuse it too.
+ * 
+ * Each entry keeps the compressed publickey which it decoded from and it is
+ * only hit when the given compressed publickey equal to it so the entry which
+ * is out of date due to the LockMate's publickey changed is never used.
+ * 
+ * The cache is bounded and evict the least recently used entry when it is full.
+ * 
+ * @author agent
+ * @date Oct 18, 2026
+ * @email agent@local
+ */
+public class PublickeyPointCache {
+	
+	public final static int MAX_CACHE_SIZE = 100000;
+	
+	private static PublickeyPointCache publickeyPointCache;
+	
+	static {
+		publickeyPointCache = new PublickeyPointCache(MAX_CACHE_SIZE);
+	}
+	
+	private final LinkedHashMap<ID, PublickeyPoint> cache;
+	
+	private PublickeyPointCache(final int maxSize) {
+		cache = new LinkedHashMap<ID, PublickeyPoint>(16, 0.75f, true) {
+			private static final long serialVersionUID = 1L;
+
+			@Override
+			protected boolean removeEldestEntry(final Map.Entry<ID, PublickeyPoint> eldest) {
+				return size() > maxSize;
+			}
+		};
+	}
+	
+	public static PublickeyPointCache getInstance() {
+		return publickeyPointCache;
+	}
+	
+	/**
+	 * Get the ECPoint of the LockMate's compressed publickey, when it doesn't
+	 * exists in the cache decode it and save it.
+	 * 
+	 * @param lockMateId          the LockMate's id
+	 * @param compressedPublickey the LockMate's compressed publickey
+	 * @param ecdsaCurve          the curve of the LockMate's lock type
+	 * @return the ECPoint or null if the compressed publickey isn't a valid point
+	 */
+	public ECPoint getPoint(final ID lockMateId, final byte[] compressedPublickey, final ECDSACurve ecdsaCurve) {
+		PublickeyPoint publickeyPoint = null;
+		synchronized (this) {
+			publickeyPoint = cache.get(lockMateId);
+		}
+		if (publickeyPoint != null && Arrays.equals(publickeyPoint.compressedPublickey, compressedPublickey)) {
+			return publickeyPoint.ecPoint;
+		}
+		return savePoint(lockMateId, compressedPublickey, ecdsaCurve);
+	}
+	
+	/**
+	 * Decode the LockMate's compressed publickey and save its ECPoint. It is
+	 * called when the LockMate's publickey is persisted.
+	 * 
+	 * @return the ECPoint or null if the compressed publickey isn't a valid point
+	 */
+	public ECPoint savePoint(final ID lockMateId, final byte[] compressedPublickey, final ECDSACurve ecdsaCurve) {
+		final ECPoint ecPoint = decodePoint(compressedPublickey, ecdsaCurve);
+		if (ecPoint != null) {
+			synchronized (this) {
+				cache.put(lockMateId, new PublickeyPoint(compressedPublickey.clone(), ecPoint));
+			}
+		}
+		return ecPoint;
+	}
+	
+	public synchronized void remove(final ID lockMateId) {
+		cache.remove(lockMateId);
+	}
+	
+	public synchronized int size() {
+		return cache.size();
+	}
+	
+	public synchronized void clear() {
+		cache.clear();
+	}
+	
+	private static ECPoint decodePoint(final byte[] compressedPublickey, final ECDSACurve ecdsaCurve) {
+		try {
+			final ECPoint ecPoint = ecdsaCurve.getCURVE().getCurve().decodePoint(compressedPublickey);
+			return ecPoint.isInfinity() ? null : ecPoint;
+		} catch (final IllegalArgumentException e) {
+			return null;
+		}
+	}
+	
+	private static class PublickeyPoint {
+		private final byte[] compressedPublickey;
+		private final ECPoint ecPoint;
+		
+		public PublickeyPoint(final byte[] compressedPublickey, final ECPoint ecPoint) {
+			this.compressedPublickey = compressedPublickey;
+			this.ecPoint = ecPoint;
+		}
+	}
+	
+}
@@ -27,26 +27,45 @@ package org.eqcoin.crypto;
 import java.math.BigInteger;
 import java.util.Arrays;
 
-import org.bouncycastle.asn1.x9.X9IntegerConverter;
-import org.bouncycastle.math.ec.ECAlgorithms;
 import org.bouncycastle.math.ec.ECCurve;
+import org.bouncycastle.math.ec.ECMultiplier;
 import org.bouncycastle.math.ec.ECPoint;
+import org.bouncycastle.math.ec.FixedPointCombMultiplier;
+import org.bouncycastle.math.ec.FixedPointUtil;
 import org.bouncycastle.math.ec.ECCurve.Fp;
-import org.eqcoin.lock.Lock;
-import org.eqcoin.lock.LockTool;
-import org.eqcoin.lock.witness.Witness;
-import org.eqcoin.transaction.Transaction;
-import org.eqcoin.util.Log;
-import org.eqcoin.util.Util;
 
 /**
+ * RecoveryECCPublickey recover the publickey from the ECDSA signature. The
+ * generator's fixed point comb table is precomputed when the curve's singleton
+ * is created and shared by all the recoveries.
+ * <p>
+ * The recovery id 0 and 1 share the same R's x only R's y is negated so their
+ * candidate publickeys r^-1(sR - eG) and r^-1(-sR - eG) are computed with one
+ * multiplication of G and one multiplication of R. The batch API also compute
+ * all the r^-1 with one modular inversion and normalize all the candidate
+ * publickeys with one field inversion via Montgomery's trick.
+ * 
  * @author Xun Wang
  * @date Apr 14, 2020
  * @email 10509759@qq.com
  */
 public abstract class RecoveryECCPublickey {
 	
-	protected ECDSACurve ecdsaCurve;
+	private final static ECMultiplier FIXED_POINT_COMB_MULTIPLIER = new FixedPointCombMultiplier();
+	
+	protected final ECDSACurve ecdsaCurve;
+	
+	/**
+	 * When the curve's cofactor is 1 each point on the curve has order n so the
+	 * nR == infinity check can be skipped
+	 */
+	private final boolean isCofactorOne;
+	
+	protected RecoveryECCPublickey(final ECDSACurve ecdsaCurve) {
+		this.ecdsaCurve = ecdsaCurve;
+		isCofactorOne = BigInteger.ONE.equals(ecdsaCurve.getCURVE().getH());
+		FixedPointUtil.precompute(ecdsaCurve.getCURVE().getG());
+	}
 	
 	/**
 	 * <p>
@@ -84,10 +103,148 @@ public abstract class RecoveryECCPublickey {
 	 */
 	public byte[] recoverFromSignature(int recId, byte[] signature, byte[] messageHash) throws Exception {
 		ECDSASignature ecdsaSignature = ECDSASignature.decodeFromDER(signature);
+		if (!isInRange(ecdsaSignature)) {
+			return null;
+		}
+		ECPoint q = recoverPoints(recId, ecdsaSignature, calculateE(messageHash),
+				ecdsaSignature.getR().modInverse(ecdsaCurve.getCURVE().getN()))[0];
+		return (q == null) ? null : q.getEncoded(true);
+	}
+	
+	/**
+	 * Recover the candidate publickeys in one pass with the signature and the
+	 * message hash which only decoded once. Each of the recovered publickeys is
+	 * valid for the signature so it doesn't need verify again.
+	 * 
+	 * @param ecdsaSignature the R and S components of the signature
+	 * @param messageHash    Hash of the data that was signed.
+	 * @param recIdHint      the recovery id which recorded by the signer or -1 if
+	 *                       unknown then recovery id 0 and 1 will be tried
+	 * @return the recovered compressed publickeys in the order of the recovery id
+	 * @throws Exception
+	 */
+	public byte[][] recoverFromSignature(ECDSASignature ecdsaSignature, byte[] messageHash, int recIdHint) throws Exception {
+		return recoverFromSignatures(new ECDSASignature[] { ecdsaSignature }, new byte[][] { messageHash },
+				new int[] { recIdHint })[0];
+	}
+	
+	/**
+	 * Recover the candidate publickeys of recovery id 0 and 1 in one pass, see
+	 * {@link #recoverFromSignature(ECDSASignature, byte[], int)}.
+	 */
+	public byte[][] recoverFromSignature(ECDSASignature ecdsaSignature, byte[] messageHash) throws Exception {
+		return recoverFromSignature(ecdsaSignature, messageHash, -1);
+	}
+	
+	/**
+	 * Recover the candidate publickeys of multiple signatures at once. All the
+	 * r^-1 are computed with one modular inversion and all the candidate
+	 * publickeys are normalized with one field inversion.
+	 * 
+	 * @param ecdsaSignatures the R and S components of the signatures
+	 * @param messageHashes   the relevant hash of the data that was signed
+	 * @param recIdHints      the relevant recovery id hint or -1 if unknown
+	 * @return each signature's recovered compressed publickeys in the order of
+	 *         the recovery id the same as
+	 *         {@link #recoverFromSignature(ECDSASignature, byte[], int)}
+	 * @throws Exception
+	 */
+	public byte[][][] recoverFromSignatures(ECDSASignature[] ecdsaSignatures, byte[][] messageHashes, int[] recIdHints)
+			throws Exception {
+		if (ecdsaSignatures.length != messageHashes.length || ecdsaSignatures.length != recIdHints.length) {
+			throw new IllegalArgumentException("The signatures, message hashes and recovery id hints' size doesn't match");
+		}
+		// Only invert the r which in range the others can't recover anything
+		BigInteger[] rs = new BigInteger[ecdsaSignatures.length];
+		int inRange = 0;
+		for (int i = 0; i < ecdsaSignatures.length; ++i) {
+			if (isInRange(ecdsaSignatures[i])) {
+				rs[inRange++] = ecdsaSignatures[i].getR();
+			}
+		}
+		BigInteger[] rInvs = ecdsaCurve.modInverseAll(rs, inRange);
+
+		ECPoint[][] points = new ECPoint[ecdsaSignatures.length][];
+		ECPoint[] candidates = new ECPoint[2 * ecdsaSignatures.length];
+		int candidateCount = 0;
+		for (int i = 0, j = 0; i < ecdsaSignatures.length; ++i) {
+			if (!isInRange(ecdsaSignatures[i])) {
+				points[i] = new ECPoint[0];
+				continue;
+			}
+			points[i] = recoverPoints(recIdHints[i], ecdsaSignatures[i], calculateE(messageHashes[i]), rInvs[j++]);
+			for (ECPoint q : points[i]) {
+				if (q != null) {
+					candidates[candidateCount++] = q;
+				}
+			}
+		}
+		ecdsaCurve.getCURVE().getCurve().normalizeAll(candidates, 0, candidateCount, null);
+
+		byte[][][] publickeys = new byte[ecdsaSignatures.length][][];
+		for (int i = 0, k = 0; i < ecdsaSignatures.length; ++i) {
+			byte[][] recovered = new byte[points[i].length][];
+			int count = 0;
+			for (ECPoint q : points[i]) {
+				if (q != null) {
+					// normalizeAll replaced the point with its normalized one
+					recovered[count++] = candidates[k++].getEncoded(true);
+				}
+			}
+			publickeys[i] = (count == recovered.length) ? recovered : Arrays.copyOf(recovered, count);
+		}
+		return publickeys;
+	}
+	
+	/**
+	 * Find the recovery id which recover the given publickey from the signature so
+	 * the signer can record it as the recovery id hint.
+	 * 
+	 * @return the recovery id or -1 if the publickey can't be recovered
+	 * @throws Exception
+	 */
+	public int getRecoveryId(ECDSASignature ecdsaSignature, byte[] messageHash, byte[] compressedPublickey) throws Exception {
+		if (!isInRange(ecdsaSignature)) {
+			return -1;
+		}
+		ECPoint[] points = recoverPoints(-1, ecdsaSignature, calculateE(messageHash),
+				ecdsaSignature.getR().modInverse(ecdsaCurve.getCURVE().getN()));
+		for (int recId = 0; recId < points.length; ++recId) {
+			if (points[recId] != null && Arrays.equals(compressedPublickey, points[recId].getEncoded(true))) {
+				return recId;
+			}
+		}
+		return -1;
+	}
+	
+	/**
+	 * Compute e from the message hash the same as the signature verification does.
+	 */
+	public BigInteger calculateE(byte[] messageHash) {
+		return ecdsaCurve.calculateE(messageHash);
+	}
+	
+	/**
+	 * The same range check as the signature verification so the recovered
+	 * publickey always pass the verification of the signature:
+	 * u1G + u2Q = es^-1G + rs^-1 * r^-1(sR - eG) = R and R's x equal r
+	 */
+	private boolean isInRange(ECDSASignature ecdsaSignature) {
+		return ecdsaCurve.isInRange(ecdsaSignature);
+	}
+	
+	/**
+	 * @param recId the recovery id or -1 to recover both recovery id 0 and 1
+	 * @param rInv  r^-1 mod n
+	 * @return the candidate publickeys which haven't been normalized in the order
+	 *         of the recovery id, null if the recovery id can't recover anything
+	 */
+	private ECPoint[] recoverPoints(int recId, ECDSASignature ecdsaSignature, BigInteger e, BigInteger rInv) {
 		// 1.0 For j from 0 to h (h == recId here and the loop is outside this function)
 		// 1.1 Let x = r + jn
 		BigInteger n = ecdsaCurve.getCURVE().getN(); //		//curve order.
-		BigInteger i = BigInteger.valueOf((long) recId / 2);
+		ECPoint[] points = new ECPoint[(recId < 0) ? 2 : 1];
+		BigInteger i = BigInteger.valueOf((recId < 0) ? 0 : (long) recId / 2);
 		BigInteger x = ecdsaSignature.getR().add(i.multiply(n));
 		// 1.2. Convert the integer x to an octet string X of length mlen using the conversion routine
 		// specified in Section 2.3.7, where mlen = ⌈(log2 p)/8⌉ or mlen = ⌈m/8⌉.
@@ -100,17 +257,21 @@ public abstract class RecoveryECCPublickey {
         BigInteger prime = curve.getQ();  // Bouncy Castle is not consistent about the letter it uses for the prime.
         if (x.compareTo(prime) >= 0) {
             // Cannot have point co-ordinates larger than this as everything takes place modulo Q.
-            return null;
+            return points;
         }
 		
 		// Compressed keys require you to know an extra bit of data about the y-coord as there are two possibilities.
 		// So it's encoded in the recId.
-		ECPoint R = decompressKey(x, (recId & 1) == 1);
+		ECPoint R = ecdsaCurve.decompressPoint(x, recId > 0 && (recId & 1) == 1);
+		if (R == null) {
+			return points;
+		}
 		// 1.4. If nR != point at infinity, then do another iteration of Step 1 (callers responsibility).
-		if (!R.multiply(n).isInfinity())
-			return null;
+		// It always holds when the cofactor is 1 due to R is on the curve
+		if (!isCofactorOne && !R.multiply(n).isInfinity())
+			return points;
 		// 1.5. Compute e from M using Steps 2 and 3 of ECDSA signature verification.
-		BigInteger e = new BigInteger(1, messageHash);
+		// e already been computed by the caller so it only computed once for all the recovery ids
 		// 1.6. For k from 1 to 2 do the following. (loop is outside this function via iterating recId)
 		// 1.6.1. Compute a candidate public key as:
 		// Q = mi(r) * (sR - eG)
@@ -123,15 +284,22 @@ public abstract class RecoveryECCPublickey {
 		// We can find the additive inverse by subtracting e from zero then taking the mod. For example the additive
 		// inverse of 3 modulo 11 is 8 because 3 + 8 mod 11 = 0, and -3 mod 11 = 8.
 		BigInteger eInv = BigInteger.ZERO.subtract(e).mod(n);
-		BigInteger rInv = ecdsaSignature.getR().modInverse(n);
 		BigInteger srInv = rInv.multiply(ecdsaSignature.getS()).mod(n);
 		BigInteger eInvrInv = rInv.multiply(eInv).mod(n);
-		ECPoint q = ECAlgorithms.sumOfTwoMultiplies(ecdsaCurve.getCURVE().getG(), eInvrInv, R, srInv);
+		ECPoint eInvrInvG = FIXED_POINT_COMB_MULTIPLIER.multiply(ecdsaCurve.getCURVE().getG(), eInvrInv);
+		ECPoint srInvR = R.multiply(srInv);
+		// The odd recovery id's R is the even one's negation so its Q = eInvrInvG - srInvR
+		points[0] = eInvrInvG.add(srInvR);
+		if (recId < 0) {
+			points[1] = eInvrInvG.subtract(srInvR);
+		}
 		// result sanity check: point must not be at infinity
-		if(q.isInfinity()) {
-			return null;
+		for (int k = 0; k < points.length; ++k) {
+			if (points[k].isInfinity()) {
+				points[k] = null;
+			}
 		}
-		return q.getEncoded(true);
+		return points;
 	}
 
     /**
@@ -153,12 +321,4 @@ public abstract class RecoveryECCPublickey {
 //        return compressedPublickey;
 //    }
 	
-	/** Decompress a compressed public key (x co-ord and low-bit of y-coord). */
-	private ECPoint decompressKey(BigInteger xBN, boolean yBit) {
-		X9IntegerConverter x9 = new X9IntegerConverter();
-		byte[] compEnc = x9.integerToBytes(xBN, 1 + x9.getByteLength(ecdsaCurve.getCURVE().getCurve()));
-		compEnc[0] = (byte) (yBit ? 0x03 : 0x02);
-		return ecdsaCurve.getCURVE().getCurve().decodePoint(compEnc);
-	}
-	
 }
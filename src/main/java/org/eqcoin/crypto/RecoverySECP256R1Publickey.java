@@ -42,7 +42,7 @@ public class RecoverySECP256R1Publickey extends RecoveryECCPublickey {
 	private static RecoverySECP256R1Publickey recoverySECP256R1Publickey;
 
 	private RecoverySECP256R1Publickey() {
-		ecdsaCurve = SECP256R1Curve.getInstance();
+		super(SECP256R1Curve.getInstance());
 	}
 
 }
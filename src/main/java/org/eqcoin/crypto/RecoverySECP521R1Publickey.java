@@ -38,7 +38,7 @@ public class RecoverySECP521R1Publickey extends RecoveryECCPublickey {
 	}
 	
 	private RecoverySECP521R1Publickey() {
-		ecdsaCurve = SECP521R1Curve.getInstance();
+		super(SECP521R1Curve.getInstance());
 	}
 	
 	public static RecoverySECP521R1Publickey getInstance() {
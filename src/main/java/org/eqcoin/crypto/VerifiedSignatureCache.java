@@ -0,0 +1,134 @@
+/**
+ * EQcoin core
+ *
+ * http://www.eqcoin.org
+ * 
+ * @Copyright 2018-present Xun Wang All Rights Reserved...
+ * The copyright of all works released by Xun Wang or jointly released by
+ * Xun Wang with cooperative partners are owned by Xun Wang and entitled
+ * to protection available from copyright law by country as well as international
+ * conventions.
+ * Attribution — You must give appropriate credit, provide a link to the license.
+ * Non Commercial — You may not use the material for commercial purposes.
+ * No Derivatives — If you remix, transform, or build upon the material, you may
+ * not distribute the modified material.
+ * Xun Wang reserves any and all current and future rights, titles and interests
+ * in any and all intellectual property rights of Xun Wang including but not limited
+ * to discoveries, ideas, marks, concepts, methods, formulas, processes, codes,
+ * software, inventions, compositions, techniques, information and data, whether
+ * or not protectable in trademark, copyrightable or patentable, and any trademarks,
+ * copyrights or patents based thereon. For the use of any and all intellectual
+ * property rights of Xun Wang without prior written permission, Xun Wang reserves
+ * all rights to take any legal action and pursue any rights or remedies under
+ * applicable law.
+ */
+package org.eqcoin.crypto;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * VerifiedSignatureCache records the witnesses which already passed the ECDSA
+ * verification together with their recovered compressed publickey. The key is
+ * the Transaction's sign bytes hash plus the witness bytes so when one
+ * Transaction which already been admitted to the transaction pool arrives again
+ * in one EQCHive the public key recovery and the signature verification can be
+ * skipped.
+ * 
+ * The cache is bounded and evict the least recently used entry when it is full.
+ * 
+ * @author agent
+ * @date Oct 18, 2026
+ * @email agent@local
+ */
+public class VerifiedSignatureCache {
+	
+	public final static int MAX_CACHE_SIZE = 100000;
+	
+	private static VerifiedSignatureCache verifiedSignatureCache;
+	
+	static {
+		verifiedSignatureCache = new VerifiedSignatureCache(MAX_CACHE_SIZE);
+	}
+	
+	private final LinkedHashMap<SignatureKey, byte[]> cache;
+	
+	private VerifiedSignatureCache(final int maxSize) {
+		cache = new LinkedHashMap<SignatureKey, byte[]>(16, 0.75f, true) {
+			private static final long serialVersionUID = 1L;
+
+			@Override
+			protected boolean removeEldestEntry(final Map.Entry<SignatureKey, byte[]> eldest) {
+				return size() > maxSize;
+			}
+		};
+	}
+	
+	public static VerifiedSignatureCache getInstance() {
+		return verifiedSignatureCache;
+	}
+	
+	/**
+	 * Get the compressed publickey which recovered from the verified witness.
+	 * 
+	 * @param signBytesHash the Transaction's sign bytes hash
+	 * @param witness the Transaction's witness bytes
+	 * @return the compressed publickey or null if the witness haven't been verified
+	 */
+	public synchronized byte[] getPublickey(final byte[] signBytesHash, final byte[] witness) {
+		return cache.get(new SignatureKey(signBytesHash, witness));
+	}
+	
+	/**
+	 * Check if the witness has been verified with the given compressed publickey.
+	 */
+	public boolean isVerified(final byte[] signBytesHash, final byte[] witness, final byte[] compressedPublickey) {
+		byte[] publickey = getPublickey(signBytesHash, witness);
+		return publickey != null && Arrays.equals(publickey, compressedPublickey);
+	}
+	
+	/**
+	 * Only the witness which passed the signature verification should be saved.
+	 */
+	public synchronized void saveVerified(final byte[] signBytesHash, final byte[] witness, final byte[] compressedPublickey) {
+		cache.put(new SignatureKey(signBytesHash, witness), compressedPublickey);
+	}
+	
+	public synchronized int size() {
+		return cache.size();
+	}
+	
+	public synchronized void clear() {
+		cache.clear();
+	}
+	
+	private static class SignatureKey {
+		private final byte[] key;
+		private final int hashCode;
+		
+		public SignatureKey(final byte[] signBytesHash, final byte[] witness) {
+			key = new byte[signBytesHash.length + witness.length];
+			System.arraycopy(signBytesHash, 0, key, 0, signBytesHash.length);
+			System.arraycopy(witness, 0, key, signBytesHash.length, witness.length);
+			hashCode = Arrays.hashCode(key);
+		}
+
+		@Override
+		public int hashCode() {
+			return hashCode;
+		}
+
+		@Override
+		public boolean equals(final Object obj) {
+			if (this == obj) {
+				return true;
+			}
+			if (!(obj instanceof SignatureKey)) {
+				return false;
+			}
+			return Arrays.equals(key, ((SignatureKey) obj).key);
+		}
+	}
+	
+}
@@ -25,7 +25,6 @@
 package org.eqcoin.hive;
 
 import java.io.ByteArrayInputStream;
-import java.io.ByteArrayOutputStream;
 import java.nio.ByteBuffer;
 import java.util.Objects;
 import java.util.Vector;
@@ -34,10 +33,13 @@ import org.eqcoin.avro.O;
 import org.eqcoin.persistence.globalstate.GlobalState;
 import org.eqcoin.persistence.globalstate.GlobalState.Plantable;
 import org.eqcoin.persistence.globalstate.GlobalState.Statistics;
+import org.eqcoin.rpc.gateway.Codec;
 import org.eqcoin.rpc.gateway.Gateway;
 import org.eqcoin.seeds.EQCSeeds;
 import org.eqcoin.serialization.EQCCastle;
+import org.eqcoin.serialization.EQCReader;
 import org.eqcoin.serialization.EQCStateObject;
+import org.eqcoin.serialization.EQCWriter;
 import org.eqcoin.transaction.Transaction;
 import org.eqcoin.util.ID;
 import org.eqcoin.util.Log;
@@ -64,8 +66,19 @@ public class EQCHive extends EQCStateObject implements Plantable, Gateway {
 		super();
 	}
 
+	/**
+	 * Parse the EQCHiveRoot immediately and keep the EQCSeeds' Transactions as
+	 * unparsed bytes which will be decoded on demand. So the caller which only
+	 * need the EQCHiveRoot doesn't need pay for decode the Transactions.
+	 *
+	 * @param bytes
+	 * @throws Exception
+	 */
 	public EQCHive(final byte[] bytes) throws Exception {
-		super(bytes);
+		super();
+		EQCCastle.assertNotNull(bytes);
+		parse(new EQCReader(bytes));
+		seal();
 	}
 
 	public EQCHive(final byte[] preProof, final ID currentHeight, final GlobalState globalState) throws Exception {
@@ -80,6 +93,7 @@ public class EQCHive extends EQCStateObject implements Plantable, Gateway {
 		}
 		eqCoinSeeds.setEqcHive(this);
 		// Create EQC block header
+		root.setProtocolVersion(Util.PROTOCOL_VERSION);
 		root.setPreProof(preProof);
 		root.setHeight(currentHeight);
 		root.setTarget(Util.cypherTarget(globalState));
@@ -91,6 +105,7 @@ public class EQCHive extends EQCStateObject implements Plantable, Gateway {
 	public <T> EQCHive(final T type) throws Exception {
 		super();
 		parse(type);
+		seal();
 	}
 
 	@Override
@@ -251,17 +266,33 @@ public class EQCHive extends EQCStateObject implements Plantable, Gateway {
 	//		return true;
 	//	}
 
+	/**
+	 * The received EQCHive is sealed after parsed so it's bytes will be memoized.
+	 * The EQCHiveRoot and EQCSeeds are owned by the EQCHive so their setters
+	 * drop the memoized bytes.
+	 *
+	 * @see org.eqcoin.serialization.EQCObject#getBytes()
+	 */
 	@Override
 	public byte[] getBytes() {
-		final ByteArrayOutputStream os = new ByteArrayOutputStream();
 		try {
-			os.write(root.getBytes());
-			os.write(eqCoinSeeds.getBytes());
+			return super.getBytes();
 		} catch (final Exception e) {
-			e.printStackTrace();
-			Log.Error(e.getMessage());
+			throw new IllegalStateException("Serialize EQCHive error occur: " + e.getMessage(), e);
 		}
-		return os.toByteArray();
+	}
+
+	/* (non-Javadoc)
+	 * @see org.eqcoin.serialization.EQCObject#encode()
+	 */
+	@Override
+	protected byte[] encode() throws Exception {
+		// Serialize the whole EQCHive into one buffer, any error is thrown to
+		// getBytes so the truncated bytes never be memoized
+		final EQCWriter writer = new EQCWriter();
+		root.getBytes(writer);
+		eqCoinSeeds.getBytes(writer);
+		return writer.toByteArray();
 	}
 
 	/**
@@ -284,7 +315,7 @@ public class EQCHive extends EQCStateObject implements Plantable, Gateway {
 	}
 
 	public O getO() {
-		return new O(ByteBuffer.wrap(this.getBytes()));
+		return new O(ByteBuffer.wrap(this.getBytes()), Codec.NONE.getCodec() | Codec.ACCEPT_CODECS);
 	}
 
 	public EQCHiveRoot getPreRoot() {
@@ -328,8 +359,10 @@ public class EQCHive extends EQCStateObject implements Plantable, Gateway {
 
 	@Override
 	protected void init() {
-		root = new EQCHiveRoot();
-		eqCoinSeeds = new EQCSeeds();
+		root = new EQCHiveRoot().setOwner(this);
+		eqCoinSeeds = new EQCSeeds().setOwner(this);
+		// The EQCSeeds' format depends on the EQCHiveRoot's protocol version
+		eqCoinSeeds.setEqcHive(this);
 	}
 
 	@Override
@@ -473,21 +506,27 @@ public class EQCHive extends EQCStateObject implements Plantable, Gateway {
 	public void parse(final ByteArrayInputStream is) throws Exception {
 		Objects.requireNonNull(is);
 		// Parse EqcHeader
-		root = new EQCHiveRoot(is);
+		root = new EQCHiveRoot(is).setOwner(this);
 		// Parse EQcoinSeed
 		eqCoinSeeds.parse(is);
 		EQCCastle.assertNoRedundantData(is);
 	}
 
+	@Override
+	public void parse(final EQCReader reader) throws Exception {
+		Objects.requireNonNull(reader);
+		root = new EQCHiveRoot(reader).setOwner(this);
+		eqCoinSeeds.parse(reader);
+		reader.assertNoRedundantData();
+	}
+
 	/* (non-Javadoc)
 	 * @see org.eqcoin.rpc.gateway.Gateway#parse(java.lang.Object)
 	 */
 	@Override
 	public <T> void parse(final T type) throws Exception {
 		Objects.requireNonNull(type);
-		final ByteArrayInputStream is = new ByteArrayInputStream(Gateway.parseProtocol(type));
-		parse(is);
-		EQCCastle.assertNoRedundantData(is);
+		parse(new EQCReader(Gateway.parseProtocol(type)));
 	}
 
 	@Override
@@ -521,7 +560,9 @@ public class EQCHive extends EQCStateObject implements Plantable, Gateway {
 	 * @param eqCoinSeed the eqCoinSeed to set
 	 */
 	public void setEQCoinSeeds(final EQCSeeds eqCoinSeed) {
-		this.eqCoinSeeds = eqCoinSeed;
+		this.eqCoinSeeds = eqCoinSeed.setOwner(this);
+		eqCoinSeeds.setEqcHive(this);
+		invalidate();
 	}
 
 	public void setGlobalState(final GlobalState globalState) throws Exception {
@@ -533,7 +574,8 @@ public class EQCHive extends EQCStateObject implements Plantable, Gateway {
 	 * @param eqcHiveRoot the eqcHiveRoot to set
 	 */
 	public void setRoot(final EQCHiveRoot eqcHiveRoot) {
-		this.root = eqcHiveRoot;
+		this.root = eqcHiveRoot.setOwner(this);
+		invalidate();
 	}
 
 	public void setTxFeeRate(final Value txFeeRate) {
@@ -0,0 +1,135 @@
+/**
+ * EQcoin core
+ *
+ * http://www.eqcoin.org
+ * 
+ * @Copyright 2018-present Xun Wang All Rights Reserved...
+ * The copyright of all works released by Xun Wang or jointly released by
+ * Xun Wang with cooperative partners are owned by Xun Wang and entitled
+ * to protection available from copyright law by country as well as international
+ * conventions.
+ * Attribution — You must give appropriate credit, provide a link to the license.
+ * Non Commercial — You may not use the material for commercial purposes.
+ * No Derivatives — If you remix, transform, or build upon the material, you may
+ * not distribute the modified material.
+ * Xun Wang reserves any and all current and future rights, titles and interests
+ * in any and all intellectual property rights of Xun Wang including but not limited
+ * to discoveries, ideas, marks, concepts, methods, formulas, processes, codes,
+ * software, inventions, compositions, techniques, information and data, whether
+ * or not protectable in trademark, copyrightable or patentable, and any trademarks,
+ * copyrights or patents based thereon. For the use of any and all intellectual
+ * property rights of Xun Wang without prior written permission, Xun Wang reserves
+ * all rights to take any legal action and pursue any rights or remedies under
+ * applicable law.
+ */
+package org.eqcoin.hive;
+
+import java.util.ArrayDeque;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+import org.eqcoin.util.Log;
+
+/**
+ * EQCHiveDecoder decode the EQCHives in parallel on one ForkJoinPool ahead of
+ * the single threaded stage which verify them and update the global state. The
+ * decode of EQCHive only depend on it's bytes so the EQCHives can be decoded in
+ * any order, but they are taken in the same order as they are offered.
+ * <p>
+ * EQCHiveDecoder isn't thread safe, it should be offered and taken by the same
+ * thread.
+ *
+ * @author agent
+ * @date Oct 18, 2026
+ * @email agent@local
+ */
+public class EQCHiveDecoder {
+	/**
+	 * The default number of EQCHives which can be decoded ahead of the verify
+	 */
+	public final static int DEFAULT_WINDOW = Runtime.getRuntime().availableProcessors() * 2;
+	private final ForkJoinPool pool;
+	private final int window;
+	private final ArrayDeque<ForkJoinTask<EQCHive>> pendingList;
+
+	public EQCHiveDecoder() {
+		this(ForkJoinPool.commonPool(), DEFAULT_WINDOW);
+	}
+
+	public EQCHiveDecoder(final ForkJoinPool pool, final int window) {
+		if (window <= 0) {
+			throw new IllegalStateException("The window should bigger than 0 but actually is " + window);
+		}
+		this.pool = pool;
+		this.window = window;
+		pendingList = new ArrayDeque<>(window);
+	}
+
+	/**
+	 * Decode the EQCHive and all of it's Transactions so the returned EQCHive
+	 * doesn't need decode anything later.
+	 *
+	 * @param bytes EQCHive's bytes
+	 * @return the fully decoded EQCHive
+	 * @throws Exception
+	 */
+	public static EQCHive decode(final byte[] bytes) throws Exception {
+		final EQCHive eqcHive = new EQCHive(bytes);
+		eqcHive.getEQCoinSeeds().getNewTransactionList();
+		return eqcHive;
+	}
+
+	/**
+	 * Submit the EQCHive's bytes to be decoded in the pool.
+	 *
+	 * @param bytes EQCHive's bytes
+	 */
+	public void offer(final byte[] bytes) {
+		if (isFull()) {
+			throw new IllegalStateException("The pending EQCHives already reach the window " + window);
+		}
+		pendingList.offer(pool.submit(() -> decode(bytes)));
+	}
+
+	/**
+	 * Wait and return the earliest offered EQCHive.
+	 *
+	 * @return the decoded EQCHive
+	 * @throws Exception the exception during decode the EQCHive
+	 */
+	public EQCHive take() throws Exception {
+		final ForkJoinTask<EQCHive> task = pendingList.poll();
+		if (task == null) {
+			throw new IllegalStateException("There is no pending EQCHive");
+		}
+		try {
+			return task.get();
+		} catch (final ExecutionException e) {
+			Log.Error("During decode EQCHive error occur: " + e.getCause().getMessage());
+			if (e.getCause() instanceof Exception) {
+				throw (Exception) e.getCause();
+			}
+			throw e;
+		}
+	}
+
+	public boolean isFull() {
+		return pendingList.size() >= window;
+	}
+
+	public boolean isEmpty() {
+		return pendingList.isEmpty();
+	}
+
+	/**
+	 * Cancel all the pending EQCHives which haven't been taken.
+	 */
+	public void clear() {
+		for (final ForkJoinTask<EQCHive> task : pendingList) {
+			task.cancel(false);
+		}
+		pendingList.clear();
+	}
+
+}
@@ -27,17 +27,18 @@ package org.eqcoin.hive;
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.math.BigInteger;
-import java.nio.ByteBuffer;
-import java.security.MessageDigest;
 import java.util.Arrays;
 import java.util.Objects;
 
 import org.eqcoin.avro.O;
+import org.eqcoin.crypto.HashTool;
 import org.eqcoin.persistence.globalstate.GlobalState;
 import org.eqcoin.persistence.globalstate.GlobalState.Statistics;
 import org.eqcoin.rpc.gateway.Gateway;
 import org.eqcoin.serialization.EQCCastle;
 import org.eqcoin.serialization.EQCObject;
+import org.eqcoin.serialization.EQCReader;
+import org.eqcoin.serialization.EQCWriter;
 import org.eqcoin.util.ID;
 import org.eqcoin.util.Log;
 import org.eqcoin.util.Util;
@@ -115,6 +116,10 @@ public class EQCHiveRoot extends EQCObject implements Gateway {
 		super(is);
 	}
 
+	public EQCHiveRoot(final EQCReader reader) throws Exception {
+		super(reader);
+	}
+
 	public <T> EQCHiveRoot(final T type) throws Exception {
 		super();
 		parse(type);
@@ -135,6 +140,28 @@ public class EQCHiveRoot extends EQCObject implements Gateway {
 		return os;
 	}
 
+	@Override
+	public EQCWriter getBodyBytes(final EQCWriter writer) throws Exception {
+		writer.writeEQCBits(protocolVersion);
+		writer.write(preProof);
+		writer.write(target);
+		writer.write(eqCoinSeedsProof);
+		writer.writeEQCBits(totalTransactionNumbers);
+		writer.writeEQCBits(totalLockMateNumbers);
+		writer.writeEQCBits(totalPassportNumbers);
+		writer.writeEQCBits(totalSupply);
+		writer.writeEQCBits(timestamp);
+		writer.writeEQCBits(nonce);
+		return writer;
+	}
+
+	@Override
+	public EQCWriter getBytes(final EQCWriter writer) throws Exception {
+		getHeaderBytes(writer);
+		getBodyBytes(writer);
+		return writer;
+	}
+
 	public byte[] getEqCoinSeedsProof() {
 		return eqCoinSeedsProof;
 	}
@@ -152,6 +179,11 @@ public class EQCHiveRoot extends EQCObject implements Gateway {
 		return os;
 	}
 
+	@Override
+	public EQCWriter getHeaderBytes(final EQCWriter writer) throws Exception {
+		return writer.writeEQCBits(height);
+	}
+
 	/**
 	 * @return the height
 	 */
@@ -181,13 +213,13 @@ public class EQCHiveRoot extends EQCObject implements Gateway {
 	 * @throws Exception
 	 */
 	public byte[] getProof() throws Exception {
-		return MessageDigest.getInstance("SHA3-512").digest(Util.multipleExtendMix(getBytes(), Util.TARGET_INTERVAL.intValue()));
+		return HashTool.SHA3_512(Util.multipleExtendMix(getBytes(), Util.TARGET_INTERVAL.intValue()));
 	}
 	@Override
 	public <T> T getProtocol(final Class<T> type) throws Exception {
 		T protocol = null;
 		if(type.equals(O.class)) {
-			protocol = (T) new O(ByteBuffer.wrap(getBytes()));
+			protocol = Gateway.getProtocol(type, getBytes());
 		}
 		else {
 			throw new IllegalStateException("Invalid Protocol type");
@@ -358,8 +390,8 @@ public class EQCHiveRoot extends EQCObject implements Gateway {
 		}
 
 		// Check if total transaction numbers is valid
-		if(!statistics.getTotalTransactionNumbers().equals(preTotalTransactionNumbers.add(new ID(eqcHive.getEQCoinSeeds().getNewTransactionList().size())))) {
-			Log.Error("TotalTransactionNumbers is invalid expected: " + preTotalTransactionNumbers.add(new ID(eqcHive.getEQCoinSeeds().getNewTransactionList().size())) + " but statistics: " + statistics.getTotalTransactionNumbers());
+		if(!statistics.getTotalTransactionNumbers().equals(preTotalTransactionNumbers.add(new ID(eqcHive.getEQCoinSeeds().getNewTransactionListSize())))) {
+			Log.Error("TotalTransactionNumbers is invalid expected: " + preTotalTransactionNumbers.add(new ID(eqcHive.getEQCoinSeeds().getNewTransactionListSize())) + " but statistics: " + statistics.getTotalTransactionNumbers());
 			return false;
 		}
 		if(isCheckRoot && totalTransactionNumbers.equals(statistics.getTotalTransactionNumbers())) {
@@ -445,8 +477,30 @@ public class EQCHiveRoot extends EQCObject implements Gateway {
 		nonce = EQCCastle.parseID(is);
 	}
 	@Override
+	public void parseBody(final EQCReader reader) throws Exception {
+		protocolVersion = reader.readID();
+		preProof = reader.readNBytes(Util.HASH_LEN);
+		target = reader.readNBytes(TARGET_LEN);
+		eqCoinSeedsProof = reader.readNBytes(Util.HASH_LEN);
+		totalTransactionNumbers = reader.readID();
+		totalLockMateNumbers = reader.readID();
+		totalPassportNumbers = reader.readID();
+		totalSupply = reader.readValue();
+		timestamp = reader.readID();
+		nonce = reader.readID();
+	}
+	@Override
+	public void parse(final EQCReader reader) throws Exception {
+		parseHeader(reader);
+		parseBody(reader);
+	}
+	@Override
 	public void parseHeader(final ByteArrayInputStream is) throws Exception {
-		height = new ID(EQCCastle.parseEQCBits(is));
+		height = ID.valueOf(EQCCastle.parseEQCBits(is));
+	}
+	@Override
+	public void parseHeader(final EQCReader reader) throws Exception {
+		height = reader.readID();
 	}
 	public EQCHiveRoot setEQCHive(final EQCHive eqcHive) {
 		this.eqcHive = eqcHive;
@@ -455,6 +509,7 @@ public class EQCHiveRoot extends EQCObject implements Gateway {
 
 	public void setEqCoinSeedsProof(final byte[] eqCoinSeedsProof) {
 		this.eqCoinSeedsProof = eqCoinSeedsProof;
+		invalidate();
 	}
 
 	/**
@@ -462,6 +517,7 @@ public class EQCHiveRoot extends EQCObject implements Gateway {
 	 */
 	public void setEQCoinSeedsProof(final byte[] eqCoinSeedsProof) {
 		this.eqCoinSeedsProof = eqCoinSeedsProof;
+		invalidate();
 	}
 
 	/**
@@ -469,6 +525,7 @@ public class EQCHiveRoot extends EQCObject implements Gateway {
 	 */
 	public EQCHiveRoot setHeight(final ID height) {
 		this.height = height;
+		invalidate();
 		return this;
 	}
 
@@ -477,6 +534,7 @@ public class EQCHiveRoot extends EQCObject implements Gateway {
 	 */
 	public EQCHiveRoot setNonce(final ID nonce) {
 		this.nonce = nonce;
+		invalidate();
 		return this;
 	}
 
@@ -485,10 +543,12 @@ public class EQCHiveRoot extends EQCObject implements Gateway {
 	 */
 	public void setPreProof(final byte[] preProof) {
 		this.preProof = preProof;
+		invalidate();
 	}
 
 	public void setProtocolVersion(final ID protocolVersion) {
 		this.protocolVersion = protocolVersion;
+		invalidate();
 	}
 
 	/**
@@ -496,6 +556,7 @@ public class EQCHiveRoot extends EQCObject implements Gateway {
 	 */
 	public void setTarget(final byte[] target) {
 		this.target = target;
+		invalidate();
 	}
 
 	/**
@@ -503,18 +564,22 @@ public class EQCHiveRoot extends EQCObject implements Gateway {
 	 */
 	public void setTimestamp(final ID timestamp) {
 		this.timestamp = timestamp;
+		invalidate();
 	}
 
 	public void setTotalLockMateNumbers(final ID totalLockMateNumbers) {
 		this.totalLockMateNumbers = totalLockMateNumbers;
+		invalidate();
 	}
 
 	public void setTotalPassportNumbers(final ID totalPassportNumbers) {
 		this.totalPassportNumbers = totalPassportNumbers;
+		invalidate();
 	}
 
 	public void setTotalSupply(final Value totalSupply) {
 		this.totalSupply = totalSupply;
+		invalidate();
 	}
 
 	//	public byte[] getSnapshot() {
@@ -534,6 +599,7 @@ public class EQCHiveRoot extends EQCObject implements Gateway {
 
 	public void setTotalTransactionNumbers(final ID totalTransactionNumbers) {
 		this.totalTransactionNumbers = totalTransactionNumbers;
+		invalidate();
 	}
 
 	@Override
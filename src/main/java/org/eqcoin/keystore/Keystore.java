@@ -35,7 +35,6 @@ import java.io.OutputStream;
 import java.nio.file.Files;
 import java.security.KeyPair;
 import java.security.KeyPairGenerator;
-import java.security.MessageDigest;
 import java.security.PrivateKey;
 import java.security.PublicKey;
 import java.security.SecureRandom;
@@ -45,6 +44,7 @@ import java.security.spec.ECGenParameterSpec;
 import java.util.Vector;
 
 import org.eqcoin.crypto.EQCECCPublicKey;
+import org.eqcoin.crypto.HashTool;
 import org.eqcoin.serialization.EQCCastle;
 import org.eqcoin.util.Log;
 import org.eqcoin.util.Util;
@@ -122,7 +122,7 @@ public class Keystore {
 			eqcPublicKey.setECPoint((ECPublicKey) pubKey);
 			userProfile.setECCType(eccType);
 			userProfile.setUserName(userName);
-			userProfile.setPwdProof(MessageDigest.getInstance(Util.SHA3_512).digest(password.getBytes()));
+			userProfile.setPwdProof(HashTool.SHA3_512(password.getBytes()));
 			userProfile.setPrivateKey(Util.AESEncrypt(((ECPrivateKey)privKey).getS().toByteArray(), password));
 			userProfile.setPublicKey(Util.AESEncrypt(eqcPublicKey.getCompressedPublicKeyEncoded(), password));
 			userProfile.setAlais(alais);
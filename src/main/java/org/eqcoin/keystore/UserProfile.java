@@ -28,7 +28,6 @@ import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.security.InvalidKeyException;
-import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
 import java.security.NoSuchProviderException;
 import java.security.PrivateKey;
@@ -37,6 +36,7 @@ import java.security.SignatureException;
 import java.util.Arrays;
 import org.bouncycastle.asn1.sec.ECPrivateKey;
 import org.eqcoin.crypto.EQCECCPublicKey;
+import org.eqcoin.crypto.HashTool;
 import org.eqcoin.keystore.Keystore.ECCTYPE;
 import org.eqcoin.lock.LockTool;
 import org.eqcoin.lock.LockTool.LockType;
@@ -221,7 +221,7 @@ public class UserProfile extends EQCObject {
 	}
 
 	public boolean isPasswordCorrect(String password) throws NoSuchAlgorithmException {
-		return Arrays.equals(pwdProof, MessageDigest.getInstance(Util.SHA3_512).digest(password.getBytes()));
+		return Arrays.equals(pwdProof, HashTool.SHA3_512(password.getBytes()));
 	}
 	
 	/*
@@ -26,9 +26,14 @@ package org.eqcoin.lock;
 
 import java.io.ByteArrayOutputStream;
 
+import org.eqcoin.crypto.PublickeyPointCache;
+import org.eqcoin.crypto.SECP256R1Curve;
+import org.eqcoin.crypto.SECP521R1Curve;
 import org.eqcoin.hive.EQCHive;
+import org.eqcoin.lock.LockTool.LockType;
 import org.eqcoin.lock.publickey.PublicKey;
 import org.eqcoin.serialization.EQCObject;
+import org.eqcoin.serialization.EQCWriter;
 import org.eqcoin.util.ID;
 import org.eqcoin.util.Log;
 import org.eqcoin.util.Util;
@@ -97,6 +102,14 @@ public class LockMate extends EQCObject {
 		return os;
 	}
 
+	/* (non-Javadoc)
+	 * @see org.eqcoin.serialization.EQCObject#getHeaderBytes(org.eqcoin.serialization.EQCWriter)
+	 */
+	@Override
+	public EQCWriter getHeaderBytes(EQCWriter writer) throws Exception {
+		return writer.writeEQCBits(id);
+	}
+
 	/* (non-Javadoc)
 	 * @see com.eqcoin.serialization.EQCSerializable#getBodyBytes(java.io.ByteArrayOutputStream)
 	 */
@@ -107,6 +120,24 @@ public class LockMate extends EQCObject {
 		return os;
 	}
 
+	/* (non-Javadoc)
+	 * @see org.eqcoin.serialization.EQCObject#getBodyBytes(org.eqcoin.serialization.EQCWriter)
+	 */
+	@Override
+	public EQCWriter getBodyBytes(EQCWriter writer) throws Exception {
+		lock.getBytes(writer);
+		return publickey.getBytes(writer);
+	}
+
+	/* (non-Javadoc)
+	 * @see org.eqcoin.serialization.EQCObject#getBytes(org.eqcoin.serialization.EQCWriter)
+	 */
+	@Override
+	public EQCWriter getBytes(EQCWriter writer) throws Exception {
+		getHeaderBytes(writer);
+		return getBodyBytes(writer);
+	}
+
 	/* (non-Javadoc)
 	 * @see com.eqcoin.serialization.EQCTypable#isSanity()
 	 */
@@ -289,6 +320,11 @@ public class LockMate extends EQCObject {
 	
 	public void planting() throws Exception {
 		eqcHive.getGlobalState().saveLockMate(this);
+		// Decompress the persisted publickey now so its first verification can use the cached ECPoint
+		if (publickey != null && !publickey.isNULL()) {
+			PublickeyPointCache.getInstance().savePoint(id, publickey.getPublickey(),
+					(lock.getType() == LockType.T1) ? SECP256R1Curve.getInstance() : SECP521R1Curve.getInstance());
+		}
 	}
 	
 	/**
@@ -299,6 +335,7 @@ public class LockMate extends EQCObject {
 	public LockMate forbidden() throws Exception {
 		if(!publickey.isNULL()) {
 			publickey.setPublickey(null);
+			PublickeyPointCache.getInstance().remove(id);
 		}
 		setForbidden();
 		return this;
@@ -25,11 +25,11 @@
 package org.eqcoin.lock;
 
 import java.io.ByteArrayOutputStream;
-import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
 import java.util.Arrays;
 import java.util.Objects;
 
+import org.eqcoin.crypto.HashTool;
 import org.eqcoin.serialization.EQCCastle;
 import org.eqcoin.util.Base58;
 import org.eqcoin.util.Log;
@@ -108,13 +108,13 @@ public class LockTool {
 			if(compressedPublickey.length != Util.P256_PUBLICKEY_LEN) {
 				throw new IllegalStateException("Invalid T1 publickey length: " + compressedPublickey.length);
 			}
-			lock_proof = MessageDigest.getInstance(Util.SHA3_256).digest(compressedPublickey);
+			lock_proof = HashTool.SHA3_256(compressedPublickey);
 		}
 		else if(lockType == LockType.T2) {
 			if(compressedPublickey.length != Util.P521_PUBLICKEY_LEN) {
 				throw new IllegalStateException("Invalid T2 publickey length: " + compressedPublickey.length);
 			}
-			lock_proof = MessageDigest.getInstance(Util.SHA3_512).digest(compressedPublickey);
+			lock_proof = HashTool.SHA3_512(compressedPublickey);
 		}
 		else {
 			throw new IllegalStateException("Invalid lock type: " + lockType);
@@ -279,11 +279,11 @@ public class LockTool {
 		Lock eqcLock = null;
 		if(lockType == LockType.T1) {
 			eqcLock = new T1Lock();
-			eqcLock.setProof(MessageDigest.getInstance(Util.SHA3_256).digest(compressedPublickey));
+			eqcLock.setProof(HashTool.SHA3_256(compressedPublickey));
 		}
 		else if(lockType == LockType.T2) {
 			eqcLock = new T2Lock();
-			eqcLock.setProof(MessageDigest.getInstance(Util.SHA3_512).digest(compressedPublickey));
+			eqcLock.setProof(HashTool.SHA3_512(compressedPublickey));
 		}
 		return eqcLock;
 	}
@@ -329,12 +329,10 @@ public class LockTool {
 		byte[] lock_proof = null;
 		int compressed_publickey_len = 0;
 		if (eqcLock.getType() == LockType.T1) {
-			lock_proof = MessageDigest.getInstance(Util.SHA3_256)
-					.digest(compressedPublickey);
+			lock_proof = HashTool.SHA3_256(compressedPublickey);
 			compressed_publickey_len = Util.P256_PUBLICKEY_LEN;
 		} else if (eqcLock.getType() == LockType.T2) {
-			lock_proof = MessageDigest.getInstance(Util.SHA3_512)
-					.digest(compressedPublickey);
+			lock_proof = HashTool.SHA3_512(compressedPublickey);
 			compressed_publickey_len = Util.P521_PUBLICKEY_LEN;
 		}
 		Log.info("Len: " + lock_proof.length + " Recovery publickey's hash: " + Util.bytesToHexString(lock_proof));
@@ -348,11 +346,9 @@ public class LockTool {
 		byte[] lock_code = null;
 		final LockType lockType = getLockType(readableLock);
 		if (lockType == LockType.T1) {
-			lock_code = MessageDigest.getInstance(Util.SHA3_256)
-					.digest(compressedPublickey);
+			lock_code = HashTool.SHA3_256(compressedPublickey);
 		} else if (lockType == LockType.T2) {
-			lock_code = MessageDigest.getInstance(Util.SHA3_512)
-					.digest(compressedPublickey);
+			lock_code = HashTool.SHA3_512(compressedPublickey);
 		}
 		lock_code0 = Base58.decode(readableLock.substring(1));
 		return Arrays.equals(lock_code, Arrays.copyOf(lock_code0, lock_code0.length - Util.CRC32C_LEN));
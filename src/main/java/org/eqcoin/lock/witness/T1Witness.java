@@ -29,22 +29,25 @@ import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.math.BigInteger;
 import java.security.InvalidKeyException;
-import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
 import java.security.NoSuchProviderException;
 import java.security.Signature;
 import java.security.SignatureException;
 import java.util.Arrays;
 
+import org.bouncycastle.math.ec.ECPoint;
 import org.eqcoin.crypto.ECDSASignature;
 import org.eqcoin.crypto.EQCECCPublicKey;
+import org.eqcoin.crypto.PublickeyPointCache;
 import org.eqcoin.crypto.RecoverySECP256R1Publickey;
+import org.eqcoin.crypto.SECP256R1Curve;
+import org.eqcoin.crypto.VerifiedSignatureCache;
 import org.eqcoin.keystore.Keystore.ECCTYPE;
-import org.eqcoin.lock.Lock;
 import org.eqcoin.lock.LockMate;
 import org.eqcoin.lock.LockTool;
 import org.eqcoin.lock.LockTool.LockType;
 import org.eqcoin.serialization.EQCCastle;
+import org.eqcoin.serialization.EQCReader;
 import org.eqcoin.transaction.Transaction.TransactionShape;
 import org.eqcoin.util.ID;
 import org.eqcoin.util.Log;
@@ -56,11 +59,26 @@ import org.eqcoin.util.Util;
  * @email 10509759@qq.com
  */
 public class T1Witness extends Witness {
+	/**
+	 * Signature isn't thread safe so each thread reuse its own one, initVerify
+	 * reset its state before each verification
+	 */
+	private final static ThreadLocal<Signature> SIGNATURE = ThreadLocal.withInitial(() -> {
+		try {
+			return Signature.getInstance("NONEwithECDSA", "SunEC");
+		} catch (NoSuchAlgorithmException | NoSuchProviderException e) {
+			throw new IllegalStateException(e);
+		}
+	});
 	private byte[] compressedPublickey;
 	/**
 	 * The relevant passport's master lock
 	 */
 	private LockMate lockMate;
+	/**
+	 * The relevant lock mate's id which the compressed publickey belongs to
+	 */
+	private ID lockMateId;
 	
 	public T1Witness() {
 	}
@@ -73,6 +91,10 @@ public class T1Witness extends Witness {
 		parse(is);
 	}
 
+	public T1Witness(EQCReader reader) throws Exception {
+		parse(reader);
+	}
+
 	/* (non-Javadoc)
 	 * @see com.eqcoin.blockchain.transaction.EQCWitness#isSanity()
 	 */
@@ -94,13 +116,29 @@ public class T1Witness extends Witness {
 	 */
 	@Override
 	public boolean isMeetPreCondition() throws Exception {
-		Lock lock = null;
-		ID lockMateId = null;
-		for (int i = 0; i < 2; ++i) {
-			compressedPublickey = RecoverySECP256R1Publickey.getInstance().recoverFromSignature(i,
-					getDERSignature(), transaction.getSignBytesHash());
-			lock = LockTool.publickeyToEQCLock(LockType.T1, compressedPublickey);
-			if ((lockMateId = transaction.getEQCHive().getGlobalState().isLockMateExists(lock)) != null) {
+		lockMateId = null;
+		byte[][] publickeys = null;
+		byte[] signBytesHash = transaction.getSignBytesHash();
+		// If current witness already been verified just reuse the recovered publickey
+		compressedPublickey = VerifiedSignatureCache.getInstance().getPublickey(signBytesHash, witness);
+		if (compressedPublickey != null) {
+			publickeys = new byte[][] { compressedPublickey };
+		} else if (isPreVerified()) {
+			// The candidates already been recovered and verified in preVerify
+			publickeys = verifiedPublickeys;
+		} else {
+			publickeys = RecoverySECP256R1Publickey.getInstance().recoverFromSignature(getECDSASignature(), signBytesHash);
+			if (IsFusedVerify) {
+				// The recovered publickeys are valid for the signature
+				verifiedPublickeys = publickeys;
+			}
+		}
+		// Choose the candidate whose lock exists
+		compressedPublickey = null;
+		for (byte[] publickey : publickeys) {
+			if ((lockMateId = transaction.getEQCHive().getGlobalState()
+					.isLockMateExists(LockTool.publickeyToEQCLock(LockType.T1, publickey))) != null) {
+				compressedPublickey = publickey;
 				break;
 			}
 		}
@@ -158,6 +196,14 @@ public class T1Witness extends Witness {
 	public void parse(ByteArrayInputStream is) throws Exception {
 		witness = EQCCastle.parseNBytes(is, Util.P256_SIGNATURE_LEN.intValue());
 	}
+
+	/* (non-Javadoc)
+	 * @see org.eqcoin.serialization.EQCObject#parse(org.eqcoin.serialization.EQCReader)
+	 */
+	@Override
+	public void parse(EQCReader reader) throws Exception {
+		witness = reader.readNBytes(Util.P256_SIGNATURE_LEN.intValue());
+	}
 	
 	public static byte[] DERTosignature(byte[] derSignature) throws Exception {
 		ECDSASignature ecdsaSignature = null;
@@ -179,12 +225,18 @@ public class T1Witness extends Witness {
 	}
 
 	public final byte[] getDERSignature() throws Exception {
-		byte[] r = null, s = null;
-		ByteArrayInputStream is = new ByteArrayInputStream(witness);
-		r = EQCCastle.parseNBytes(is, Util.P256_POINT_LEN.intValue());
-		s = EQCCastle.parseNBytes(is, Util.P256_POINT_LEN.intValue());
-		ECDSASignature ecdsaSignature = new ECDSASignature(new BigInteger(1, r), new BigInteger(1, s));
-		return ecdsaSignature.encodeToDER();
+		return getECDSASignature().encodeToDER();
+	}
+	
+	/**
+	 * Decode the R and S components from the witness directly without the ASN.1
+	 * DER round trip.
+	 */
+	@Override
+	public ECDSASignature getECDSASignature() {
+		int len = Util.P256_POINT_LEN.intValue();
+		return new ECDSASignature(new BigInteger(1, Arrays.copyOfRange(witness, 0, len)),
+				new BigInteger(1, Arrays.copyOfRange(witness, len, len * 2)));
 	}
 
 	/* (non-Javadoc)
@@ -193,6 +245,7 @@ public class T1Witness extends Witness {
 	@Override
 	public void setWitness(byte[] witness) throws Exception {
 		this.witness = DERTosignature(witness);
+		invalidate();
 	}
 
 	/*
@@ -219,21 +272,106 @@ public class T1Witness extends Witness {
 	}
 
 	public boolean verifySignature() throws Exception {
+		boolean isTransactionValid = false;
+		byte[] signBytesHash = transaction.getSignBytesHash();
+		if (VerifiedSignatureCache.getInstance().isVerified(signBytesHash, witness, compressedPublickey)) {
+			return true;
+		}
+		if (isPreVerified()) {
+			isTransactionValid = isPreVerified(compressedPublickey);
+			if (isTransactionValid) {
+				VerifiedSignatureCache.getInstance().saveVerified(signBytesHash, witness, compressedPublickey);
+			}
+			return isTransactionValid;
+		}
+		if (lockMateId != null) {
+			// Repeat sender's publickey doesn't need to be decompressed again
+			isTransactionValid = verifySignature(PublickeyPointCache.getInstance().getPoint(lockMateId,
+					compressedPublickey, SECP256R1Curve.getInstance()), signBytesHash, getECDSASignature());
+		} else {
+			isTransactionValid = verifySignature(compressedPublickey, signBytesHash, getECDSASignature());
+		}
+		if (isTransactionValid) {
+			VerifiedSignatureCache.getInstance().saveVerified(signBytesHash, witness, compressedPublickey);
+		}
+		return isTransactionValid;
+	}
+	
+	/* (non-Javadoc)
+	 * @see org.eqcoin.lock.witness.Witness#preVerify()
+	 */
+	@Override
+	public boolean preVerify() throws Exception {
+		if (!preRecover()) {
+			return false;
+		}
+		if (isPreVerified()) {
+			return true;
+		}
+		byte[][] candidates = recoveredPublickeys;
+		recoveredPublickeys = null;
+		if (IsFusedVerify) {
+			// The recovered publickeys are valid for the signature
+			verifiedPublickeys = candidates;
+			return true;
+		}
+		byte[] signBytesHash = transaction.getSignBytesHash();
+		ECDSASignature ecdsaSignature = getECDSASignature();
+		int verified = 0;
+		for (byte[] candidate : candidates) {
+			if (verifySignature(candidate, signBytesHash, ecdsaSignature)) {
+				candidates[verified++] = candidate;
+			}
+		}
+		verifiedPublickeys = Arrays.copyOf(candidates, verified);
+		return verified > 0;
+	}
+	
+	/* (non-Javadoc)
+	 * @see org.eqcoin.lock.witness.Witness#preRecover()
+	 */
+	@Override
+	public boolean preRecover() throws Exception {
+		byte[] signBytesHash = transaction.getSignBytesHash();
+		byte[] publickey = VerifiedSignatureCache.getInstance().getPublickey(signBytesHash, witness);
+		if (publickey != null) {
+			verifiedPublickeys = new byte[][] { publickey };
+			return true;
+		}
+		verifiedPublickeys = null;
+		recoveredPublickeys = RecoverySECP256R1Publickey.getInstance().recoverFromSignature(getECDSASignature(), signBytesHash);
+		return recoveredPublickeys.length > 0;
+	}
+	
+	private boolean verifySignature(byte[] compressedPublickey, byte[] signBytesHash, ECDSASignature ecdsaSignature) {
+		ECPoint publickey = null;
+		try {
+			publickey = SECP256R1Curve.getInstance().getCURVE().getCurve().decodePoint(compressedPublickey);
+		} catch (IllegalArgumentException e) {
+			// The compressed publickey isn't a valid point
+			Log.Error(e.getMessage());
+			return false;
+		}
+		return verifySignature(publickey, signBytesHash, ecdsaSignature);
+	}
+	
+	private boolean verifySignature(ECPoint publickey, byte[] signBytesHash, ECDSASignature ecdsaSignature) {
 		boolean isTransactionValid = false;
 		Signature signature = null;
-		// Verify Signature
+		if (publickey == null) {
+			Log.Error("The compressed publickey isn't a valid point");
+			return false;
+		}
+		// Verify Signature, for P256 SunEC is faster than ECDSAVerifier
 		try {
-			signature = Signature.getInstance("NONEwithECDSA", "SunEC");
+			signature = SIGNATURE.get();
 			EQCECCPublicKey eqcPublicKey = new EQCECCPublicKey(ECCTYPE.P256);
-			// Create EQPublicKey according to compressed Publickey
-			eqcPublicKey.setECPoint(compressedPublickey);
+			// Create EQPublicKey according to the publickey's ECPoint
+			eqcPublicKey.setECPoint(publickey);
 			signature.initVerify(eqcPublicKey);
-//			Log.info("\nPublickey: " + Util.dumpBytesLittleEndianHex(txInLockMate.getEqcPublickey().getPublickey()));
-//			Log.info("\nMessageLen: " + getBytes().length + "\nMessageBytes: " + Util.dumpBytesLittleEndianHex(getBytes()));
-//			Log.info("\nMessage Hash: " + Util.dumpBytesLittleEndianHex(MessageDigest.getInstance(Util.SHA3_512).digest(getBytes())));
-			signature.update(transaction.getSignBytesHash());
-			isTransactionValid = signature.verify(getDERSignature());
-		} catch (NoSuchAlgorithmException | NoSuchProviderException | SignatureException | IOException | InvalidKeyException e) {
+			signature.update(signBytesHash);
+			isTransactionValid = signature.verify(ecdsaSignature.encodeToDER());
+		} catch (SignatureException | IOException | InvalidKeyException | IllegalArgumentException | IllegalStateException e) {
 			Log.Error(e.getMessage());
 		}
 		return isTransactionValid;
@@ -247,6 +385,7 @@ public class T1Witness extends Witness {
 		super.free();
 		compressedPublickey = null;
 		lockMate = null;
+		lockMateId = null;
 	}
 
 	/* (non-Javadoc)
@@ -26,24 +26,22 @@ package org.eqcoin.lock.witness;
 
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
-import java.io.IOException;
 import java.math.BigInteger;
-import java.security.InvalidKeyException;
-import java.security.NoSuchAlgorithmException;
-import java.security.NoSuchProviderException;
-import java.security.Signature;
-import java.security.SignatureException;
+import java.util.Arrays;
 
+import org.bouncycastle.math.ec.ECPoint;
 import org.eqcoin.crypto.ECDSASignature;
-import org.eqcoin.crypto.EQCECCPublicKey;
+import org.eqcoin.crypto.PublickeyPointCache;
 import org.eqcoin.crypto.RecoverySECP256R1Publickey;
 import org.eqcoin.crypto.RecoverySECP521R1Publickey;
-import org.eqcoin.keystore.Keystore.ECCTYPE;
-import org.eqcoin.lock.Lock;
+import org.eqcoin.crypto.SECP521R1Curve;
+import org.eqcoin.crypto.SECP521R1Verifier;
+import org.eqcoin.crypto.VerifiedSignatureCache;
 import org.eqcoin.lock.LockMate;
 import org.eqcoin.lock.LockTool;
 import org.eqcoin.lock.LockTool.LockType;
 import org.eqcoin.serialization.EQCCastle;
+import org.eqcoin.serialization.EQCReader;
 import org.eqcoin.util.ID;
 import org.eqcoin.util.Log;
 import org.eqcoin.util.Util;
@@ -54,11 +52,20 @@ import org.eqcoin.util.Util;
  * @email 10509759@qq.com
  */
 public class T2Witness extends Witness {
+	/**
+	 * P521's R only use the lowest bit of it's highest byte so the other bits must
+	 * be zero to keep the witness's encoding unique.
+	 */
+	private final static byte R_HIGHEST_BITS = 0x01;
 	private byte[] compressedPublickey;
 	/**
 	 * The relevant passport's master lock
 	 */
 	private LockMate lockMate;
+	/**
+	 * The relevant lock mate's id which the compressed publickey belongs to
+	 */
+	private ID lockMateId;
 	
 	public T2Witness() {
 	}
@@ -71,6 +78,10 @@ public class T2Witness extends Witness {
 		parse(is);
 	}
 
+	public T2Witness(EQCReader reader) throws Exception {
+		parse(reader);
+	}
+
 	/* (non-Javadoc)
 	 * @see com.eqcoin.blockchain.transaction.EQCWitness#isSanity()
 	 */
@@ -84,6 +95,10 @@ public class T2Witness extends Witness {
 			Log.Error("signature.length != Util.P521_SIGNATURE_LEN.intValue()");
 			return false;
 		}
+		if ((witness[0] & ~R_HIGHEST_BITS) != 0) {
+			Log.Error("The unused highest bits of R should be zero");
+			return false;
+		}
 		return true;
 	}
 
@@ -107,6 +122,14 @@ public class T2Witness extends Witness {
 		witness = EQCCastle.parseNBytes(is, Util.P521_SIGNATURE_LEN.intValue());
 	}
 
+	/* (non-Javadoc)
+	 * @see org.eqcoin.serialization.EQCObject#parse(org.eqcoin.serialization.EQCReader)
+	 */
+	@Override
+	public void parse(EQCReader reader) throws Exception {
+		witness = reader.readNBytes(Util.P521_SIGNATURE_LEN.intValue());
+	}
+
 	public static byte[] DERToEQCSignature(byte[] derSignature) throws Exception {
 		ECDSASignature ecdsaSignature = null;
 		byte[] r = null, s = null;
@@ -127,20 +150,27 @@ public class T2Witness extends Witness {
 	}
 
 	public byte[] getDERSignature() throws Exception {
-		byte[] r = null, s = null;
-		ByteArrayInputStream is = new ByteArrayInputStream(witness);
-		r = EQCCastle.parseNBytes(is, Util.P521_POINT_LEN.intValue());
-		s = EQCCastle.parseNBytes(is, Util.P521_POINT_LEN.intValue());
-		ECDSASignature ecdsaSignature = new ECDSASignature(new BigInteger(1, r), new BigInteger(1, s));
-		return ecdsaSignature.encodeToDER();
+		return getECDSASignature().encodeToDER();
 	}
-
+	
+	/**
+	 * Decode the R and S components from the witness directly without the ASN.1
+	 * DER round trip.
+	 */
+	@Override
+	public ECDSASignature getECDSASignature() {
+		int len = Util.P521_POINT_LEN.intValue();
+		return new ECDSASignature(new BigInteger(1, Arrays.copyOfRange(witness, 0, len)),
+				new BigInteger(1, Arrays.copyOfRange(witness, len, len * 2)));
+	}
+	
 	/* (non-Javadoc)
 	 * @see org.eqcoin.transaction.Witness#setWitness(byte[])
 	 */
 	@Override
 	public void setWitness(byte[] witness) throws Exception {
 		this.witness = DERToEQCSignature(witness);
+		invalidate();
 	}
 
 	/*
@@ -172,23 +202,93 @@ public class T2Witness extends Witness {
 	@Override
 	public boolean verifySignature() throws Exception {
 		boolean isTransactionValid = false;
-		Signature signature = null;
-		// Verify Signature
+		byte[] signBytesHash = transaction.getSignBytesHash();
+		if (VerifiedSignatureCache.getInstance().isVerified(signBytesHash, witness, compressedPublickey)) {
+			return true;
+		}
+		if (isPreVerified()) {
+			isTransactionValid = isPreVerified(compressedPublickey);
+			if (isTransactionValid) {
+				VerifiedSignatureCache.getInstance().saveVerified(signBytesHash, witness, compressedPublickey);
+			}
+			return isTransactionValid;
+		}
+		if (lockMateId != null) {
+			// Repeat sender's publickey doesn't need to be decompressed again
+			isTransactionValid = verifySignature(PublickeyPointCache.getInstance().getPoint(lockMateId,
+					compressedPublickey, SECP521R1Curve.getInstance()), signBytesHash, getECDSASignature());
+		} else {
+			isTransactionValid = verifySignature(compressedPublickey, signBytesHash, getECDSASignature());
+		}
+		if (isTransactionValid) {
+			VerifiedSignatureCache.getInstance().saveVerified(signBytesHash, witness, compressedPublickey);
+		}
+		return isTransactionValid;
+	}
+	
+	/* (non-Javadoc)
+	 * @see org.eqcoin.lock.witness.Witness#preVerify()
+	 */
+	@Override
+	public boolean preVerify() throws Exception {
+		if (!preRecover()) {
+			return false;
+		}
+		if (isPreVerified()) {
+			return true;
+		}
+		byte[][] candidates = recoveredPublickeys;
+		recoveredPublickeys = null;
+		if (IsFusedVerify) {
+			// The recovered publickeys are valid for the signature
+			verifiedPublickeys = candidates;
+			return true;
+		}
+		byte[] signBytesHash = transaction.getSignBytesHash();
+		ECDSASignature ecdsaSignature = getECDSASignature();
+		int verified = 0;
+		for (byte[] candidate : candidates) {
+			if (verifySignature(candidate, signBytesHash, ecdsaSignature)) {
+				candidates[verified++] = candidate;
+			}
+		}
+		verifiedPublickeys = Arrays.copyOf(candidates, verified);
+		return verified > 0;
+	}
+	
+	/* (non-Javadoc)
+	 * @see org.eqcoin.lock.witness.Witness#preRecover()
+	 */
+	@Override
+	public boolean preRecover() throws Exception {
+		byte[] signBytesHash = transaction.getSignBytesHash();
+		byte[] publickey = VerifiedSignatureCache.getInstance().getPublickey(signBytesHash, witness);
+		if (publickey != null) {
+			verifiedPublickeys = new byte[][] { publickey };
+			return true;
+		}
+		verifiedPublickeys = null;
+		recoveredPublickeys = RecoverySECP521R1Publickey.getInstance().recoverFromSignature(getECDSASignature(), signBytesHash);
+		return recoveredPublickeys.length > 0;
+	}
+	
+	private boolean verifySignature(byte[] compressedPublickey, byte[] signBytesHash, ECDSASignature ecdsaSignature) {
 		try {
-			signature = Signature.getInstance("NONEwithECDSA", "SunEC");
-			EQCECCPublicKey eqcPublicKey = new EQCECCPublicKey(ECCTYPE.P521);
-			// Create EQPublicKey according to compressed Publickey
-			eqcPublicKey.setECPoint(compressedPublickey);
-			signature.initVerify(eqcPublicKey);
-//			Log.info("\nPublickey: " + Util.dumpBytesLittleEndianHex(txInLockMate.getEqcPublickey().getPublickey()));
-//			Log.info("\nMessageLen: " + getBytes().length + "\nMessageBytes: " + Util.dumpBytesLittleEndianHex(getBytes()));
-//			Log.info("\nMessage Hash: " + Util.dumpBytesLittleEndianHex(MessageDigest.getInstance(Util.SHA3_512).digest(getBytes())));
-			signature.update(transaction.getSignBytesHash());
-			isTransactionValid = signature.verify(getDERSignature());
-		} catch (NoSuchAlgorithmException | NoSuchProviderException | SignatureException | IOException | InvalidKeyException e) {
+			return SECP521R1Verifier.getInstance().verify(compressedPublickey, signBytesHash, ecdsaSignature);
+		} catch (IllegalArgumentException e) {
+			// The compressed publickey isn't a valid point
 			Log.Error(e.getMessage());
+			return false;
 		}
-		return isTransactionValid;
+	}
+	
+	private boolean verifySignature(ECPoint publickey, byte[] signBytesHash, ECDSASignature ecdsaSignature) {
+		if (publickey == null) {
+			Log.Error("The compressed publickey isn't a valid point");
+			return false;
+		}
+		return SECP521R1Verifier.getInstance().verify(publickey, signBytesHash, ecdsaSignature.getR(),
+				ecdsaSignature.getS());
 	}
 	
 	/* (non-Javadoc)
@@ -196,13 +296,29 @@ public class T2Witness extends Witness {
 	 */
 	@Override
 	public boolean isMeetPreCondition() throws Exception {
-		Lock lock = null;
-		ID lockMateId = null;
-		for (int i = 0; i < 2; ++i) {
-			compressedPublickey = RecoverySECP521R1Publickey.getInstance().recoverFromSignature(i,
-					getDERSignature(), transaction.getSignBytesHash());
-			lock = LockTool.publickeyToEQCLock(LockType.T2, compressedPublickey);
-			if ((lockMateId = transaction.getEQCHive().getGlobalState().isLockMateExists(lock)) != null) {
+		lockMateId = null;
+		byte[][] publickeys = null;
+		byte[] signBytesHash = transaction.getSignBytesHash();
+		// If current witness already been verified just reuse the recovered publickey
+		compressedPublickey = VerifiedSignatureCache.getInstance().getPublickey(signBytesHash, witness);
+		if (compressedPublickey != null) {
+			publickeys = new byte[][] { compressedPublickey };
+		} else if (isPreVerified()) {
+			// The candidates already been recovered and verified in preVerify
+			publickeys = verifiedPublickeys;
+		} else {
+			publickeys = RecoverySECP521R1Publickey.getInstance().recoverFromSignature(getECDSASignature(), signBytesHash);
+			if (IsFusedVerify) {
+				// The recovered publickeys are valid for the signature
+				verifiedPublickeys = publickeys;
+			}
+		}
+		// Choose the candidate whose lock exists
+		compressedPublickey = null;
+		for (byte[] publickey : publickeys) {
+			if ((lockMateId = transaction.getEQCHive().getGlobalState()
+					.isLockMateExists(LockTool.publickeyToEQCLock(LockType.T2, publickey))) != null) {
+				compressedPublickey = publickey;
 				break;
 			}
 		}
@@ -227,6 +343,17 @@ public class T2Witness extends Witness {
 		return true;
 	}
 
+	/* (non-Javadoc)
+	 * @see org.eqcoin.transaction.Witness#free()
+	 */
+	@Override
+	public void free() {
+		super.free();
+		compressedPublickey = null;
+		lockMate = null;
+		lockMateId = null;
+	}
+
 	/**
 	 * @return the lockMate
 	 */
@@ -28,9 +28,13 @@ import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.math.BigInteger;
+import java.util.Arrays;
 
+import org.eqcoin.crypto.ECDSASignature;
 import org.eqcoin.lock.LockTool.LockType;
 import org.eqcoin.serialization.EQCObject;
+import org.eqcoin.serialization.EQCReader;
+import org.eqcoin.serialization.EQCWriter;
 import org.eqcoin.passport.passport.Passport;
 import org.eqcoin.transaction.Transaction;
 import org.eqcoin.transaction.TransferCoinbaseTransaction;
@@ -48,10 +52,29 @@ import org.eqcoin.util.Value;
  * @email 10509759@qq.com
  */
 public class Witness extends EQCObject {
+	/**
+	 * When fused verify is enabled the publickey which recovered from the witness
+	 * and whose lock exists is treated as verified. The recovery already check
+	 * the signature's range and the recovered publickey is the only one which
+	 * satisfy the verification equation for the recovery id so the independent
+	 * signature verification is skipped. Disable it to verify the recovered
+	 * publickeys again which {@link WitnessVerifier} does in batches.
+	 */
+	public static boolean IsFusedVerify = true;
 	
 	protected byte[] witness;
 	protected Transaction transaction;
 	protected Passport passport;
+	/**
+	 * The candidate publickeys which recovered from the witness and passed the
+	 * signature verification in preVerify, null means haven't been pre verified
+	 */
+	protected byte[][] verifiedPublickeys;
+	/**
+	 * The candidate publickeys which recovered from the witness in preRecover and
+	 * wait for the batch verification
+	 */
+	protected byte[][] recoveredPublickeys;
 	
 	public Witness() {
 	}
@@ -80,12 +103,36 @@ public class Witness extends EQCObject {
 		return witness;
 	}
 
+	/* (non-Javadoc)
+	 * @see org.eqcoin.serialization.EQCObject#Parse(org.eqcoin.serialization.EQCReader)
+	 */
+	@Override
+	public Witness Parse(EQCReader reader) throws Exception {
+		Witness witness = null;
+		if (transaction.getLockType() ==LockType.T1) {
+			witness = new T1Witness(reader);
+		} else if (transaction.getLockType() == LockType.T2) {
+			witness = new T2Witness(reader);
+		} else {
+			throw new IllegalStateException("Invalid lock type: " + transaction.getLockType());
+		}
+		return witness;
+	}
+
 	@Override
 	public ByteArrayOutputStream getBytes(ByteArrayOutputStream os) throws IOException {
 		os.write(witness);
 		return os;
 	}
 
+	/* (non-Javadoc)
+	 * @see org.eqcoin.serialization.EQCObject#getBytes(org.eqcoin.serialization.EQCWriter)
+	 */
+	@Override
+	public EQCWriter getBytes(EQCWriter writer) {
+		return writer.write(witness);
+	}
+
 	/* (non-Javadoc)
 	 * @see java.lang.Object#toString()
 	 */
@@ -120,6 +167,7 @@ public class Witness extends EQCObject {
 	 */
 	public void setWitness(byte[] witness) throws Exception {
 		this.witness = witness;
+		invalidate();
 	}
 
 	public byte[] getProof() {
@@ -143,6 +191,94 @@ public class Witness extends EQCObject {
 		return false;
 	}
 	
+	/**
+	 * Recover the candidate publickeys from the witness and verify the signature
+	 * with each of them. The pre verify only depend on the Transaction's sign
+	 * bytes and the witness so it can be done in parallel ahead of
+	 * isMeetPreCondition, which choose the candidate whose lock exists in the
+	 * GlobalState and reuse the verified result.
+	 * 
+	 * @return true if at least one candidate publickey passed the verification
+	 * @throws Exception
+	 */
+	public boolean preVerify() throws Exception {
+		return true;
+	}
+	
+	/**
+	 * Recover the candidate publickeys from the witness without verify them so the
+	 * candidates of all the witnesses in one EQCHive can be verified together by
+	 * BatchVerifier then {@link #setBatchVerified(boolean[])} keep the verified
+	 * ones. If the witness already been verified the candidate is pre verified
+	 * directly.
+	 * 
+	 * @return true if at least one candidate publickey is recovered
+	 * @throws Exception
+	 */
+	public boolean preRecover() throws Exception {
+		return true;
+	}
+	
+	/**
+	 * @return the candidate publickeys which wait for the batch verification or
+	 *         null if nothing need verify
+	 */
+	public byte[][] getRecoveredPublickeys() {
+		return recoveredPublickeys;
+	}
+	
+	/**
+	 * @param candidateIndex the index of the recovered candidate publickey
+	 * @return the recovery id of the recovered candidate publickey or -1 if
+	 *         unknown
+	 */
+	public int getRecoveryId(final int candidateIndex) {
+		// The candidates of recovery id 0 and 1 are recovered in order
+		return (recoveredPublickeys.length == 2) ? candidateIndex : -1;
+	}
+	
+	/**
+	 * Keep the recovered candidate publickeys which passed the batch verification
+	 * as the pre verified ones.
+	 * 
+	 * @param isVerified whether each of the recovered candidate publickeys passed
+	 *                   the batch verification
+	 * @return true if at least one candidate publickey passed the verification
+	 */
+	public boolean setBatchVerified(final boolean[] isVerified) {
+		final byte[][] publickeys = new byte[recoveredPublickeys.length][];
+		int verified = 0;
+		for (int i = 0; i < recoveredPublickeys.length; ++i) {
+			if (isVerified[i]) {
+				publickeys[verified++] = recoveredPublickeys[i];
+			}
+		}
+		verifiedPublickeys = Arrays.copyOf(publickeys, verified);
+		recoveredPublickeys = null;
+		return verified > 0;
+	}
+	
+	/**
+	 * @return the witness's R and S components or null if the witness isn't an
+	 *         ECDSA signature
+	 */
+	public ECDSASignature getECDSASignature() {
+		return null;
+	}
+	
+	public boolean isPreVerified() {
+		return verifiedPublickeys != null;
+	}
+	
+	protected boolean isPreVerified(final byte[] compressedPublickey) {
+		for (final byte[] publickey : verifiedPublickeys) {
+			if (Arrays.equals(publickey, compressedPublickey)) {
+				return true;
+			}
+		}
+		return false;
+	}
+	
 	public void planting() throws Exception {
 		// Update current Transaction's relevant Account's AccountsMerkleTree's data
 		// Update current Transaction's TxIn Account's relevant Asset's Nonce&Balance
@@ -178,6 +314,8 @@ public class Witness extends EQCObject {
 	public void free() {
 		transaction = null;
 		passport = null;
+		verifiedPublickeys = null;
+		recoveredPublickeys = null;
 	}
 
 	/**
@@ -0,0 +1,241 @@
+/**
+ * EQcoin core
+ *
+ * http://www.eqcoin.org
+ * 
+ * @Copyright 2018-present Xun Wang All Rights Reserved...
+ * The copyright of all works released by Xun Wang or jointly released by
+ * Xun Wang with cooperative partners are owned by Xun Wang and entitled
+ * to protection available from copyright law by country as well as international
+ * conventions.
+ * Attribution — You must give appropriate credit, provide a link to the license.
+ * Non Commercial — You may not use the material for commercial purposes.
+ * No Derivatives — If you remix, transform, or build upon the material, you may
+ * not distribute the modified material.
+ * Xun Wang reserves any and all current and future rights, titles and interests
+ * in any and all intellectual property rights of Xun Wang including but not limited
+ * to discoveries, ideas, marks, concepts, methods, formulas, processes, codes,
+ * software, inventions, compositions, techniques, information and data, whether
+ * or not protectable in trademark, copyrightable or patentable, and any trademarks,
+ * copyrights or patents based thereon. For the use of any and all intellectual
+ * property rights of Xun Wang without prior written permission, Xun Wang reserves
+ * all rights to take any legal action and pursue any rights or remedies under
+ * applicable law.
+ */
+package org.eqcoin.lock.witness;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+import org.eqcoin.crypto.BatchVerifier;
+import org.eqcoin.crypto.SECP256R1Curve;
+import org.eqcoin.crypto.SECP521R1Curve;
+import org.eqcoin.lock.LockTool.LockType;
+import org.eqcoin.transaction.Transaction;
+import org.eqcoin.util.Log;
+
+/**
+ * WitnessVerifier pre verify the witnesses of one EQCHive's Transactions in
+ * parallel on a dedicated verification pool. The public key recovery and the
+ * signature verification only depend on the Transaction's sign bytes and the
+ * witness so they can be done in any order, then the state dependent planting
+ * runs sequentially and reuse the verified results.
+ * <p>
+ * The batch verification is opt-in: only when fused verify is disabled the
+ * candidate publickeys are recovered in parallel then each thread verify its
+ * part of the candidates in one batch by BatchVerifier. With the default fused
+ * verify the recovered publickeys already satisfy the verification equation
+ * so there is nothing left for BatchVerifier to verify.
+ * <p>
+ * The Transactions should be initialized with their EQCHive before pre
+ * verify, and the pre verify never touch the GlobalState.
+ *
+ * @author agent
+ * @date Oct 18, 2026
+ * @email agent@local
+ */
+public class WitnessVerifier {
+	/**
+	 * Only pre verify in parallel when there are enough witnesses otherwise just
+	 * pre verify them in current thread
+	 */
+	public final static int MIN_PARALLEL_SIZE = 2;
+	/**
+	 * The minimum number of witnesses in one batch verification
+	 */
+	public final static int MIN_BATCH_SIZE = 16;
+	private static WitnessVerifier instance;
+	private final ForkJoinPool pool;
+
+	public WitnessVerifier(final ForkJoinPool pool) {
+		this.pool = pool;
+	}
+
+	public static WitnessVerifier getInstance() {
+		if (instance == null) {
+			synchronized (WitnessVerifier.class) {
+				if (instance == null) {
+					instance = new WitnessVerifier(new ForkJoinPool(Runtime.getRuntime().availableProcessors()));
+				}
+			}
+		}
+		return instance;
+	}
+
+	/**
+	 * Pre verify the witnesses of the Transactions from the given index.
+	 *
+	 * @param transactionList the Transactions which already been initialized
+	 * @param fromIndex       the index of the first Transaction need pre verify
+	 * @return true if all the witnesses passed the pre verify
+	 * @throws Exception
+	 */
+	public boolean preVerify(final List<Transaction> transactionList, final int fromIndex) throws Exception {
+		final List<Callable<Boolean>> callableList = new ArrayList<>(transactionList.size() - fromIndex);
+		if (Witness.IsFusedVerify) {
+			for (int i = fromIndex; i < transactionList.size(); ++i) {
+				final Transaction transaction = transactionList.get(i);
+				callableList.add(() -> preVerify(transaction));
+			}
+			return invokeAll(callableList);
+		}
+		for (int i = fromIndex; i < transactionList.size(); ++i) {
+			final Transaction transaction = transactionList.get(i);
+			callableList.add(() -> preRecover(transaction));
+		}
+		if (!invokeAll(callableList)) {
+			return false;
+		}
+		// Split the witnesses into one batch per thread
+		final int size = transactionList.size() - fromIndex;
+		final int batches = Math.max(1, Math.min(pool.getParallelism(), size / MIN_BATCH_SIZE));
+		callableList.clear();
+		for (int i = 0; i < batches; ++i) {
+			final int from = fromIndex + (int) ((long) size * i / batches);
+			final int to = fromIndex + (int) ((long) size * (i + 1) / batches);
+			callableList.add(() -> batchVerify(transactionList, from, to));
+		}
+		return invokeAll(callableList);
+	}
+
+	private boolean invokeAll(final List<Callable<Boolean>> callableList) throws Exception {
+		if (callableList.size() < MIN_PARALLEL_SIZE) {
+			for (final Callable<Boolean> callable : callableList) {
+				if (!callable.call()) {
+					return false;
+				}
+			}
+			return true;
+		}
+		final List<ForkJoinTask<Boolean>> taskList = new ArrayList<>(callableList.size());
+		for (final Callable<Boolean> callable : callableList) {
+			taskList.add(pool.submit(callable));
+		}
+		boolean isValid = true;
+		try {
+			for (final ForkJoinTask<Boolean> task : taskList) {
+				if (!task.get()) {
+					isValid = false;
+					break;
+				}
+			}
+		} catch (final ExecutionException e) {
+			Log.Error("During pre verify witness error occur: " + e.getCause().getMessage());
+			isValid = false;
+		} finally {
+			if (!isValid) {
+				for (final ForkJoinTask<Boolean> task : taskList) {
+					task.cancel(false);
+				}
+			}
+		}
+		return isValid;
+	}
+
+	private static boolean preVerify(final Transaction transaction) throws Exception {
+		if (!transaction.getWitness().preVerify()) {
+			Log.Error("Transaction's witness pre verify failed: " + transaction);
+			return false;
+		}
+		return true;
+	}
+
+	private static boolean preRecover(final Transaction transaction) throws Exception {
+		if (!transaction.getWitness().preRecover()) {
+			Log.Error("Transaction's witness pre recover failed: " + transaction);
+			return false;
+		}
+		return true;
+	}
+
+	/**
+	 * Verify the recovered candidate publickeys of the Transactions in [from, to)
+	 * in one batch per curve.
+	 */
+	private static boolean batchVerify(final List<Transaction> transactionList, final int from, final int to)
+			throws Exception {
+		final BatchVerifier t1BatchVerifier = new BatchVerifier(SECP256R1Curve.getInstance());
+		final BatchVerifier t2BatchVerifier = new BatchVerifier(SECP521R1Curve.getInstance());
+		// The index of each witness's first candidate in its BatchVerifier
+		final int[] offsets = new int[to - from];
+		for (int i = from; i < to; ++i) {
+			final Transaction transaction = transactionList.get(i);
+			final Witness witness = transaction.getWitness();
+			final byte[][] candidates = witness.getRecoveredPublickeys();
+			if (candidates == null) {
+				// Already been verified
+				continue;
+			}
+			final BatchVerifier batchVerifier = (transaction.getLockType() == LockType.T1) ? t1BatchVerifier
+					: t2BatchVerifier;
+			offsets[i - from] = batchVerifier.size();
+			final byte[] signBytesHash = transaction.getSignBytesHash();
+			for (int j = 0; j < candidates.length; ++j) {
+				batchVerifier.add(signBytesHash, witness.getECDSASignature(), candidates[j], witness.getRecoveryId(j));
+			}
+		}
+		final boolean[] t1Invalids = findInvalids(t1BatchVerifier);
+		final boolean[] t2Invalids = findInvalids(t2BatchVerifier);
+		for (int i = from; i < to; ++i) {
+			final Transaction transaction = transactionList.get(i);
+			final Witness witness = transaction.getWitness();
+			final byte[][] candidates = witness.getRecoveredPublickeys();
+			if (candidates == null) {
+				continue;
+			}
+			final boolean[] invalids = (transaction.getLockType() == LockType.T1) ? t1Invalids : t2Invalids;
+			final boolean[] isVerified = new boolean[candidates.length];
+			for (int j = 0; j < candidates.length; ++j) {
+				isVerified[j] = !invalids[offsets[i - from] + j];
+			}
+			if (!witness.setBatchVerified(isVerified)) {
+				Log.Error("Transaction's witness batch verify failed: " + transaction);
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * @return whether each of the signatures in the batch is invalid
+	 */
+	private static boolean[] findInvalids(final BatchVerifier batchVerifier) {
+		final boolean[] invalids = new boolean[batchVerifier.size()];
+		if (!batchVerifier.verify()) {
+			// Fall back to verify one by one to find the invalid ones
+			for (int i = batchVerifier.findInvalid(0); i >= 0; i = batchVerifier.findInvalid(i + 1)) {
+				invalids[i] = true;
+			}
+		}
+		return invalids;
+	}
+
+	public ForkJoinPool getPool() {
+		return pool;
+	}
+
+}
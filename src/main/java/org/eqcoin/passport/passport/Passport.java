@@ -29,7 +29,6 @@ import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.ObjectInput;
 import java.io.ObjectOutput;
-import java.nio.ByteBuffer;
 import java.sql.ResultSet;
 
 import org.eqcoin.avro.O;
@@ -37,7 +36,10 @@ import org.eqcoin.hive.EQCHive;
 import org.eqcoin.lock.Lock;
 import org.eqcoin.lock.LockTool.LockType;
 import org.eqcoin.lock.publickey.PublicKey;
+import org.eqcoin.rpc.gateway.Gateway;
 import org.eqcoin.serialization.EQCCastle;
+import org.eqcoin.serialization.EQCReader;
+import org.eqcoin.serialization.EQCWriter;
 import org.eqcoin.serialization.EQCStateObject;
 import org.eqcoin.util.*;
 
@@ -130,13 +132,13 @@ public class Passport extends EQCStateObject {// implements Externalizable {
 		// Parse Status
 		status = new Status(resultSet.getLong("status"));
 		// Parse ID
-		id = new ID(resultSet.getLong("id"));
+		id = ID.valueOf(resultSet.getLong("id"));
 		// Parse Balance
 		balance = new Value(resultSet.getLong("balance"));
 		// Parse Nonce
-		nonce = new ID(resultSet.getLong("nonce"));
+		nonce = ID.valueOf(resultSet.getLong("nonce"));
 		// Parse LockNonce
-		lockNonce = new ID(resultSet.getLong("lock_nonce"));
+		lockNonce = ID.valueOf(resultSet.getLong("lock_nonce"));
 		// Parse Lock
 		lock = new Lock(resultSet.getBytes("lock"));
 		// Parse PublicKey
@@ -174,6 +176,25 @@ public class Passport extends EQCStateObject {// implements Externalizable {
 		return os;
 	}
 
+	@Override
+	public EQCWriter getBodyBytes(final EQCWriter writer) throws Exception {
+		writer.writeEQCBits(status);
+		writer.writeEQCBits(id);
+		writer.writeEQCBits(balance);
+		writer.writeEQCBits(nonce);
+		writer.writeEQCBits(lockNonce);
+		lock.getBytes(writer);
+		publicKey.getBytes(writer);
+		return writer;
+	}
+
+	@Override
+	public EQCWriter getBytes(final EQCWriter writer) throws Exception {
+		getHeaderBytes(writer);
+		getBodyBytes(writer);
+		return writer;
+	}
+
 	public EQCHive getEQCHive() {
 		return eqcHive;
 	}
@@ -183,6 +204,11 @@ public class Passport extends EQCStateObject {// implements Externalizable {
 		return os;
 	}
 
+	@Override
+	public EQCWriter getHeaderBytes(final EQCWriter writer) throws Exception {
+		return writer;
+	}
+
 	/**
 	 * @return the id
 	 */
@@ -203,7 +229,7 @@ public class Passport extends EQCStateObject {// implements Externalizable {
 	}
 
 	public O getO() throws Exception {
-		return new O(ByteBuffer.wrap(getBytes()));
+		return Gateway.getProtocol(O.class, getBytes());
 	}
 
 	public byte[] getProof() throws Exception {
@@ -356,6 +382,36 @@ public class Passport extends EQCStateObject {// implements Externalizable {
 	public void parseHeader(final ByteArrayInputStream is) throws NoSuchFieldException, IOException {
 	}
 
+	@Override
+	public void parse(final EQCReader reader) throws Exception {
+		parseHeader(reader);
+		parseBody(reader);
+	}
+
+	@Override
+	public void parseBody(final EQCReader reader) throws Exception {
+		// Parse Status
+		status = new Status(reader.readEQCBits());
+		// Parse ID
+		id = reader.readID();
+		// Parse Balance
+		balance = reader.readValue();
+		// Parse Nonce
+		nonce = reader.readID();
+		// Parse lockNonce
+		lockNonce = reader.readID();
+		// Parse lock
+		lock = new Lock();
+		lock.parse(reader);
+		// Parse publicKey
+		publicKey = new PublicKey();
+		publicKey.parse(reader);
+	}
+
+	@Override
+	public void parseHeader(final EQCReader reader) {
+	}
+
 	public void planting() throws Exception {
 		eqcHive.getGlobalState().savePassport(this);
 	}
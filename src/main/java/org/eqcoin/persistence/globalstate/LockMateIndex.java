@@ -0,0 +1,90 @@
+/**
+ * EQcoin core
+ *
+ * http://www.eqcoin.org
+ * 
+ * @Copyright 2018-present Xun Wang All Rights Reserved...
+ * The copyright of all works released by Xun Wang or jointly released by
+ * Xun Wang with cooperative partners are owned by Xun Wang and entitled
+ * to protection available from copyright law by country as well as international
+ * conventions.
+ * Attribution — You must give appropriate credit, provide a link to the license.
+ * Non Commercial — You may not use the material for commercial purposes.
+ * No Derivatives — If you remix, transform, or build upon the material, you may
+ * not distribute the modified material.
+ * Xun Wang reserves any and all current and future rights, titles and interests
+ * in any and all intellectual property rights of Xun Wang including but not limited
+ * to discoveries, ideas, marks, concepts, methods, formulas, processes, codes,
+ * software, inventions, compositions, techniques, information and data, whether
+ * or not protectable in trademark, copyrightable or patentable, and any trademarks,
+ * copyrights or patents based thereon. For the use of any and all intellectual
+ * property rights of Xun Wang without prior written permission, Xun Wang reserves
+ * all rights to take any legal action and pursue any rights or remedies under
+ * applicable law.
+ */
+package org.eqcoin.persistence.globalstate;
+
+import java.nio.ByteBuffer;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.eqcoin.util.ID;
+
+/**
+ * LockMateIndex is the in memory index from the lock's proof to the relevant
+ * LockMate's ID so the witness' candidate publickeys can be resolved without
+ * query the database for each of them.
+ * <p>
+ * Only the existing LockMates are indexed. Because the LockMate's lock can be
+ * changed and the relevant changes can be rollbacked the index should be
+ * cleared when any of them happen.
+ * <p>
+ * The index is bounded and evict the least recently used entry when it is
+ * full.
+ *
+ * @author agent
+ * @date Oct 18, 2026
+ * @email agent@local
+ */
+public class LockMateIndex {
+
+	public final static int MAX_INDEX_SIZE = 100000;
+
+	private final LinkedHashMap<ByteBuffer, ID> index;
+
+	public LockMateIndex() {
+		this(MAX_INDEX_SIZE);
+	}
+
+	public LockMateIndex(final int maxSize) {
+		index = new LinkedHashMap<ByteBuffer, ID>(16, 0.75f, true) {
+			private static final long serialVersionUID = 1L;
+
+			@Override
+			protected boolean removeEldestEntry(final Map.Entry<ByteBuffer, ID> eldest) {
+				return size() > maxSize;
+			}
+		};
+	}
+
+	/**
+	 * @param proof the lock's proof
+	 * @return the relevant LockMate's ID or null if it isn't indexed
+	 */
+	public synchronized ID get(final byte[] proof) {
+		return index.get(ByteBuffer.wrap(proof));
+	}
+
+	public synchronized void put(final byte[] proof, final ID lockMateId) {
+		index.put(ByteBuffer.wrap(proof.clone()), lockMateId);
+	}
+
+	public synchronized int size() {
+		return index.size();
+	}
+
+	public synchronized void clear() {
+		index.clear();
+	}
+
+}
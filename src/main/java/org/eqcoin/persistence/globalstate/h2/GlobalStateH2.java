@@ -49,6 +49,7 @@ import org.eqcoin.lock.T1Lock;
 import org.eqcoin.lock.T2Lock;
 import org.eqcoin.lock.publickey.PublicKey;
 import org.eqcoin.persistence.globalstate.GlobalState;
+import org.eqcoin.persistence.globalstate.LockMateIndex;
 import org.eqcoin.persistence.globalstate.storage.GSStateVariable;
 import org.eqcoin.persistence.globalstate.storage.GSStateVariable.GSState;
 import org.eqcoin.persistence.h2.EQCH2;
@@ -71,6 +72,10 @@ public class GlobalStateH2 extends EQCH2 implements GlobalState {
 	private static GlobalStateH2 instance;
 	protected static String LOCKMATE_TABLE;
 	protected static String PASSPORT_TABLE;
+	/**
+	 * Resolve the lock's proof to the LockMate's ID in memory
+	 */
+	private final LockMateIndex lockMateIndex = new LockMateIndex();
 
 	public static GlobalStateH2 getInstance() throws ClassNotFoundException, SQLException {
 		if(instance == null) {
@@ -97,6 +102,7 @@ public class GlobalStateH2 extends EQCH2 implements GlobalState {
 			connection.close();
 			connection = null;
 		}
+		lockMateIndex.clear();
 		return true;
 	}
 
@@ -207,6 +213,7 @@ public class GlobalStateH2 extends EQCH2 implements GlobalState {
 	@Override
 	public boolean deleteLockMate(final ID id) throws Exception {
 		int rowCounter = 0;
+		lockMateIndex.clear();
 		try(PreparedStatement preparedStatement = connection.prepareStatement("DELETE FROM " + LOCKMATE_TABLE + " WHERE " + LockMateTable.ID + "=?")){
 			preparedStatement.setLong(1, id.longValue());
 			rowCounter = preparedStatement.executeUpdate();
@@ -382,7 +389,7 @@ public class GlobalStateH2 extends EQCH2 implements GlobalState {
 			if (resultSet.next()) {
 				os = new ByteArrayOutputStream();
 				os.writeBytes(new ID(resultSet.getShort(GSStateVariableTable.GSSTATE)).getEQCBits());
-				os.writeBytes(new ID(resultSet.getLong(GSStateVariableTable.HEIGHT)).getEQCBits());
+				os.writeBytes(ID.valueOf(resultSet.getLong(GSStateVariableTable.HEIGHT)).getEQCBits());
 				os.writeBytes(resultSet.getBytes(GSStateVariableTable.DATA));
 				gsStateVariable = new GSStateVariable().Parse(os.toByteArray());
 			}
@@ -426,7 +433,7 @@ public class GlobalStateH2 extends EQCH2 implements GlobalState {
 				"SELECT " + LockMateTable.ID + " FROM " + LOCKMATE_TABLE + " ORDER BY " + LockMateTable.ID + " DESC LIMIT 1")){
 			final ResultSet resultSet = preparedStatement.executeQuery();
 			if (resultSet.next()) {
-				lastLockId = new ID(resultSet.getLong(LockMateTable.ID));
+				lastLockId = ID.valueOf(resultSet.getLong(LockMateTable.ID));
 			}
 		}
 		return lastLockId;
@@ -439,7 +446,7 @@ public class GlobalStateH2 extends EQCH2 implements GlobalState {
 				"SELECT " + PassportTable.ID + " FROM " + PASSPORT_TABLE + " ORDER BY " + PassportTable.ID + " DESC LIMIT 1")){
 			final ResultSet resultSet = preparedStatement.executeQuery();
 			if (resultSet.next()) {
-				lastPassportId = new ID(resultSet.getLong(PassportTable.ID));
+				lastPassportId = ID.valueOf(resultSet.getLong(PassportTable.ID));
 			}
 		}
 		return lastPassportId;
@@ -455,7 +462,7 @@ public class GlobalStateH2 extends EQCH2 implements GlobalState {
 			final ResultSet resultSet = preparedStatement.executeQuery();
 			if (resultSet.next()) {
 				lockMate = new LockMate();
-				lockMate.setId(new ID(resultSet.getLong(LockMateTable.ID)));
+				lockMate.setId(ID.valueOf(resultSet.getLong(LockMateTable.ID)));
 				final LockType lockType = LockType.get(resultSet.getByte(LockMateTable.TYPE));
 				Lock lock = null;
 				if(lockType == LockType.T1) {
@@ -490,7 +497,7 @@ public class GlobalStateH2 extends EQCH2 implements GlobalState {
 			final ResultSet resultSet = preparedStatement.executeQuery();
 			if (resultSet.next()) {
 				lockMate = new LockMate();
-				lockMate.setId(new ID(resultSet.getLong(LockMateTable.ID)));
+				lockMate.setId(ID.valueOf(resultSet.getLong(LockMateTable.ID)));
 				if(lock.getType() == LockType.T1) {
 					lock1 = new T1Lock();
 				}
@@ -523,7 +530,7 @@ public class GlobalStateH2 extends EQCH2 implements GlobalState {
 			final ResultSet resultSet = preparedStatement.executeQuery();
 			if (resultSet.next()) {
 				lockMate = new LockMate();
-				lockMate.setId(new ID(resultSet.getLong(LockMateTable.ID)));
+				lockMate.setId(ID.valueOf(resultSet.getLong(LockMateTable.ID)));
 				lockType = LockType.get(resultSet.getShort(LockMateTable.TYPE));
 				if(lockType == LockType.T1) {
 					lock = new T1Lock();
@@ -631,7 +638,7 @@ public class GlobalStateH2 extends EQCH2 implements GlobalState {
 		try(PreparedStatement preparedStatement = connection.prepareStatement("SELECT SUM(" + PassportTable.NONCE + "), SUM(" + PassportTable.BALANCE + ") FROM " + PASSPORT_TABLE)){
 			final ResultSet resultSet = preparedStatement.executeQuery();
 			if (resultSet.next()) {
-				statistics.setTotalTransactionNumbers(new ID(resultSet.getLong(1)));
+				statistics.setTotalTransactionNumbers(ID.valueOf(resultSet.getLong(1)));
 				statistics.setTotalSupply(new Value(resultSet.getLong(2)));
 			}
 		}
@@ -640,7 +647,7 @@ public class GlobalStateH2 extends EQCH2 implements GlobalState {
 			preparedStatement.setLong(1, eqcHiveRoot.getTotalPassportNumbers().longValue());
 			final ResultSet resultSet = preparedStatement.executeQuery();
 			if (resultSet.next()) {
-				statistics.setTotalTransactionNumbers(statistics.getTotalTransactionNumbers().add(new ID(resultSet.getLong(1))));
+				statistics.setTotalTransactionNumbers(statistics.getTotalTransactionNumbers().add(ID.valueOf(resultSet.getLong(1))));
 				statistics.setTotalSupply(statistics.getTotalSupply().add(new Value(resultSet.getLong(2))));
 			}
 		}
@@ -656,7 +663,7 @@ public class GlobalStateH2 extends EQCH2 implements GlobalState {
 				.prepareStatement("SELECT COUNT(" + LockMateTable.ID + ") FROM " + LOCKMATE_TABLE)){
 			final ResultSet resultSet = preparedStatement.executeQuery();
 			if (resultSet.next()) {
-				totalLockNumbers = new ID(resultSet.getLong(1));
+				totalLockNumbers = ID.valueOf(resultSet.getLong(1));
 			}
 		}
 		return totalLockNumbers;
@@ -705,7 +712,7 @@ public class GlobalStateH2 extends EQCH2 implements GlobalState {
 			preparedStatement.setLong(1, eqcHiveRoot.getTotalLockMateNumbers().longValue());
 			final ResultSet resultSet = preparedStatement.executeQuery();
 			if (resultSet.next()) {
-				totalNewLockNumbers = new ID(resultSet.getLong(1));
+				totalNewLockNumbers = ID.valueOf(resultSet.getLong(1));
 			}
 		}
 		return totalNewLockNumbers;
@@ -720,7 +727,7 @@ public class GlobalStateH2 extends EQCH2 implements GlobalState {
 			preparedStatement.setLong(1, eqcHiveRoot.getTotalPassportNumbers().longValue());
 			final ResultSet resultSet = preparedStatement.executeQuery();
 			if (resultSet.next()) {
-				totalNewPassportNumbers = new ID(resultSet.getLong(1));
+				totalNewPassportNumbers = ID.valueOf(resultSet.getLong(1));
 			}
 		}
 		return totalNewPassportNumbers;
@@ -733,7 +740,7 @@ public class GlobalStateH2 extends EQCH2 implements GlobalState {
 				"SELECT COUNT(" + PassportTable.ID + ") FROM " + PASSPORT_TABLE)) {
 			final ResultSet resultSet = preparedStatement.executeQuery();
 			if (resultSet.next()) {
-				totalPassportNumbers = new ID(resultSet.getLong(1));
+				totalPassportNumbers = ID.valueOf(resultSet.getLong(1));
 			}
 		}
 		return totalPassportNumbers;
@@ -764,13 +771,17 @@ public class GlobalStateH2 extends EQCH2 implements GlobalState {
 
 	@Override
 	public ID isLockMateExists(final Lock lock) throws Exception {
-		ID lockId = null;
+		ID lockId = lockMateIndex.get(lock.getProof());
+		if (lockId != null) {
+			return lockId;
+		}
 		try(PreparedStatement preparedStatement = connection.prepareStatement(
 				"SELECT " + LockMateTable.ID + " FROM " + LOCKMATE_TABLE + " WHERE " + LockMateTable.PROOF + "=?")){
 			preparedStatement.setBytes(1, lock.getProof());
 			final ResultSet resultSet = preparedStatement.executeQuery();
 			if (resultSet.next()) {
-				lockId = new ID(resultSet.getLong(LockMateTable.ID));
+				lockId = ID.valueOf(resultSet.getLong(LockMateTable.ID));
+				lockMateIndex.put(lock.getProof(), lockId);
 			}
 		}
 		return lockId;
@@ -818,6 +829,8 @@ public class GlobalStateH2 extends EQCH2 implements GlobalState {
 
 	@Override
 	public <T> void rollback(final T savepoint) throws Exception {
+		// The rollbacked LockMates may still be indexed
+		lockMateIndex.clear();
 		connection.rollback((Savepoint) savepoint);
 	}
 
@@ -951,6 +964,8 @@ public class GlobalStateH2 extends EQCH2 implements GlobalState {
 			sb.append(LOCKMATE_TABLE);
 			sb.append(" SET ");
 			if (lockMate.isLockUpdated()) {
+				// The old lock's proof may still be indexed
+				lockMateIndex.clear();
 				sb.append(LockMateTable.TYPE);
 				sb.append("=?,");
 				sb.append(LockMateTable.PROOF);
@@ -49,6 +49,8 @@ public interface Mosaic {
 
 		public boolean saveTransactionInPool(Transaction transaction) throws Exception;
 
+		public boolean saveTransactionInPool(Transaction transaction, long receivedTimestamp) throws Exception;
+
 		public boolean deleteTransactionInPool(Transaction transaction) throws Exception;
 
 		public boolean deleteTransactionsInPool(EQCHive eqcHive) throws Exception;
@@ -63,6 +65,8 @@ public interface Mosaic {
 		public TransactionList getTransactionListInPool(TransactionIndexList transactionIndexList)
 				throws Exception;
 
+		public Vector<MosaicSnapshot.Entry> getTransactionPoolSnapshot() throws Exception;
+
 		// EQC service provider relevant interface for H2, avro.
 		public boolean isSPExists(SP sp) throws Exception;
 
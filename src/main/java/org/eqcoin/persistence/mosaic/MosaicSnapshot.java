@@ -0,0 +1,294 @@
+/**
+ * EQcoin core
+ *
+ * http://www.eqcoin.org
+ * 
+ * @Copyright 2018-present Xun Wang All Rights Reserved...
+ * The copyright of all works released by Xun Wang or jointly released by
+ * Xun Wang with cooperative partners are owned by Xun Wang and entitled
+ * to protection available from copyright law by country as well as international
+ * conventions.
+ * Attribution — You must give appropriate credit, provide a link to the license.
+ * Non Commercial — You may not use the material for commercial purposes.
+ * No Derivatives — If you remix, transform, or build upon the material, you may
+ * not distribute the modified material.
+ * Xun Wang reserves any and all current and future rights, titles and interests
+ * in any and all intellectual property rights of Xun Wang including but not limited
+ * to discoveries, ideas, marks, concepts, methods, formulas, processes, codes,
+ * software, inventions, compositions, techniques, information and data, whether
+ * or not protectable in trademark, copyrightable or patentable, and any trademarks,
+ * copyrights or patents based thereon. For the use of any and all intellectual
+ * property rights of Xun Wang without prior written permission, Xun Wang reserves
+ * all rights to take any legal action and pursue any rights or remedies under
+ * applicable law.
+ */
+package org.eqcoin.persistence.mosaic;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.List;
+import java.util.Objects;
+import java.util.Vector;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.eqcoin.hive.EQCHive;
+import org.eqcoin.passport.passport.Passport;
+import org.eqcoin.persistence.globalstate.GlobalState;
+import org.eqcoin.transaction.Transaction;
+import org.eqcoin.transaction.Transaction.TransactionShape;
+import org.eqcoin.util.Log;
+import org.eqcoin.util.Util;
+
+/**
+ * MosaicSnapshot dump the transaction pool into one compact binary file and
+ * reload it when the node restart so the pending Transactions will not be lost.
+ * 
+ * The snapshot's format is: MAGIC(4 bytes) VERSION(4 bytes) then for each
+ * Transaction: rawdata's length(4 bytes) rawdata received timestamp(8 bytes).
+ * The priority value isn't persisted due to it is derived from the
+ * Transaction's rawdata and will be recalculated during reload. The previous
+ * version's snapshot which with priority value(8 bytes) still can be read.
+ * 
+ * @author agent
+ * @date Oct 18, 2026
+ * @email agent@local
+ */
+public class MosaicSnapshot {
+	private final static int MAGIC = 0x45514D53;
+	private final static int VERSION = 2;
+	private final static int VERSION_WITH_PRIORITY_VALUE = 1;
+	/**
+	 * The interval of periodic dump in milliseconds
+	 */
+	public final static long SNAPSHOT_INTERVAL = 60000;
+	private static MosaicSnapshot instance;
+	private final File snapshotFile;
+	private ScheduledExecutorService scheduledExecutorService;
+
+	/**
+	 * One Transaction in pool with it's relevant received timestamp
+	 */
+	public static class Entry {
+		private final byte[] rawdata;
+		private final long receivedTimestamp;
+
+		public Entry(final byte[] rawdata, final long receivedTimestamp) {
+			this.rawdata = rawdata;
+			this.receivedTimestamp = receivedTimestamp;
+		}
+
+		/**
+		 * @return the rawdata
+		 */
+		public byte[] getRawdata() {
+			return rawdata;
+		}
+
+		/**
+		 * @return the receivedTimestamp
+		 */
+		public long getReceivedTimestamp() {
+			return receivedTimestamp;
+		}
+	}
+
+	MosaicSnapshot(final String path) {
+		snapshotFile = new File(path);
+	}
+
+	public static MosaicSnapshot getInstance() {
+		if (instance == null) {
+			synchronized (MosaicSnapshot.class) {
+				if (instance == null) {
+					instance = new MosaicSnapshot(Util.TRANSACTION_POOL_SNAPSHOT_PATH);
+				}
+			}
+		}
+		return instance;
+	}
+
+	/**
+	 * Begin periodic dump the transaction pool
+	 */
+	public synchronized void start() {
+		if (scheduledExecutorService == null) {
+			scheduledExecutorService = Executors.newSingleThreadScheduledExecutor(runnable -> {
+				final Thread thread = new Thread(runnable, "MosaicSnapshot");
+				thread.setDaemon(true);
+				return thread;
+			});
+			scheduledExecutorService.scheduleWithFixedDelay(() -> {
+				try {
+					dump();
+				} catch (final Exception e) {
+					Log.Error("During dump transaction pool error occur: " + e.getMessage());
+				}
+			}, SNAPSHOT_INTERVAL, SNAPSHOT_INTERVAL, TimeUnit.MILLISECONDS);
+		}
+	}
+
+	/**
+	 * Stop periodic dump and dump the transaction pool at the last time
+	 */
+	public synchronized void stop() {
+		if (scheduledExecutorService != null) {
+			scheduledExecutorService.shutdownNow();
+			scheduledExecutorService = null;
+		}
+		try {
+			dump();
+		} catch (final Exception e) {
+			Log.Error("During dump transaction pool error occur: " + e.getMessage());
+		}
+	}
+
+	/**
+	 * Dump the transaction pool into the snapshot file. At first write a temp file
+	 * then replace the snapshot file with it so the previous snapshot is still
+	 * available if the dump is interrupted.
+	 * 
+	 * @return the number of dumped Transactions
+	 * @throws Exception
+	 */
+	public synchronized int dump() throws Exception {
+		final Vector<Entry> entryList = Util.MC().getTransactionPoolSnapshot();
+		write(entryList);
+		Log.info("Dump " + entryList.size() + " Transactions from pool");
+		return entryList.size();
+	}
+
+	/**
+	 * Write the entries into the snapshot file via a temp file.
+	 * 
+	 * @param entryList
+	 * @throws IOException
+	 */
+	synchronized void write(final Vector<Entry> entryList) throws IOException {
+		final File tempFile = new File(snapshotFile.getPath() + ".tmp");
+		Objects.requireNonNull(snapshotFile.getParentFile()).mkdirs();
+		try (DataOutputStream os = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(tempFile)))) {
+			os.writeInt(MAGIC);
+			os.writeInt(VERSION);
+			for (final Entry entry : entryList) {
+				os.writeInt(entry.getRawdata().length);
+				os.write(entry.getRawdata());
+				os.writeLong(entry.getReceivedTimestamp());
+			}
+		}
+		Files.move(tempFile.toPath(), snapshotFile.toPath(), StandardCopyOption.REPLACE_EXISTING,
+				StandardCopyOption.ATOMIC_MOVE);
+	}
+
+	/**
+	 * Read all the entries from the snapshot file.
+	 * 
+	 * @return the entry list which is empty if the snapshot file doesn't exists
+	 * @throws IOException
+	 */
+	public Vector<Entry> read() throws IOException {
+		final Vector<Entry> entryList = new Vector<>();
+		if (!snapshotFile.exists()) {
+			return entryList;
+		}
+		try (DataInputStream is = new DataInputStream(new BufferedInputStream(new FileInputStream(snapshotFile)))) {
+			final int magic = is.readInt();
+			final int version = is.readInt();
+			if (magic != MAGIC || (version != VERSION && version != VERSION_WITH_PRIORITY_VALUE)) {
+				Log.Error("Invalid transaction pool snapshot just ignore it");
+				return entryList;
+			}
+			while (true) {
+				final int length;
+				try {
+					length = is.readInt();
+				} catch (final EOFException e) {
+					break;
+				}
+				if (length <= 0 || length > Util.MAX_EQCHIVE_SIZE) {
+					throw new IllegalStateException("Invalid Transaction's length in snapshot: " + length);
+				}
+				final byte[] rawdata = new byte[length];
+				is.readFully(rawdata);
+				entryList.add(new Entry(rawdata, is.readLong()));
+				if (version == VERSION_WITH_PRIORITY_VALUE) {
+					// The priority value is recalculated from the rawdata during reload
+					is.readLong();
+				}
+			}
+		}
+		return entryList;
+	}
+
+	/**
+	 * Reload the Transactions from snapshot into the transaction pool. The
+	 * Transactions are parsed in parallel then re-validate against the current
+	 * GlobalState's tail, the Transaction which already planted or invalid will be
+	 * discarded.
+	 * 
+	 * @param globalState
+	 * @return the number of reloaded Transactions
+	 * @throws Exception
+	 */
+	public int reload(final GlobalState globalState) throws Exception {
+		final Vector<Entry> entryList = read();
+		if (entryList.isEmpty()) {
+			return 0;
+		}
+		// Parse in parallel the invalid Transaction will be null
+		final List<Transaction> transactionList = entryList.parallelStream().map(entry -> {
+			try {
+				final Transaction transaction = new Transaction().setTransactionShape(TransactionShape.RPC)
+						.Parse(entry.getRawdata());
+				return transaction.isSanity() ? transaction : null;
+			} catch (final Exception e) {
+				return null;
+			}
+		}).collect(Collectors.toList());
+
+		// Re-validate against the next EQCHive of current tail
+		final EQCHive eqcHive = new EQCHive();
+		eqcHive.getRoot().setHeight(globalState.getEQCHiveTailHeight().getNextID());
+		eqcHive.setGlobalState(globalState);
+		int reloaded = 0;
+		for (int i = 0; i < transactionList.size(); ++i) {
+			final Transaction transaction = transactionList.get(i);
+			if (transaction == null) {
+				continue;
+			}
+			try {
+				transaction.init(eqcHive);
+				if (!transaction.getWitness().isMeetPreCondition()) {
+					continue;
+				}
+				final Passport passport = transaction.getWitness().getPassport();
+				if (transaction.getNonce().compareTo(passport.getNonce()) <= 0) {
+					// Already planted
+					continue;
+				}
+				if (!transaction.getWitness().verifySignature()) {
+					continue;
+				}
+				if (Util.MC().saveTransactionInPool(transaction, entryList.get(i).getReceivedTimestamp())) {
+					++reloaded;
+				}
+			} catch (final Exception e) {
+				Log.Error("During reload Transaction error occur just discard it: " + e.getMessage());
+			}
+		}
+		Log.info("Reload " + reloaded + " of " + entryList.size() + " Transactions from snapshot");
+		return reloaded;
+	}
+
+}
@@ -25,15 +25,19 @@
 package org.eqcoin.persistence.mosaic.h2;
 
 import java.io.ByteArrayInputStream;
+import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.sql.Types;
 import java.util.Vector;
 
+import org.eqcoin.crypto.HashTool;
 import org.eqcoin.hive.EQCHive;
 import org.eqcoin.persistence.h2.EQCH2;
 import org.eqcoin.persistence.mosaic.Mosaic;
+import org.eqcoin.persistence.mosaic.MosaicSnapshot;
 import org.eqcoin.rpc.object.SP;
 import org.eqcoin.rpc.object.SPList;
 import org.eqcoin.rpc.object.TransactionIndex;
@@ -79,12 +83,14 @@ public class MosaicH2 extends EQCH2 implements Mosaic {
 				+ "nonce BIGINT,"
 				+ "rawdata BINARY,"
 				+ "witness BINARY,"
+				+ "witness_hash BINARY(" + Util.SHA3_256_LEN + "),"
 				+ "proof BINARY(4),"
 				+ "priority_value BIGINT,"
 				+ "receieved_timestamp BIGINT,"
 				+ "record_status BOOLEAN,"
 				+ "record_height BIGINT"
 				+ ")");
+		upgradeTransactionPool(connection);
 
 		// Create EQcoin Network table
 		result =	statement.execute("CREATE TABLE IF NOT EXISTS SP_LIST ("
@@ -104,6 +110,52 @@ public class MosaicH2 extends EQCH2 implements Mosaic {
 	}
 
 
+	/**
+	 * Upgrade the TRANSACTION_POOL which created by previous version to current
+	 * version: add the witness_hash column and fill it for the existing
+	 * Transactions then create the relevant indexes. It's safe to call it multiple
+	 * times.
+	 * 
+	 * @param connection
+	 * @throws SQLException
+	 */
+	static void upgradeTransactionPool(final Connection connection) throws SQLException {
+		final Statement statement = connection.createStatement();
+		statement.execute("ALTER TABLE TRANSACTION_POOL ADD COLUMN IF NOT EXISTS witness_hash BINARY(" + Util.SHA3_256_LEN + ")");
+		final ResultSet resultSet = statement
+				.executeQuery("SELECT key, witness FROM TRANSACTION_POOL WHERE witness_hash IS NULL");
+		final PreparedStatement preparedStatement = connection
+				.prepareStatement("UPDATE TRANSACTION_POOL SET witness_hash=? WHERE key=?");
+		int counter = 0;
+		while (resultSet.next()) {
+			preparedStatement.setBytes(1, getWitnessHash(resultSet.getBytes("witness")));
+			preparedStatement.setLong(2, resultSet.getLong("key"));
+			preparedStatement.addBatch();
+			if (++counter % Util.KILOBYTE == 0) {
+				preparedStatement.executeBatch();
+			}
+		}
+		preparedStatement.executeBatch();
+		preparedStatement.close();
+		resultSet.close();
+		if (counter > 0) {
+			Log.info("Fill witness_hash for " + counter + " Transactions in pool");
+		}
+		statement.execute("CREATE INDEX IF NOT EXISTS TRANSACTION_POOL_PASSPORT_NONCE ON TRANSACTION_POOL(passport_id, nonce)");
+		statement.execute("CREATE INDEX IF NOT EXISTS TRANSACTION_POOL_WITNESS_HASH ON TRANSACTION_POOL(witness_hash)");
+		statement.execute("CREATE INDEX IF NOT EXISTS TRANSACTION_POOL_RECEIEVED_TIMESTAMP ON TRANSACTION_POOL(receieved_timestamp)");
+		statement.close();
+	}
+
+	/**
+	 * @param witness the Transaction's witness
+	 * @return the SHA3-256 hash of the witness which is used to find the
+	 *         Transaction in pool
+	 */
+	static byte[] getWitnessHash(final byte[] witness) {
+		return HashTool.SHA3_256(witness);
+	}
+
 	@Override
 	public boolean deleteSP(final SP sp) throws SQLException {
 		int result = 0;
@@ -120,8 +172,8 @@ public class MosaicH2 extends EQCH2 implements Mosaic {
 		int result = 0;
 		if(Util.IsDeleteTransactionInPool) {
 			final PreparedStatement preparedStatement = connection
-					.prepareStatement("DELETE FROM TRANSACTION_POOL WHERE witness= ?");
-			preparedStatement.setBytes(1, transaction.getWitness().getWitness());
+					.prepareStatement("DELETE FROM TRANSACTION_POOL WHERE witness_hash=?");
+			preparedStatement.setBytes(1, getWitnessHash(transaction.getWitness().getWitness()));
 			result = preparedStatement.executeUpdate();
 		}
 		Log.info("result: " + result);
@@ -219,7 +271,7 @@ public class MosaicH2 extends EQCH2 implements Mosaic {
 		preparedStatement.setString(1, sp.getIp());
 		final ResultSet resultSet = preparedStatement.executeQuery();
 		while (resultSet.next()) {
-			sync_time = new ID(resultSet.getLong("sync_time"));
+			sync_time = ID.valueOf(resultSet.getLong("sync_time"));
 		}
 		return sync_time;
 	}
@@ -237,25 +289,24 @@ public class MosaicH2 extends EQCH2 implements Mosaic {
 		final ResultSet resultSet = preparedStatement.executeQuery();
 		while (resultSet.next()) {
 			transactionIndex = new TransactionIndex();
-			transactionIndex.setId(new ID(resultSet.getLong("passport_id")));
-			transactionIndex.setNonce(new ID(resultSet.getLong("nonce")));
+			transactionIndex.setId(ID.valueOf(resultSet.getLong("passport_id")));
+			transactionIndex.setNonce(ID.valueOf(resultSet.getLong("nonce")));
 			transactionIndex.setProof(resultSet.getBytes("proof"));
 			transactionIndexList.addTransactionIndex(transactionIndex);
 		}
 		return transactionIndexList;
 	}
 
-	private Transaction getTransactionInPool(final TransactionIndex transactionIndex) throws SQLException, Exception {
-		final Transaction transaction = null;
-		//		PreparedStatement preparedStatement = connection
-		//				.prepareStatement("SELECT rawdata FROM TRANSACTION_POOL WHERE passport_id=? AND nonce=? AND proof=?");
-		//		preparedStatement.setLong(1, transactionIndex.getId().longValue());
-		//		preparedStatement.setLong(2, transactionIndex.getNonce().longValue());
-		//		preparedStatement.setBytes(3, transactionIndex.getProof());
-		//		ResultSet resultSet = preparedStatement.executeQuery();
-		//		if (resultSet.next()) {
-		//			transaction = Transaction.parseTransaction(resultSet.getBytes("rawdata"));
-		//		}
+	private Transaction getTransactionInPool(final PreparedStatement preparedStatement, final TransactionIndex transactionIndex) throws SQLException, Exception {
+		Transaction transaction = null;
+		preparedStatement.setLong(1, transactionIndex.getId().longValue());
+		preparedStatement.setLong(2, transactionIndex.getNonce().longValue());
+		preparedStatement.setBytes(3, transactionIndex.getProof());
+		final ResultSet resultSet = preparedStatement.executeQuery();
+		if (resultSet.next()) {
+			transaction = new Transaction().Parse(resultSet.getBytes("rawdata"));
+		}
+		resultSet.close();
 		return transaction;
 	}
 
@@ -302,12 +353,33 @@ public class MosaicH2 extends EQCH2 implements Mosaic {
 	public  TransactionList getTransactionListInPool(final TransactionIndexList transactionIndexList)
 			throws SQLException, Exception {
 		final TransactionList transactionList = new TransactionList();
-		for (final TransactionIndex transactionIndex : transactionIndexList.getTransactionIndexList()) {
-			transactionList.addTransaction(getTransactionInPool(transactionIndex));
+		// Reuse the same PreparedStatement for the whole batch
+		final PreparedStatement preparedStatement = connection
+				.prepareStatement("SELECT rawdata FROM TRANSACTION_POOL WHERE passport_id=? AND nonce=? AND proof=?");
+		try {
+			for (final TransactionIndex transactionIndex : transactionIndexList.getTransactionIndexList()) {
+				transactionList.addTransaction(getTransactionInPool(preparedStatement, transactionIndex));
+			}
+		} finally {
+			preparedStatement.close();
 		}
 		return transactionList;
 	}
 
+	@Override
+	public synchronized Vector<MosaicSnapshot.Entry> getTransactionPoolSnapshot() throws SQLException {
+		final Vector<MosaicSnapshot.Entry> entryList = new Vector<>();
+		final Statement statement = connection.createStatement();
+		final ResultSet resultSet = statement.executeQuery(
+				"SELECT rawdata, receieved_timestamp FROM TRANSACTION_POOL WHERE record_status = FALSE ORDER BY receieved_timestamp ASC");
+		while (resultSet.next()) {
+			entryList.add(new MosaicSnapshot.Entry(resultSet.getBytes("rawdata"), resultSet.getLong("receieved_timestamp")));
+		}
+		resultSet.close();
+		statement.close();
+		return entryList;
+	}
+
 	@Override
 	public boolean isSPExists(final SP sp) throws SQLException {
 		boolean isSucc = false;
@@ -328,8 +400,8 @@ public class MosaicH2 extends EQCH2 implements Mosaic {
 		PreparedStatement preparedStatement = null;
 		ResultSet resultSet = null;
 		preparedStatement = connection
-				.prepareStatement("SELECT * FROM TRANSACTION_POOL WHERE witness=? AND nonce=? AND priority_value<=?");
-		preparedStatement.setBytes(1, transaction.getWitness().getWitness());
+				.prepareStatement("SELECT key FROM TRANSACTION_POOL WHERE witness_hash=? AND nonce=? AND priority_value<=?");
+		preparedStatement.setBytes(1, getWitnessHash(transaction.getWitness().getWitness()));
 		preparedStatement.setLong(2, transaction.getNonce().longValue());
 		preparedStatement.setLong(3, transaction.getPriorityValue().longValue());
 		resultSet = preparedStatement.executeQuery();
@@ -345,7 +417,7 @@ public class MosaicH2 extends EQCH2 implements Mosaic {
 		PreparedStatement preparedStatement = null;
 		ResultSet resultSet = null;
 		preparedStatement = connection
-				.prepareStatement("SELECT * FROM TRANSACTION_POOL WHERE passport_id=? AND nonce=? AND proof=?");
+				.prepareStatement("SELECT key FROM TRANSACTION_POOL WHERE passport_id=? AND nonce=? AND proof=?");
 		preparedStatement.setLong(1, transactionIndex.getId().longValue());
 		preparedStatement.setLong(2, transactionIndex.getNonce().longValue());
 		preparedStatement.setBytes(3, transactionIndex.getProof());
@@ -437,35 +509,50 @@ public class MosaicH2 extends EQCH2 implements Mosaic {
 	 */
 	@Override
 	public synchronized boolean saveTransactionInPool(final Transaction transaction) throws Exception {
-		final int result = 0;
-		//		PreparedStatement preparedStatement = null;
-		//		if (!isTransactionExistsInPool(transaction)) {
-		//			preparedStatement = connectionAutoCommit.prepareStatement(
-		//					"INSERT INTO TRANSACTION_POOL (passport_id, nonce, rawdata, witness, proof, priority_value, receieved_timestamp, record_status, record_height) VALUES(?, ?, ?, ?, ?, ?, ?, ?, ?)");
-		//			preparedStatement.setLong(1, transaction.getWitness().getPassport().getId().longValue());
-		//			preparedStatement.setLong(2, transaction.getNonce().longValue());
-		//			preparedStatement.setBytes(3, transaction.getBytes());
-		//			preparedStatement.setBytes(4, transaction.getWitness().getWitness());
-		//			preparedStatement.setBytes(5, transaction.getProof());
-		//			preparedStatement.setLong(6, transaction.getPriorityValue().longValue());
-		//			preparedStatement.setLong(7, System.currentTimeMillis());
-		//			preparedStatement.setBoolean(8, false);
-		//			preparedStatement.setNull(9, Types.BIGINT);
-		//			result = preparedStatement.executeUpdate();
-		//		} else {
-		//			preparedStatement = connectionAutoCommit.prepareStatement(
-		//					"UPDATE TRANSACTION_POOL SET rawdata=?, witness=?, proof=?, priority_value=?, receieved_timestamp=?, record_status=?, record_height=? WHERE passport_id=? AND nonce=?");
-		//			preparedStatement.setBytes(1, transaction.getBytes());
-		//			preparedStatement.setBytes(2, transaction.getWitness().getWitness());
-		//			preparedStatement.setBytes(3, transaction.getProof());
-		//			preparedStatement.setLong(4, transaction.getPriorityValue().longValue());
-		//			preparedStatement.setLong(5, System.currentTimeMillis());
-		//			preparedStatement.setBoolean(6, false);
-		//			preparedStatement.setNull(7, Types.BIGINT);
-		//			preparedStatement.setLong(8, transaction.getWitness().getPassport().getId().longValue());
-		//			preparedStatement.setLong(9, transaction.getNonce().longValue());
-		//			result = preparedStatement.executeUpdate();
-		//		}
+		return saveTransactionInPool(transaction, System.currentTimeMillis());
+	}
+
+	/**
+	 * @param transaction       EQC Transaction
+	 * @param receivedTimestamp the timestamp when the Transaction is received
+	 * @return boolean If add Transaction successful return true else return false
+	 * @throws Exception
+	 */
+	@Override
+	public synchronized boolean saveTransactionInPool(final Transaction transaction, final long receivedTimestamp) throws Exception {
+		int result = 0;
+		PreparedStatement preparedStatement = null;
+		final byte[] witness = transaction.getWitness().getWitness();
+		if (!isTransactionExistsInPool(transaction)) {
+			preparedStatement = connection.prepareStatement(
+					"INSERT INTO TRANSACTION_POOL (passport_id, nonce, rawdata, witness, witness_hash, proof, priority_value, receieved_timestamp, record_status, record_height) VALUES(?, ?, ?, ?, ?, ?, ?, ?, ?, ?)");
+			preparedStatement.setLong(1, transaction.getWitness().getPassport().getId().longValue());
+			preparedStatement.setLong(2, transaction.getNonce().longValue());
+			preparedStatement.setBytes(3, transaction.getBytes());
+			preparedStatement.setBytes(4, witness);
+			preparedStatement.setBytes(5, getWitnessHash(witness));
+			preparedStatement.setBytes(6, transaction.getProof());
+			preparedStatement.setLong(7, transaction.getPriorityValue().longValue());
+			preparedStatement.setLong(8, receivedTimestamp);
+			preparedStatement.setBoolean(9, false);
+			preparedStatement.setNull(10, Types.BIGINT);
+			result = preparedStatement.executeUpdate();
+		} else {
+			preparedStatement = connection.prepareStatement(
+					"UPDATE TRANSACTION_POOL SET rawdata=?, witness=?, witness_hash=?, proof=?, priority_value=?, receieved_timestamp=?, record_status=?, record_height=? WHERE passport_id=? AND nonce=?");
+			preparedStatement.setBytes(1, transaction.getBytes());
+			preparedStatement.setBytes(2, witness);
+			preparedStatement.setBytes(3, getWitnessHash(witness));
+			preparedStatement.setBytes(4, transaction.getProof());
+			preparedStatement.setLong(5, transaction.getPriorityValue().longValue());
+			preparedStatement.setLong(6, receivedTimestamp);
+			preparedStatement.setBoolean(7, false);
+			preparedStatement.setNull(8, Types.BIGINT);
+			preparedStatement.setLong(9, transaction.getWitness().getPassport().getId().longValue());
+			preparedStatement.setLong(10, transaction.getNonce().longValue());
+			result = preparedStatement.executeUpdate();
+		}
+		preparedStatement.close();
 		Log.info("result: " + result);
 		return result == ONE_ROW;
 	}
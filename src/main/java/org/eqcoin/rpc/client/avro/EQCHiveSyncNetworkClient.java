@@ -35,6 +35,8 @@ import org.eqcoin.avro.EQCMinerNetwork;
 import org.eqcoin.avro.O;
 import org.eqcoin.hive.EQCHive;
 import org.eqcoin.hive.EQCHiveRoot;
+import org.eqcoin.rpc.gateway.Codec;
+import org.eqcoin.rpc.gateway.Gateway;
 import org.eqcoin.rpc.object.Info;
 import org.eqcoin.rpc.object.SP;
 import org.eqcoin.rpc.object.SPList;
@@ -53,7 +55,20 @@ import org.jboss.netty.channel.socket.oio.OioClientSocketChannelFactory;
 public class EQCHiveSyncNetworkClient extends EQCRPCClient {
 
 	public static EQCHive getEQCHive(final ID height, final SP sp) throws Exception {
-		EQCHive eqcHive = null;
+		return new EQCHive(getEQCHiveBytes(height, sp));
+	}
+
+	/**
+	 * Get the EQCHive's bytes without decode it so the caller can decode it
+	 * later, for example via {@link org.eqcoin.hive.EQCHiveDecoder}.
+	 *
+	 * @param height
+	 * @param sp
+	 * @return the EQCHive's bytes
+	 * @throws Exception
+	 */
+	public static byte[] getEQCHiveBytes(final ID height, final SP sp) throws Exception {
+		byte[] bytes = null;
 		NettyTransceiver nettyTransceiver = null;
 		EQCHiveSyncNetwork client = null;
 		try {
@@ -62,7 +77,7 @@ public class EQCHiveSyncNetworkClient extends EQCRPCClient {
 							Executors.newCachedThreadPool()),
 					Util.DEFAULT_TIMEOUT);
 			client = SpecificRequestor.getClient(EQCHiveSyncNetwork.class, nettyTransceiver);
-			eqcHive = new EQCHive(client.getEQCHive(height.getProtocol(O.class)));
+			bytes = Gateway.parseProtocol(client.getEQCHive(height.getProtocol(O.class)));
 		} catch (final Exception e) {
 			Log.Error(e.getMessage());
 			throw e;
@@ -72,7 +87,7 @@ public class EQCHiveSyncNetworkClient extends EQCRPCClient {
 				Log.info("nettyTransceiver closed");
 			}
 		}
-		return eqcHive;
+		return bytes;
 	}
 
 	public static EQCHiveRoot getEQCHiveRoot(final ID height, final SP sp) throws Exception {
@@ -192,7 +207,9 @@ public class EQCHiveSyncNetworkClient extends EQCRPCClient {
 					Util.DEFAULT_TIMEOUT);
 			client = SpecificRequestor.getClient(EQCHiveSyncNetwork.class, nettyTransceiver);
 			ping = System.currentTimeMillis();
-			info = new Info(client.registerSP(Util.LOCAL_SP.getProtocol(O.class)));
+			final O o = client.registerSP(Util.LOCAL_SP.getProtocol(O.class));
+			Codec.negotiate(sp, o);
+			info = new Info(o);
 			info.setPing(System.currentTimeMillis() - ping);
 		} catch (final Exception e) {
 			info.setPing(-1);
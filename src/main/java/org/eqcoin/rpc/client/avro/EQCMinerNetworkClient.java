@@ -32,6 +32,8 @@ import org.apache.avro.ipc.netty.NettyTransceiver;
 import org.apache.avro.ipc.specific.SpecificRequestor;
 import org.eqcoin.avro.EQCMinerNetwork;
 import org.eqcoin.avro.O;
+import org.eqcoin.rpc.gateway.Codec;
+import org.eqcoin.rpc.gateway.Gateway;
 import org.eqcoin.rpc.object.Info;
 import org.eqcoin.rpc.object.NewEQCHive;
 import org.eqcoin.rpc.object.SP;
@@ -60,7 +62,9 @@ public class EQCMinerNetworkClient extends EQCRPCClient {
 			                Executors.newCachedThreadPool()), Util.DEFAULT_TIMEOUT);
 			client = SpecificRequestor.getClient(EQCMinerNetwork.class, nettyTransceiver);
 			ping = System.currentTimeMillis();
-			info = new Info(client.registerSP(Util.LOCAL_SP.getProtocol(O.class)));
+			final O o = client.registerSP(Util.LOCAL_SP.getProtocol(O.class));
+			Codec.negotiate(sp, o);
+			info = new Info(o);
 			info.setPing(System.currentTimeMillis() - ping);
 		} catch (Exception e) {
 			info.setPing(-1);
@@ -105,7 +109,8 @@ public class EQCMinerNetworkClient extends EQCRPCClient {
 					new InetSocketAddress(InetAddress.getByName(ip.getIp()), Util.MINER_NETWORK_PORT), new OioClientSocketChannelFactory(
 			                Executors.newCachedThreadPool()), Util.DEFAULT_TIMEOUT);
 			client = SpecificRequestor.getClient(EQCMinerNetwork.class, nettyTransceiver);
-			info = new Info(client.broadcastNewEQCHive(newEQCHive.getProtocol(O.class)));
+			// The new EQCHive is compressed if the SP accept it when register
+			info = new Info(client.broadcastNewEQCHive(Gateway.getProtocol(O.class, newEQCHive.getBytes(), Codec.getPeerCodec(ip))));
 		} catch (Exception e) {
 			Log.Error(e.getMessage());
 			throw e;
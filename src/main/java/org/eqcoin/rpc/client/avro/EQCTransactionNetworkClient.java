@@ -33,6 +33,7 @@ import org.apache.avro.ipc.specific.SpecificRequestor;
 import org.eqcoin.avro.EQCMinerNetwork;
 import org.eqcoin.avro.EQCTransactionNetwork;
 import org.eqcoin.avro.O;
+import org.eqcoin.rpc.gateway.Codec;
 import org.eqcoin.rpc.gateway.Gateway;
 import org.eqcoin.rpc.object.Info;
 import org.eqcoin.rpc.object.LockInfo;
@@ -41,6 +42,7 @@ import org.eqcoin.rpc.object.SP;
 import org.eqcoin.rpc.object.SPList;
 import org.eqcoin.rpc.object.TransactionIndexList;
 import org.eqcoin.rpc.object.TransactionList;
+import org.eqcoin.rpc.object.TransactionSketch;
 import org.eqcoin.transaction.Transaction;
 import org.eqcoin.util.ID;
 import org.eqcoin.util.Log;
@@ -67,7 +69,9 @@ public class EQCTransactionNetworkClient extends EQCRPCClient {
 					Util.DEFAULT_TIMEOUT);
 			client = SpecificRequestor.getClient(EQCTransactionNetwork.class, nettyTransceiver);
 			ping = System.currentTimeMillis();
-			info = new Info(client.registerSP(Util.LOCAL_SP.getProtocol(O.class)));
+			final O o = client.registerSP(Util.LOCAL_SP.getProtocol(O.class));
+			Codec.negotiate(sp, o);
+			info = new Info(o);
 			info.setPing(System.currentTimeMillis() - ping);
 		} catch (Exception e) {
 			info.setPing(-1);
@@ -240,5 +244,45 @@ public class EQCTransactionNetworkClient extends EQCRPCClient {
 		}
 		return transactionList2;
 	}
+
+	/**
+	 * Get the TransactionIndex which only exists in the SP's transaction pool via
+	 * set reconciliation.
+	 * 
+	 * @param transactionSketch the local transaction pool's TransactionSketch
+	 * @param sp
+	 * @return the missing TransactionIndex list or null if the SP can't decode the
+	 *         difference with current TransactionSketch's cell number
+	 * @throws Exception
+	 */
+	public static TransactionIndexList getTransactionIndexListBySketch(TransactionSketch transactionSketch, SP sp) throws Exception {
+		TransactionIndexList transactionIndexList = null;
+		NettyTransceiver nettyTransceiver = null;
+		EQCTransactionNetwork client = null;
+		O o = null;
+		try {
+			nettyTransceiver = new NettyTransceiver(
+					new InetSocketAddress(InetAddress.getByName(sp.getIp()), Util.TRANSACTION_NETWORK_PORT), new OioClientSocketChannelFactory(
+			                Executors.newCachedThreadPool()), Util.DEFAULT_TIMEOUT);
+			client = SpecificRequestor.getClient(EQCTransactionNetwork.class, nettyTransceiver);
+			o = client.getTransactionIndexListBySketch(transactionSketch.getProtocol(O.class));
+			transactionIndexList = new TransactionIndexList(o);
+			if(transactionIndexList.isDifferenceTooLarge()) {
+				transactionIndexList = null;
+			}
+			else {
+				Util.MC().saveSyncTime(sp, transactionIndexList.getSyncTime());
+			}
+		} catch (Exception e) {
+			Log.Error(e.getMessage());
+			throw e;
+		} finally {
+			if (nettyTransceiver != null) {
+				nettyTransceiver.close();
+				Log.info("nettyTransceiver closed");
+			}
+		}
+		return transactionIndexList;
+	}
 	
 }
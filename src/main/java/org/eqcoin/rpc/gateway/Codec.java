@@ -0,0 +1,233 @@
+/**
+ * EQcoin core
+ *
+ * http://www.eqcoin.org
+ * 
+ * @Copyright 2018-present Xun Wang All Rights Reserved...
+ * The copyright of all works released by Xun Wang or jointly released by
+ * Xun Wang with cooperative partners are owned by Xun Wang and entitled
+ * to protection available from copyright law by country as well as international
+ * conventions.
+ * Attribution — You must give appropriate credit, provide a link to the license.
+ * Non Commercial — You may not use the material for commercial purposes.
+ * No Derivatives — If you remix, transform, or build upon the material, you may
+ * not distribute the modified material.
+ * Xun Wang reserves any and all current and future rights, titles and interests
+ * in any and all intellectual property rights of Xun Wang including but not limited
+ * to discoveries, ideas, marks, concepts, methods, formulas, processes, codes,
+ * software, inventions, compositions, techniques, information and data, whether
+ * or not protectable in trademark, copyrightable or patentable, and any trademarks,
+ * copyrights or patents based thereon. For the use of any and all intellectual
+ * property rights of Xun Wang without prior written permission, Xun Wang reserves
+ * all rights to take any legal action and pursue any rights or remedies under
+ * applicable law.
+ */
+package org.eqcoin.rpc.gateway;
+
+import java.io.ByteArrayOutputStream;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+import org.eqcoin.avro.O;
+import org.eqcoin.rpc.object.SP;
+import org.eqcoin.util.Log;
+import org.eqcoin.util.Util;
+
+/**
+ * Codec is the codec of the O's payload which is stored in the lowest 4 bits of
+ * O's c. The higher bits of O's c are the codecs which can be decoded by the
+ * sender of the O, so each peer can know which codec can be used from the O
+ * received from the other peer. The sender only use the codec which is
+ * accepted by the receiver so the old peer which doesn't know O's c always
+ * receive the raw payload.
+ * <p>
+ * The codecs accepted by each SP are negotiated when register the SP, see
+ * {@link #negotiate(SP, O)}. The negotiated codecs are bounded and evict the
+ * least recently used SP when it is full, the evicted SP just receive the raw
+ * payload until it is registered again.
+ *
+ * @author agent
+ * @date Oct 18, 2026
+ * @email agent@local
+ */
+public enum Codec {
+	NONE(0), DEFLATE(1);
+
+	public final static int CODEC_MASK = 0x0F;
+
+	/**
+	 * The sender of the O can decode the DEFLATE payload
+	 */
+	public final static int ACCEPT_DEFLATE = 0x10;
+
+	/**
+	 * The codecs which can be decoded by current peer
+	 */
+	public final static int ACCEPT_CODECS = ACCEPT_DEFLATE;
+
+	/**
+	 * The payload which less than this length doesn't worth to be compressed
+	 */
+	public final static int MIN_COMPRESS_LEN = 256;
+
+	/**
+	 * The max length of the decoded payload to avoid the decompression bomb
+	 */
+	public final static int MAX_DECODE_LEN = 8 * Util.MAX_EQCHIVE_SIZE;
+
+	/**
+	 * The max number of the SPs whose negotiated codec is kept
+	 */
+	public final static int MAX_PEER_SIZE = 1024;
+
+	private final static LinkedHashMap<String, Codec> PEER_CODEC_MAP = new LinkedHashMap<String, Codec>(16, 0.75f, true) {
+		private static final long serialVersionUID = 1L;
+
+		@Override
+		protected boolean removeEldestEntry(final Map.Entry<String, Codec> eldest) {
+			return size() > MAX_PEER_SIZE;
+		}
+	};
+
+	private final int codec;
+
+	private Codec(final int codec) {
+		this.codec = codec;
+	}
+
+	public int getCodec() {
+		return codec;
+	}
+
+	public static Codec get(final int c) {
+		Codec codec = null;
+		switch (c & CODEC_MASK) {
+		case 0:
+			codec = NONE;
+			break;
+		case 1:
+			codec = DEFLATE;
+			break;
+		default:
+			throw new IllegalStateException("Unsupported codec: " + (c & CODEC_MASK));
+		}
+		return codec;
+	}
+
+	/**
+	 * @param o the O received from the other peer
+	 * @return the best codec which can be decoded by the sender of the O
+	 */
+	public static Codec getAccepted(final O o) {
+		if ((o.getC() & ACCEPT_DEFLATE) != 0) {
+			return DEFLATE;
+		}
+		return NONE;
+	}
+
+	/**
+	 * Record the codec accepted by the SP according to the O which is the SP's
+	 * reply of register.
+	 *
+	 * @param sp the registered SP
+	 * @param o  the SP's reply of register
+	 * @return the codec accepted by the SP
+	 */
+	public static Codec negotiate(final SP sp, final O o) {
+		final Codec codec = getAccepted(o);
+		synchronized (PEER_CODEC_MAP) {
+			PEER_CODEC_MAP.put(sp.getIp(), codec);
+		}
+		Log.info(sp + " accept codec: " + codec);
+		return codec;
+	}
+
+	/**
+	 * @param sp
+	 * @return the codec accepted by the SP which is NONE if the SP haven't been
+	 *         registered
+	 */
+	public static Codec getPeerCodec(final SP sp) {
+		synchronized (PEER_CODEC_MAP) {
+			return PEER_CODEC_MAP.getOrDefault(sp.getIp(), NONE);
+		}
+	}
+
+	/**
+	 * Drop the codec accepted by the SP which is deleted.
+	 *
+	 * @param sp
+	 */
+	public static void forget(final SP sp) {
+		synchronized (PEER_CODEC_MAP) {
+			PEER_CODEC_MAP.remove(sp.getIp());
+		}
+	}
+
+	/**
+	 * Encode the payload with current codec.
+	 *
+	 * @param bytes the raw payload
+	 * @return the encoded payload or null if it doesn't worth to be encoded
+	 */
+	public byte[] encode(final byte[] bytes) {
+		if (this == NONE || bytes.length < MIN_COMPRESS_LEN) {
+			return null;
+		}
+		final Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+		try {
+			deflater.setInput(bytes);
+			deflater.finish();
+			final byte[] buffer = new byte[bytes.length];
+			int len = 0;
+			while (!deflater.finished() && len < buffer.length) {
+				len += deflater.deflate(buffer, len, buffer.length - len);
+			}
+			if (!deflater.finished()) {
+				// The compressed payload isn't shorter than the raw one
+				return null;
+			}
+			final byte[] encoded = new byte[len];
+			System.arraycopy(buffer, 0, encoded, 0, len);
+			return encoded;
+		} finally {
+			deflater.end();
+		}
+	}
+
+	/**
+	 * Decode the payload which is encoded with current codec.
+	 *
+	 * @param bytes the encoded payload
+	 * @return the raw payload
+	 * @throws DataFormatException
+	 */
+	public byte[] decode(final byte[] bytes) throws DataFormatException {
+		if (this == NONE) {
+			return bytes;
+		}
+		final Inflater inflater = new Inflater();
+		try {
+			inflater.setInput(bytes);
+			final ByteArrayOutputStream os = new ByteArrayOutputStream(bytes.length * 4);
+			final byte[] buffer = new byte[Util.KILOBYTE * 8];
+			while (!inflater.finished()) {
+				final int len = inflater.inflate(buffer);
+				if (len == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+					throw new DataFormatException("The DEFLATE payload is truncated");
+				}
+				if (os.size() + len > MAX_DECODE_LEN) {
+					throw new DataFormatException("The decoded payload exceed the max length " + MAX_DECODE_LEN);
+				}
+				os.write(buffer, 0, len);
+			}
+			return os.toByteArray();
+		} finally {
+			inflater.end();
+		}
+	}
+
+}
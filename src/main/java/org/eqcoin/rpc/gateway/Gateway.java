@@ -45,9 +45,30 @@ public interface Gateway {
 	 * @throws Exception
 	 */
 	public static <T> T getProtocol(final Class<T> type, final byte[] bytes) throws Exception{
+		return getProtocol(type, bytes, Codec.NONE);
+	}
+
+	/**
+	 * Convert byte array to relevant protocol and encode it with the codec which
+	 * should be accepted by the receiver. If the encoded bytes isn't shorter than
+	 * the original bytes just keep the original bytes.
+	 *
+	 * @param type
+	 * @param bytes
+	 * @param codec the codec accepted by the receiver
+	 * @return
+	 * @throws Exception
+	 */
+	public static <T> T getProtocol(final Class<T> type, final byte[] bytes, final Codec codec) throws Exception{
 		T protocol = null;
 		if(type == O.class) {
-			protocol = (T) new O(ByteBuffer.wrap(bytes));
+			final byte[] encoded = codec.encode(bytes);
+			if(encoded != null) {
+				protocol = type.cast(new O(ByteBuffer.wrap(encoded), codec.getCodec() | Codec.ACCEPT_CODECS));
+			}
+			else {
+				protocol = type.cast(new O(ByteBuffer.wrap(bytes), Codec.NONE.getCodec() | Codec.ACCEPT_CODECS));
+			}
 		}
 		else {
 			throw new IllegalStateException("Invalid Protocol type: " + type);
@@ -57,7 +78,9 @@ public interface Gateway {
 
 	/**
 	 * Parse different network protocol relevant wrap object for communication
-	 * If need support new protocol type just add new type parse in here
+	 * If need support new protocol type just add new type parse in here.
+	 * The returned bytes never share the network buffer due to the lazy parsed
+	 * EQCObject keeps a view of them.
 	 * @param type
 	 * @throws Exception
 	 */
@@ -65,7 +88,11 @@ public interface Gateway {
 	{
 		byte[] bytes = null;
 		if(type instanceof O) {
-			bytes = ((O) type).getO().array();
+			final byte[] payload = ((O) type).getO().array();
+			bytes = Codec.get(((O) type).getC()).decode(payload);
+			if(bytes == payload) {
+				bytes = payload.clone();
+			}
 		}
 		else {
 			throw new IllegalStateException("Invalid Protocol type: " + type);
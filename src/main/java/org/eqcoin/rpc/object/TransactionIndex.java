@@ -26,8 +26,10 @@ package org.eqcoin.rpc.object;
 
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
 
 import org.eqcoin.avro.O;
+import org.eqcoin.crypto.HashTool;
 import org.eqcoin.serialization.EQCCastle;
 import org.eqcoin.serialization.EQCObject;
 import org.eqcoin.transaction.Transaction.TransactionShape;
@@ -180,6 +182,18 @@ public class TransactionIndex extends IO {
 		this.proof = proof;
 	}
 
+	/**
+	 * Calculate the short id which is the first 8 bytes of the SHA3-256 hash of
+	 * passport id, nonce and proof. It is used to reconcile the transaction pool
+	 * via TransactionSketch.
+	 * 
+	 * @return the short id
+	 * @throws Exception
+	 */
+	public long getShortId() throws Exception {
+		return ByteBuffer.wrap(HashTool.SHA3_256(getBytes())).getLong();
+	}
+
 	/**
 	 * @param transactionIndexShape the transactionIndexShape to set
 	 */
@@ -58,6 +58,26 @@ public class TransactionIndexList extends IO {
 	public <T> TransactionIndexList(T type) throws Exception {
 		super(type);
 	}
+	
+	/**
+	 * The O response can't be null so the SP reply this empty TransactionIndexList
+	 * with zero sync time when the TransactionSketch's difference is too large to
+	 * decode. The sync time of the normal reply is always the SP's current time.
+	 * 
+	 * @return the TransactionIndexList which means the difference is too large
+	 */
+	public static TransactionIndexList differenceTooLarge() {
+		TransactionIndexList transactionIndexList = new TransactionIndexList();
+		transactionIndexList.setSyncTime(ID.ZERO);
+		return transactionIndexList;
+	}
+	
+	/**
+	 * @return true if this is the reply of {@link #differenceTooLarge()}
+	 */
+	public boolean isDifferenceTooLarge() {
+		return transactionIndexList.isEmpty() && syncTime.equals(ID.ZERO);
+	}
 
 	/* (non-Javadoc)
 	 * @see com.eqchains.serialization.EQCTypable#isSanity()
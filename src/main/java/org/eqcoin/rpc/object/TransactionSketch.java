@@ -0,0 +1,256 @@
+/**
+ * EQcoin core
+ *
+ * http://www.eqcoin.org
+ * 
+ * @Copyright 2018-present Xun Wang All Rights Reserved...
+ * The copyright of all works released by Xun Wang or jointly released by
+ * Xun Wang with cooperative partners are owned by Xun Wang and entitled
+ * to protection available from copyright law by country as well as international
+ * conventions.
+ * Attribution — You must give appropriate credit, provide a link to the license.
+ * Non Commercial — You may not use the material for commercial purposes.
+ * No Derivatives — If you remix, transform, or build upon the material, you may
+ * not distribute the modified material.
+ * Xun Wang reserves any and all current and future rights, titles and interests
+ * in any and all intellectual property rights of Xun Wang including but not limited
+ * to discoveries, ideas, marks, concepts, methods, formulas, processes, codes,
+ * software, inventions, compositions, techniques, information and data, whether
+ * or not protectable in trademark, copyrightable or patentable, and any trademarks,
+ * copyrights or patents based thereon. For the use of any and all intellectual
+ * property rights of Xun Wang without prior written permission, Xun Wang reserves
+ * all rights to take any legal action and pursue any rights or remedies under
+ * applicable law.
+ */
+package org.eqcoin.rpc.object;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.util.HashMap;
+import java.util.Vector;
+
+import org.eqcoin.serialization.EQCCastle;
+import org.eqcoin.util.ID;
+import org.eqcoin.util.Log;
+
+/**
+ * TransactionSketch is one invertible bloom lookup table of the transaction
+ * pool's short transaction ids which used to reconcile two SP's transaction
+ * pool. The requester send it's sketch to the SP, the SP subtract the
+ * requester's sketch from it's own sketch with the same cell number then decode
+ * the difference. So only the TransactionIndex which the requester doesn't
+ * have need to be transferred and the size of the sketch only relevant to the
+ * difference's size but not the transaction pool's size.
+ * 
+ * @author agent
+ * @date Oct 18, 2026
+ * @email agent@local
+ */
+public class TransactionSketch extends IO {
+	/**
+	 * Every short id is mapped into HASH_NUMBERS cells each of them in different
+	 * sub table.
+	 */
+	public final static int HASH_NUMBERS = 3;
+	public final static int MIN_CELL_NUMBER = 48;
+	public final static int MAX_CELL_NUMBER = 12288;
+	private final static long CHECKSUM_SEED = 0x5DEECE66DL;
+	private int[] count;
+	private long[] idSum;
+	private long[] checksumSum;
+	
+	public TransactionSketch() {
+		super();
+	}
+	
+	public TransactionSketch(int cellNumber) {
+		super();
+		initCells(cellNumber);
+	}
+	
+	public <T> TransactionSketch(T type) throws Exception {
+		super(type);
+	}
+	
+	private void initCells(int cellNumber) {
+		// Make sure each sub table have the same size
+		cellNumber = Math.max(cellNumber, MIN_CELL_NUMBER);
+		cellNumber = ((cellNumber + HASH_NUMBERS - 1) / HASH_NUMBERS) * HASH_NUMBERS;
+		count = new int[cellNumber];
+		idSum = new long[cellNumber];
+		checksumSum = new long[cellNumber];
+	}
+	
+	public void addShortId(long shortId) {
+		toggle(shortId, 1);
+	}
+	
+	public void removeShortId(long shortId) {
+		toggle(shortId, -1);
+	}
+	
+	private void toggle(long shortId, int delta) {
+		long checksum = mix(shortId ^ CHECKSUM_SEED);
+		for (int i = 0; i < HASH_NUMBERS; ++i) {
+			int cell = getCell(shortId, i);
+			count[cell] += delta;
+			idSum[cell] ^= shortId;
+			checksumSum[cell] ^= checksum;
+		}
+	}
+	
+	private int getCell(long shortId, int hashIndex) {
+		int subTableSize = count.length / HASH_NUMBERS;
+		return hashIndex * subTableSize + (int) Long.remainderUnsigned(mix(shortId + hashIndex), subTableSize);
+	}
+	
+	/**
+	 * The finalizer of SplitMix64
+	 */
+	private static long mix(long value) {
+		value = (value ^ (value >>> 33)) * 0xFF51AFD7ED558CCDL;
+		value = (value ^ (value >>> 33)) * 0xC4CEB9FE1A85EC53L;
+		return value ^ (value >>> 33);
+	}
+	
+	/**
+	 * Subtract the other sketch from current sketch, after that current sketch
+	 * only contains the difference between the two sketches.
+	 * 
+	 * @param transactionSketch the other sketch with the same cell number
+	 */
+	public void subtract(TransactionSketch transactionSketch) {
+		if(count.length != transactionSketch.count.length) {
+			throw new IllegalStateException("The TransactionSketch's cell number doesn't equal current: " + count.length + " other: " + transactionSketch.count.length);
+		}
+		for (int i = 0; i < count.length; ++i) {
+			count[i] -= transactionSketch.count[i];
+			idSum[i] ^= transactionSketch.idSum[i];
+			checksumSum[i] ^= transactionSketch.checksumSum[i];
+		}
+	}
+	
+	/**
+	 * Decode the subtracted sketch. Please note during decode current sketch will
+	 * be cleared.
+	 * 
+	 * @param localShortIdList  the short ids only exists in current sketch
+	 * @param remoteShortIdList the short ids only exists in the subtracted sketch
+	 * @return true if the difference is decoded completely otherwise false which
+	 *         means need a bigger sketch
+	 */
+	public boolean decode(Vector<Long> localShortIdList, Vector<Long> remoteShortIdList) {
+		boolean isProgress = true;
+		while (isProgress) {
+			isProgress = false;
+			for (int i = 0; i < count.length; ++i) {
+				if ((count[i] == 1 || count[i] == -1) && checksumSum[i] == mix(idSum[i] ^ CHECKSUM_SEED)) {
+					long shortId = idSum[i];
+					if (count[i] == 1) {
+						localShortIdList.add(shortId);
+						toggle(shortId, -1);
+					} else {
+						remoteShortIdList.add(shortId);
+						toggle(shortId, 1);
+					}
+					isProgress = true;
+				}
+			}
+		}
+		for (int i = 0; i < count.length; ++i) {
+			if (count[i] != 0 || idSum[i] != 0 || checksumSum[i] != 0) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Reconcile current sketch which received from the requester with the local
+	 * transaction pool.
+	 * 
+	 * @param poolIndexList the local transaction pool's TransactionIndex list
+	 * @param syncTime      the local current time
+	 * @return the TransactionIndex list which the requester doesn't have or
+	 *         {@link TransactionIndexList#differenceTooLarge()} if the difference
+	 *         can't be decoded with current cell number
+	 * @throws Exception
+	 */
+	public TransactionIndexList reconcile(TransactionIndexList poolIndexList, ID syncTime) throws Exception {
+		HashMap<Long, TransactionIndex> shortIdMap = new HashMap<>();
+		TransactionSketch localSketch = new TransactionSketch(getCellNumber());
+		for (TransactionIndex transactionIndex : poolIndexList.getTransactionIndexList()) {
+			long shortId = transactionIndex.getShortId();
+			shortIdMap.put(shortId, transactionIndex);
+			localSketch.addShortId(shortId);
+		}
+		localSketch.subtract(this);
+		Vector<Long> localShortIdList = new Vector<>();
+		if (!localSketch.decode(localShortIdList, new Vector<>())) {
+			return TransactionIndexList.differenceTooLarge();
+		}
+		TransactionIndexList transactionIndexList = new TransactionIndexList();
+		transactionIndexList.setSyncTime(syncTime);
+		for (long shortId : localShortIdList) {
+			transactionIndexList.addTransactionIndex(shortIdMap.get(shortId));
+		}
+		return transactionIndexList;
+	}
+
+	/* (non-Javadoc)
+	 * @see org.eqcoin.serialization.EQCObject#parse(java.io.ByteArrayInputStream)
+	 */
+	@Override
+	public void parse(ByteArrayInputStream is) throws Exception {
+		int cellNumber = EQCCastle.eqcBitsToInt(EQCCastle.parseEQCBits(is));
+		if (cellNumber < MIN_CELL_NUMBER || cellNumber > MAX_CELL_NUMBER || cellNumber % HASH_NUMBERS != 0) {
+			throw new IllegalStateException("Invalid TransactionSketch's cell number: " + cellNumber);
+		}
+		initCells(cellNumber);
+		for (int i = 0; i < cellNumber; ++i) {
+			count[i] = EQCCastle.eqcBitsToInt(EQCCastle.parseEQCBits(is));
+			idSum[i] = ByteBuffer.wrap(EQCCastle.parseNBytes(is, Long.BYTES)).getLong();
+			checksumSum[i] = ByteBuffer.wrap(EQCCastle.parseNBytes(is, Long.BYTES)).getLong();
+		}
+	}
+
+	/* (non-Javadoc)
+	 * @see org.eqcoin.serialization.EQCObject#getBytes(java.io.ByteArrayOutputStream)
+	 */
+	@Override
+	public ByteArrayOutputStream getBytes(ByteArrayOutputStream os) throws Exception {
+		ByteBuffer buffer = ByteBuffer.allocate(Long.BYTES * 2);
+		os.write(EQCCastle.intToEQCBits(count.length));
+		for (int i = 0; i < count.length; ++i) {
+			os.write(EQCCastle.intToEQCBits(count[i]));
+			buffer.clear();
+			buffer.putLong(idSum[i]).putLong(checksumSum[i]);
+			os.write(buffer.array());
+		}
+		return os;
+	}
+
+	/* (non-Javadoc)
+	 * @see org.eqcoin.serialization.EQCObject#isSanity()
+	 */
+	@Override
+	public boolean isSanity() throws Exception {
+		if(count == null || idSum == null || checksumSum == null) {
+			Log.Error("count == null || idSum == null || checksumSum == null");
+			return false;
+		}
+		for(int i:count) {
+			if(i < 0) {
+				Log.Error("TransactionSketch's count shouldn't be negative");
+				return false;
+			}
+		}
+		return true;
+	}
+	
+	public int getCellNumber() {
+		return count.length;
+	}
+	
+}
@@ -27,6 +27,7 @@ package org.eqcoin.rpc.service.avro;
 import org.eqcoin.avro.EQCHiveSyncNetwork;
 import org.eqcoin.avro.O;
 import org.eqcoin.hive.EQCHiveRoot;
+import org.eqcoin.rpc.gateway.Codec;
 import org.eqcoin.rpc.gateway.Gateway;
 import org.eqcoin.rpc.object.TailInfo;
 import org.eqcoin.util.ID;
@@ -66,7 +67,7 @@ public class EQCHiveSyncNetworkServiceImpl extends EQCRPCServiceImpl implements
 		try {
 			eqcHive = Util.GS().getEQCHive(new ID(h.getO().array()));
 			if(eqcHive != null) {
-				hive = Gateway.getProtocol(O.class, eqcHive);
+				hive = Gateway.getProtocol(O.class, eqcHive, Codec.getAccepted(h));
 			}
 		} catch (Exception e) {
 			Log.Error(e.getMessage());
@@ -26,6 +26,7 @@ package org.eqcoin.rpc.service.avro;
 
 import org.eqcoin.avro.O;
 import org.eqcoin.persistence.globalstate.h2.GlobalStateH2;
+import org.eqcoin.rpc.gateway.Codec;
 import org.eqcoin.rpc.object.SP;
 import org.eqcoin.rpc.object.SPList;
 import org.eqcoin.serialization.EQCCastle;
@@ -46,6 +47,7 @@ public class EQCRPCServiceImpl {
 		try {
 			PossibleSPState possibleSPState = new PossibleSPState();
 			possibleSPState.setSp(new SP(sp));
+			Codec.negotiate(possibleSPState.getSp(), sp);
 			possibleSPState.setTime(System.currentTimeMillis());
 			Log.info("Begin offer possible SP: " + possibleSPState.getSp());
 			PossibleSPService.getInstance().offerState(possibleSPState);
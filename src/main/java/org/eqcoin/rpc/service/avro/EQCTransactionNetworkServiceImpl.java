@@ -34,12 +34,14 @@ import org.eqcoin.rpc.object.LockInfo;
 import org.eqcoin.rpc.object.LockStatus;
 import org.eqcoin.rpc.object.TransactionIndexList;
 import org.eqcoin.rpc.object.TransactionList;
+import org.eqcoin.rpc.object.TransactionSketch;
 import org.eqcoin.rpc.object.LockStatus.LOCKSTATUS;
 import org.eqcoin.serialization.EQCCastle;
 import org.eqcoin.service.PendingTransactionService;
 import org.eqcoin.service.state.PendingTransactionState;
 import org.eqcoin.passport.passport.Passport;
 import org.eqcoin.transaction.Transaction;
+import org.eqcoin.util.ID;
 import org.eqcoin.util.Log;
 import org.eqcoin.util.Util;
 import org.eqcoin.wallet.WalletStatus.Status;
@@ -173,4 +175,29 @@ public class EQCTransactionNetworkServiceImpl extends EQCRPCServiceImpl implemen
 		return io;
 	}
 
+	/* (non-Javadoc)
+	 * @see org.eqcoin.avro.EQCTransactionNetwork#getTransactionIndexListBySketch(org.eqcoin.avro.O)
+	 */
+	@Override
+	public O getTransactionIndexListBySketch(O transactionSketch) {
+		TransactionSketch remoteSketch = null;
+		TransactionIndexList transactionIndexList = null;
+		long currentTime = System.currentTimeMillis();
+		// The O response can't be null so any error is thrown to the requester
+		try {
+			remoteSketch = new TransactionSketch(transactionSketch);
+			if(!remoteSketch.isSanity()) {
+				throw new IllegalStateException("Received TransactionSketch isn't sanity");
+			}
+			transactionIndexList = remoteSketch.reconcile(Util.MC().getTransactionIndexListInPool(0, currentTime), new ID(currentTime));
+			if(transactionIndexList.isDifferenceTooLarge()) {
+				Log.info("The TransactionSketch's difference is too large to decode with cell number: " + remoteSketch.getCellNumber());
+			}
+			return transactionIndexList.getProtocol(O.class);
+		} catch (Exception e) {
+			Log.Error(e.getMessage());
+			throw new IllegalStateException(e);
+		}
+	}
+
 }
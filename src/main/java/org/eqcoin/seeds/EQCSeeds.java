@@ -25,15 +25,27 @@
 package org.eqcoin.seeds;
 
 import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.nio.ByteBuffer;
 import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
 import java.util.Vector;
 
 import org.eqcoin.hive.EQCHive;
 import org.eqcoin.hive.EQCHiveRoot;
 import org.eqcoin.lock.LockTool;
+import org.eqcoin.lock.witness.WitnessVerifier;
 import org.eqcoin.serialization.EQCCastle;
 import org.eqcoin.serialization.EQCObject;
+import org.eqcoin.serialization.EQCReader;
+import org.eqcoin.serialization.EQCWriter;
 import org.eqcoin.transaction.Transaction;
 import org.eqcoin.transaction.TransferCoinbaseTransaction;
 import org.eqcoin.transaction.ZeroZionCoinbaseTransaction;
@@ -54,6 +66,17 @@ public class EQCSeeds extends EQCObject {
 	// This is the new Transaction list's total size which should less than MAX_EQCHIVE_SIZE.
 	private int newTransactionListLength;
 	private EQCHive eqcHive;
+	/**
+	 * When parsed from EQCReader the body is kept as unparsed bytes with an index
+	 * of each Transaction's offset and length. The newTransactionList is filled
+	 * with null placeholder and each Transaction will be decoded only when it's
+	 * accessed. So the caller which only need the EQCHiveRoot doesn't need pay
+	 * for decode the Transactions. The unparsed body is a read only view of the
+	 * EQCHive's bytes so it doesn't need copy the whole body.
+	 */
+	private ByteBuffer lazyBody;
+	private int[] transactionOffsets;
+	private int[] transactionLengths;
 	
 	public EQCSeeds() {
 		super();
@@ -70,6 +93,7 @@ public class EQCSeeds extends EQCObject {
 	protected String _getNewTransactionList() {
 		String tx = null;
 		if (newTransactionList != null && newTransactionList.size() > 0) {
+			getNewTransactionList();
 			tx = "\n[\n";
 			if (newTransactionList.size() > 1) {
 				for (int i = 0; i < newTransactionList.size() - 1; ++i) {
@@ -90,18 +114,161 @@ public class EQCSeeds extends EQCObject {
 	}
 	
 	public void addTransaction(final Transaction transaction) throws ClassNotFoundException, SQLException, Exception {
+			getNewTransactionList();
 			// Add Transaction
-			newTransactionList.add(transaction);
+			newTransactionList.add(transaction.setOwner(this));
 			// Here need change to get seed bytes
-			newTransactionListLength += transaction.getBytes().length;
+			newTransactionListLength += transaction.getLength();
+			invalidate();
 	}
 	
 	/**
+	 * Since Util.SEEDS_BIN_PROTOCOL_VERSION the body is the new Transaction list's
+	 * size followed by each Transaction's BIN so each Transaction can be located
+	 * without parse the previous one. Before it the body is empty.
+	 * 
+	 * @see org.eqcoin.serialization.EQCObject#getBodyBytes(java.io.ByteArrayOutputStream)
+	 */
+	@Override
+	public ByteArrayOutputStream getBodyBytes(final ByteArrayOutputStream os) throws Exception {
+		if (lazyBody != null) {
+			os.write(getLazyBytes(0, lazyBody.limit()));
+			return os;
+		}
+		if (!hasBody()) {
+			return os;
+		}
+		os.write(EQCCastle.intToEQCBits(newTransactionList.size()));
+		for (final Transaction transaction : newTransactionList) {
+			os.write(transaction.getBin());
+		}
+		return os;
+	}
+
+	/* (non-Javadoc)
+	 * @see org.eqcoin.serialization.EQCObject#getBodyBytes(org.eqcoin.serialization.EQCWriter)
+	 */
+	@Override
+	public EQCWriter getBodyBytes(final EQCWriter writer) throws Exception {
+		if (lazyBody != null) {
+			// The body hasn't been changed just write it directly
+			return writer.write(lazyBody);
+		}
+		if (!hasBody()) {
+			return writer;
+		}
+		writer.writeEQCBits(newTransactionList.size());
+		for (final Transaction transaction : newTransactionList) {
+			// The Transaction's bytes is cached after parsed or planted
+			writer.writeBIN(transaction.getBytes());
+		}
+		return writer;
+	}
+
+	/* (non-Javadoc)
+	 * @see org.eqcoin.serialization.EQCObject#getBytes(org.eqcoin.serialization.EQCWriter)
+	 */
+	@Override
+	public EQCWriter getBytes(final EQCWriter writer) throws Exception {
+		return getBodyBytes(writer);
+	}
+
+	/**
+	 * The EQCSeeds which doesn't belong to any EQCHive uses the current protocol
+	 * version.
+	 * 
+	 * @return true if the EQCHive's protocol version has the EQCSeeds' body
+	 * @throws IllegalStateException if the protocol version doesn't have body but
+	 *                               there are new Transactions
+	 */
+	private boolean hasBody() {
+		final ID protocolVersion = (eqcHive == null) ? Util.PROTOCOL_VERSION
+				: eqcHive.getRoot().getProtocolVersion();
+		if (protocolVersion.compareTo(Util.SEEDS_BIN_PROTOCOL_VERSION) >= 0) {
+			return true;
+		}
+		if (!newTransactionList.isEmpty()) {
+			throw new IllegalStateException(
+					"The EQCSeeds of protocol version " + protocolVersion + " can't carry Transactions");
+		}
+		return false;
+	}
+
+	/**
+	 * If the EQCSeeds is lazy parsed all the Transactions which haven't been
+	 * decoded will be decoded and the unparsed body will be dropped due to the
+	 * caller may change the newTransactionList.
+	 * 
 	 * @return the newTransactionList
 	 */
 	public Vector<Transaction> getNewTransactionList() {
+		if (lazyBody != null) {
+			try {
+				for (int i = 0; i < newTransactionList.size(); ++i) {
+					getTransaction(i);
+				}
+			} catch (final Exception e) {
+				Log.Error(e.getMessage());
+				throw new IllegalStateException("Decode the lazy parsed Transaction error occur: " + e.getMessage(), e);
+			}
+			lazyBody = null;
+			transactionOffsets = null;
+			transactionLengths = null;
+		}
 		return newTransactionList;
 	}
+
+	/**
+	 * @return the number of the new Transactions without decode them
+	 */
+	public int getNewTransactionListSize() {
+		return newTransactionList.size();
+	}
+
+	/**
+	 * Get the Transaction with the index, if the EQCSeeds is lazy parsed only the
+	 * Transaction with the index will be decoded.
+	 * 
+	 * @param index
+	 * @return
+	 * @throws Exception
+	 */
+	public Transaction getTransaction(final int index) throws Exception {
+		Transaction transaction = newTransactionList.get(index);
+		if (transaction == null) {
+			// The Transaction keeps it's bytes after parsed so here need copy it
+			transaction = new Transaction().Parse(getLazyBytes(transactionOffsets[index], transactionLengths[index]))
+					.setOwner(this);
+			newTransactionList.set(index, transaction);
+		}
+		return transaction;
+	}
+
+	public boolean isLazy() {
+		return lazyBody != null;
+	}
+
+	/**
+	 * The decoded Transaction may be changed via it's setters so the unparsed body
+	 * can't be written any more, decode the rest Transactions and drop it.
+	 * 
+	 * @see org.eqcoin.serialization.EQCObject#invalidate()
+	 */
+	@Override
+	protected void invalidate() {
+		if (lazyBody != null) {
+			getNewTransactionList();
+		}
+		super.invalidate();
+	}
+
+	private byte[] getLazyBytes(final int offset, final int len) {
+		final byte[] bytes = new byte[len];
+		final ByteBuffer duplicate = lazyBody.duplicate();
+		duplicate.position(offset);
+		duplicate.get(bytes);
+		return bytes;
+	}
 	
 	public byte[] getProof() throws Exception {
 		if(newTransactionList.isEmpty()) {
@@ -109,13 +276,71 @@ public class EQCSeeds extends EQCObject {
 		}
 		else {
 			final Vector<byte[]> transactions = new Vector<>();
-			for (final Transaction transaction : newTransactionList) {
-				transactions.add(transaction.getBytes());
+			for (int i = 0; i < newTransactionList.size(); ++i) {
+				if (newTransactionList.get(i) == null) {
+					// The Transaction's RPC bytes is the same as it's BIN's content
+					transactions.add(getLazyBytes(transactionOffsets[i], transactionLengths[i]));
+				} else {
+					transactions.add(newTransactionList.get(i).getBytes());
+				}
 			}
-			return Util.getMerkleTreeRoot(transactions, true);
+			// The EQcoinSeeds' proof is a consensus value and the previous MerkleTree
+			// never hashed the leaves even with isHashing so keep the legacy root
+			return Util.getMerkleTreeRoot(transactions, false);
 		}
 	}
 	
+	/* (non-Javadoc)
+	 * @see org.eqcoin.serialization.EQCObject#parseBody(java.io.ByteArrayInputStream)
+	 */
+	@Override
+	public void parseBody(final ByteArrayInputStream is) throws Exception {
+		if (!hasBody()) {
+			return;
+		}
+		final long size = EQCCastle.eqcBitsToLong(EQCCastle.parseEQCBits(is));
+		for (long i = 0; i < size; ++i) {
+			newTransactionList.add(new Transaction().Parse(EQCCastle.parseBIN(is)));
+		}
+	}
+
+	/* (non-Javadoc)
+	 * @see org.eqcoin.serialization.EQCObject#parseBody(org.eqcoin.serialization.EQCReader)
+	 */
+	/**
+	 * Only build the index of each Transaction's BIN and keep the body as unparsed
+	 * bytes, each Transaction will be decoded when it's accessed.
+	 * 
+	 * @see org.eqcoin.serialization.EQCObject#parseBody(org.eqcoin.serialization.EQCReader)
+	 */
+	@Override
+	public void parseBody(final EQCReader reader) throws Exception {
+		if (!hasBody()) {
+			return;
+		}
+		final int begin = reader.position();
+		final long size = reader.readEQCBits();
+		if (size > reader.remaining()) {
+			throw new IllegalStateException("The Transaction list's size " + size + " is invalid");
+		}
+		transactionOffsets = new int[(int) size];
+		transactionLengths = new int[(int) size];
+		for (int i = 0; i < size; ++i) {
+			transactionLengths[i] = reader.skipBIN();
+			transactionOffsets[i] = reader.position() - begin - transactionLengths[i];
+			newTransactionList.add(null);
+		}
+		lazyBody = reader.sliceOfRange(begin, reader.position());
+	}
+
+	/* (non-Javadoc)
+	 * @see org.eqcoin.serialization.EQCObject#parse(org.eqcoin.serialization.EQCReader)
+	 */
+	@Override
+	public void parse(final EQCReader reader) throws Exception {
+		parseBody(reader);
+	}
+
 	/* (non-Javadoc)
 	 * @see com.eqchains.blockchain.subchain.EQCSubchain#init()
 	 */
@@ -140,8 +365,17 @@ public class EQCSeeds extends EQCObject {
 //			}
 
 			Transaction transaction = null;
+			// Pre verify all the witnesses except the coinbase transaction's in parallel
+			// then the planting only need choose the verified publickey
+			for (int i = 0; i < newTransactionList.size(); ++i) {
+				getTransaction(i).init(eqcHive);
+			}
+			if (!WitnessVerifier.getInstance().preVerify(newTransactionList, 1)) {
+				Log.Error("EQcoinSeed's witnesses pre verify failed");
+				return false;
+			}
 			for (int i = 0; i < newTransactionList.size(); ++i) {
-				transaction = newTransactionList.get(i);
+				transaction = getTransaction(i);
 				if(i == 0) {
 					if(eqcHive.getRoot().getHeight().equals(ID.ZERO)) {
 						if(!(transaction instanceof ZeroZionCoinbaseTransaction)) {
@@ -166,14 +400,14 @@ public class EQCSeeds extends EQCObject {
 				// Check the priority
 				if(i < (newTransactionList.size() -1)) {
 					// Here need do more job to determine which methods is better
-					if(transaction.compareTo(newTransactionList.get(i+1)) <= 0) {
+					if(transaction.compareTo(getTransaction(i+1)) <= 0) {
 						Log.Error("The Transaction's priority is wrong.");
 						return false;
 					}
 				}
 				
 				if (transaction.planting()) {
-					newTransactionListLength += transaction.getBytes().length;
+					newTransactionListLength += transaction.getLength();
 				} else {
 					Log.info("Transaction is invalid: " + transaction);
 					return false;
@@ -251,42 +485,168 @@ public class EQCSeeds extends EQCObject {
 			}
 		}
 		
-		// Handle every pending Transaction
-		for (final Transaction transaction : transactionList) {
-			// Add Transaction into EQcoinSeed
-			if ((newTransactionListLength
-					+ transaction.getBytes().length) <= Util.MAX_EQCHIVE_SIZE) { // Here need change to retrieve from EQCoinPassport
+		// Handle every selected pending Transaction
+		final long[] passportIds = new long[transactionList.size()];
+		final Set<Long> stoppedPassportIdSet = new HashSet<>();
+		for (final int index : selectTransactions(transactionList, passportIds)) {
+			final Transaction transaction = transactionList.get(index);
+			// When the Passport's previous nonce isn't planted its next nonce can't be planted
+			if (stoppedPassportIdSet.contains(passportIds[index])) {
+				Log.info("The previous nonce isn't planted just skip transaction with nonce: " + transaction.getNonce());
+				continue;
+			}
+			try {
+				// Add Transaction into EQcoinSeed
+				if ((newTransactionListLength
+						+ transaction.getLength()) > Util.MAX_EQCHIVE_SIZE) { // Here need change to retrieve from EQCoinPassport
+					stoppedPassportIdSet.add(passportIds[index]);
+					Log.info("Exceed EQcoinSubchain's MAX_BLOCK_SIZE just skip transaction with nonce: " + transaction.getNonce());
+					continue;
+				}
 				Log.info("Add new Transaction with nonce: " + transaction.getNonce());
 				
-				try {
-					// Init Transaction
-					transaction.init(eqcHive);
-					
-					// Check if Transaction is sanity and valid then planting
-					if (!transaction.planting()) {
-						Util.MC().deleteTransactionInPool(transaction);
-						Log.Error("Transaction is invalid planting failed: " + transaction);
-						continue;
-					}
-					
-				}
-				catch (final Exception e) {
+				// Init Transaction
+				transaction.init(eqcHive);
+				
+				// Check if Transaction is sanity and valid then planting
+				if (!transaction.planting()) {
+					stoppedPassportIdSet.add(passportIds[index]);
 					Util.MC().deleteTransactionInPool(transaction);
-					Log.Error("During add new transacton exception occur:" + e + " just discard it: "
-							+ transaction.toString());
+					Log.Error("Transaction is invalid planting failed: " + transaction);
 					continue;
 				}
 				
-				addTransaction(transaction);
-	
-			} else {
-				Log.info("Exceed EQcoinSubchain's MAX_BLOCK_SIZE just stop accounting transaction");
-				break;
 			}
+			catch (final Exception e) {
+				stoppedPassportIdSet.add(passportIds[index]);
+				Util.MC().deleteTransactionInPool(transaction);
+				Log.Error("During add new transacton exception occur:" + e + " just discard it: "
+						+ transaction.toString());
+				continue;
+			}
+			
+			addTransaction(transaction);
 		}
 		Log.info("EQCoinSeeds planting successful");
 	}
 	
+	/**
+	 * Select the pending Transactions according to their fee density (TxFee per
+	 * byte) until the EQCHive is full.
+	 * 
+	 * @param transactionList the pending Transactions from transaction pool
+	 * @param passportIds     output each Transaction's Passport id, the
+	 *                        Transaction whose Passport can't be found or
+	 *                        which is malformed has an unique negative id
+	 * @return the indexes of the selected Transactions in planting order
+	 * @throws Exception
+	 */
+	private int[] selectTransactions(final Vector<Transaction> transactionList, final long[] passportIds)
+			throws Exception {
+		final int size = transactionList.size();
+		final long[] nonces = new long[size];
+		final int[] lengths = new int[size];
+		final double[] feeDensities = new double[size];
+		for (int i = 0; i < size; ++i) {
+			final Transaction transaction = transactionList.get(i);
+			// The invalid Transaction is selected alone and will be discarded during planting
+			try {
+				transaction.init(eqcHive);
+				passportIds[i] = transaction.getWitness().isMeetPreCondition()
+						? transaction.getWitness().getPassport().getId().longValue()
+						: -1 - i;
+				nonces[i] = transaction.getNonce().longValue();
+				lengths[i] = transaction.getLength();
+				feeDensities[i] = transaction.getTxFee().doubleValue() / lengths[i];
+			} catch (final Exception e) {
+				Log.Error("Transaction is malformed: " + e + " it will be discarded during planting");
+				passportIds[i] = -1 - i;
+				nonces[i] = 0;
+				lengths[i] = 0;
+				feeDensities[i] = 0;
+			}
+		}
+		return selectTransactions(passportIds, nonces, lengths, feeDensities, Util.MAX_EQCHIVE_SIZE - newTransactionListLength);
+	}
+	
+	/**
+	 * Greedy select the Transactions according to their fee density until the
+	 * capacity is full. The Passport's nonce must be continuous so each
+	 * Passport's Transactions form one nonce chain which is cut at the first gap
+	 * and only the chain's head can be selected. When the chain's head can't fit
+	 * into the rest space the whole chain is stopped, the rest Transactions
+	 * still can be selected.
+	 * 
+	 * The selected Transactions keep the order of the given Transactions except
+	 * the same Passport's Transactions are ordered by their nonce.
+	 * 
+	 * @return the indexes of the selected Transactions in planting order
+	 */
+	static int[] selectTransactions(final long[] passportIds, final long[] nonces, final int[] lengths,
+			final double[] feeDensities, final int capacity) {
+		final int size = passportIds.length;
+		// Group the Transactions by Passport then sort each chain by nonce and cut it at the first gap
+		final Map<Long, List<Integer>> chainMap = new LinkedHashMap<>();
+		for (int i = 0; i < size; ++i) {
+			chainMap.computeIfAbsent(passportIds[i], k -> new ArrayList<>()).add(i);
+		}
+		final List<List<Integer>> chainList = new ArrayList<>();
+		for (final List<Integer> chain : chainMap.values()) {
+			chain.sort((o1, o2) -> Long.compare(nonces[o1], nonces[o2]));
+			int end = 1;
+			while (end < chain.size() && nonces[chain.get(end)] == nonces[chain.get(end - 1)] + 1) {
+				++end;
+			}
+			chainList.add(chain.subList(0, end));
+		}
+		
+		// Each entry is the chain's index and its head's position, the higher fee density first
+		final PriorityQueue<int[]> headQueue = new PriorityQueue<>((o1, o2) -> {
+			final int index1 = chainList.get(o1[0]).get(o1[1]), index2 = chainList.get(o2[0]).get(o2[1]);
+			final int result = Double.compare(feeDensities[index2], feeDensities[index1]);
+			return (result != 0) ? result : Integer.compare(index1, index2);
+		});
+		for (int i = 0; i < chainList.size(); ++i) {
+			headQueue.add(new int[] { i, 0 });
+		}
+		final int[] selectedNumbers = new int[chainList.size()];
+		final boolean[] isSelected = new boolean[size];
+		int length = 0;
+		while (!headQueue.isEmpty()) {
+			final int[] head = headQueue.poll();
+			final List<Integer> chain = chainList.get(head[0]);
+			final int index = chain.get(head[1]);
+			if (length + lengths[index] <= capacity) {
+				length += lengths[index];
+				isSelected[index] = true;
+				++selectedNumbers[head[0]];
+				if (head[1] + 1 < chain.size()) {
+					headQueue.add(new int[] { head[0], head[1] + 1 });
+				}
+			}
+		}
+		
+		// Fill the selected positions and each Passport's positions are filled by its chain in nonce order
+		final Map<Long, Integer> chainIndexMap = new LinkedHashMap<>();
+		for (int i = 0; i < chainList.size(); ++i) {
+			chainIndexMap.put(passportIds[chainList.get(i).get(0)], i);
+		}
+		final int[] cursors = new int[chainList.size()];
+		int number = 0;
+		for (final int selectedNumber : selectedNumbers) {
+			number += selectedNumber;
+		}
+		final int[] selectedIndexes = new int[number];
+		number = 0;
+		for (int i = 0; i < size; ++i) {
+			if (isSelected[i]) {
+				final int chainIndex = chainIndexMap.get(passportIds[i]);
+				selectedIndexes[number++] = chainList.get(chainIndex).get(cursors[chainIndex]++);
+			}
+		}
+		return selectedIndexes;
+	}
+	
 	public boolean saveTransactions() throws Exception {
 		return true;
 	}
@@ -85,9 +85,11 @@ import org.eqcoin.util.Value;
  * EQCLight can store positive integers divisible by 1000, so that the lowest 3
  * bits of its lowest byte can be used as status bits. The lowest 3 bits of the
  * lowest byte of the current byte sequence are the status bits used to indicate
- * how many bytes it contains. The endian is big endian. EQcoin uses EQCLight
- * to store the transfer value in TransferTxOut. For the most efficient use of
- * bytes, the transfer value in TransferTxOut must divisible by 1000.
+ * how many bytes it contains. The lowest byte is put at the head so the length
+ * can be known after read the first byte, the rest bytes follow it in big
+ * endian. EQcoin uses EQCLight to store the transfer value in TransferTxOut. For
+ * the most efficient use of bytes, the transfer value in TransferTxOut must
+ * divisible by 1000.
  * <p>
  * | XXXXXSSS | XXXXXXXX | XXXXXXXX | XXXXXXXX | XXXXXXXX | ... | XXXXXXXX |
  * <p>
@@ -123,7 +125,9 @@ import org.eqcoin.util.Value;
  * bytes. EQCQuantum can store positive integers divisible by 4, so that the
  * lowest 2 bits of its lowest byte can be used as status bits. The lowest 2 bits
  * of the lowest byte of the current byte sequence are the status bits used to
- * indicate how many bytes it contains. The endian is big endian.
+ * indicate how many bytes it contains. The lowest byte is put at the head so
+ * the length can be known after read the first byte, the rest bytes follow it
+ * in big endian.
  * <p>
  * | XXXXXXSS | ... | XXXXXXXX |
  * <p>
@@ -315,9 +319,11 @@ public class EQCCastle {
 	 * EQCLight can store positive integers divisible by 1000, so that the lowest 3
 	 * bits of its lowest byte can be used as status bits. The lowest 3 bits of the
 	 * lowest byte of the current byte sequence are the status bits used to indicate
-	 * how many bytes it contains. The endian is big endian. EQcoin uses EQCLight
-	 * to store the transfer value in TransferTxOut. For the most efficient use of
-	 * bytes, the transfer value in TransferTxOut must divisible by 1000.
+	 * how many bytes it contains. The lowest byte is put at the head so the length
+	 * can be known after read the first byte, the rest bytes follow it in big
+	 * endian. EQcoin uses EQCLight to store the transfer value in TransferTxOut. For
+	 * the most efficient use of bytes, the transfer value in TransferTxOut must
+	 * divisible by 1000.
 	 * <p>
 	 * | XXXXXSSS | XXXXXXXX | XXXXXXXX | XXXXXXXX | XXXXXXXX | ... | XXXXXXXX |
 	 * <p>
@@ -337,7 +343,9 @@ public class EQCCastle {
 	 * bytes. EQCQuantum can store positive integers divisible by 4, so that the
 	 * lowest 2 bits of its lowest byte can be used as status bits. The lowest 2 bits
 	 * of the lowest byte of the current byte sequence are the status bits used to
-	 * indicate how many bytes it contains. The endian is big endian.
+	 * indicate how many bytes it contains. The lowest byte is put at the head so
+	 * the length can be known after read the first byte, the rest bytes follow it
+	 * in big endian.
 	 * <p>
 	 * | XXXXXXSS | ... | XXXXXXXX |
 	 * <p>
@@ -511,6 +519,11 @@ public class EQCCastle {
 	 */
 	public static byte[] bigIntegerToEQCBits(BigInteger value) {
 		EQCCastle.assertNotNegative(value);
+		// Most of the values such as ID and Value fit in 63 bits so here use the long
+		// version to avoid the BigInteger's arithmetic
+		if (value.bitLength() < Long.SIZE) {
+			return longToEQCBits(value.longValue());
+		}
 		final ByteArrayOutputStream os = new ByteArrayOutputStream();
 		BigInteger remainder = null;
 		byte[] bytes = null;
@@ -598,6 +611,10 @@ public class EQCCastle {
 	}
 
 	public static BigInteger eqcBitsToBigInteger(final byte[] bytes) {
+		// The EQCBits which length less than or equal to 9 bytes fit in 63 bits
+		if (bytes.length <= EQCBITS_BUFFER_LEN) {
+			return BigInteger.valueOf(eqcBitsToLong(bytes, 0, bytes.length));
+		}
 		BigInteger foo = BigInteger.ZERO;
 		for(int i=0; i<bytes.length-1; ++i) {
 			foo = foo.add(BigInteger.valueOf(bytes[i]).multiply(BASE128.pow(i)));
@@ -619,13 +636,65 @@ public class EQCCastle {
 	}
 
 	public final static int eqcBitsToInt(final byte[] bytes) {
-		return eqcBitsToBigInteger(bytes).intValue();
+		return (int) eqcBitsToLong(bytes);
 	}
 
 	public final static long eqcBitsToLong(final byte[] bytes) {
+		if (bytes.length <= EQCBITS_BUFFER_LEN) {
+			return eqcBitsToLong(bytes, 0, bytes.length);
+		}
 		return eqcBitsToBigInteger(bytes).longValue();
 	}
 
+	/**
+	 * Allocation free version of {@link #eqcBitsToBigInteger(byte[])} which decode
+	 * the EQCBits stored in bytes from offset to offset + length. The length
+	 * shouldn't exceed {@link #EQCBITS_BUFFER_LEN} so the result fit in 63 bits.
+	 *
+	 * @param bytes  the byte array which contains the EQCBits
+	 * @param offset the EQCBits' begin position in bytes
+	 * @param length the EQCBits' length
+	 * @return long the original number of the EQCBits
+	 */
+	public final static long eqcBitsToLong(final byte[] bytes, final int offset, final int length) {
+		if (length < 1 || length > EQCBITS_BUFFER_LEN) {
+			throw new IllegalStateException("The EQCBits' length should between 1 and " + EQCBITS_BUFFER_LEN
+					+ " bytes but actual is " + length);
+		}
+		long value = 0;
+		final int last = offset + length - 1;
+		int shift = 0;
+		for (int i = offset; i < last; ++i) {
+			value += ((long) bytes[i]) << shift;
+			shift += 7;
+		}
+		value += ((long) (bytes[last] & EQCBITS_MASK)) << shift;
+		return value;
+	}
+
+	/**
+	 * Allocation free EQCBits decoder which read the EQCBits from buff's current
+	 * position and advance the position to the end of the EQCBits.
+	 *
+	 * @param buff the ByteBuffer which contains the EQCBits
+	 * @return long the original number of the EQCBits
+	 */
+	public final static long eqcBitsToLong(final ByteBuffer buff) {
+		long value = 0;
+		int shift = 0;
+		int type;
+		for (int i = 0; i < EQCBITS_BUFFER_LEN; ++i) {
+			type = buff.get() & 0xFF;
+			if (type >= EQCBITS) {
+				return value + (((long) (type & EQCBITS_MASK)) << shift);
+			}
+			value += ((long) type) << shift;
+			shift += 7;
+		}
+		throw new IllegalStateException(
+				"The EQCBits' length is exceed the max length " + EQCBITS_BUFFER_LEN + " bytes");
+	}
+
 	public final static <T extends EQCObject> byte[] eqcSerializableListToArray(final Vector<T> eqcSerializableList)
 			throws Exception {
 		final ByteArrayOutputStream os = new ByteArrayOutputStream();
@@ -757,7 +826,7 @@ public class EQCCastle {
 	}
 
 	public final static byte[] intToEQCBits(final int value) {
-		return bigIntegerToEQCBits(BigInteger.valueOf(value));
+		return longToEQCBits(value);
 	}
 
 	public final static boolean isArray(final int type) {
@@ -856,7 +925,57 @@ public class EQCCastle {
 	}
 
 	public final static byte[] longToEQCBits(final long value) {
-		return bigIntegerToEQCBits(BigInteger.valueOf(value));
+		final byte[] bytes = new byte[getEQCBitsLength(value)];
+		longToEQCBits(value, bytes, 0);
+		return bytes;
+	}
+
+	/**
+	 * Allocation free version of {@link #bigIntegerToEQCBits(BigInteger)} which
+	 * write the EQCBits of value into dst begin at the offset.
+	 *
+	 * @param value  the original value of relevant number
+	 * @param dst    the byte array which the EQCBits will be written into
+	 * @param offset the position in dst where the EQCBits begin
+	 * @return int the length of the EQCBits
+	 */
+	public final static int longToEQCBits(long value, final byte[] dst, final int offset) {
+		assertNotNegative(value);
+		int i = offset;
+		while (value >= EQCBITS) {
+			dst[i++] = (byte) (value & EQCBITS_MASK);
+			value >>>= 7;
+		}
+		dst[i++] = (byte) (value | EQCBITS);
+		return i - offset;
+	}
+
+	/**
+	 * Allocation free version of {@link #bigIntegerToEQCBits(BigInteger)} which
+	 * write the EQCBits of value into buff begin at its current position.
+	 *
+	 * @param value the original value of relevant number
+	 * @param buff  the ByteBuffer which the EQCBits will be written into
+	 * @return int the length of the EQCBits
+	 */
+	public final static int longToEQCBits(long value, final ByteBuffer buff) {
+		assertNotNegative(value);
+		final int position = buff.position();
+		while (value >= EQCBITS) {
+			buff.put((byte) (value & EQCBITS_MASK));
+			value >>>= 7;
+		}
+		buff.put((byte) (value | EQCBITS));
+		return buff.position() - position;
+	}
+
+	/**
+	 * @param value the original value of relevant number
+	 * @return int the length of the value's EQCBits
+	 */
+	public final static int getEQCBitsLength(final long value) {
+		assertNotNegative(value);
+		return value == 0 ? 1 : (Long.SIZE - Long.numberOfLeadingZeros(value) + 6) / 7;
 	}
 
 	public final static <T extends EQCObject> Vector<T> parseArray(final ByteArrayInputStream is, final T eqcSerializable) throws Exception {
@@ -1019,7 +1138,7 @@ public class EQCCastle {
 	}
 
 	public final static ID parseID(final ByteArrayInputStream is) throws NoSuchFieldException, IllegalStateException, IOException {
-		return new ID(parseEQCBits(is));
+		return ID.valueOf(parseEQCBits(is));
 	}
 
 	public final static <T> ID parseID(final T type) throws Exception {
@@ -1093,9 +1212,11 @@ public class EQCCastle {
 	 * EQCLight can store positive integers divisible by 1000, so that the lowest 3
 	 * bits of its lowest byte can be used as status bits. The lowest 3 bits of the
 	 * lowest byte of the current byte sequence are the status bits used to indicate
-	 * how many bytes it contains. The endian is big endian. EQcoin uses EQCLight
-	 * to store the transfer value in TransferTxOut. For the most efficient use of
-	 * bytes, the transfer value in TransferTxOut must divisible by 1000.
+	 * how many bytes it contains. The lowest byte is put at the head so the length
+	 * can be known after read the first byte, the rest bytes follow it in big
+	 * endian. EQcoin uses EQCLight to store the transfer value in TransferTxOut. For
+	 * the most efficient use of bytes, the transfer value in TransferTxOut must
+	 * divisible by 1000.
 	 * <p>
 	 * | XXXXXSSS | XXXXXXXX | XXXXXXXX | XXXXXXXX | XXXXXXXX | ... | XXXXXXXX |
 	 * <p>
@@ -1103,26 +1224,75 @@ public class EQCCastle {
 	 * @param value the original value of relevant number
 	 * @return byte[] the original number's EQCBits
 	 */
-	public static byte[] bigIntegerToEQCLight(BigInteger value) {
+	public static byte[] bigIntegerToEQCLight(final BigInteger value) {
 		EQCCastle.assertNotNegative(value);
-		final ByteArrayOutputStream os = new ByteArrayOutputStream();
-		BigInteger remainder = null;
-		byte[] bytes = null;
-		EQCCastle.assertNotLess(bytes.length, EQCLIGHT_MIN_LEN);
-		EQCCastle.assertNotBigger(bytes.length, EQCLIGHT_MAX_LEN);
+		if (value.bitLength() < Long.SIZE) {
+			return longToEQCLight(value.longValue());
+		}
 		if(!value.mod(EQCLIGHT_MIN_VALUE).equals(BigInteger.ZERO)){
 			throw new IllegalStateException("For the most efficient use of bytes, the remainder of the transfer value in TransferTxOut divided by 1000 must be equal to 0.");
 		}
-		bytes = value.toByteArray();
-		bytes[bytes.length - 1]&=(bytes.length - EQCLIGHT_MIN_LEN);
-		return bytes;
+		final byte[] magnitude = toMagnitude(value, EQCLIGHT_MIN_LEN, EQCLIGHT_MAX_LEN);
+		return rotateLowestByte(magnitude, EQCLIGHT_MIN_LEN);
+	}
+
+	/**
+	 * The long version of {@link #bigIntegerToEQCLight(BigInteger)} which doesn't
+	 * need any BigInteger.
+	 *
+	 * @param value the original value of relevant number
+	 * @return byte[] the original number's EQCLight
+	 */
+	public static byte[] longToEQCLight(final long value) {
+		assertNotNegative(value);
+		if (value % EQCLIGHT_MIN_VALUE.longValue() != 0) {
+			throw new IllegalStateException("For the most efficient use of bytes, the remainder of the transfer value in TransferTxOut divided by 1000 must be equal to 0.");
+		}
+		return longToRotatedBytes(value, Math.max(getBytesLength(value), EQCLIGHT_MIN_LEN), EQCLIGHT_MIN_LEN);
 	}
 
+	/**
+	 * Decode the EQCLight without change the input bytes.
+	 *
+	 * @param bytes EQCLight
+	 * @return the original number
+	 */
 	public static BigInteger eqcLightToBigInteger(final byte[] bytes) {
-		BigInteger foo = null;
-		bytes[bytes.length - 1] &= EQCLIGHT_MASK;
-		foo = new BigInteger(bytes);
-		return foo;
+		final int len = getEQCLightLength(bytes[0]);
+		assertEqual(len, bytes.length);
+		if (isEQCLightLong(bytes, len)) {
+			return BigInteger.valueOf(rotatedBytesToLong(bytes, len, EQCLIGHT_MASK));
+		}
+		return new BigInteger(1, rotatedBytesToMagnitude(bytes, EQCLIGHT_MASK));
+	}
+
+	/**
+	 * The long version of {@link #eqcLightToBigInteger(byte[])} which doesn't need
+	 * any BigInteger.
+	 *
+	 * @param bytes EQCLight
+	 * @return the original number
+	 */
+	public static long eqcLightToLong(final byte[] bytes) {
+		final int len = getEQCLightLength(bytes[0]);
+		assertEqual(len, bytes.length);
+		if (!isEQCLightLong(bytes, len)) {
+			throw new IllegalStateException("The EQCLight's value exceed the range of long");
+		}
+		return rotatedBytesToLong(bytes, len, EQCLIGHT_MASK);
+	}
+
+	private static int getEQCLightLength(final byte head) {
+		return (head & ~EQCLIGHT_MASK & 0xFF) + EQCLIGHT_MIN_LEN;
+	}
+
+	/**
+	 * @return true if the EQCLight's value fits in 63 bits that is it's length
+	 *         less than 8 bytes or the highest byte of the 8 bytes is less than
+	 *         0x80
+	 */
+	private static boolean isEQCLightLong(final byte[] bytes, final int len) {
+		return len < Long.BYTES || (len == Long.BYTES && bytes[1] >= 0);
 	}
 
 	public final static byte[] parseEQCLight(final ByteArrayInputStream is) throws Exception {
@@ -1134,8 +1304,7 @@ public class EQCCastle {
 		type = is.read();
 		if (type != EOF) {
 			is.reset();
-			int n = (type & ~EQCLIGHT_MASK) + EQCLIGHT_MIN_LEN;
-			bytes = parseNBytes(is, n);
+			bytes = parseNBytes(is, getEQCLightLength((byte) type));
 		} else {
 			throw EOF_EXCEPTION;
 		}
@@ -1157,28 +1326,39 @@ public class EQCCastle {
 	 * @param statusSize the status' size which value in current phase including 2, 3, 4
 	 * @return byte[] the original number's EQCBits
 	 */
-	public static byte[] bigIntegerToEQCBitsX(BigInteger value, final int statusSize) {
-		EQCCastle.assertNotNegative(value);
-		final ByteArrayOutputStream os = new ByteArrayOutputStream();
-		BigInteger remainder = null;
-		byte[] bytes = null;
-		while (value.compareTo(BASE128) >= 0) {
-			remainder = value.mod(BASE128);
-			bytes = remainder.toByteArray();
-			os.write(bytes.length == 1?bytes[0]:bytes[1]);
-			value = value.subtract(remainder).divide(BASE128);
-		}
-		bytes = value.toByteArray();
-		os.write((bytes.length == 1?bytes[0]:bytes[1]) | EQCBITS);
-		return os.toByteArray();
+	public static byte[] bigIntegerToEQCBitsX(final BigInteger value, final int statusSize) {
+		// Currently the status bits haven't been implemented so it's the same as EQCBits
+		return bigIntegerToEQCBits(value);
 	}
+
+	/**
+	 * The long version of {@link #bigIntegerToEQCBitsX(BigInteger, int)} which
+	 * doesn't need any BigInteger.
+	 *
+	 * @param value      the original value of relevant number
+	 * @param statusSize the status' size which value in current phase including 2,
+	 *                   3, 4
+	 * @return byte[] the original number's EQCBitsX
+	 */
+	public static byte[] longToEQCBitsX(final long value, final int statusSize) {
+		return longToEQCBits(value);
+	}
+
 	public static BigInteger eqcBitsXToBigInteger(final byte[] bytes, final int statusSize) {
-		BigInteger foo = BigInteger.ZERO;
-		for(int i=0; i<bytes.length-1; ++i) {
-			foo = foo.add(BigInteger.valueOf(bytes[i]).multiply(BASE128.pow(i)));
-		}
-		foo = foo.add(BigInteger.valueOf(bytes[bytes.length - 1] & EQCBITS_MASK).multiply(BASE128.pow(bytes.length - 1)));
-		return foo;
+		return eqcBitsToBigInteger(bytes);
+	}
+
+	/**
+	 * The long version of {@link #eqcBitsXToBigInteger(byte[], int)} which doesn't
+	 * need any BigInteger.
+	 *
+	 * @param bytes      EQCBitsX
+	 * @param statusSize the status' size which value in current phase including 2,
+	 *                   3, 4
+	 * @return the original number
+	 */
+	public static long eqcBitsXToLong(final byte[] bytes, final int statusSize) {
+		return eqcBitsToLong(bytes);
 	}
 
 	public final static byte[] parseEQCBitsX(final ByteArrayInputStream is, final int statusSize) throws IOException, NoSuchFieldException, IllegalStateException {
@@ -1237,7 +1417,9 @@ public class EQCCastle {
 	 * bytes. EQCQuantum can store positive integers divisible by 4, so that the
 	 * lowest 2 bits of its lowest byte can be used as status bits. The lowest 2 bits
 	 * of the lowest byte of the current byte sequence are the status bits used to
-	 * indicate how many bytes it contains. The endian is big endian.
+	 * indicate how many bytes it contains. The lowest byte is put at the head so
+	 * the length can be known after read the first byte, the rest bytes follow it
+	 * in big endian.
 	 * <p>
 	 * | XXXXXXSS | ... | XXXXXXXX |
 	 * <p>
@@ -1245,26 +1427,113 @@ public class EQCCastle {
 	 * @param value the original value of relevant number
 	 * @return byte[] the original number's EQCBits
 	 */
-	public static byte[] bigIntegerToEQCQuantum(BigInteger value) {
+	public static byte[] bigIntegerToEQCQuantum(final BigInteger value) {
 		EQCCastle.assertNotNegative(value);
-		final ByteArrayOutputStream os = new ByteArrayOutputStream();
-		BigInteger remainder = null;
-		byte[] bytes = null;
-		EQCCastle.assertNotLess(bytes.length, EQCQUANTUM_MIN_LEN);
-		EQCCastle.assertNotBigger(bytes.length, EQCQUANTUM_MAX_LEN);
-		if(!value.mod(EQCQUANTUM_MIN_VALUE).equals(BigInteger.ZERO)){
+		if (value.bitLength() >= Long.SIZE) {
+			throw new IllegalStateException("The EQCQuantum's length shouldn't bigger than " + EQCQUANTUM_MAX_LEN);
+		}
+		return longToEQCQuantum(value.longValue());
+	}
+
+	/**
+	 * The long version of {@link #bigIntegerToEQCQuantum(BigInteger)} which doesn't
+	 * need any BigInteger.
+	 *
+	 * @param value the original value of relevant number
+	 * @return byte[] the original number's EQCQuantum
+	 */
+	public static byte[] longToEQCQuantum(final long value) {
+		assertNotNegative(value);
+		if (value % EQCQUANTUM_MIN_VALUE.longValue() != 0) {
 			throw new IllegalStateException("The value must divisible by 4.");
 		}
-		bytes = value.toByteArray();
-		bytes[bytes.length - 1]&=(bytes.length - EQCQUANTUM_MIN_LEN);
-		return bytes;
+		final int len = Math.max(getBytesLength(value), EQCQUANTUM_MIN_LEN);
+		assertNotBigger(len, EQCQUANTUM_MAX_LEN);
+		return longToRotatedBytes(value, len, EQCQUANTUM_MIN_LEN);
 	}
 
+	/**
+	 * Decode the EQCQuantum without change the input bytes.
+	 *
+	 * @param bytes EQCQuantum
+	 * @return the original number
+	 */
 	public static BigInteger eqcQuantumToBigInteger(final byte[] bytes) {
-		BigInteger foo = null;
-		bytes[bytes.length - 1] &= EQCQUANTUM_MASK;
-		foo = new BigInteger(bytes);
-		return foo;
+		return BigInteger.valueOf(eqcQuantumToLong(bytes));
+	}
+
+	/**
+	 * The long version of {@link #eqcQuantumToBigInteger(byte[])} which doesn't
+	 * need any BigInteger.
+	 *
+	 * @param bytes EQCQuantum
+	 * @return the original number
+	 */
+	public static long eqcQuantumToLong(final byte[] bytes) {
+		final int len = getEQCQuantumLength(bytes[0]);
+		assertEqual(len, bytes.length);
+		return rotatedBytesToLong(bytes, len, EQCQUANTUM_MASK);
+	}
+
+	private static int getEQCQuantumLength(final byte head) {
+		return (head & ~EQCQUANTUM_MASK & 0xFF) + EQCQUANTUM_MIN_LEN;
+	}
+
+	/**
+	 * @param value
+	 * @return how many bytes the value's magnitude need which is zero for zero
+	 */
+	private static int getBytesLength(final long value) {
+		return (Long.SIZE - Long.numberOfLeadingZeros(value) + Byte.SIZE - 1) / Byte.SIZE;
+	}
+
+	/**
+	 * Put the value's lowest byte with the status bits at the head and the rest
+	 * bytes follow it in big endian.
+	 */
+	private static byte[] longToRotatedBytes(final long value, final int len, final int minLen) {
+		final byte[] bytes = new byte[len];
+		bytes[0] = (byte) (value | (len - minLen));
+		for (int i = 1; i < len; ++i) {
+			bytes[i] = (byte) (value >>> (Byte.SIZE * (len - i)));
+		}
+		return bytes;
+	}
+
+	private static long rotatedBytesToLong(final byte[] bytes, final int len, final int mask) {
+		long value = bytes[0] & mask;
+		for (int i = 1; i < len; ++i) {
+			value |= (bytes[i] & 0xFFL) << (Byte.SIZE * (len - i));
+		}
+		return value;
+	}
+
+	/**
+	 * @return the value's big endian magnitude which length is at least minLen
+	 *         bytes and at most maxLen bytes
+	 */
+	private static byte[] toMagnitude(final BigInteger value, final int minLen, final int maxLen) {
+		final int len = Math.max((value.bitLength() + Byte.SIZE - 1) / Byte.SIZE, minLen);
+		assertNotBigger(len, maxLen);
+		final byte[] bytes = value.toByteArray();
+		final byte[] magnitude = new byte[len];
+		final int copyLen = Math.min(bytes.length, len);
+		System.arraycopy(bytes, bytes.length - copyLen, magnitude, len - copyLen, copyLen);
+		return magnitude;
+	}
+
+	private static byte[] rotateLowestByte(final byte[] magnitude, final int minLen) {
+		final byte[] bytes = new byte[magnitude.length];
+		bytes[0] = (byte) (magnitude[magnitude.length - 1] | (magnitude.length - minLen));
+		System.arraycopy(magnitude, 0, bytes, 1, magnitude.length - 1);
+		return bytes;
+	}
+
+	private static byte[] rotatedBytesToMagnitude(final byte[] bytes, final int mask) {
+		final byte[] magnitude = new byte[bytes.length];
+		System.arraycopy(bytes, 1, magnitude, 0, bytes.length - 1);
+		magnitude[magnitude.length - 1] = (byte) (bytes[0] & mask);
+		return magnitude;
 	}
 
 	public final static byte[] parseEQCQuantum(final ByteArrayInputStream is) throws Exception {
@@ -1276,8 +1545,7 @@ public class EQCCastle {
 		type = is.read();
 		if (type != EOF) {
 			is.reset();
-			int n = (type & EQCQUANTUM_MASK) + EQCQUANTUM_MIN_LEN;
-			bytes = parseNBytes(is, n);
+			bytes = parseNBytes(is, getEQCQuantumLength((byte) type));
 		} else {
 			throw EOF_EXCEPTION;
 		}
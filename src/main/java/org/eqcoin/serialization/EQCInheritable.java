@@ -39,4 +39,10 @@ public interface EQCInheritable {
 	public void parse(ByteArrayInputStream is)  throws Exception;
 	public void parseBody(ByteArrayInputStream is)  throws Exception;
 	public void parseHeader(ByteArrayInputStream is)  throws Exception;
+	public EQCWriter getBodyBytes(EQCWriter writer) throws Exception;
+	public EQCWriter getBytes(EQCWriter writer) throws Exception;
+	public EQCWriter getHeaderBytes(EQCWriter writer) throws Exception;
+	public void parse(EQCReader reader)  throws Exception;
+	public void parseBody(EQCReader reader)  throws Exception;
+	public void parseHeader(EQCReader reader)  throws Exception;
 }
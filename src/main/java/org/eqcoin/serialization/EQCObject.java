@@ -24,11 +24,16 @@
  */
 package org.eqcoin.serialization;
 
+import org.eqcoin.crypto.HashTool;
 import org.eqcoin.protocol.EQCConstraint;
 import org.eqcoin.protocol.EQCProtocol;
 
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
+import java.util.Vector;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.eqcoin.util.Util;
 
 /**
  * @author Xun Wang
@@ -36,6 +41,20 @@ import java.io.ByteArrayOutputStream;
  * @email 10509759@qq.com
  */
 public abstract class EQCObject implements EQCSerializable, EQCInheritable, EQCConstraint {
+	private static final LongAdder SEAL_HIT = new LongAdder();
+	private static final LongAdder SEAL_MISS = new LongAdder();
+
+	/**
+	 * After the object parsed or planted it's content shouldn't be changed so it
+	 * can be sealed to memoize it's bytes and hash. Any setter should call
+	 * invalidate() to drop the memoized result. The sub object should be linked
+	 * to it's owner via {@link #setOwner(EQCObject)} so the content which changed
+	 * via the sub object's setter also drop the owner's memoized result.
+	 */
+	private boolean isSealed;
+	private byte[] sealedBytes;
+	private byte[] sealedBytesHash;
+	private EQCObject owner;
 
 	public EQCObject() {
 		init();
@@ -70,6 +89,18 @@ public abstract class EQCObject implements EQCSerializable, EQCInheritable, EQCC
 		parse(is);
 	}
 
+	/**
+	 * If the sub class has multiple sub class then shouldn't implement this
+	 * constructor and use Parse(EQCReader reader) instead this.
+	 *
+	 * @param reader
+	 * @throws Exception
+	 */
+	public EQCObject(final EQCReader reader) throws Exception {
+		init();
+		parse(reader);
+	}
+
 	/*
 	 * (non-Javadoc)
 	 *
@@ -100,14 +131,140 @@ public abstract class EQCObject implements EQCSerializable, EQCInheritable, EQCC
 		return os;
 	}
 
-	/* (non-Javadoc)
+	/**
+	 * The derived class which hasn't ported to EQCWriter just write it's legacy
+	 * body bytes.
+	 *
+	 * @see org.eqcoin.serialization.EQCInheritable#getBodyBytes(org.eqcoin.serialization.EQCWriter)
+	 */
+	@Override
+	public EQCWriter getBodyBytes(final EQCWriter writer) throws Exception {
+		return writer.write(getBodyBytes());
+	}
+
+	/**
+	 * When the object is sealed the bytes will be memoized until it's content
+	 * changed.
+	 *
 	 * @see com.eqcoin.serialization.EQCTypable#getBytes()
 	 */
 	@Override
 	public byte[] getBytes() throws Exception {
+		if (!isSealed) {
+			return encode();
+		}
+		if (sealedBytes == null) {
+			recordSealMiss();
+			sealedBytes = encode();
+		} else {
+			recordSealHit();
+		}
+		return sealedBytes;
+	}
+
+	/**
+	 * Serialize the object from scratch without any memoized result.
+	 *
+	 * @return
+	 * @throws Exception
+	 */
+	protected byte[] encode() throws Exception {
 		return getBytes(new ByteArrayOutputStream()).toByteArray();
 	}
 
+	/**
+	 * @return the SHA3-512 hash of the object's bytes which is memoized when the
+	 *         object is sealed
+	 * @throws Exception
+	 */
+	public byte[] getBytesHash() throws Exception {
+		if (!isSealed) {
+			return HashTool.SHA3_512(getBytes());
+		}
+		if (sealedBytesHash == null) {
+			recordSealMiss();
+			sealedBytesHash = HashTool.SHA3_512(getBytes());
+		} else {
+			recordSealHit();
+		}
+		return sealedBytesHash;
+	}
+
+	/**
+	 * Seal the object to memoize it's bytes and hash.
+	 *
+	 * @return
+	 */
+	@SuppressWarnings("unchecked")
+	public <T extends EQCObject> T seal() {
+		isSealed = true;
+		return (T) this;
+	}
+
+	public void unseal() {
+		isSealed = false;
+		invalidate();
+	}
+
+	public boolean isSealed() {
+		return isSealed;
+	}
+
+	/**
+	 * Drop the memoized bytes and hash together with the owner's, any setter
+	 * which changed the object's content should call this.
+	 */
+	protected void invalidate() {
+		sealedBytes = null;
+		sealedBytesHash = null;
+		if (owner != null) {
+			owner.invalidate();
+		}
+	}
+
+	/**
+	 * @param owner the object whose bytes contain this object's bytes
+	 * @return this object
+	 */
+	@SuppressWarnings("unchecked")
+	public <T extends EQCObject> T setOwner(final EQCObject owner) {
+		this.owner = owner;
+		return (T) this;
+	}
+
+	/**
+	 * @param subObjectList the sub objects whose bytes are contained in this
+	 *                      object's bytes
+	 * @return the subObjectList which each of them is owned by this object
+	 */
+	protected <T extends EQCObject> Vector<T> own(final Vector<T> subObjectList) {
+		for (final T subObject : subObjectList) {
+			subObject.setOwner(this);
+		}
+		return subObjectList;
+	}
+
+	protected static void recordSealHit() {
+		SEAL_HIT.increment();
+	}
+
+	protected static void recordSealMiss() {
+		SEAL_MISS.increment();
+	}
+
+	public static long getSealHitCount() {
+		return SEAL_HIT.sum();
+	}
+
+	public static long getSealMissCount() {
+		return SEAL_MISS.sum();
+	}
+
+	public static void resetSealStatistics() {
+		SEAL_HIT.reset();
+		SEAL_MISS.reset();
+	}
+
 	@Override
 	public ByteArrayOutputStream getBytes(final ByteArrayOutputStream os) throws Exception {
 		getHeaderBytes(os);
@@ -115,6 +272,18 @@ public abstract class EQCObject implements EQCSerializable, EQCInheritable, EQCC
 		return os;
 	}
 
+	/**
+	 * The derived class which hasn't ported to EQCWriter just write it's legacy
+	 * bytes. The ported class should override this to write it's header and body
+	 * into the writer directly.
+	 *
+	 * @see org.eqcoin.serialization.EQCInheritable#getBytes(org.eqcoin.serialization.EQCWriter)
+	 */
+	@Override
+	public EQCWriter getBytes(final EQCWriter writer) throws Exception {
+		return writer.write(getBytes());
+	}
+
 	/* (non-Javadoc)
 	 * @see org.eqcoin.serialization.EQCTypable#getHeaderBytes()
 	 */
@@ -131,6 +300,14 @@ public abstract class EQCObject implements EQCSerializable, EQCInheritable, EQCC
 		return os;
 	}
 
+	/* (non-Javadoc)
+	 * @see org.eqcoin.serialization.EQCInheritable#getHeaderBytes(org.eqcoin.serialization.EQCWriter)
+	 */
+	@Override
+	public EQCWriter getHeaderBytes(final EQCWriter writer) throws Exception {
+		return writer.write(getHeaderBytes());
+	}
+
 	protected void init() {
 	}
 
@@ -157,6 +334,20 @@ public abstract class EQCObject implements EQCSerializable, EQCInheritable, EQCC
 		parseBody(is);
 	}
 
+	/**
+	 * The derived class which hasn't ported to EQCReader just parse from the
+	 * ByteArrayInputStream view of the reader. The ported class should override
+	 * this to parse it's header and body from the reader directly.
+	 *
+	 * @see org.eqcoin.serialization.EQCInheritable#parse(org.eqcoin.serialization.EQCReader)
+	 */
+	@Override
+	public void parse(final EQCReader reader) throws Exception {
+		final ByteArrayInputStream is = reader.getInputStream();
+		parse(is);
+		reader.skip(is);
+	}
+
 	/**
 	 * When the object which extends from EQCSerializable have multiple sub classes
 	 * need implement this to support parse different sub class from the
@@ -187,6 +378,23 @@ public abstract class EQCObject implements EQCSerializable, EQCInheritable, EQCC
 		return null;
 	}
 
+	/**
+	 * When the object which extends from EQCSerializable have multiple sub classes
+	 * need implement this to support parse different sub class from the
+	 * EQCReader. By default parse it from the ByteArrayInputStream view of the
+	 * reader.
+	 *
+	 * @param reader
+	 * @return
+	 * @throws Exception
+	 */
+	public <T extends EQCObject> T Parse(final EQCReader reader) throws Exception {
+		final ByteArrayInputStream is = reader.getInputStream();
+		final T eqcSerializable = Parse(is);
+		reader.skip(is);
+		return eqcSerializable;
+	}
+
 	/*
 	 * (non-Javadoc)
 	 *
@@ -209,6 +417,16 @@ public abstract class EQCObject implements EQCSerializable, EQCInheritable, EQCC
 
 	}
 
+	/* (non-Javadoc)
+	 * @see org.eqcoin.serialization.EQCInheritable#parseBody(org.eqcoin.serialization.EQCReader)
+	 */
+	@Override
+	public void parseBody(final EQCReader reader) throws Exception {
+		final ByteArrayInputStream is = reader.getInputStream();
+		parseBody(is);
+		reader.skip(is);
+	}
+
 	/*
 	 * (non-Javadoc)
 	 *
@@ -228,6 +446,16 @@ public abstract class EQCObject implements EQCSerializable, EQCInheritable, EQCC
 
 	}
 
+	/* (non-Javadoc)
+	 * @see org.eqcoin.serialization.EQCInheritable#parseHeader(org.eqcoin.serialization.EQCReader)
+	 */
+	@Override
+	public void parseHeader(final EQCReader reader) throws Exception {
+		final ByteArrayInputStream is = reader.getInputStream();
+		parseHeader(is);
+		reader.skip(is);
+	}
+
 	public String toInnerJson() {
 		return null;
 	}
@@ -0,0 +1,333 @@
+/**
+ * EQcoin core
+ *
+ * http://www.eqcoin.org
+ * 
+ * @Copyright 2018-present Xun Wang All Rights Reserved...
+ * The copyright of all works released by Xun Wang or jointly released by
+ * Xun Wang with cooperative partners are owned by Xun Wang and entitled
+ * to protection available from copyright law by country as well as international
+ * conventions.
+ * Attribution — You must give appropriate credit, provide a link to the license.
+ * Non Commercial — You may not use the material for commercial purposes.
+ * No Derivatives — If you remix, transform, or build upon the material, you may
+ * not distribute the modified material.
+ * Xun Wang reserves any and all current and future rights, titles and interests
+ * in any and all intellectual property rights of Xun Wang including but not limited
+ * to discoveries, ideas, marks, concepts, methods, formulas, processes, codes,
+ * software, inventions, compositions, techniques, information and data, whether
+ * or not protectable in trademark, copyrightable or patentable, and any trademarks,
+ * copyrights or patents based thereon. For the use of any and all intellectual
+ * property rights of Xun Wang without prior written permission, Xun Wang reserves
+ * all rights to take any legal action and pursue any rights or remedies under
+ * applicable law.
+ */
+package org.eqcoin.serialization;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.util.Vector;
+
+import org.eqcoin.util.ID;
+import org.eqcoin.util.Util;
+import org.eqcoin.util.Value;
+
+/**
+ * EQCReader parse the EQCObject from one ByteBuffer which is the counterpart of
+ * {@link EQCWriter}. The unported EQCObject still can be parsed via the
+ * ByteArrayInputStream view of the rest bytes without copy.
+ *
+ * @author agent
+ * @date Oct 18, 2026
+ * @email agent@local
+ */
+public class EQCReader {
+	private final ByteBuffer buff;
+
+	/**
+	 * The lazy parsed EQCObject such as the EQCSeeds keeps a read only view of
+	 * the bytes, so the caller shouldn't reuse or change the bytes after parse.
+	 * 
+	 * @param bytes
+	 */
+	public EQCReader(final byte[] bytes) {
+		EQCCastle.assertNotNull(bytes);
+		buff = ByteBuffer.wrap(bytes);
+	}
+
+	public EQCReader(final ByteBuffer buff) {
+		this.buff = buff;
+	}
+
+	/**
+	 * @return the next byte or EOF if the buffer is end
+	 */
+	public int read() {
+		if (!buff.hasRemaining()) {
+			return EQCCastle.EOF;
+		}
+		return buff.get() & 0xFF;
+	}
+
+	public byte readByte() {
+		if (!buff.hasRemaining()) {
+			throw EQCCastle.EOF_EXCEPTION;
+		}
+		return buff.get();
+	}
+
+	public byte[] readNBytes(final int len) {
+		if (buff.remaining() < len) {
+			throw new IllegalStateException(
+					"Expected read " + len + " bytes but actually read " + buff.remaining() + " bytes");
+		}
+		final byte[] bytes = new byte[len];
+		buff.get(bytes);
+		return bytes;
+	}
+
+	public long readEQCBits() {
+		try {
+			return EQCCastle.eqcBitsToLong(buff);
+		} catch (final BufferUnderflowException e) {
+			throw EQCCastle.EOF_EXCEPTION;
+		}
+	}
+
+	/**
+	 * Read the next EQCBits without change the position.
+	 *
+	 * @return the original number of the EQCBits
+	 */
+	public long peekEQCBits() {
+		final int position = buff.position();
+		try {
+			return readEQCBits();
+		} finally {
+			buff.position(position);
+		}
+	}
+
+	public ID readID() {
+		return ID.valueOf(readEQCBits());
+	}
+
+	public Value readValue() {
+		return new Value(readEQCBits());
+	}
+
+	/**
+	 * Read the BIN which is the same as {@link EQCCastle#parseBIN(ByteArrayInputStream)}.
+	 *
+	 * @return the BIN's content
+	 * @throws NoSuchFieldException
+	 */
+	public byte[] readBIN() throws NoSuchFieldException {
+		final int type = read();
+		if (EQCCastle.isNULL(type)) {
+			return EQCCastle.NULL_ARRAY;
+		}
+		final long len = readLength(type, false);
+		if (buff.remaining() < len) {
+			throw new NoSuchFieldException("parseBIN Get BIN data's len error occur record len != real len");
+		}
+		return readNBytes((int) len);
+	}
+
+	/**
+	 * Skip the BIN without copy it's content.
+	 *
+	 * @return the length of the BIN's content which is located before current
+	 *         position
+	 * @throws NoSuchFieldException
+	 */
+	public int skipBIN() throws NoSuchFieldException {
+		final int type = read();
+		if (EQCCastle.isNULL(type)) {
+			return 0;
+		}
+		final long len = readLength(type, false);
+		if (buff.remaining() < len) {
+			throw new NoSuchFieldException("parseBIN Get BIN data's len error occur record len != real len");
+		}
+		buff.position(buff.position() + (int) len);
+		return (int) len;
+	}
+
+	/**
+	 * Get the read only view of the bytes between the absolute position from and
+	 * to without copy and change the position. The view shares the content with
+	 * the underlying buffer so the underlying bytes shouldn't be changed during
+	 * the view's lifetime.
+	 *
+	 * @param from
+	 * @param to
+	 * @return
+	 */
+	public ByteBuffer sliceOfRange(final int from, final int to) {
+		if (from < 0 || from > to || to > buff.limit()) {
+			throw new IndexOutOfBoundsException("The range [" + from + ", " + to + ") is out of the limit " + buff.limit());
+		}
+		final ByteBuffer duplicate = buff.duplicate();
+		duplicate.limit(to);
+		duplicate.position(from);
+		return duplicate.slice().asReadOnlyBuffer();
+	}
+
+	/**
+	 * Read the ARRAY which is the same as
+	 * {@link EQCCastle#parseArray(ByteArrayInputStream, EQCObject)}.
+	 *
+	 * @param eqcSerializable the prototype which used to parse the element
+	 * @return the element list
+	 * @throws Exception
+	 */
+	public <T extends EQCObject> Vector<T> readArray(final T eqcSerializable) throws Exception {
+		final Vector<T> array = new Vector<>();
+		final int type = read();
+		if (!EQCCastle.isNULL(type)) {
+			final long elementLen = readLength(type, true);
+			for (long i = 0; i < elementLen; ++i) {
+				array.add(eqcSerializable.Parse(this));
+			}
+		}
+		return array;
+	}
+
+	private long readLength(final int type, final boolean isArray) throws NoSuchFieldException {
+		if (EQCCastle.isBINX(type)) {
+			return type;
+		}
+		if (isArray ? !EQCCastle.isArray(type) : !EQCCastle.isBIN(type)) {
+			throw new IllegalStateException("Unexpected EQCType: " + type);
+		}
+		final int len = isArray ? EQCCastle.getArrayTypeLen(type) : EQCCastle.getBINTypeLen(type);
+		if (buff.remaining() < len) {
+			throw new NoSuchFieldException("Get the length of type " + type + " error occur record len != real len");
+		}
+		final long elementLen = Util.bytesToLong(readNBytes(len));
+		if (!EQCCastle.isElementLenValid(type, elementLen)) {
+			throw new IllegalStateException("The length is invalid type: " + type + " length: " + elementLen);
+		}
+		return elementLen;
+	}
+
+	/**
+	 * @return the ByteArrayInputStream view of the rest bytes which can be used to
+	 *         parse the unported EQCObject. After parse need call
+	 *         {@link #skip(ByteArrayInputStream)} to sync the position.
+	 */
+	public ByteArrayInputStream getInputStream() {
+		if (buff.hasArray()) {
+			return new ByteArrayInputStream(buff.array(), buff.arrayOffset() + buff.position(), buff.remaining());
+		}
+		return new ByteBufferInputStream(buff.duplicate());
+	}
+
+	/**
+	 * The ByteArrayInputStream view of the read only or direct ByteBuffer which
+	 * doesn't have an accessible array. All the reads go to the ByteBuffer so the
+	 * inherited array is always empty.
+	 */
+	private static class ByteBufferInputStream extends ByteArrayInputStream {
+		private final ByteBuffer buff;
+
+		private ByteBufferInputStream(final ByteBuffer buff) {
+			super(new byte[0]);
+			this.buff = buff;
+			buff.mark();
+		}
+
+		@Override
+		public synchronized int read() {
+			return buff.hasRemaining() ? (buff.get() & 0xFF) : EQCCastle.EOF;
+		}
+
+		@Override
+		public synchronized int read(final byte[] b, final int off, final int len) {
+			if (off < 0 || len < 0 || len > b.length - off) {
+				throw new IndexOutOfBoundsException();
+			}
+			if (!buff.hasRemaining()) {
+				return EQCCastle.EOF;
+			}
+			final int n = Math.min(len, buff.remaining());
+			buff.get(b, off, n);
+			return n;
+		}
+
+		@Override
+		public synchronized byte[] readAllBytes() {
+			final byte[] bytes = new byte[buff.remaining()];
+			buff.get(bytes);
+			return bytes;
+		}
+
+		@Override
+		public int readNBytes(final byte[] b, final int off, final int len) {
+			final int n = read(b, off, len);
+			return (n == EQCCastle.EOF) ? 0 : n;
+		}
+
+		@Override
+		public synchronized long transferTo(final OutputStream out) throws IOException {
+			final int len = buff.remaining();
+			out.write(readAllBytes());
+			return len;
+		}
+
+		@Override
+		public synchronized long skip(final long n) {
+			final int k = (int) Math.max(0, Math.min(n, buff.remaining()));
+			buff.position(buff.position() + k);
+			return k;
+		}
+
+		@Override
+		public synchronized int available() {
+			return buff.remaining();
+		}
+
+		@Override
+		public void mark(final int readAheadLimit) {
+			buff.mark();
+		}
+
+		@Override
+		public synchronized void reset() {
+			buff.reset();
+		}
+	}
+
+	/**
+	 * Skip the bytes which already parsed via the ByteArrayInputStream from
+	 * {@link #getInputStream()}.
+	 *
+	 * @param is the ByteArrayInputStream from {@link #getInputStream()}
+	 */
+	public void skip(final ByteArrayInputStream is) {
+		buff.position(buff.limit() - is.available());
+	}
+
+	public int position() {
+		return buff.position();
+	}
+
+	public int remaining() {
+		return buff.remaining();
+	}
+
+	public boolean isEnd() {
+		return !buff.hasRemaining();
+	}
+
+	public void assertNoRedundantData() throws IllegalStateException {
+		if (buff.hasRemaining()) {
+			throw EQCCastle.REDUNDANT_DATA_EXCEPTION;
+		}
+	}
+
+}
@@ -0,0 +1,220 @@
+/**
+ * EQcoin core
+ *
+ * http://www.eqcoin.org
+ * 
+ * @Copyright 2018-present Xun Wang All Rights Reserved...
+ * The copyright of all works released by Xun Wang or jointly released by
+ * Xun Wang with cooperative partners are owned by Xun Wang and entitled
+ * to protection available from copyright law by country as well as international
+ * conventions.
+ * Attribution — You must give appropriate credit, provide a link to the license.
+ * Non Commercial — You may not use the material for commercial purposes.
+ * No Derivatives — If you remix, transform, or build upon the material, you may
+ * not distribute the modified material.
+ * Xun Wang reserves any and all current and future rights, titles and interests
+ * in any and all intellectual property rights of Xun Wang including but not limited
+ * to discoveries, ideas, marks, concepts, methods, formulas, processes, codes,
+ * software, inventions, compositions, techniques, information and data, whether
+ * or not protectable in trademark, copyrightable or patentable, and any trademarks,
+ * copyrights or patents based thereon. For the use of any and all intellectual
+ * property rights of Xun Wang without prior written permission, Xun Wang reserves
+ * all rights to take any legal action and pursue any rights or remedies under
+ * applicable law.
+ */
+package org.eqcoin.serialization;
+
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Vector;
+
+import org.eqcoin.util.Util;
+
+/**
+ * EQCWriter serialize the EQCObject into one reusable and growable ByteBuffer
+ * so the nested objects can write their fields directly into the same buffer
+ * without produce intermediate byte[]. The output is byte-identical with the
+ * ByteArrayOutputStream version.
+ *
+ * @author agent
+ * @date Oct 18, 2026
+ * @email agent@local
+ */
+public class EQCWriter {
+	private final static int DEFAULT_CAPACITY = 1024;
+	private ByteBuffer buff;
+
+	public EQCWriter() {
+		this(DEFAULT_CAPACITY);
+	}
+
+	public EQCWriter(final int capacity) {
+		buff = ByteBuffer.allocate(capacity);
+	}
+
+	private void ensureRemaining(final int len) {
+		if (buff.remaining() < len) {
+			final int capacity = Math.max(buff.capacity() << 1, buff.position() + len);
+			final ByteBuffer newBuff = ByteBuffer.allocate(capacity);
+			buff.flip();
+			newBuff.put(buff);
+			buff = newBuff;
+		}
+	}
+
+	public EQCWriter write(final int b) {
+		ensureRemaining(1);
+		buff.put((byte) b);
+		return this;
+	}
+
+	public EQCWriter write(final byte[] bytes) {
+		return write(bytes, 0, bytes.length);
+	}
+
+	public EQCWriter write(final byte[] bytes, final int offset, final int len) {
+		ensureRemaining(len);
+		buff.put(bytes, offset, len);
+		return this;
+	}
+
+	/**
+	 * Write the remaining bytes of the source without change it's position.
+	 *
+	 * @param src
+	 * @return current EQCWriter
+	 */
+	public EQCWriter write(final ByteBuffer src) {
+		ensureRemaining(src.remaining());
+		buff.put(src.duplicate());
+		return this;
+	}
+
+	/**
+	 * Write value's EQCBits.
+	 *
+	 * @param value the original value of relevant number
+	 * @return current EQCWriter
+	 */
+	public EQCWriter writeEQCBits(final long value) {
+		ensureRemaining(EQCCastle.EQCBITS_BUFFER_LEN);
+		EQCCastle.longToEQCBits(value, buff);
+		return this;
+	}
+
+	/**
+	 * Write value's EQCBits, ID and Value etc. which fit in 63 bits are written
+	 * without intermediate byte[].
+	 *
+	 * @param value the original value of relevant number
+	 * @return current EQCWriter
+	 */
+	public EQCWriter writeEQCBits(final BigInteger value) {
+		EQCCastle.assertNotNegative(value);
+		if (value.bitLength() < Long.SIZE) {
+			return writeEQCBits(value.longValue());
+		}
+		return write(EQCCastle.bigIntegerToEQCBits(value));
+	}
+
+	/**
+	 * Write bytes as BIN which is the same as {@link EQCCastle#bytesToBIN(byte[])}.
+	 *
+	 * @param bytes the original bytes
+	 * @return current EQCWriter
+	 */
+	public EQCWriter writeBIN(final byte[] bytes) {
+		// Stores a NULL placeholder for parsing data when there is no corresponding
+		// data item.
+		if (bytes == null) {
+			return write(EQCCastle.NULL);
+		}
+		writeLength(bytes.length, EQCCastle.BIN8, EQCCastle.BIN16, EQCCastle.BIN24, EQCCastle.BIN32);
+		return write(bytes);
+	}
+
+	/**
+	 * Write the EQCObject list as ARRAY which is the same as
+	 * {@link EQCCastle#eqcSerializableListToArray(Vector)}.
+	 *
+	 * @param eqcSerializableList the EQCObject list
+	 * @return current EQCWriter
+	 * @throws Exception
+	 */
+	public <T extends EQCObject> EQCWriter writeArray(final Vector<T> eqcSerializableList) throws Exception {
+		// Stores a NULL placeholder for parsing data when there is corresponding Object
+		// is null.
+		if ((eqcSerializableList == null) || eqcSerializableList.size() == 0) {
+			return write(EQCCastle.NULL);
+		}
+		writeLength(eqcSerializableList.size(), EQCCastle.ARRAY8, EQCCastle.ARRAY16, EQCCastle.ARRAY24,
+				EQCCastle.ARRAY32);
+		for (final T eqcSerializable : eqcSerializableList) {
+			eqcSerializable.getBytes(this);
+		}
+		return this;
+	}
+
+	private void writeLength(final long len, final int type8, final int type16, final int type24, final int type32) {
+		if (len < EQCCastle.MIN_BINX_LEN) {
+			throw new IllegalStateException("Byte array's length shouldn't less than 1 or exceed 247. Len: " + len);
+		} else if (len <= EQCCastle.MAX_BINX_LEN) {
+			write((int) len);
+		} else {
+			if (len <= EQCCastle.MAX_BIN8_LEN) {
+				write(type8);
+			} else if (len <= EQCCastle.MAX_BIN16_LEN) {
+				write(type16);
+			} else if (len <= EQCCastle.MAX_BIN24_LEN) {
+				write(type24);
+			} else if (len <= EQCCastle.MAX_BIN32_LEN) {
+				write(type32);
+			}
+			write(Util.longToBytes(len));
+		}
+	}
+
+	/**
+	 * @param eqcObject the EQCObject need to be written
+	 * @return current EQCWriter
+	 * @throws Exception
+	 */
+	public EQCWriter writeObject(final EQCObject eqcObject) throws Exception {
+		return eqcObject.getBytes(this);
+	}
+
+	/**
+	 * @return the length of the bytes which already written
+	 */
+	public int size() {
+		return buff.position();
+	}
+
+	/**
+	 * Clear the written bytes so the buffer can be reused.
+	 *
+	 * @return current EQCWriter
+	 */
+	public EQCWriter reset() {
+		buff.clear();
+		return this;
+	}
+
+	/**
+	 * @return the copy of the bytes which already written
+	 */
+	public byte[] toByteArray() {
+		return Arrays.copyOf(buff.array(), buff.position());
+	}
+
+	/**
+	 * @return the read only view of the bytes which already written without copy
+	 */
+	public ByteBuffer getByteBuffer() {
+		final ByteBuffer byteBuffer = buff.duplicate();
+		byteBuffer.flip();
+		return byteBuffer.asReadOnlyBuffer();
+	}
+
+}
@@ -33,9 +33,11 @@ import java.util.Comparator;
 import java.util.Vector;
 
 import org.eqcoin.hive.EQCHive;
+import org.eqcoin.hive.EQCHiveDecoder;
 import org.eqcoin.hive.EQCHiveRoot;
 import org.eqcoin.persistence.globalstate.GlobalState;
 import org.eqcoin.persistence.globalstate.h2.GlobalStateH2;
+import org.eqcoin.persistence.mosaic.MosaicSnapshot;
 import org.eqcoin.rpc.client.avro.EQCHiveSyncNetworkClient;
 import org.eqcoin.rpc.client.avro.EQCMinerNetworkClient;
 import org.eqcoin.rpc.object.SP;
@@ -123,6 +125,13 @@ public class EQCServiceProvider extends EQCService {
 			}
 		}
 		if(sp.isEQCTransactionNetwork()) {
+			// Reload the pending Transactions which dumped before last shutdown
+			try {
+				MosaicSnapshot.getInstance().reload(globalState);
+			} catch (final Exception e) {
+				Log.Error("During reload transaction pool snapshot error occur: " + e.getMessage());
+			}
+			MosaicSnapshot.getInstance().start();
 			if (!EQCTransactionNetworkService.getInstance().isRunning()) {
 				EQCTransactionNetworkService.getInstance().start();
 			}
@@ -543,40 +552,53 @@ public class EQCServiceProvider extends EQCService {
 
 						// Begin sync to tail
 						EQCHive maxTailHive = null;
-						for (long i = base + 1; i <= maxTailInfo.getHeight().longValue(); ++i) {
-							if(eqcHiveSyncState.getEQCHive() == null) {
-								savepointSync = null;
-								Log.info("onSync begin set savepoint");
-								savepointSync = globalState.setSavepoint();
-								Log.info("onSync end set savepoint: " + savepointSync);
-							}
-							Log.info("Begin sync No. " + i + " EQCHive from " + eqcHiveSyncState.getSp());
-							maxTailHive = EQCHiveSyncNetworkClient.getEQCHive(new ID(i), eqcHiveSyncState.getSp());
-							if (maxTailHive == null) {
-								Log.info("Begin sync No. " + i + " EQCHive from " + eqcHiveSyncState.getSp() + " but which is null");
-								throw new MaxTailValidException("Begin sync No. " + i + " EQCHive from " + eqcHiveSyncState.getSp() + " but which is null");
-							}
-							//							changeLog = new ChangeLog(new ID(i), new Filter(Mode.VALID));
-							maxTailHive.setGlobalState(globalState);
-							if (maxTailHive.isValid()) {
-								Log.info("Verify No." + i + " hive passed");
-								try {
-									if(eqcHiveSyncState.getEQCHive() == null) {
-										Log.info("onSync just commit it every EQCHive");
-										globalState.updateGlobalState(maxTailHive, savepointSync, GlobalState.SYNC_MAX_TAIL);
+						// The EQCHives are fetched ahead and decoded in parallel while the previous
+						// one is verifying and updating the global state
+						final EQCHiveDecoder eqcHiveDecoder = new EQCHiveDecoder();
+						long fetchHeight = base + 1;
+						byte[] maxTailHiveBytes = null;
+						try {
+							for (long i = base + 1; i <= maxTailInfo.getHeight().longValue(); ++i) {
+								if(eqcHiveSyncState.getEQCHive() == null) {
+									savepointSync = null;
+									Log.info("onSync begin set savepoint");
+									savepointSync = globalState.setSavepoint();
+									Log.info("onSync end set savepoint: " + savepointSync);
+								}
+								for (; !eqcHiveDecoder.isFull() && fetchHeight <= maxTailInfo.getHeight().longValue(); ++fetchHeight) {
+									maxTailHiveBytes = EQCHiveSyncNetworkClient.getEQCHiveBytes(new ID(fetchHeight), eqcHiveSyncState.getSp());
+									if (maxTailHiveBytes == null) {
+										Log.info("Begin sync No. " + fetchHeight + " EQCHive from " + eqcHiveSyncState.getSp() + " but which is null");
+										throw new MaxTailValidException("Begin sync No. " + fetchHeight + " EQCHive from " + eqcHiveSyncState.getSp() + " but which is null");
 									}
-									else {
-										globalState.updateGlobalState(maxTailHive, null, GlobalState.VALID_NEW_TAIL);
+									eqcHiveDecoder.offer(maxTailHiveBytes);
+								}
+								Log.info("Begin sync No. " + i + " EQCHive from " + eqcHiveSyncState.getSp());
+								maxTailHive = eqcHiveDecoder.take();
+								//							changeLog = new ChangeLog(new ID(i), new Filter(Mode.VALID));
+								maxTailHive.setGlobalState(globalState);
+								if (maxTailHive.isValid()) {
+									Log.info("Verify No." + i + " hive passed");
+									try {
+										if(eqcHiveSyncState.getEQCHive() == null) {
+											Log.info("onSync just commit it every EQCHive");
+											globalState.updateGlobalState(maxTailHive, savepointSync, GlobalState.SYNC_MAX_TAIL);
+										}
+										else {
+											globalState.updateGlobalState(maxTailHive, null, GlobalState.VALID_NEW_TAIL);
+										}
+									} catch (final Exception e) {
+										Log.Error("During update No." + i + " hive's global state error occur: " + e.getMessage());
+										throw new MaxTailValidException("During update No." + i + " hive's global state error occur: " + e.getMessage());
 									}
-								} catch (final Exception e) {
-									Log.Error("During update No." + i + " hive's global state error occur: " + e.getMessage());
-									throw new MaxTailValidException("During update No." + i + " hive's global state error occur: " + e.getMessage());
+									Log.info("Current new tail: " + globalState.getEQCHiveTailHeight());
+								} else {
+									Log.info("No." + i + " hive is invalid");
+									throw new MaxTailValidException("No." + i + " hive is invalid");
 								}
-								Log.info("Current new tail: " + globalState.getEQCHiveTailHeight());
-							} else {
-								Log.info("No." + i + " hive is invalid");
-								throw new MaxTailValidException("No." + i + " hive is invalid");
 							}
+						} finally {
+							eqcHiveDecoder.clear();
 						}
 
 						if (isRunning()) {
@@ -705,6 +727,7 @@ public class EQCServiceProvider extends EQCService {
 		}
 		if(sp.isEQCTransactionNetwork()) {
 			EQCTransactionNetworkService.getInstance().stop();
+			MosaicSnapshot.getInstance().stop();
 		}
 		// Begin stop the dependent service process
 		PossibleSPService.getInstance().stop();
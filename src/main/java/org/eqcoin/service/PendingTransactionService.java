@@ -81,6 +81,13 @@ public class PendingTransactionService extends EQCService {
 			transaction.setTxFeeRate(txFeeRate);
 			if(!transaction.getWitness().isMeetPreCondition()) {
 				Log.info("Doesn't meet pre condition just discard it");
+				return;
+			}
+			// Verify the signature here so the verified result can be reused when the
+			// relevant EQCHive is validated
+			if(!transaction.getWitness().verifySignature()) {
+				Log.info("Transaction's signature verify failed just discard it");
+				return;
 			}
 			passport = transaction.getWitness().getPassport();
 			if(transaction.getNonce().compareTo(passport.getNonce()) < 0) {
@@ -127,6 +127,9 @@ public final class PlantService extends EQCService {
 				halt();
 			}
 		}
+		// The POW finished so the new EQCHive will not be changed any more just seal
+		// it to memoize it's bytes during broadcast and save it
+		newEQCHive.seal();
 
 		// Planting successful
 		synchronized (EQCService.class) {
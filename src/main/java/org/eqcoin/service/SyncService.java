@@ -36,6 +36,7 @@ import org.eqcoin.rpc.object.SPList;
 import org.eqcoin.rpc.object.TransactionIndex;
 import org.eqcoin.rpc.object.TransactionIndexList;
 import org.eqcoin.rpc.object.TransactionList;
+import org.eqcoin.rpc.object.TransactionSketch;
 import org.eqcoin.service.state.SleepState;
 import org.eqcoin.transaction.Transaction;
 import org.eqcoin.util.Log;
@@ -88,9 +89,14 @@ public class SyncService extends EQCService {
 			TransactionIndexList transactionIndexList = null;
 			TransactionIndexList needSyncList = null;
 			TransactionList transactionList = null;
+			long[] shortIds = getPoolShortIds();
 			for(SP sp:spList.getSPList()) {
 				Log.info("Begin get Transaction list");
-				transactionIndexList = EQCTransactionNetworkClient.getTransactionIndexList(sp);
+				transactionIndexList = getTransactionIndexListBySketch(shortIds, sp);
+				if(transactionIndexList == null) {
+					// The difference is too large to reconcile so fall back to sync by time window
+					transactionIndexList = EQCTransactionNetworkClient.getTransactionIndexList(sp);
+				}
 				needSyncList = new TransactionIndexList();
 				if(transactionIndexList != null) {
 					Log.info("Begin sync Transaction");
@@ -100,6 +106,10 @@ public class SyncService extends EQCService {
 						}
 					}
 				}
+				if(needSyncList.getTransactionIndexList().isEmpty()) {
+					continue;
+				}
+				// Fetch all the missing Transactions in one batch
 				transactionList = EQCTransactionNetworkClient.getTransactionList(needSyncList, sp);
 				if(transactionList != null) {
 					for(Transaction transaction:transactionList.getTransactionList()) {
@@ -115,6 +125,53 @@ public class SyncService extends EQCService {
 		
 	}
 	
+	private long[] getPoolShortIds() throws Exception {
+		TransactionIndexList poolIndexList = Util.MC().getTransactionIndexListInPool(0, System.currentTimeMillis());
+		long[] shortIds = new long[poolIndexList.getTransactionIndexList().size()];
+		for(int i=0; i<shortIds.length; ++i) {
+			shortIds[i] = poolIndexList.getTransactionIndexList().get(i).getShortId();
+		}
+		return shortIds;
+	}
+	
+	/**
+	 * Send the TransactionSketch to the SP and get back the TransactionIndex list
+	 * which only exists in the SP's pool or null if the difference is too large.
+	 */
+	interface SketchRequester {
+		TransactionIndexList request(TransactionSketch transactionSketch) throws Exception;
+	}
+	
+	private TransactionIndexList getTransactionIndexListBySketch(long[] shortIds, SP sp) {
+		return getTransactionIndexListBySketch(shortIds, (transactionSketch) -> EQCTransactionNetworkClient.getTransactionIndexListBySketch(transactionSketch, sp));
+	}
+	
+	/**
+	 * Reconcile the transaction pool with the SP begin with the minimum sketch and
+	 * enlarge it until the difference can be decoded. The failure of one round
+	 * only means the next bigger sketch should be tried.
+	 * 
+	 * @return the TransactionIndex list which only exists in the SP's pool or null
+	 *         if the difference is too large even for the maximum sketch
+	 */
+	static TransactionIndexList getTransactionIndexListBySketch(long[] shortIds, SketchRequester sketchRequester) {
+		TransactionIndexList transactionIndexList = null;
+		TransactionSketch transactionSketch = null;
+		for (int cellNumber = TransactionSketch.MIN_CELL_NUMBER; cellNumber <= TransactionSketch.MAX_CELL_NUMBER
+				&& transactionIndexList == null; cellNumber *= 4) {
+			transactionSketch = new TransactionSketch(cellNumber);
+			for (long shortId : shortIds) {
+				transactionSketch.addShortId(shortId);
+			}
+			try {
+				transactionIndexList = sketchRequester.request(transactionSketch);
+			} catch (Exception e) {
+				Log.Error("During reconcile transaction pool with cell number " + cellNumber + " error occur: " + e.getMessage());
+			}
+		}
+		return transactionIndexList;
+	}
+	
 	/* (non-Javadoc)
 	 * @see com.eqchains.service.EQCService#start()
 	 */
@@ -28,6 +28,8 @@ import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 
 import org.eqcoin.protocol.EQCProtocol;
+import org.eqcoin.serialization.EQCReader;
+import org.eqcoin.serialization.EQCWriter;
 import org.eqcoin.transaction.operation.Operation;
 import org.eqcoin.util.Log;
 
@@ -61,6 +63,7 @@ public class ModerateOPTransaction extends Transaction {
 	 */
 	public void setOperation(Operation operation) {
 		this.operation = operation;
+		invalidate();
 	}
 
 	@Override
@@ -184,4 +187,26 @@ public class ModerateOPTransaction extends Transaction {
 		operation = new Operation().setTransaction(this).Parse(is);
 	}
 
+	/* (non-Javadoc)
+	 * @see org.eqcoin.transaction.Transaction#getBodyBytes(org.eqcoin.serialization.EQCWriter)
+	 */
+	@Override
+	public EQCWriter getBodyBytes(EQCWriter writer) throws Exception {
+		// Serialization Super body
+		super.getBodyBytes(writer);
+		// Serialization Operation
+		return operation.getBytes(writer);
+	}
+
+	/* (non-Javadoc)
+	 * @see org.eqcoin.transaction.Transaction#parseBody(org.eqcoin.serialization.EQCReader)
+	 */
+	@Override
+	public void parseBody(EQCReader reader) throws Exception {
+		// Parse Super body
+		super.parseBody(reader);
+		// Parse Operation
+		operation = new Operation().setTransaction(this).Parse(reader);
+	}
+
 }
@@ -28,16 +28,19 @@ import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.math.BigInteger;
-import java.security.MessageDigest;
 import java.sql.Savepoint;
 import java.util.Comparator;
+import java.util.EnumMap;
 import java.util.Vector;
 
+import org.eqcoin.crypto.HashTool;
 import org.eqcoin.hive.EQCHive;
 import org.eqcoin.lock.LockTool.LockType;
 import org.eqcoin.lock.witness.Witness;
 import org.eqcoin.serialization.EQCCastle;
 import org.eqcoin.serialization.EQCObject;
+import org.eqcoin.serialization.EQCReader;
+import org.eqcoin.serialization.EQCWriter;
 import org.eqcoin.transaction.operation.Operation;
 import org.eqcoin.transaction.txout.TransferTxOut;
 import org.eqcoin.transaction.txout.ZionTxOut;
@@ -209,6 +212,15 @@ public class Transaction extends EQCObject implements Comparator<Transaction>, C
 
 	protected TransactionShape transactionShape;
 
+	/**
+	 * Each TransactionShape's bytes and hash which is memoized after the
+	 * Transaction parsed or planted and sealed to avoid serialize and hash it
+	 * again and again during build and validate EQCHive
+	 */
+	private EnumMap<TransactionShape, byte[]> sealedShapeBytes;
+
+	private EnumMap<TransactionShape, byte[]> sealedShapeBytesHash;
+
 	// Flag bits
 	private final byte FLAG_BITS = (byte) 128;
 
@@ -300,7 +312,7 @@ public class Transaction extends EQCObject implements Comparator<Transaction>, C
 	public Value getBillingLength() throws Exception {
 		Value billingLength = null;
 		// Add transaction length include signature length
-		billingLength = new Value(BigInteger.valueOf(getBytes().length)).add(Util.MAX_TXFEE_LEN);
+		billingLength = new Value(getBytes().length).add(Util.MAX_TXFEE_LEN);
 		// Add proof length
 		billingLength = billingLength.add(getGlobalStateLength());
 		return billingLength;
@@ -321,14 +333,144 @@ public class Transaction extends EQCObject implements Comparator<Transaction>, C
 		return os;
 	}
 
+	/* (non-Javadoc)
+	 * @see org.eqcoin.serialization.EQCObject#getBodyBytes(org.eqcoin.serialization.EQCWriter)
+	 */
+	@Override
+	public EQCWriter getBodyBytes(final EQCWriter writer) throws Exception {
+		// Serialization derived body bytes
+		getDerivedBodyBytes(writer);
+		if (transactionShape != TransactionShape.SIGN) {
+			// Serialization Witness
+			witness.getBytes(writer);
+		}
+		return writer;
+	}
+
 	protected byte[] getDerivedBodyBytes() throws Exception {
 		return null;
 	}
 
+	protected EQCWriter getDerivedBodyBytes(final EQCWriter writer) throws Exception {
+		return writer.write(getDerivedBodyBytes());
+	}
+
 	public EQCHive getEQCHive() {
 		return eqcHive;
 	}
 
+	/* (non-Javadoc)
+	 * @see org.eqcoin.serialization.EQCObject#getBytes()
+	 */
+	@Override
+	public byte[] getBytes() throws Exception {
+		if (!isSealed()) {
+			return encode();
+		}
+		byte[] bytes = getSealedShapeBytes().get(transactionShape);
+		if (bytes == null) {
+			recordSealMiss();
+			bytes = encode();
+			sealedShapeBytes.put(transactionShape, bytes);
+		} else {
+			recordSealHit();
+		}
+		return bytes;
+	}
+
+	/**
+	 * @return the SHA3-512 hash of current TransactionShape's bytes which is
+	 *         memoized when the Transaction is sealed
+	 * @see org.eqcoin.serialization.EQCObject#getBytesHash()
+	 */
+	@Override
+	public byte[] getBytesHash() throws Exception {
+		if (!isSealed()) {
+			return HashTool.SHA3_512(getBytes());
+		}
+		if (sealedShapeBytesHash == null) {
+			sealedShapeBytesHash = new EnumMap<>(TransactionShape.class);
+		}
+		byte[] hash = sealedShapeBytesHash.get(transactionShape);
+		if (hash == null) {
+			recordSealMiss();
+			hash = HashTool.SHA3_512(getBytes());
+			sealedShapeBytesHash.put(transactionShape, hash);
+		} else {
+			recordSealHit();
+		}
+		return hash;
+	}
+
+	private EnumMap<TransactionShape, byte[]> getSealedShapeBytes() {
+		if (sealedShapeBytes == null) {
+			sealedShapeBytes = new EnumMap<>(TransactionShape.class);
+		}
+		return sealedShapeBytes;
+	}
+
+	private byte[] peekSealedShapeBytes() {
+		return (sealedShapeBytes == null) ? null : sealedShapeBytes.get(transactionShape);
+	}
+
+	/* (non-Javadoc)
+	 * @see org.eqcoin.serialization.EQCObject#getBytes(java.io.ByteArrayOutputStream)
+	 */
+	@Override
+	public ByteArrayOutputStream getBytes(final ByteArrayOutputStream os) throws Exception {
+		final byte[] bytes = peekSealedShapeBytes();
+		if (bytes != null) {
+			recordSealHit();
+			os.write(bytes);
+			return os;
+		}
+		return super.getBytes(os);
+	}
+
+	/* (non-Javadoc)
+	 * @see org.eqcoin.serialization.EQCObject#getBytes(org.eqcoin.serialization.EQCWriter)
+	 */
+	@Override
+	public EQCWriter getBytes(final EQCWriter writer) throws Exception {
+		final byte[] bytes = peekSealedShapeBytes();
+		if (bytes != null) {
+			recordSealHit();
+			return writer.write(bytes);
+		}
+		getHeaderBytes(writer);
+		getBodyBytes(writer);
+		return writer;
+	}
+
+	/**
+	 * @return the length of the RPC shape's bytes
+	 * @throws Exception
+	 */
+	public int getLength() throws Exception {
+		final TransactionShape originalTransactionShape = transactionShape;
+		try {
+			transactionShape = TransactionShape.RPC;
+			return getBytes().length;
+		}
+		finally {
+			transactionShape = originalTransactionShape;
+		}
+	}
+
+	/* (non-Javadoc)
+	 * @see org.eqcoin.serialization.EQCObject#invalidate()
+	 */
+	@Override
+	protected void invalidate() {
+		super.invalidate();
+		if (sealedShapeBytes != null) {
+			sealedShapeBytes.clear();
+		}
+		if (sealedShapeBytesHash != null) {
+			sealedShapeBytesHash.clear();
+		}
+	}
+
 	//	public TRANSACTION_PRIORITY getPriority() throws Exception {
 	//		TRANSACTION_PRIORITY priority = null;
 	//		byte flag = 0;
@@ -379,7 +521,7 @@ public class Transaction extends EQCObject implements Comparator<Transaction>, C
 		try {
 			this.transactionShape = TransactionShape.SIGN;
 			// Add transaction size but without signature size due to at this time doesn't know.
-			maxBillingLength = new Value(BigInteger.valueOf(getBytes().length)).add(Util.MAX_TXFEE_LEN);
+			maxBillingLength = new Value(getBytes().length).add(Util.MAX_TXFEE_LEN);
 			//			// Add MAX_TXFEE_LEN due to in txin maybe already include the txfee so here just subtract it's length which is zero by default
 			//			maxBillingLength = maxBillingLength.add(Util.MAX_TXFEE_LEN.subtract(BigInteger.valueOf(status.getEQCBits().length)));
 			// Add signature length
@@ -441,7 +583,7 @@ public class Transaction extends EQCObject implements Comparator<Transaction>, C
 		final TransactionShape originalTransactionShape = transactionShape;
 		try {
 			transactionShape = TransactionShape.SIGN;
-			bytes = MessageDigest.getInstance(Util.SHA3_512).digest(getBytes());
+			bytes = getBytesHash();
 		}
 		finally {
 			transactionShape = originalTransactionShape;
@@ -683,6 +825,9 @@ public class Transaction extends EQCObject implements Comparator<Transaction>, C
 		final ByteArrayInputStream is = new ByteArrayInputStream(bytes);
 		transaction = Parse(is);
 		EQCCastle.assertNoRedundantData(is);
+		if (transactionShape == TransactionShape.RPC) {
+			transaction.getSealedShapeBytes().put(TransactionShape.RPC, bytes);
+		}
 		return transaction;
 	}
 
@@ -691,8 +836,25 @@ public class Transaction extends EQCObject implements Comparator<Transaction>, C
 	 */
 	@Override
 	public Transaction Parse(final ByteArrayInputStream is) throws Exception {
+		final Transaction transaction = newTransaction(parseTransactionType(is));
+		transaction.setTransactionShape(transactionShape).parse(is);
+		transaction.seal();
+		return transaction;
+	}
+
+	/* (non-Javadoc)
+	 * @see org.eqcoin.serialization.EQCObject#Parse(org.eqcoin.serialization.EQCReader)
+	 */
+	@Override
+	public Transaction Parse(final EQCReader reader) throws Exception {
+		final Transaction transaction = newTransaction(TransactionType.get((int) reader.peekEQCBits()));
+		transaction.setTransactionShape(transactionShape).parse(reader);
+		transaction.seal();
+		return transaction;
+	}
+
+	private static Transaction newTransaction(final TransactionType transactionType) throws Exception {
 		Transaction transaction = null;
-		final TransactionType transactionType = parseTransactionType(is);
 		if (transactionType == TransactionType.TRANSFER) {
 			transaction = new TransferTransaction();
 		} else if (transactionType == TransactionType.TRANSFEROP) {
@@ -712,7 +874,6 @@ public class Transaction extends EQCObject implements Comparator<Transaction>, C
 		} else {
 			throw new IllegalStateException("Bad Transaction format: " + transactionType);
 		}
-		transaction.setTransactionShape(transactionShape).parse(is);
 		return transaction;
 	}
 
@@ -720,13 +881,44 @@ public class Transaction extends EQCObject implements Comparator<Transaction>, C
 	public void parseBody(final ByteArrayInputStream is)
 			throws Exception {
 		parseDerivedBody(is);
-		witness = new Witness().setTransaction(this).Parse(is);
+		witness = new Witness().setTransaction(this).Parse(is).setOwner(this);
 	}
 
 	protected void parseDerivedBody(final ByteArrayInputStream is) throws Exception {
 
 	}
 
+	/* (non-Javadoc)
+	 * @see org.eqcoin.serialization.EQCObject#parse(org.eqcoin.serialization.EQCReader)
+	 */
+	@Override
+	public void parse(final EQCReader reader) throws Exception {
+		parseHeader(reader);
+		parseBody(reader);
+	}
+
+	/* (non-Javadoc)
+	 * @see org.eqcoin.serialization.EQCObject#parseBody(org.eqcoin.serialization.EQCReader)
+	 */
+	@Override
+	public void parseBody(final EQCReader reader) throws Exception {
+		parseDerivedBody(reader);
+		witness = new Witness().setTransaction(this).Parse(reader).setOwner(this);
+	}
+
+	/**
+	 * The derived class which hasn't ported to EQCReader just parse it's derived
+	 * body from the ByteArrayInputStream view of the reader.
+	 *
+	 * @param reader
+	 * @throws Exception
+	 */
+	protected void parseDerivedBody(final EQCReader reader) throws Exception {
+		final ByteArrayInputStream is = reader.getInputStream();
+		parseDerivedBody(is);
+		reader.skip(is);
+	}
+
 	@Override
 	public void parseHeader(final ByteArrayInputStream is) throws Exception {
 		// Parse Transaction type
@@ -751,6 +943,7 @@ public class Transaction extends EQCObject implements Comparator<Transaction>, C
 				savepoint = eqcHive.getGlobalState().setSavepoint();
 				derivedPlanting();
 				isSuccessful = true;
+				seal();
 			}
 		} catch (final Exception e) {
 			Log.Error("During planting error occur: " + e.getMessage() + " savepoint: "+ savepoint);
@@ -770,6 +963,7 @@ public class Transaction extends EQCObject implements Comparator<Transaction>, C
 
 	public void setLockType(final LockType lockType) {
 		this.lockType = lockType;
+		invalidate();
 	}
 
 	/**
@@ -778,6 +972,7 @@ public class Transaction extends EQCObject implements Comparator<Transaction>, C
 	 */
 	public void setNonce(final ID nonce) {
 		this.nonce = nonce;
+		invalidate();
 	}
 
 	public void setOperation(final Operation operation) {
@@ -785,6 +980,7 @@ public class Transaction extends EQCObject implements Comparator<Transaction>, C
 			throw new IllegalStateException("Only OP Transaction support getOperation but current transaction is: " + transactionType);
 		}
 		this.operation = operation;
+		invalidate();
 	}
 
 	//	public void setPriority(TRANSACTION_PRIORITY priority, LockType lockType, Value txFee) throws Exception {
@@ -800,6 +996,7 @@ public class Transaction extends EQCObject implements Comparator<Transaction>, C
 
 	public void setPriority(final TRANSACTION_PRIORITY priority) {
 		this.priority = priority;
+		invalidate();
 	}
 
 	//	public LockType getLockType() {
@@ -827,13 +1024,15 @@ public class Transaction extends EQCObject implements Comparator<Transaction>, C
 
 	public void setTxFeeRate(final Value txFeeRate) {
 		this.txFeeRate = txFeeRate;
+		invalidate();
 	}
 
 	/**
 	 * @param witness the witness to set
 	 */
 	public void setWitness(final Witness witness) {
-		this.witness = witness;
+		this.witness = witness.setOwner(this);
+		invalidate();
 	}
 
 	public String statusInnerJson() {
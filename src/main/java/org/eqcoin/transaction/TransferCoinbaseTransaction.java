@@ -30,6 +30,8 @@ import java.io.IOException;
 
 import org.eqcoin.hive.EQCHive;
 import org.eqcoin.serialization.EQCCastle;
+import org.eqcoin.serialization.EQCReader;
+import org.eqcoin.serialization.EQCWriter;
 import org.eqcoin.passport.passport.Passport;
 import org.eqcoin.transaction.txout.TransferTxOut;
 import org.eqcoin.util.ID;
@@ -188,8 +190,8 @@ public class TransferCoinbaseTransaction extends Transaction {
 	}
 
 	public void parseBody(ByteArrayInputStream is) throws Exception {
-		eqCoinFederalTxOut = new TransferTxOut(is);
-		eqCoinMinerTxOut = new TransferTxOut(is);
+		eqCoinFederalTxOut = new TransferTxOut(is).setOwner(this);
+		eqCoinMinerTxOut = new TransferTxOut(is).setOwner(this);
 	}
 	
 	/* (non-Javadoc)
@@ -210,6 +212,43 @@ public class TransferCoinbaseTransaction extends Transaction {
 		return os;
 	}
 
+	/* (non-Javadoc)
+	 * @see org.eqcoin.transaction.Transaction#parseHeader(org.eqcoin.serialization.EQCReader)
+	 */
+	@Override
+	public void parseHeader(EQCReader reader) throws Exception {
+		// Parse nonce
+		nonce = reader.readID();
+	}
+
+	/* (non-Javadoc)
+	 * @see org.eqcoin.transaction.Transaction#parseBody(org.eqcoin.serialization.EQCReader)
+	 */
+	@Override
+	public void parseBody(EQCReader reader) throws Exception {
+		eqCoinFederalTxOut = new TransferTxOut().Parse(reader).setOwner(this);
+		eqCoinMinerTxOut = new TransferTxOut().Parse(reader).setOwner(this);
+	}
+
+	/* (non-Javadoc)
+	 * @see org.eqcoin.transaction.Transaction#getHeaderBytes(org.eqcoin.serialization.EQCWriter)
+	 */
+	@Override
+	public EQCWriter getHeaderBytes(EQCWriter writer) throws Exception {
+		// Serialization nonce
+		return writer.writeEQCBits(nonce);
+	}
+
+	/* (non-Javadoc)
+	 * @see org.eqcoin.transaction.Transaction#getBodyBytes(org.eqcoin.serialization.EQCWriter)
+	 */
+	@Override
+	public EQCWriter getBodyBytes(EQCWriter writer) throws Exception {
+		// Serialization TxOut
+		eqCoinFederalTxOut.getBytes(writer);
+		return eqCoinMinerTxOut.getBytes(writer);
+	}
+
 	/**
 	 * @return the eqCoinFederalTxOut
 	 */
@@ -221,7 +260,8 @@ public class TransferCoinbaseTransaction extends Transaction {
 	 * @param eqCoinFederalTxOut the eqCoinFederalTxOut to set
 	 */
 	public void setEqCoinFederalTxOut(TransferTxOut eqCoinFederalTxOut) {
-		this.eqCoinFederalTxOut = eqCoinFederalTxOut;
+		this.eqCoinFederalTxOut = eqCoinFederalTxOut.setOwner(this);
+		invalidate();
 	}
 
 	/**
@@ -235,7 +275,8 @@ public class TransferCoinbaseTransaction extends Transaction {
 	 * @param eqCoinMinerTxOut the eqCoinMinerTxOut to set
 	 */
 	public void setEqCoinMinerTxOut(TransferTxOut eqCoinMinerTxOut) {
-		this.eqCoinMinerTxOut = eqCoinMinerTxOut;
+		this.eqCoinMinerTxOut = eqCoinMinerTxOut.setOwner(this);
+		invalidate();
 	}
 	
 	/* (non-Javadoc)
@@ -29,6 +29,8 @@ import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 
 import org.eqcoin.protocol.EQCProtocol;
+import org.eqcoin.serialization.EQCReader;
+import org.eqcoin.serialization.EQCWriter;
 import org.eqcoin.transaction.operation.Operation;
 import org.eqcoin.util.Log;
 import org.eqcoin.util.Value;
@@ -125,6 +127,17 @@ public class TransferOPTransaction extends TransferTransaction {
 		}
 		return os.toByteArray();
 	}
+
+	/* (non-Javadoc)
+	 * @see org.eqcoin.transaction.TransferTransaction#getDerivedBodyBytes(org.eqcoin.serialization.EQCWriter)
+	 */
+	@Override
+	protected EQCWriter getDerivedBodyBytes(EQCWriter writer) throws Exception {
+		// Serialization Super body
+		super.getDerivedBodyBytes(writer);
+		// Serialization Operation list
+		return operation.getBytes(writer);
+	}
 	
 	/* (non-Javadoc)
 	 * @see com.eqcoin.blockchain.transaction.TransferTransaction#parseDerivedBody(java.io.ByteArrayInputStream)
@@ -136,6 +149,16 @@ public class TransferOPTransaction extends TransferTransaction {
 		operation = new Operation().setTransaction(this).Parse(is);
 	}
 
+	/* (non-Javadoc)
+	 * @see org.eqcoin.transaction.TransferTransaction#parseDerivedBody(org.eqcoin.serialization.EQCReader)
+	 */
+	@Override
+	protected void parseDerivedBody(EQCReader reader) throws Exception {
+		super.parseDerivedBody(reader);
+		// Parse Operation list
+		operation = new Operation().setTransaction(this).Parse(reader);
+	}
+
 	@Override
 	protected Value getGlobalStateLength() throws Exception {
 		return super.getGlobalStateLength().add(new Value(operation.getBytes().length));
@@ -30,6 +30,8 @@ import java.io.IOException;
 import java.util.Vector;
 
 import org.eqcoin.serialization.EQCCastle;
+import org.eqcoin.serialization.EQCReader;
+import org.eqcoin.serialization.EQCWriter;
 import org.eqcoin.passport.passport.Passport;
 import org.eqcoin.transaction.txout.TransferTxOut;
 import org.eqcoin.util.Log;
@@ -100,7 +102,16 @@ public class TransferTransaction extends Transaction {
 	protected void parseDerivedBody(ByteArrayInputStream is)
 			throws Exception {
 		// Parse TxOut
-		txOutList = EQCCastle.parseArray(is, new TransferTxOut());
+		txOutList = own(EQCCastle.parseArray(is, new TransferTxOut()));
+	}
+
+	/* (non-Javadoc)
+	 * @see org.eqcoin.transaction.Transaction#parseDerivedBody(org.eqcoin.serialization.EQCReader)
+	 */
+	@Override
+	protected void parseDerivedBody(EQCReader reader) throws Exception {
+		// Parse TxOut
+		txOutList = own(reader.readArray(new TransferTxOut()));
 	}
 	
 	/* (non-Javadoc)
@@ -120,6 +131,15 @@ public class TransferTransaction extends Transaction {
 		return os.toByteArray();
 	}
 
+	/* (non-Javadoc)
+	 * @see org.eqcoin.transaction.Transaction#getDerivedBodyBytes(org.eqcoin.serialization.EQCWriter)
+	 */
+	@Override
+	protected EQCWriter getDerivedBodyBytes(EQCWriter writer) throws Exception {
+		// Serialization TxOut
+		return writer.writeArray(txOutList);
+	}
+
 	/**
 	 * Check if all TxOut relevant fields is valid for example the TxOutList, Operation,
 	 * HelixList etc...
@@ -145,7 +165,8 @@ public class TransferTransaction extends Transaction {
 
 	public void addTxOut(TransferTxOut txOut) {
 		if (!isTxOutPassportExists(txOut)) {
-			txOutList.add(txOut);
+			txOutList.add(txOut.setOwner(this));
+			invalidate();
 		} else {
 			Log.Error(txOut + " already exists in txOutList just ignore it.");
 		}
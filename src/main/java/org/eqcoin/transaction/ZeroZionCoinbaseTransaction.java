@@ -31,6 +31,8 @@ import java.io.IOException;
 import org.eqcoin.hive.EQCHive;
 import org.eqcoin.lock.LockMate;
 import org.eqcoin.serialization.EQCCastle;
+import org.eqcoin.serialization.EQCReader;
+import org.eqcoin.serialization.EQCWriter;
 import org.eqcoin.passport.passport.AssetPassport;
 import org.eqcoin.passport.passport.Passport;
 import org.eqcoin.transaction.txout.ZionTxOut;
@@ -225,8 +227,8 @@ public class ZeroZionCoinbaseTransaction extends Transaction {
 	}
 
 	public void parseBody(ByteArrayInputStream is) throws Exception {
-		eqCoinFederalTxOut = new ZionTxOut(is);
-		eqCoinMinerTxOut = new ZionTxOut(is);
+		eqCoinFederalTxOut = new ZionTxOut(is).setOwner(this);
+		eqCoinMinerTxOut = new ZionTxOut(is).setOwner(this);
 	}
 	
 	/* (non-Javadoc)
@@ -248,6 +250,25 @@ public class ZeroZionCoinbaseTransaction extends Transaction {
 		return os;
 	}
 
+	/* (non-Javadoc)
+	 * @see org.eqcoin.transaction.Transaction#parseBody(org.eqcoin.serialization.EQCReader)
+	 */
+	@Override
+	public void parseBody(EQCReader reader) throws Exception {
+		eqCoinFederalTxOut = new ZionTxOut().Parse(reader).setOwner(this);
+		eqCoinMinerTxOut = new ZionTxOut().Parse(reader).setOwner(this);
+	}
+
+	/* (non-Javadoc)
+	 * @see org.eqcoin.transaction.Transaction#getBodyBytes(org.eqcoin.serialization.EQCWriter)
+	 */
+	@Override
+	public EQCWriter getBodyBytes(EQCWriter writer) throws Exception {
+		// Serialization TxOut
+		eqCoinFederalTxOut.getBytes(writer);
+		return eqCoinMinerTxOut.getBytes(writer);
+	}
+
 	/**
 	 * @return the eqCoinFederalTxOut
 	 */
@@ -259,7 +280,8 @@ public class ZeroZionCoinbaseTransaction extends Transaction {
 	 * @param eqCoinFederalTxOut the eqCoinFederalTxOut to set
 	 */
 	public void setEqCoinFederalTxOut(ZionTxOut eqCoinFederalTxOut) {
-		this.eqCoinFederalTxOut = eqCoinFederalTxOut;
+		this.eqCoinFederalTxOut = eqCoinFederalTxOut.setOwner(this);
+		invalidate();
 	}
 
 	/**
@@ -273,7 +295,8 @@ public class ZeroZionCoinbaseTransaction extends Transaction {
 	 * @param eqCoinMinerTxOut the eqCoinMinerTxOut to set
 	 */
 	public void setEqCoinMinerTxOut(ZionTxOut eqCoinMinerTxOut) {
-		this.eqCoinMinerTxOut = eqCoinMinerTxOut;
+		this.eqCoinMinerTxOut = eqCoinMinerTxOut.setOwner(this);
+		invalidate();
 	}
 
 	/* (non-Javadoc)
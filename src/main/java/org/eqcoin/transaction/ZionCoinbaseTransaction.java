@@ -31,6 +31,8 @@ import java.io.IOException;
 import org.eqcoin.hive.EQCHive;
 import org.eqcoin.lock.LockMate;
 import org.eqcoin.serialization.EQCCastle;
+import org.eqcoin.serialization.EQCReader;
+import org.eqcoin.serialization.EQCWriter;
 import org.eqcoin.passport.passport.AssetPassport;
 import org.eqcoin.passport.passport.Passport;
 import org.eqcoin.transaction.txout.TransferTxOut;
@@ -202,8 +204,8 @@ public class ZionCoinbaseTransaction extends Transaction {
 	}
 
 	public void parseBody(ByteArrayInputStream is) throws Exception {
-		eqCoinFederalTxOut = new TransferTxOut(is);
-		eqCoinMinerTxOut = new ZionTxOut(is);
+		eqCoinFederalTxOut = new TransferTxOut(is).setOwner(this);
+		eqCoinMinerTxOut = new ZionTxOut(is).setOwner(this);
 	}
 	
 	/* (non-Javadoc)
@@ -225,6 +227,25 @@ public class ZionCoinbaseTransaction extends Transaction {
 		return os;
 	}
 
+	/* (non-Javadoc)
+	 * @see org.eqcoin.transaction.Transaction#parseBody(org.eqcoin.serialization.EQCReader)
+	 */
+	@Override
+	public void parseBody(EQCReader reader) throws Exception {
+		eqCoinFederalTxOut = new TransferTxOut().Parse(reader).setOwner(this);
+		eqCoinMinerTxOut = new ZionTxOut().Parse(reader).setOwner(this);
+	}
+
+	/* (non-Javadoc)
+	 * @see org.eqcoin.transaction.Transaction#getBodyBytes(org.eqcoin.serialization.EQCWriter)
+	 */
+	@Override
+	public EQCWriter getBodyBytes(EQCWriter writer) throws Exception {
+		// Serialization TxOut
+		eqCoinFederalTxOut.getBytes(writer);
+		return eqCoinMinerTxOut.getBytes(writer);
+	}
+
 	/**
 	 * @return the eqCoinFederalTxOut
 	 */
@@ -236,7 +257,8 @@ public class ZionCoinbaseTransaction extends Transaction {
 	 * @param eqCoinFederalTxOut the eqCoinFederalTxOut to set
 	 */
 	public void setEqCoinFederalTxOut(TransferTxOut eqCoinFederalTxOut) {
-		this.eqCoinFederalTxOut = eqCoinFederalTxOut;
+		this.eqCoinFederalTxOut = eqCoinFederalTxOut.setOwner(this);
+		invalidate();
 	}
 
 	/**
@@ -250,7 +272,8 @@ public class ZionCoinbaseTransaction extends Transaction {
 	 * @param eqCoinMinerTxOut the eqCoinMinerTxOut to set
 	 */
 	public void setEqCoinMinerTxOut(ZionTxOut eqCoinMinerTxOut) {
-		this.eqCoinMinerTxOut = eqCoinMinerTxOut;
+		this.eqCoinMinerTxOut = eqCoinMinerTxOut.setOwner(this);
+		invalidate();
 	}
 	
 	/* (non-Javadoc)
@@ -28,6 +28,8 @@ import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 
 import org.eqcoin.protocol.EQCProtocol;
+import org.eqcoin.serialization.EQCReader;
+import org.eqcoin.serialization.EQCWriter;
 import org.eqcoin.transaction.operation.Operation;
 import org.eqcoin.util.Log;
 
@@ -135,6 +137,28 @@ public class ZionOPTransaction extends ZionTransaction {
 		operation = new Operation().setTransaction(this).Parse(is);
 	}
 
+	/* (non-Javadoc)
+	 * @see org.eqcoin.transaction.Transaction#getBodyBytes(org.eqcoin.serialization.EQCWriter)
+	 */
+	@Override
+	public EQCWriter getBodyBytes(EQCWriter writer) throws Exception {
+		// Serialization Super body
+		super.getBodyBytes(writer);
+		// Serialization Operation
+		return operation.getBytes(writer);
+	}
+
+	/* (non-Javadoc)
+	 * @see org.eqcoin.transaction.Transaction#parseBody(org.eqcoin.serialization.EQCReader)
+	 */
+	@Override
+	public void parseBody(EQCReader reader) throws Exception {
+		// Parse Super body
+		super.parseBody(reader);
+		// Parse Operation
+		operation = new Operation().setTransaction(this).Parse(reader);
+	}
+
 	/* (non-Javadoc)
 	 * @see com.eqcoin.blockchain.transaction.TransferTransaction#derivedTxOutPlanting()
 	 */
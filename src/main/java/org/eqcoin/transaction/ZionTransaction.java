@@ -31,6 +31,8 @@ import java.util.Vector;
 
 import org.eqcoin.lock.LockMate;
 import org.eqcoin.serialization.EQCCastle;
+import org.eqcoin.serialization.EQCReader;
+import org.eqcoin.serialization.EQCWriter;
 import org.eqcoin.passport.passport.AssetPassport;
 import org.eqcoin.passport.passport.Passport;
 import org.eqcoin.transaction.txout.ZionTxOut;
@@ -161,7 +163,16 @@ public class ZionTransaction extends TransferTransaction {
 	@Override
 	protected void parseDerivedBody(ByteArrayInputStream is) throws Exception {
 		// Parse TxOut
-		txOutList = EQCCastle.parseArray(is, new ZionTxOut());
+		txOutList = own(EQCCastle.parseArray(is, new ZionTxOut()));
+	}
+
+	/* (non-Javadoc)
+	 * @see org.eqcoin.transaction.Transaction#parseDerivedBody(org.eqcoin.serialization.EQCReader)
+	 */
+	@Override
+	protected void parseDerivedBody(EQCReader reader) throws Exception {
+		// Parse TxOut
+		txOutList = own(reader.readArray(new ZionTxOut()));
 	}
 
 	/* (non-Javadoc)
@@ -185,7 +196,8 @@ public class ZionTransaction extends TransferTransaction {
 
 	public void addTxOut(ZionTxOut txOut) {
 		if (!isTxOutPassportExists(txOut)) {
-			txOutList.add(txOut);
+			txOutList.add(txOut.setOwner(this));
+			invalidate();
 		} else {
 			Log.Error(txOut + " already exists in txOutList just ignore it.");
 		}
@@ -220,6 +232,15 @@ public class ZionTransaction extends TransferTransaction {
 		return os.toByteArray();
 	}
 
+	/* (non-Javadoc)
+	 * @see org.eqcoin.transaction.Transaction#getDerivedBodyBytes(org.eqcoin.serialization.EQCWriter)
+	 */
+	@Override
+	protected EQCWriter getDerivedBodyBytes(EQCWriter writer) throws Exception {
+		// Serialization TxOut
+		return writer.writeArray(txOutList);
+	}
+
 	/* (non-Javadoc)
 	 * @see com.eqcoin.blockchain.transaction.TransferTransaction#getTxOutValues()
 	 */
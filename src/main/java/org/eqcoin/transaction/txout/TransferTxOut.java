@@ -62,17 +62,16 @@ public class TransferTxOut extends EQCObject {
 	@Override
 	public void parse(ByteArrayInputStream is) throws Exception {
 		// Parse Value
-		value = new Value(EQCCastle.parseEQCLight(is));
+		value = new Value(EQCCastle.eqcLightToLong(EQCCastle.parseEQCLight(is)));
 		// Parse Passport ID
-		passportId = new ID(EQCCastle.parseEQCQuantum(is));
+		passportId = EQCCastle.parseID(is);
 	}
 	
 	@Override
 	public ByteArrayOutputStream getBytes(ByteArrayOutputStream os) throws Exception {
-			byte[] passportBytes = passportId.toByteArray();
-			byte[] valueBytes = value.toByteArray();
-			os.write(value.getEQCLight());
-			os.write(passportBytes);
+		os.write(value.getEQCLight());
+		// The Passport ID isn't always divisible by 4 so it can't be EQCQuantum
+		os.write(passportId.getEQCBits());
 		return os;
 	}
 	
@@ -128,6 +127,7 @@ public class TransferTxOut extends EQCObject {
 	 */
 	public void setPassportId(ID passportId) {
 		this.passportId = passportId;
+		invalidate();
 	}
 
 	/**
@@ -143,6 +143,7 @@ public class TransferTxOut extends EQCObject {
 	 */
 	public void setValue(Value value) {
 		this.value = value;
+		invalidate();
 	}
 
 	public String toInnerJson() {
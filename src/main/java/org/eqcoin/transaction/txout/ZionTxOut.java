@@ -136,6 +136,7 @@ public class ZionTxOut extends EQCObject {
 	 */
 	public void setLock(Lock lock) {
 		this.lock = lock;
+		invalidate();
 	}
 
 	/**
@@ -150,6 +151,7 @@ public class ZionTxOut extends EQCObject {
 	 */
 	public void setValue(Value value) {
 		this.value = value;
+		invalidate();
 	}
 	
 }
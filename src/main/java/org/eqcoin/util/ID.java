@@ -42,26 +42,46 @@ public class ID extends BigInteger implements Gateway {
 	 */
 	final long serialVersionUID = -8644553965845085710L;
 
-	public static final ID ZERO = new ID(BigInteger.ZERO);
+	/**
+	 * The ID which fits in a long is also kept as compact long value so the hot
+	 * path such as getNextID, isNextID and compareTo can use long arithmetic
+	 * instead of allocate new BigInteger. The serialization is still the same.
+	 */
+	private final long compact;
+
+	private final boolean isCompact;
+
+	/**
+	 * The small ID such as nonce, passport id and height are the most frequently
+	 * occurring so the ID which less than ID_CACHE_SIZE is interned by
+	 * {@link #valueOf(long)} to avoid allocate it again and again.
+	 */
+	private static final int ID_CACHE_SIZE = 65536;
+
+	private static final ID[] ID_CACHE = new ID[ID_CACHE_SIZE];
 
-	public static final ID ONE = new ID(BigInteger.ONE);
+	public static final ID ZERO = valueOf(0);
 
-	public static final ID TWO = new ID(BigInteger.TWO);
+	public static final ID ONE = valueOf(1);
 
-	public static final ID THREE = new ID(3);
+	public static final ID TWO = valueOf(2);
 
-	public static final ID FOUR = new ID(4);
+	public static final ID THREE = valueOf(3);
 
-	public static final ID FIVE = new ID(5);
+	public static final ID FOUR = valueOf(4);
 
-	public static final ID SIX = new ID(6);
+	public static final ID FIVE = valueOf(5);
 
-	public static final ID SEVEN = new ID(7);
+	public static final ID SIX = valueOf(6);
 
-	public static final ID NINE = new ID(9);
+	public static final ID SEVEN = valueOf(7);
+
+	public static final ID NINE = valueOf(9);
 
 	public ID() {
 		super(BigInteger.ZERO.toByteArray());
+		isCompact = bitLength() < Long.SIZE;
+		compact = isCompact ? longValue() : 0;
 	}
 
 	/**
@@ -69,6 +89,8 @@ public class ID extends BigInteger implements Gateway {
 	 */
 	public ID(final BigInteger value) {
 		super(value.toByteArray());
+		isCompact = bitLength() < Long.SIZE;
+		compact = isCompact ? longValue() : 0;
 		EQCCastle.assertNotNegative(this);
 	}
 
@@ -76,37 +98,110 @@ public class ID extends BigInteger implements Gateway {
 	 * @param EQCBits
 	 */
 	public ID(final byte[] bytes) {
-		super(EQCCastle.eqcBitsToBigInteger(bytes).toByteArray());
+		super((bytes.length <= EQCCastle.EQCBITS_BUFFER_LEN) ? longToByteArray(EQCCastle.eqcBitsToLong(bytes))
+				: EQCCastle.eqcBitsToBigInteger(bytes).toByteArray());
+		isCompact = bitLength() < Long.SIZE;
+		compact = isCompact ? longValue() : 0;
 	}
 
 	/**
 	 * @param long
 	 */
 	public ID(final long value) {
-		super(BigInteger.valueOf(value).toByteArray());
+		super(longToByteArray(value));
+		isCompact = bitLength() < Long.SIZE;
+		compact = isCompact ? longValue() : 0;
 		EQCCastle.assertNotNegative(this);
 	}
 
 	public <T> ID(final T type) throws Exception{
 		super(BigInteger.ZERO.toByteArray());
 		parse(type);
+		isCompact = bitLength() < Long.SIZE;
+		compact = isCompact ? longValue() : 0;
 		EQCCastle.assertNotNegative(this);
 	}
 
+	/**
+	 * @param value
+	 * @return the interned ID if the value is less than ID_CACHE_SIZE otherwise
+	 *         return new ID
+	 */
+	public static ID valueOf(final long value) {
+		if (value >= 0 && value < ID_CACHE_SIZE) {
+			ID id = ID_CACHE[(int) value];
+			if (id == null) {
+				// The ID is immutable so it's safe even if multiple threads create it at the
+				// same time
+				id = new ID(value);
+				ID_CACHE[(int) value] = id;
+			}
+			return id;
+		}
+		return new ID(value);
+	}
+
+	/**
+	 * @param bytes EQCBits
+	 * @return the interned ID if the value is less than ID_CACHE_SIZE otherwise
+	 *         return new ID
+	 */
+	public static ID valueOf(final byte[] bytes) {
+		if (bytes.length <= EQCCastle.EQCBITS_BUFFER_LEN) {
+			return valueOf(EQCCastle.eqcBitsToLong(bytes));
+		}
+		return new ID(bytes);
+	}
+
+	/**
+	 * @param value
+	 * @return the long value's 8 bytes big-endian two's-complement which can be
+	 *         used to construct BigInteger directly without allocate another
+	 *         BigInteger
+	 */
+	static byte[] longToByteArray(long value) {
+		final byte[] bytes = new byte[Long.BYTES];
+		for (int i = Long.BYTES - 1; i >= 0; --i) {
+			bytes[i] = (byte) value;
+			value >>= Byte.SIZE;
+		}
+		return bytes;
+	}
+
 	/* (non-Javadoc)
 	 * @see java.math.BigInteger#add(java.math.BigInteger)
 	 */
 	@Override
 	public ID add(final BigInteger val) {
+		if (isCompact && val.bitLength() < Long.SIZE) {
+			try {
+				return valueOf(Math.addExact(compact, val.longValue()));
+			} catch (final ArithmeticException e) {
+				// Overflow just fall back to BigInteger
+			}
+		}
 		return new ID(super.add(val));
 	}
 
+	/* (non-Javadoc)
+	 * @see java.math.BigInteger#compareTo(java.math.BigInteger)
+	 */
+	@Override
+	public int compareTo(final BigInteger val) {
+		if (isCompact && (val instanceof ID) && ((ID) val).isCompact) {
+			return Long.compare(compact, ((ID) val).compact);
+		}
+		return super.compareTo(val);
+	}
+
 	/* (non-Javadoc)
 	 * @see java.math.BigInteger#divide(java.math.BigInteger)
 	 */
 	@Override
 	public ID divide(final BigInteger val) {
-		// TODO Auto-generated method stub
+		if (isCompact && compact >= 0 && val.signum() > 0 && val.bitLength() < Long.SIZE) {
+			return valueOf(compact / val.longValue());
+		}
 		return new ID(super.divide(val));
 	}
 
@@ -114,6 +209,9 @@ public class ID extends BigInteger implements Gateway {
 	 * @return current ID's EQCBits
 	 */
 	public byte[] getEQCBits() {
+		if (isCompact && compact >= 0) {
+			return EQCCastle.longToEQCBits(compact);
+		}
 		return EQCCastle.bigIntegerToEQCBits(this);
 	}
 
@@ -121,6 +219,9 @@ public class ID extends BigInteger implements Gateway {
 	 * @return current ID's EQCQuantum
 	 */
 	public byte[] getEQCQuantum() {
+		if (isCompact && compact >= 0) {
+			return EQCCastle.longToEQCQuantum(compact);
+		}
 		return EQCCastle.bigIntegerToEQCQuantum(this);
 	}
 
@@ -128,14 +229,14 @@ public class ID extends BigInteger implements Gateway {
 	 * @return the next ID
 	 */
 	public ID getNextID() {
-		return new ID(this.add(BigInteger.ONE));
+		return add(BigInteger.ONE);
 	}
 
 	/**
 	 * @return the previous ID
 	 */
 	public ID getPreviousID() {
-		return new ID(this.subtract(BigInteger.ONE));
+		return subtract(BigInteger.ONE);
 	}
 
 	@Override
@@ -148,6 +249,9 @@ public class ID extends BigInteger implements Gateway {
 	 * @return return true if current ID equal to previous ID + 1 otherwise return false
 	 */
 	public boolean isNextID(final byte[] bytes) {
+		if (isCompact && bytes.length <= EQCCastle.EQCBITS_BUFFER_LEN) {
+			return compact - 1 == EQCCastle.eqcBitsToLong(bytes);
+		}
 		final BigInteger previousID = EQCCastle.eqcBitsToBigInteger(bytes);
 		return this.compareTo(previousID.add(BigInteger.ONE)) == 0;
 	}
@@ -157,6 +261,9 @@ public class ID extends BigInteger implements Gateway {
 	 * @return return true if current ID equal to previous ID + 1 otherwise return false
 	 */
 	public boolean isNextID(final ID previousID) {
+		if (isCompact && previousID.isCompact) {
+			return compact - 1 == previousID.compact;
+		}
 		return this.compareTo(previousID.add(BigInteger.ONE)) == 0;
 	}
 
@@ -169,7 +276,13 @@ public class ID extends BigInteger implements Gateway {
 	 */
 	@Override
 	public ID multiply(final BigInteger val) {
-		// TODO Auto-generated method stub
+		if (isCompact && val.bitLength() < Long.SIZE) {
+			try {
+				return valueOf(Math.multiplyExact(compact, val.longValue()));
+			} catch (final ArithmeticException e) {
+				// Overflow just fall back to BigInteger
+			}
+		}
 		return new ID(super.multiply(val));
 	}
 
@@ -190,7 +303,13 @@ public class ID extends BigInteger implements Gateway {
 	 */
 	@Override
 	public ID subtract(final BigInteger val) {
-		// TODO Auto-generated method stub
+		if (isCompact && val.bitLength() < Long.SIZE) {
+			try {
+				return valueOf(Math.subtractExact(compact, val.longValue()));
+			} catch (final ArithmeticException e) {
+				// Overflow just fall back to BigInteger
+			}
+		}
 		return new ID(super.subtract(val));
 	}
 
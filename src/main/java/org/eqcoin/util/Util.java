@@ -67,8 +67,7 @@ import javax.crypto.spec.SecretKeySpec;
 import org.apache.commons.net.ntp.NTPUDPClient;
 import org.apache.commons.net.ntp.TimeInfo;
 import org.apache.commons.net.ntp.TimeStamp;
-import org.bouncycastle.crypto.digests.RIPEMD128Digest;
-import org.bouncycastle.crypto.digests.RIPEMD160Digest;
+import org.eqcoin.crypto.HashTool;
 import org.eqcoin.crypto.MerkleTree;
 import org.eqcoin.hive.EQCHive;
 import org.eqcoin.hive.EQCHiveRoot;
@@ -83,6 +82,7 @@ import org.eqcoin.persistence.mosaic.h2.MosaicH2;
 import org.eqcoin.rpc.client.avro.EQCHiveSyncNetworkClient;
 import org.eqcoin.rpc.client.avro.EQCMinerNetworkClient;
 import org.eqcoin.rpc.client.avro.EQCTransactionNetworkClient;
+import org.eqcoin.rpc.gateway.Codec;
 import org.eqcoin.rpc.object.Code;
 import org.eqcoin.rpc.object.Info;
 import org.eqcoin.rpc.object.SP;
@@ -284,6 +284,8 @@ public final class Util {
 
 	public final static String TRANSACTION_POOL_DATABASE_NAME = H2_PATH + File.separator + "Mosaic";
 
+	public final static String TRANSACTION_POOL_SNAPSHOT_PATH = DB_PATH + File.separator + "Mosaic.snapshot";
+
 	public final static String WALLET_DATABASE_NAME = H2_PATH + File.separator + "Wallet";
 
 	/**
@@ -313,7 +315,14 @@ public final class Util {
 
 	public final static ID DEFAULT_PROTOCOL_VERSION = ID.ZERO;
 
-	public final static ID PROTOCOL_VERSION = DEFAULT_PROTOCOL_VERSION;
+	/**
+	 * Since this protocol version the EQCSeeds' body is the new Transaction list's
+	 * size followed by each Transaction's BIN. The EQCHive before it has an empty
+	 * EQCSeeds body.
+	 */
+	public final static ID SEEDS_BIN_PROTOCOL_VERSION = ID.ONE;
+
+	public final static ID PROTOCOL_VERSION = SEEDS_BIN_PROTOCOL_VERSION;
 
 	public static Info info = null;
 
@@ -730,7 +739,8 @@ public final class Util {
 		for (int i = vector.size() - 1; i >= 0; --i) {
 			reverse.add(vector.get(i));
 		}
-		merkleTree = new MerkleTree(reverse, true);
+		// Keep the legacy root whose leaves aren't hashed which the singularity EQCHive's pre proof derived from
+		merkleTree = new MerkleTree(reverse, false);
 		merkleTree.generateRoot();
 		Log.info("Root: " + dumpBytes(merkleTree.getRoot(), 16));
 		Log.info("Magic: " + dumpBytes(multipleExtendMix(merkleTree.getRoot(), HUNDREDPULS), 16));
@@ -1464,19 +1474,11 @@ public final class Util {
 	}
 
 	public final static byte[] RIPEMD128(final byte[] bytes) {
-		final RIPEMD128Digest digest = new RIPEMD128Digest();
-		digest.update(bytes, 0, bytes.length);
-		final byte[] out = new byte[digest.getDigestSize()];
-		digest.doFinal(out, 0);
-		return out;
+		return HashTool.RIPEMD128(bytes);
 	}
 
 	public final static byte[] RIPEMD160(final byte[] bytes) {
-		final RIPEMD160Digest digest = new RIPEMD160Digest();
-		digest.update(bytes, 0, bytes.length);
-		final byte[] out = new byte[digest.getDigestSize()];
-		digest.doFinal(out, 0);
-		return out;
+		return HashTool.RIPEMD160(bytes);
 	}
 
 	public final static void syncSPList() throws ClassNotFoundException, SQLException, Exception {
@@ -1588,6 +1590,7 @@ public final class Util {
 				if (counter > Util.MAX_COUNTER) {
 					Log.info(sp + "'s discount counter exceed 3 times just delete it");
 					MC().deleteSP(sp);
+					Codec.forget(sp);
 				} else {
 					Log.info(sp + "'s discount counter is " + counter + " just update it's disconect state");
 					MC().saveSPCounter(sp, counter);
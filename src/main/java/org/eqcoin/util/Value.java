@@ -34,6 +34,14 @@ import org.eqcoin.serialization.EQCCastle;
  * @email 10509759@qq.com
  */
 public class Value extends BigInteger {
+	/**
+	 * The Value is always less than Util.MAX_EQC which fits in a long so it's also
+	 * kept as compact long value to use long arithmetic on the hot path.
+	 */
+	private long compact;
+
+	private boolean isCompact;
+
 	//	public static final Value ZERO = new Value(0);
 
 	//	public Value() {
@@ -45,6 +53,7 @@ public class Value extends BigInteger {
 	 */
 	public Value(final BigInteger value) {
 		super(value.toByteArray());
+		initCompact();
 		EQCCastle.assertPositive(this);
 		EQCCastle.assertNotBigger(this, Util.MAX_EQC);
 	}
@@ -53,7 +62,9 @@ public class Value extends BigInteger {
 	 * @param EQCBits
 	 */
 	public Value(final byte[] bytes) {
-		super(EQCCastle.eqcBitsToBigInteger(bytes).toByteArray());
+		super((bytes.length <= EQCCastle.EQCBITS_BUFFER_LEN) ? ID.longToByteArray(EQCCastle.eqcBitsToLong(bytes))
+				: EQCCastle.eqcBitsToBigInteger(bytes).toByteArray());
+		initCompact();
 		EQCCastle.assertPositive(this);
 		EQCCastle.assertNotBigger(this, Util.MAX_EQC);
 	}
@@ -62,24 +73,62 @@ public class Value extends BigInteger {
 	 * @param long
 	 */
 	public Value(final long value) {
-		super(BigInteger.valueOf(value).toByteArray());
+		super(ID.longToByteArray(value));
+		initCompact();
 		EQCCastle.assertPositive(this);
 	}
 
+	/**
+	 * Create the Value which is the result of the long arithmetic, make sure it's
+	 * not bigger than Util.MAX_EQC the same as the BigInteger one.
+	 */
+	private static Value newValue(final long value) {
+		final Value result = new Value(value);
+		EQCCastle.assertNotBigger(result, Util.MAX_EQC);
+		return result;
+	}
+
+	private void initCompact() {
+		isCompact = bitLength() < Long.SIZE;
+		if (isCompact) {
+			compact = longValue();
+		}
+	}
+
 	/* (non-Javadoc)
 	 * @see java.math.BigInteger#add(java.math.BigInteger)
 	 */
 	@Override
 	public Value add(final BigInteger val) {
+		if (isCompact && val.bitLength() < Long.SIZE) {
+			try {
+				return newValue(Math.addExact(compact, val.longValue()));
+			} catch (final ArithmeticException e) {
+				// Overflow just fall back to BigInteger
+			}
+		}
 		return new Value(super.add(val));
 	}
 
+	/* (non-Javadoc)
+	 * @see java.math.BigInteger#compareTo(java.math.BigInteger)
+	 */
+	@Override
+	public int compareTo(final BigInteger val) {
+		if (isCompact && (val instanceof Value) && ((Value) val).isCompact) {
+			return Long.compare(compact, ((Value) val).compact);
+		}
+		return super.compareTo(val);
+	}
+
 	/* (non-Javadoc)
 	 * @see java.math.BigInteger#divide(java.math.BigInteger)
 	 */
 	@Override
 	public Value divide(final BigInteger val) {
-		// TODO Auto-generated method stub
+		if (isCompact && compact >= 0 && val.signum() > 0 && val.bitLength() < Long.SIZE) {
+			return newValue(compact / val.longValue());
+		}
 		return new Value(super.divide(val));
 	}
 
@@ -87,6 +136,9 @@ public class Value extends BigInteger {
 	 * @return current Value's EQCBits
 	 */
 	public byte[] getEQCBits() {
+		if (isCompact && compact >= 0) {
+			return EQCCastle.longToEQCBits(compact);
+		}
 		return EQCCastle.bigIntegerToEQCBits(this);
 	}
 
@@ -107,7 +159,13 @@ public class Value extends BigInteger {
 	 */
 	@Override
 	public Value multiply(final BigInteger val) {
-		// TODO Auto-generated method stub
+		if (isCompact && val.bitLength() < Long.SIZE) {
+			try {
+				return newValue(Math.multiplyExact(compact, val.longValue()));
+			} catch (final ArithmeticException e) {
+				// Overflow just fall back to BigInteger
+			}
+		}
 		return new Value(super.multiply(val));
 	}
 
@@ -116,7 +174,13 @@ public class Value extends BigInteger {
 	 */
 	@Override
 	public Value subtract(final BigInteger val) {
-		// TODO Auto-generated method stub
+		if (isCompact && val.bitLength() < Long.SIZE) {
+			try {
+				return newValue(Math.subtractExact(compact, val.longValue()));
+			} catch (final ArithmeticException e) {
+				// Overflow just fall back to BigInteger
+			}
+		}
 		return new Value(super.subtract(val));
 	}
 
@@ -124,6 +188,9 @@ public class Value extends BigInteger {
 	 * @return current ID's EQCLight
 	 */
 	public byte[] getEQCLight() {
+		if (isCompact && compact >= 0) {
+			return EQCCastle.longToEQCLight(compact);
+		}
 		return EQCCastle.bigIntegerToEQCLight(this);
 	}
 
@@ -210,7 +210,7 @@ public class EQCDesktopWalletH2 extends GlobalStateH2 implements EQCKeystore {
 		Statement statement = connection.createStatement();
 		ResultSet resultSet = statement.executeQuery("SELECT alais FROM ALAIS");
 		if (resultSet.next()) {
-			id = new ID(resultSet.getLong("alais"));
+			id = ID.valueOf(resultSet.getLong("alais"));
 		}
 		statement.close();
 		return id;
@@ -223,7 +223,7 @@ public class EQCDesktopWalletH2 extends GlobalStateH2 implements EQCKeystore {
 					"SELECT alais FROM ALAIS ORDER BY alais DESC LIMIT 1");
 			ResultSet resultSet = preparedStatement.executeQuery();
 			if (resultSet.next()) {
-				lastAlais = new ID(resultSet.getLong("alais"));
+				lastAlais = ID.valueOf(resultSet.getLong("alais"));
 			}
 		return lastAlais;
 	}
@@ -0,0 +1,116 @@
+/**
+ * EQcoin core
+ *
+ * http://www.eqcoin.org
+ * 
+ * @Copyright 2018-present Xun Wang All Rights Reserved...
+ * The copyright of all works released by Xun Wang or jointly released by
+ * Xun Wang with cooperative partners are owned by Xun Wang and entitled
+ * to protection available from copyright law by country as well as international
+ * conventions.
+ * Attribution — You must give appropriate credit, provide a link to the license.
+ * Non Commercial — You may not use the material for commercial purposes.
+ * No Derivatives — If you remix, transform, or build upon the material, you may
+ * not distribute the modified material.
+ * Xun Wang reserves any and all current and future rights, titles and interests
+ * in any and all intellectual property rights of Xun Wang including but not limited
+ * to discoveries, ideas, marks, concepts, methods, formulas, processes, codes,
+ * software, inventions, compositions, techniques, information and data, whether
+ * or not protectable in trademark, copyrightable or patentable, and any trademarks,
+ * copyrights or patents based thereon. For the use of any and all intellectual
+ * property rights of Xun Wang without prior written permission, Xun Wang reserves
+ * all rights to take any legal action and pursue any rights or remedies under
+ * applicable law.
+ */
+package org.eqcoin.crypto;
+
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.Signature;
+import java.security.interfaces.ECPublicKey;
+import java.security.spec.ECGenParameterSpec;
+import java.util.Random;
+
+import org.eqcoin.keystore.Keystore.ECCTYPE;
+import org.eqcoin.util.Log;
+
+/**
+ * Benchmark the verifies/sec of BatchVerifier with and without the recovery id
+ * against ECDSAVerifier one by one for P256 and P521.
+ * 
+ * @author agent
+ * @date Oct 18, 2026
+ * @email agent@local
+ */
+public class BatchVerifierBenchmark {
+	private final static int SIGNATURES = 256;
+	private final static int ROUNDS = 5;
+
+	public static void main(String[] args) throws Exception {
+		benchmark(ECCTYPE.P256, "secp256r1", SECP256R1Curve.getInstance(), RecoverySECP256R1Publickey.getInstance(),
+				SECP256R1Verifier.getInstance());
+		benchmark(ECCTYPE.P521, "secp521r1", SECP521R1Curve.getInstance(), RecoverySECP521R1Publickey.getInstance(),
+				SECP521R1Verifier.getInstance());
+	}
+
+	private static void benchmark(ECCTYPE type, String curveName, ECDSACurve ecdsaCurve, RecoveryECCPublickey recovery,
+			ECDSAVerifier ecdsaVerifier) throws Exception {
+		KeyPairGenerator keyPairGenerator = KeyPairGenerator.getInstance("EC", "SunEC");
+		keyPairGenerator.initialize(new ECGenParameterSpec(curveName));
+		Random random = new Random(SIGNATURES);
+		byte[][] publickeys = new byte[SIGNATURES][];
+		byte[][] messageHashes = new byte[SIGNATURES][];
+		ECDSASignature[] ecdsaSignatures = new ECDSASignature[SIGNATURES];
+		int[] recIds = new int[SIGNATURES];
+		for (int i = 0; i < SIGNATURES; ++i) {
+			KeyPair keyPair = keyPairGenerator.generateKeyPair();
+			EQCECCPublicKey eqcPublicKey = new EQCECCPublicKey(type);
+			eqcPublicKey.setECPoint((ECPublicKey) keyPair.getPublic());
+			publickeys[i] = eqcPublicKey.getCompressedPublicKeyEncoded();
+			// The Transaction's sign bytes hash is SHA3-512
+			messageHashes[i] = new byte[64];
+			random.nextBytes(messageHashes[i]);
+			Signature signature = Signature.getInstance("NONEwithECDSA", "SunEC");
+			signature.initSign(keyPair.getPrivate());
+			signature.update(messageHashes[i]);
+			ecdsaSignatures[i] = ECDSASignature.decodeFromDER(signature.sign());
+			recIds[i] = recovery.getRecoveryId(ecdsaSignatures[i], messageHashes[i], publickeys[i]);
+		}
+
+		long singleCost = 0, batchCost = 0, recIdBatchCost = 0;
+		for (int round = 0; round < ROUNDS; ++round) {
+			long begin = System.nanoTime();
+			for (int i = 0; i < SIGNATURES; ++i) {
+				if (!ecdsaVerifier.verify(publickeys[i], messageHashes[i], ecdsaSignatures[i])) {
+					throw new IllegalStateException("ECDSAVerifier verify failed");
+				}
+			}
+			singleCost += System.nanoTime() - begin;
+			begin = System.nanoTime();
+			BatchVerifier batchVerifier = new BatchVerifier(ecdsaCurve);
+			for (int i = 0; i < SIGNATURES; ++i) {
+				batchVerifier.add(messageHashes[i], ecdsaSignatures[i], publickeys[i]);
+			}
+			if (!batchVerifier.verify()) {
+				throw new IllegalStateException("BatchVerifier verify failed");
+			}
+			batchCost += System.nanoTime() - begin;
+			begin = System.nanoTime();
+			batchVerifier = new BatchVerifier(ecdsaCurve);
+			for (int i = 0; i < SIGNATURES; ++i) {
+				batchVerifier.add(messageHashes[i], ecdsaSignatures[i], publickeys[i], recIds[i]);
+			}
+			if (!batchVerifier.verify()) {
+				throw new IllegalStateException("BatchVerifier with recovery id verify failed");
+			}
+			recIdBatchCost += System.nanoTime() - begin;
+		}
+		Log.info(type + " one by one: " + perSecond(singleCost) + " verifies/sec batch: " + perSecond(batchCost)
+				+ " verifies/sec batch with recovery id: " + perSecond(recIdBatchCost) + " verifies/sec");
+	}
+
+	private static long perSecond(long cost) {
+		return (long) SIGNATURES * ROUNDS * 1000000000L / cost;
+	}
+
+}
@@ -0,0 +1,121 @@
+/**
+ * EQcoin core
+ *
+ * http://www.eqcoin.org
+ * 
+ * @Copyright 2018-present Xun Wang All Rights Reserved...
+ * The copyright of all works released by Xun Wang or jointly released by
+ * Xun Wang with cooperative partners are owned by Xun Wang and entitled
+ * to protection available from copyright law by country as well as international
+ * conventions.
+ * Attribution — You must give appropriate credit, provide a link to the license.
+ * Non Commercial — You may not use the material for commercial purposes.
+ * No Derivatives — If you remix, transform, or build upon the material, you may
+ * not distribute the modified material.
+ * Xun Wang reserves any and all current and future rights, titles and interests
+ * in any and all intellectual property rights of Xun Wang including but not limited
+ * to discoveries, ideas, marks, concepts, methods, formulas, processes, codes,
+ * software, inventions, compositions, techniques, information and data, whether
+ * or not protectable in trademark, copyrightable or patentable, and any trademarks,
+ * copyrights or patents based thereon. For the use of any and all intellectual
+ * property rights of Xun Wang without prior written permission, Xun Wang reserves
+ * all rights to take any legal action and pursue any rights or remedies under
+ * applicable law.
+ */
+package org.eqcoin.crypto;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.math.BigInteger;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.MessageDigest;
+import java.security.Signature;
+import java.security.interfaces.ECPublicKey;
+import java.security.spec.ECGenParameterSpec;
+
+import org.eqcoin.keystore.Keystore.ECCTYPE;
+import org.eqcoin.util.Util;
+import org.junit.jupiter.api.Test;
+
+/**
+ * @author agent
+ * @date Oct 18, 2026
+ * @email agent@local
+ */
+class BatchVerifierTest {
+	private final static int SIGNATURES = 16;
+
+	/**
+	 * Test method for {@link org.eqcoin.crypto.BatchVerifier#verify()}.
+	 * @throws Exception 
+	 */
+	@Test
+	final void testVerify() throws Exception {
+		for (boolean isRecIdKnown : new boolean[] { false, true }) {
+			assertTrue(newBatchVerifier(ECCTYPE.P256, "secp256r1", RecoverySECP256R1Publickey.getInstance(), isRecIdKnown).verify());
+			assertTrue(newBatchVerifier(ECCTYPE.P521, "secp521r1", RecoverySECP521R1Publickey.getInstance(), isRecIdKnown).verify());
+		}
+		assertTrue(new BatchVerifier(SECP256R1Curve.getInstance()).verify());
+	}
+
+	/**
+	 * Test method for {@link org.eqcoin.crypto.BatchVerifier#findInvalid(int)}.
+	 * @throws Exception 
+	 */
+	@Test
+	final void testFindInvalid() throws Exception {
+		for (boolean isRecIdKnown : new boolean[] { false, true }) {
+			BatchVerifier batchVerifier = newBatchVerifier(ECCTYPE.P521, "secp521r1",
+					RecoverySECP521R1Publickey.getInstance(), isRecIdKnown);
+			assertEquals(-1, batchVerifier.findInvalid(0));
+			// Add one tampered signature and one out of range signature
+			byte[] messageHash = MessageDigest.getInstance(Util.SHA3_512).digest("tampered".getBytes("UTF-8"));
+			KeyPair keyPair = generateKeyPair("secp521r1");
+			ECDSASignature ecdsaSignature = sign(keyPair, messageHash);
+			byte[] publickey = getPublickey(ECCTYPE.P521, keyPair);
+			int recId = RecoverySECP521R1Publickey.getInstance().getRecoveryId(ecdsaSignature, messageHash, publickey);
+			messageHash[0] ^= 1;
+			int tampered = batchVerifier.add(messageHash, ecdsaSignature, publickey, isRecIdKnown ? recId : -1);
+			batchVerifier.add(messageHash, new ECDSASignature(BigInteger.ZERO, BigInteger.ONE), publickey);
+			assertFalse(batchVerifier.verify());
+			assertEquals(tampered, batchVerifier.findInvalid(0));
+			assertEquals(tampered + 1, batchVerifier.findInvalid(tampered + 1));
+		}
+	}
+
+	private static BatchVerifier newBatchVerifier(ECCTYPE type, String curveName, RecoveryECCPublickey recovery,
+			boolean isRecIdKnown) throws Exception {
+		BatchVerifier batchVerifier = new BatchVerifier(
+				(type == ECCTYPE.P256) ? SECP256R1Curve.getInstance() : SECP521R1Curve.getInstance());
+		for (int i = 0; i < SIGNATURES; ++i) {
+			KeyPair keyPair = generateKeyPair(curveName);
+			byte[] publickey = getPublickey(type, keyPair);
+			byte[] messageHash = MessageDigest.getInstance(Util.SHA3_512).digest(("message to sign " + i).getBytes("UTF-8"));
+			ECDSASignature ecdsaSignature = sign(keyPair, messageHash);
+			assertEquals(i, batchVerifier.add(messageHash, ecdsaSignature, publickey,
+					isRecIdKnown ? recovery.getRecoveryId(ecdsaSignature, messageHash, publickey) : -1));
+		}
+		return batchVerifier;
+	}
+
+	private static KeyPair generateKeyPair(String curveName) throws Exception {
+		KeyPairGenerator keyPairGenerator = KeyPairGenerator.getInstance("EC", "SunEC");
+		keyPairGenerator.initialize(new ECGenParameterSpec(curveName));
+		return keyPairGenerator.generateKeyPair();
+	}
+
+	private static byte[] getPublickey(ECCTYPE type, KeyPair keyPair) {
+		EQCECCPublicKey eqcPublicKey = new EQCECCPublicKey(type);
+		eqcPublicKey.setECPoint((ECPublicKey) keyPair.getPublic());
+		return eqcPublicKey.getCompressedPublicKeyEncoded();
+	}
+
+	private static ECDSASignature sign(KeyPair keyPair, byte[] messageHash) throws Exception {
+		Signature signature = Signature.getInstance("NONEwithECDSA", "SunEC");
+		signature.initSign(keyPair.getPrivate());
+		signature.update(messageHash);
+		return ECDSASignature.decodeFromDER(signature.sign());
+	}
+
+}
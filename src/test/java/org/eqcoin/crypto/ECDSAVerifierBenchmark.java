@@ -0,0 +1,108 @@
+/**
+ * EQcoin core
+ *
+ * http://www.eqcoin.org
+ * 
+ * @Copyright 2018-present Xun Wang All Rights Reserved...
+ * The copyright of all works released by Xun Wang or jointly released by
+ * Xun Wang with cooperative partners are owned by Xun Wang and entitled
+ * to protection available from copyright law by country as well as international
+ * conventions.
+ * Attribution — You must give appropriate credit, provide a link to the license.
+ * Non Commercial — You may not use the material for commercial purposes.
+ * No Derivatives — If you remix, transform, or build upon the material, you may
+ * not distribute the modified material.
+ * Xun Wang reserves any and all current and future rights, titles and interests
+ * in any and all intellectual property rights of Xun Wang including but not limited
+ * to discoveries, ideas, marks, concepts, methods, formulas, processes, codes,
+ * software, inventions, compositions, techniques, information and data, whether
+ * or not protectable in trademark, copyrightable or patentable, and any trademarks,
+ * copyrights or patents based thereon. For the use of any and all intellectual
+ * property rights of Xun Wang without prior written permission, Xun Wang reserves
+ * all rights to take any legal action and pursue any rights or remedies under
+ * applicable law.
+ */
+package org.eqcoin.crypto;
+
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.Signature;
+import java.security.interfaces.ECPublicKey;
+import java.security.spec.ECGenParameterSpec;
+import java.util.Random;
+
+import org.eqcoin.keystore.Keystore.ECCTYPE;
+import org.eqcoin.util.Log;
+
+/**
+ * Benchmark the verifies/sec of the BouncyCastle ECDSAVerifier against the JCA
+ * path which the witnesses used before for P256 and P521.
+ * 
+ * @author agent
+ * @date Oct 18, 2026
+ * @email agent@local
+ */
+public class ECDSAVerifierBenchmark {
+	private final static int SIGNATURES = 1000;
+	private final static int ROUNDS = 5;
+
+	public static void main(String[] args) throws Exception {
+		benchmark(ECCTYPE.P256, "secp256r1", SECP256R1Verifier.getInstance());
+		benchmark(ECCTYPE.P521, "secp521r1", SECP521R1Verifier.getInstance());
+	}
+
+	private static void benchmark(ECCTYPE type, String curveName, ECDSAVerifier ecdsaVerifier) throws Exception {
+		KeyPairGenerator keyPairGenerator = KeyPairGenerator.getInstance("EC", "SunEC");
+		keyPairGenerator.initialize(new ECGenParameterSpec(curveName));
+		Random random = new Random(SIGNATURES);
+		byte[][] publickeys = new byte[SIGNATURES][];
+		byte[][] messageHashes = new byte[SIGNATURES][];
+		byte[][] derSignatures = new byte[SIGNATURES][];
+		ECDSASignature[] ecdsaSignatures = new ECDSASignature[SIGNATURES];
+		for (int i = 0; i < SIGNATURES; ++i) {
+			KeyPair keyPair = keyPairGenerator.generateKeyPair();
+			EQCECCPublicKey eqcPublicKey = new EQCECCPublicKey(type);
+			eqcPublicKey.setECPoint((ECPublicKey) keyPair.getPublic());
+			publickeys[i] = eqcPublicKey.getCompressedPublicKeyEncoded();
+			// The Transaction's sign bytes hash is SHA3-512
+			messageHashes[i] = new byte[64];
+			random.nextBytes(messageHashes[i]);
+			Signature signature = Signature.getInstance("NONEwithECDSA", "SunEC");
+			signature.initSign(keyPair.getPrivate());
+			signature.update(messageHashes[i]);
+			derSignatures[i] = signature.sign();
+			ecdsaSignatures[i] = ECDSASignature.decodeFromDER(derSignatures[i]);
+		}
+
+		long jcaCost = 0, bcCost = 0;
+		for (int round = 0; round < ROUNDS; ++round) {
+			long begin = System.nanoTime();
+			for (int i = 0; i < SIGNATURES; ++i) {
+				Signature signature = Signature.getInstance("NONEwithECDSA", "SunEC");
+				EQCECCPublicKey eqcPublicKey = new EQCECCPublicKey(type);
+				eqcPublicKey.setECPoint(publickeys[i]);
+				signature.initVerify(eqcPublicKey);
+				signature.update(messageHashes[i]);
+				if (!signature.verify(derSignatures[i])) {
+					throw new IllegalStateException("JCA verify failed");
+				}
+			}
+			jcaCost += System.nanoTime() - begin;
+			begin = System.nanoTime();
+			for (int i = 0; i < SIGNATURES; ++i) {
+				if (!ecdsaVerifier.verify(publickeys[i], messageHashes[i], ecdsaSignatures[i])) {
+					throw new IllegalStateException("ECDSAVerifier verify failed");
+				}
+			}
+			bcCost += System.nanoTime() - begin;
+		}
+		// The tampered message hash should be rejected
+		messageHashes[0][0] ^= 1;
+		if (ecdsaVerifier.verify(publickeys[0], messageHashes[0], ecdsaSignatures[0])) {
+			throw new IllegalStateException("ECDSAVerifier accept the tampered message hash");
+		}
+		Log.info(type + " JCA: " + (long) SIGNATURES * ROUNDS * 1000000000L / jcaCost + " verifies/sec ECDSAVerifier: "
+				+ (long) SIGNATURES * ROUNDS * 1000000000L / bcCost + " verifies/sec");
+	}
+
+}
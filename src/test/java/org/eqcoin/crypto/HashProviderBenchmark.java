@@ -0,0 +1,78 @@
+/**
+ * EQcoin core
+ *
+ * http://www.eqcoin.org
+ * 
+ * @Copyright 2018-present Xun Wang All Rights Reserved...
+ * The copyright of all works released by Xun Wang or jointly released by
+ * Xun Wang with cooperative partners are owned by Xun Wang and entitled
+ * to protection available from copyright law by country as well as international
+ * conventions.
+ * Attribution — You must give appropriate credit, provide a link to the license.
+ * Non Commercial — You may not use the material for commercial purposes.
+ * No Derivatives — If you remix, transform, or build upon the material, you may
+ * not distribute the modified material.
+ * Xun Wang reserves any and all current and future rights, titles and interests
+ * in any and all intellectual property rights of Xun Wang including but not limited
+ * to discoveries, ideas, marks, concepts, methods, formulas, processes, codes,
+ * software, inventions, compositions, techniques, information and data, whether
+ * or not protectable in trademark, copyrightable or patentable, and any trademarks,
+ * copyrights or patents based thereon. For the use of any and all intellectual
+ * property rights of Xun Wang without prior written permission, Xun Wang reserves
+ * all rights to take any legal action and pursue any rights or remedies under
+ * applicable law.
+ */
+package org.eqcoin.crypto;
+
+import java.util.Random;
+
+import org.eqcoin.util.Log;
+import org.eqcoin.util.Util;
+
+/**
+ * Benchmark the per hash cost of every HashProvider for the typical input
+ * lengths: the T1 and T2 compressed publickey, one Transaction and one big
+ * EQCHive's content. Also print which HashProvider HashTool selected.
+ * 
+ * @author agent
+ * @date Oct 18, 2026
+ * @email agent@local
+ */
+public class HashProviderBenchmark {
+	private final static HashProvider[] HASH_PROVIDERS = { new JCAHashProvider(), new BouncyCastleHashProvider(),
+			new KeccakHashProvider() };
+	private final static int[] LENGTHS = { Util.P256_PUBLICKEY_LEN, Util.P521_PUBLICKEY_LEN, 256, 4096 };
+	private final static int HASHES = 20000;
+	private final static int ROUNDS = 5;
+
+	public static void main(String[] args) throws Exception {
+		Log.info("HashTool selected " + HashTool.getHashProvider().getName());
+		for (int length : LENGTHS) {
+			Random random = new Random(length);
+			byte[][] inputs = new byte[HASHES][length];
+			for (byte[] input : inputs) {
+				random.nextBytes(input);
+			}
+			for (HashProvider hashProvider : HASH_PROVIDERS) {
+				// Warm up
+				benchmark(hashProvider, inputs);
+				long cost = 0;
+				for (int round = 0; round < ROUNDS; ++round) {
+					cost += benchmark(hashProvider, inputs);
+				}
+				Log.info(length + " bytes " + hashProvider.getName() + ": " + cost / ((long) HASHES * ROUNDS * 2)
+						+ " ns/hash");
+			}
+		}
+	}
+
+	private static long benchmark(HashProvider hashProvider, byte[][] inputs) {
+		long begin = System.nanoTime();
+		for (byte[] input : inputs) {
+			hashProvider.SHA3_256(input);
+			hashProvider.SHA3_512(input);
+		}
+		return System.nanoTime() - begin;
+	}
+
+}
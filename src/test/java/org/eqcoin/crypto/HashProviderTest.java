@@ -0,0 +1,123 @@
+/**
+ * EQcoin core
+ *
+ * http://www.eqcoin.org
+ * 
+ * @Copyright 2018-present Xun Wang All Rights Reserved...
+ * The copyright of all works released by Xun Wang or jointly released by
+ * Xun Wang with cooperative partners are owned by Xun Wang and entitled
+ * to protection available from copyright law by country as well as international
+ * conventions.
+ * Attribution — You must give appropriate credit, provide a link to the license.
+ * Non Commercial — You may not use the material for commercial purposes.
+ * No Derivatives — If you remix, transform, or build upon the material, you may
+ * not distribute the modified material.
+ * Xun Wang reserves any and all current and future rights, titles and interests
+ * in any and all intellectual property rights of Xun Wang including but not limited
+ * to discoveries, ideas, marks, concepts, methods, formulas, processes, codes,
+ * software, inventions, compositions, techniques, information and data, whether
+ * or not protectable in trademark, copyrightable or patentable, and any trademarks,
+ * copyrights or patents based thereon. For the use of any and all intellectual
+ * property rights of Xun Wang without prior written permission, Xun Wang reserves
+ * all rights to take any legal action and pursue any rights or remedies under
+ * applicable law.
+ */
+package org.eqcoin.crypto;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.security.MessageDigest;
+import java.util.Arrays;
+import java.util.Random;
+
+import org.eqcoin.util.Util;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Cross check every HashProvider against the JDK's SHA3 MessageDigest for the
+ * lengths around the SHA3-256 and SHA3-512 block boundaries.
+ * 
+ * @author agent
+ * @date Oct 18, 2026
+ * @email agent@local
+ */
+class HashProviderTest {
+	private final static HashProvider[] HASH_PROVIDERS = { new JCAHashProvider(), new BouncyCastleHashProvider(),
+			new KeccakHashProvider() };
+	private final static int MAX_LENGTH = 3 * 136 + 1;
+
+	/**
+	 * Test method for {@link org.eqcoin.crypto.HashProvider#SHA3_256(byte[])}.
+	 * @throws Exception 
+	 */
+	@Test
+	final void testSHA3_256() throws Exception {
+		Random random = new Random(256);
+		MessageDigest messageDigest = MessageDigest.getInstance(Util.SHA3_256);
+		for (int length = 0; length <= MAX_LENGTH; ++length) {
+			byte[] bytes = new byte[length];
+			random.nextBytes(bytes);
+			byte[] expected = messageDigest.digest(bytes);
+			for (HashProvider hashProvider : HASH_PROVIDERS) {
+				assertArrayEquals(expected, hashProvider.SHA3_256(bytes), hashProvider.getName() + " " + length);
+			}
+		}
+	}
+
+	/**
+	 * Test method for {@link org.eqcoin.crypto.HashProvider#SHA3_512(byte[], byte[])}.
+	 * @throws Exception 
+	 */
+	@Test
+	final void testSHA3_512() throws Exception {
+		Random random = new Random(512);
+		MessageDigest messageDigest = MessageDigest.getInstance(Util.SHA3_512);
+		for (int length = 0; length <= MAX_LENGTH; ++length) {
+			byte[] bytes = new byte[length];
+			random.nextBytes(bytes);
+			byte[] expected = messageDigest.digest(bytes);
+			// Split at an unaligned position so the right part is absorbed across the lanes
+			int split = length / 3;
+			byte[] left = Arrays.copyOf(bytes, split);
+			byte[] right = Arrays.copyOfRange(bytes, split, length);
+			for (HashProvider hashProvider : HASH_PROVIDERS) {
+				assertArrayEquals(expected, hashProvider.SHA3_512(bytes), hashProvider.getName() + " " + length);
+				assertArrayEquals(expected, hashProvider.SHA3_512(left, right), hashProvider.getName() + " " + length);
+			}
+		}
+	}
+
+	/**
+	 * Test method for {@link org.eqcoin.crypto.HashTool#getHashProvider()}.
+	 */
+	@Test
+	final void testGetHashProvider() {
+		assertNotNull(HashTool.getHashProvider());
+		assertArrayEquals(HASH_PROVIDERS[1].SHA3_512("abc".getBytes()), HashTool.SHA3_512("abc".getBytes()));
+	}
+
+	/**
+	 * Test method for {@link org.eqcoin.crypto.HashTool#selectHashProvider(String, HashProvider...)}.
+	 */
+	@Test
+	final void testSelectHashProvider() {
+		HashProvider invalid = new KeccakHashProvider() {
+			@Override
+			public byte[] SHA3_256(byte[] bytes) {
+				return new byte[32];
+			}
+		};
+		// By default the first valid HashProvider in the preference order is selected
+		for (int i = 0; i < 3; ++i) {
+			assertSame(HASH_PROVIDERS[0], HashTool.selectHashProvider(null, HASH_PROVIDERS));
+		}
+		assertSame(HASH_PROVIDERS[2], HashTool.selectHashProvider(null, invalid, HASH_PROVIDERS[2], HASH_PROVIDERS[1]));
+		// Forced by the name
+		assertSame(HASH_PROVIDERS[1], HashTool.selectHashProvider(HASH_PROVIDERS[1].getName(), HASH_PROVIDERS));
+		assertThrows(IllegalStateException.class, () -> HashTool.selectHashProvider(invalid.getName(), invalid));
+		assertThrows(IllegalStateException.class, () -> HashTool.selectHashProvider(null, invalid));
+		// The benchmark is opt in and only selects from the valid HashProviders
+		assertNotSame(invalid, HashTool.selectHashProvider(HashTool.HASH_PROVIDER_BENCHMARK, invalid, HASH_PROVIDERS[2]));
+	}
+
+}
@@ -0,0 +1,91 @@
+/**
+ * EQcoin core
+ *
+ * http://www.eqcoin.org
+ * 
+ * @Copyright 2018-present Xun Wang All Rights Reserved...
+ * The copyright of all works released by Xun Wang or jointly released by
+ * Xun Wang with cooperative partners are owned by Xun Wang and entitled
+ * to protection available from copyright law by country as well as international
+ * conventions.
+ * Attribution — You must give appropriate credit, provide a link to the license.
+ * Non Commercial — You may not use the material for commercial purposes.
+ * No Derivatives — If you remix, transform, or build upon the material, you may
+ * not distribute the modified material.
+ * Xun Wang reserves any and all current and future rights, titles and interests
+ * in any and all intellectual property rights of Xun Wang including but not limited
+ * to discoveries, ideas, marks, concepts, methods, formulas, processes, codes,
+ * software, inventions, compositions, techniques, information and data, whether
+ * or not protectable in trademark, copyrightable or patentable, and any trademarks,
+ * copyrights or patents based thereon. For the use of any and all intellectual
+ * property rights of Xun Wang without prior written permission, Xun Wang reserves
+ * all rights to take any legal action and pursue any rights or remedies under
+ * applicable law.
+ */
+package org.eqcoin.crypto;
+
+import java.security.MessageDigest;
+import java.util.Arrays;
+import java.util.Random;
+
+import org.eqcoin.util.Log;
+import org.eqcoin.util.Util;
+
+/**
+ * Benchmark the per hash cost of HashTool against MessageDigest.getInstance
+ * per call for the typical input lengths: the T1 and T2 compressed publickey,
+ * one Transaction and one big EQCHive's content.
+ * 
+ * @author agent
+ * @date Oct 18, 2026
+ * @email agent@local
+ */
+public class HashToolBenchmark {
+	private final static int[] LENGTHS = { Util.P256_PUBLICKEY_LEN, Util.P521_PUBLICKEY_LEN, 256, 4096 };
+	private final static int HASHES = 20000;
+	private final static int ROUNDS = 5;
+
+	public static void main(String[] args) throws Exception {
+		for (int length : LENGTHS) {
+			benchmark(Util.SHA3_256, length);
+			benchmark(Util.SHA3_512, length);
+		}
+	}
+
+	private static void benchmark(String algorithm, int length) throws Exception {
+		Random random = new Random(length);
+		byte[][] inputs = new byte[HASHES][length];
+		for (byte[] input : inputs) {
+			random.nextBytes(input);
+		}
+		boolean is256 = algorithm.equals(Util.SHA3_256);
+		// Make sure both of them produce the same hash
+		for (byte[] input : inputs) {
+			if (!Arrays.equals(MessageDigest.getInstance(algorithm).digest(input),
+					is256 ? HashTool.SHA3_256(input) : HashTool.SHA3_512(input))) {
+				throw new IllegalStateException(algorithm + " mismatch");
+			}
+		}
+
+		long jcaCost = 0, hashToolCost = 0;
+		for (int round = 0; round < ROUNDS; ++round) {
+			long begin = System.nanoTime();
+			for (byte[] input : inputs) {
+				MessageDigest.getInstance(algorithm).digest(input);
+			}
+			jcaCost += System.nanoTime() - begin;
+			begin = System.nanoTime();
+			for (byte[] input : inputs) {
+				if (is256) {
+					HashTool.SHA3_256(input);
+				} else {
+					HashTool.SHA3_512(input);
+				}
+			}
+			hashToolCost += System.nanoTime() - begin;
+		}
+		Log.info(algorithm + " " + length + " bytes MessageDigest.getInstance: " + jcaCost / ((long) HASHES * ROUNDS)
+				+ " ns/hash HashTool: " + hashToolCost / ((long) HASHES * ROUNDS) + " ns/hash");
+	}
+
+}
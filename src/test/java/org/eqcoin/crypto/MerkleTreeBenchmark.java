@@ -0,0 +1,106 @@
+/**
+ * EQcoin core
+ *
+ * http://www.eqcoin.org
+ * 
+ * @Copyright 2018-present Xun Wang All Rights Reserved...
+ * The copyright of all works released by Xun Wang or jointly released by
+ * Xun Wang with cooperative partners are owned by Xun Wang and entitled
+ * to protection available from copyright law by country as well as international
+ * conventions.
+ * Attribution — You must give appropriate credit, provide a link to the license.
+ * Non Commercial — You may not use the material for commercial purposes.
+ * No Derivatives — If you remix, transform, or build upon the material, you may
+ * not distribute the modified material.
+ * Xun Wang reserves any and all current and future rights, titles and interests
+ * in any and all intellectual property rights of Xun Wang including but not limited
+ * to discoveries, ideas, marks, concepts, methods, formulas, processes, codes,
+ * software, inventions, compositions, techniques, information and data, whether
+ * or not protectable in trademark, copyrightable or patentable, and any trademarks,
+ * copyrights or patents based thereon. For the use of any and all intellectual
+ * property rights of Xun Wang without prior written permission, Xun Wang reserves
+ * all rights to take any legal action and pursue any rights or remedies under
+ * applicable law.
+ */
+package org.eqcoin.crypto;
+
+import java.security.MessageDigest;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.Vector;
+
+import org.eqcoin.util.Log;
+import org.eqcoin.util.Util;
+
+/**
+ * Benchmark the MerkleTree's root computation at 10k leaves against the
+ * previous Vector based tree which concatenate the left and right node then
+ * hash them sequentially with MessageDigest.
+ * 
+ * @author agent
+ * @date Oct 18, 2026
+ * @email agent@local
+ */
+public class MerkleTreeBenchmark {
+	private final static int LEAVES = 10000;
+	private final static int LEAF_LEN = 256;
+	private final static int WARMUP_ROUNDS = 10;
+	private final static int ROUNDS = 20;
+
+	public static void main(String[] args) throws Exception {
+		Random random = new Random(LEAVES);
+		Vector<byte[]> leaves = new Vector<>();
+		for (int i = 0; i < LEAVES; ++i) {
+			byte[] leaf = new byte[LEAF_LEN];
+			random.nextBytes(leaf);
+			leaves.add(leaf);
+		}
+		long previousCost = 0, merkleTreeCost = 0;
+		for (int round = 0; round < WARMUP_ROUNDS; ++round) {
+			previousRoot(leaves);
+			new MerkleTree(leaves, true).generateRoot();
+		}
+		for (int round = 0; round < ROUNDS; ++round) {
+			long begin = System.nanoTime();
+			byte[] previousRoot = previousRoot(leaves);
+			previousCost += System.nanoTime() - begin;
+			begin = System.nanoTime();
+			MerkleTree merkleTree = new MerkleTree(leaves, true);
+			merkleTree.generateRoot();
+			merkleTreeCost += System.nanoTime() - begin;
+			if (!Arrays.equals(previousRoot, merkleTree.getRoot())) {
+				throw new IllegalStateException("Root mismatch");
+			}
+		}
+		Log.info(LEAVES + " leaves on " + Runtime.getRuntime().availableProcessors() + " cores previous: "
+				+ previousCost / ROUNDS / 1000 + " us/root MerkleTree: " + merkleTreeCost / ROUNDS / 1000 + " us/root");
+	}
+
+	/**
+	 * The previous root computation except the leaves are really hashed
+	 */
+	private static byte[] previousRoot(Vector<byte[]> leaves) throws Exception {
+		MessageDigest messageDigest = MessageDigest.getInstance(Util.SHA3_512);
+		Vector<byte[]> nodes = new Vector<>();
+		for (byte[] leaf : leaves) {
+			nodes.add(messageDigest.digest(leaf));
+		}
+		while (nodes.size() > 1) {
+			Vector<byte[]> nextNodes = new Vector<>();
+			byte[] left = null, right = null;
+			for (int i = 0; i < nodes.size(); ++i) {
+				left = nodes.get(i);
+				if (i + 1 < nodes.size()) {
+					right = nodes.get(++i);
+				}
+				byte[] bytes = new byte[left.length + right.length];
+				System.arraycopy(left, 0, bytes, 0, left.length);
+				System.arraycopy(right, 0, bytes, left.length, right.length);
+				nextNodes.add(messageDigest.digest(bytes));
+			}
+			nodes = nextNodes;
+		}
+		return nodes.get(0);
+	}
+
+}
@@ -0,0 +1,137 @@
+/**
+ * EQcoin core
+ *
+ * http://www.eqcoin.org
+ * 
+ * @Copyright 2018-present Xun Wang All Rights Reserved...
+ * The copyright of all works released by Xun Wang or jointly released by
+ * Xun Wang with cooperative partners are owned by Xun Wang and entitled
+ * to protection available from copyright law by country as well as international
+ * conventions.
+ * Attribution — You must give appropriate credit, provide a link to the license.
+ * Non Commercial — You may not use the material for commercial purposes.
+ * No Derivatives — If you remix, transform, or build upon the material, you may
+ * not distribute the modified material.
+ * Xun Wang reserves any and all current and future rights, titles and interests
+ * in any and all intellectual property rights of Xun Wang including but not limited
+ * to discoveries, ideas, marks, concepts, methods, formulas, processes, codes,
+ * software, inventions, compositions, techniques, information and data, whether
+ * or not protectable in trademark, copyrightable or patentable, and any trademarks,
+ * copyrights or patents based thereon. For the use of any and all intellectual
+ * property rights of Xun Wang without prior written permission, Xun Wang reserves
+ * all rights to take any legal action and pursue any rights or remedies under
+ * applicable law.
+ */
+package org.eqcoin.crypto;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.security.MessageDigest;
+import java.util.Random;
+import java.util.Vector;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * @author agent
+ * @date Oct 18, 2026
+ * @email agent@local
+ */
+class MerkleTreeTest {
+
+	/**
+	 * Test method for {@link org.eqcoin.crypto.MerkleTree#generateRoot()}.
+	 */
+	@Test
+	final void testGenerateRoot() {
+		Vector<byte[]> leaves = newLeaves(3);
+		MerkleTree merkleTree = new MerkleTree(leaves, true);
+		merkleTree.generateRoot();
+		byte[] leaf0 = HashTool.SHA3_512(leaves.get(0));
+		byte[] leaf1 = HashTool.SHA3_512(leaves.get(1));
+		byte[] leaf2 = HashTool.SHA3_512(leaves.get(2));
+		// The last leaf is paired with its pre right node
+		assertArrayEquals(HashTool.SHA3_512(HashTool.SHA3_512(leaf0, leaf1), HashTool.SHA3_512(leaf2, leaf1)),
+				merkleTree.getRoot());
+		// The parallel hashing get the same root as the sequential one
+		leaves = newLeaves(MerkleTree.MIN_PARALLEL_SIZE * 2 + 1);
+		merkleTree = new MerkleTree(leaves, true);
+		merkleTree.generateRoot();
+		byte[][] nodes = new byte[leaves.size()][];
+		for (int i = 0; i < nodes.length; ++i) {
+			nodes[i] = HashTool.SHA3_512(leaves.get(i));
+		}
+		for (int size = nodes.length; size > 1; size = (size + 1) / 2) {
+			for (int i = 0; i < size; i += 2) {
+				nodes[i / 2] = HashTool.SHA3_512(nodes[i], nodes[(i + 1 < size) ? i + 1 : i - 1]);
+			}
+		}
+		assertArrayEquals(nodes[0], merkleTree.getRoot());
+	}
+
+	/**
+	 * Test method for {@link org.eqcoin.crypto.MerkleTree#MerkleTree(java.util.List, boolean)}.
+	 */
+	@Test
+	final void testLegacyRoot() throws Exception {
+		// The legacy root of the existing EQCHives is built from the leaves as is
+		Vector<byte[]> leaves = newLeaves(1);
+		MerkleTree merkleTree = new MerkleTree(leaves, false);
+		merkleTree.generateRoot();
+		assertArrayEquals(leaves.get(0), merkleTree.getRoot());
+		for (int size = 2; size <= 33; ++size) {
+			leaves = newLeaves(size);
+			merkleTree = new MerkleTree(leaves, false);
+			merkleTree.generateRoot();
+			// The previous MerkleTree concatenate the left and right node then hash them
+			MessageDigest messageDigest = MessageDigest.getInstance("SHA3-512");
+			Vector<byte[]> nodes = leaves;
+			while (nodes.size() > 1) {
+				Vector<byte[]> nextNodes = new Vector<>();
+				byte[] right = null;
+				for (int i = 0; i < nodes.size(); i += 2) {
+					if (i + 1 < nodes.size()) {
+						right = nodes.get(i + 1);
+					}
+					messageDigest.update(nodes.get(i));
+					nextNodes.add(messageDigest.digest(right));
+				}
+				nodes = nextNodes;
+			}
+			assertArrayEquals(nodes.get(0), merkleTree.getRoot());
+		}
+	}
+
+	/**
+	 * Test method for {@link org.eqcoin.crypto.MerkleTree#getProof(int)}.
+	 */
+	@Test
+	final void testGetProof() {
+		for (int size = 1; size <= 33; ++size) {
+			Vector<byte[]> leaves = newLeaves(size);
+			MerkleTree merkleTree = new MerkleTree(leaves, true);
+			merkleTree.generateRoot();
+			for (int i = 0; i < size; ++i) {
+				byte[] leaf = HashTool.SHA3_512(leaves.get(i));
+				byte[][] proof = merkleTree.getProof(i);
+				assertTrue(MerkleTree.verifyProof(leaf, i, proof, merkleTree.getRoot()));
+				assertFalse(MerkleTree.verifyProof(leaves.get(i), i, proof, merkleTree.getRoot()));
+				if (size > 1) {
+					assertFalse(MerkleTree.verifyProof(leaf, i ^ 1, proof, merkleTree.getRoot()));
+				}
+			}
+		}
+	}
+
+	private static Vector<byte[]> newLeaves(int size) {
+		Random random = new Random(size);
+		Vector<byte[]> leaves = new Vector<>();
+		for (int i = 0; i < size; ++i) {
+			byte[] leaf = new byte[random.nextInt(200) + 1];
+			random.nextBytes(leaf);
+			leaves.add(leaf);
+		}
+		return leaves;
+	}
+
+}
@@ -0,0 +1,107 @@
+/**
+ * EQcoin core
+ *
+ * http://www.eqcoin.org
+ * 
+ * @Copyright 2018-present Xun Wang All Rights Reserved...
+ * The copyright of all works released by Xun Wang or jointly released by
+ * Xun Wang with cooperative partners are owned by Xun Wang and entitled
+ * to protection available from copyright law by country as well as international
+ * conventions.
+ * Attribution — You must give appropriate credit, provide a link to the license.
+ * Non Commercial — You may not use the material for commercial purposes.
+ * No Derivatives — If you remix, transform, or build upon the material, you may
+ * not distribute the modified material.
+ * Xun Wang reserves any and all current and future rights, titles and interests
+ * in any and all intellectual property rights of Xun Wang including but not limited
+ * to discoveries, ideas, marks, concepts, methods, formulas, processes, codes,
+ * software, inventions, compositions, techniques, information and data, whether
+ * or not protectable in trademark, copyrightable or patentable, and any trademarks,
+ * copyrights or patents based thereon. For the use of any and all intellectual
+ * property rights of Xun Wang without prior written permission, Xun Wang reserves
+ * all rights to take any legal action and pursue any rights or remedies under
+ * applicable law.
+ */
+package org.eqcoin.crypto;
+
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.Signature;
+import java.security.interfaces.ECPublicKey;
+import java.security.spec.ECGenParameterSpec;
+import java.util.Random;
+
+import org.eqcoin.keystore.Keystore.ECCTYPE;
+import org.eqcoin.util.ID;
+import org.eqcoin.util.Log;
+
+/**
+ * Benchmark the verifies/sec of the repeat senders whose publickey is
+ * decompressed for every verification against the cached ECPoint of
+ * PublickeyPointCache for P256 and P521.
+ * 
+ * @author agent
+ * @date Oct 18, 2026
+ * @email agent@local
+ */
+public class PublickeyPointCacheBenchmark {
+	private final static int SENDERS = 10;
+	private final static int SIGNATURES = 1000;
+	private final static int ROUNDS = 5;
+
+	public static void main(String[] args) throws Exception {
+		benchmark(ECCTYPE.P256, "secp256r1", SECP256R1Verifier.getInstance(), SECP256R1Curve.getInstance());
+		benchmark(ECCTYPE.P521, "secp521r1", SECP521R1Verifier.getInstance(), SECP521R1Curve.getInstance());
+	}
+
+	private static void benchmark(ECCTYPE type, String curveName, ECDSAVerifier ecdsaVerifier, ECDSACurve ecdsaCurve)
+			throws Exception {
+		KeyPairGenerator keyPairGenerator = KeyPairGenerator.getInstance("EC", "SunEC");
+		keyPairGenerator.initialize(new ECGenParameterSpec(curveName));
+		KeyPair[] keyPairs = new KeyPair[SENDERS];
+		byte[][] senderPublickeys = new byte[SENDERS][];
+		for (int i = 0; i < SENDERS; ++i) {
+			keyPairs[i] = keyPairGenerator.generateKeyPair();
+			EQCECCPublicKey eqcPublicKey = new EQCECCPublicKey(type);
+			eqcPublicKey.setECPoint((ECPublicKey) keyPairs[i].getPublic());
+			senderPublickeys[i] = eqcPublicKey.getCompressedPublicKeyEncoded();
+		}
+		Random random = new Random(SIGNATURES);
+		byte[][] messageHashes = new byte[SIGNATURES][];
+		ECDSASignature[] ecdsaSignatures = new ECDSASignature[SIGNATURES];
+		for (int i = 0; i < SIGNATURES; ++i) {
+			// The Transaction's sign bytes hash is SHA3-512
+			messageHashes[i] = new byte[64];
+			random.nextBytes(messageHashes[i]);
+			Signature signature = Signature.getInstance("NONEwithECDSA", "SunEC");
+			signature.initSign(keyPairs[i % SENDERS].getPrivate());
+			signature.update(messageHashes[i]);
+			ecdsaSignatures[i] = ECDSASignature.decodeFromDER(signature.sign());
+		}
+
+		PublickeyPointCache.getInstance().clear();
+		long decodeCost = 0, cacheCost = 0;
+		for (int round = 0; round < ROUNDS; ++round) {
+			long begin = System.nanoTime();
+			for (int i = 0; i < SIGNATURES; ++i) {
+				if (!ecdsaVerifier.verify(senderPublickeys[i % SENDERS], messageHashes[i], ecdsaSignatures[i])) {
+					throw new IllegalStateException("Verify failed");
+				}
+			}
+			decodeCost += System.nanoTime() - begin;
+			begin = System.nanoTime();
+			for (int i = 0; i < SIGNATURES; ++i) {
+				if (!ecdsaVerifier.verify(PublickeyPointCache.getInstance().getPoint(new ID(i % SENDERS),
+						senderPublickeys[i % SENDERS], ecdsaCurve), messageHashes[i], ecdsaSignatures[i].getR(),
+						ecdsaSignatures[i].getS())) {
+					throw new IllegalStateException("Verify with cached ECPoint failed");
+				}
+			}
+			cacheCost += System.nanoTime() - begin;
+		}
+		Log.info(type + " decompress: " + (long) SIGNATURES * ROUNDS * 1000000000L / decodeCost
+				+ " verifies/sec cached ECPoint: " + (long) SIGNATURES * ROUNDS * 1000000000L / cacheCost
+				+ " verifies/sec");
+	}
+
+}
@@ -0,0 +1,83 @@
+/**
+ * EQcoin core
+ *
+ * http://www.eqcoin.org
+ * 
+ * @Copyright 2018-present Xun Wang All Rights Reserved...
+ * The copyright of all works released by Xun Wang or jointly released by
+ * Xun Wang with cooperative partners are owned by Xun Wang and entitled
+ * to protection available from copyright law by country as well as international
+ * conventions.
+ * Attribution — You must give appropriate credit, provide a link to the license.
+ * Non Commercial — You may not use the material for commercial purposes.
+ * No Derivatives — If you remix, transform, or build upon the material, you may
+ * not distribute the modified material.
+ * Xun Wang reserves any and all current and future rights, titles and interests
+ * in any and all intellectual property rights of Xun Wang including but not limited
+ * to discoveries, ideas, marks, concepts, methods, formulas, processes, codes,
+ * software, inventions, compositions, techniques, information and data, whether
+ * or not protectable in trademark, copyrightable or patentable, and any trademarks,
+ * copyrights or patents based thereon. For the use of any and all intellectual
+ * property rights of Xun Wang without prior written permission, Xun Wang reserves
+ * all rights to take any legal action and pursue any rights or remedies under
+ * applicable law.
+ */
+package org.eqcoin.crypto;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.security.KeyPairGenerator;
+import java.security.interfaces.ECPublicKey;
+import java.security.spec.ECGenParameterSpec;
+
+import org.bouncycastle.math.ec.ECPoint;
+import org.eqcoin.keystore.Keystore.ECCTYPE;
+import org.eqcoin.util.ID;
+import org.junit.jupiter.api.Test;
+
+/**
+ * @author agent
+ * @date Oct 18, 2026
+ * @email agent@local
+ */
+class PublickeyPointCacheTest {
+
+	/**
+	 * Test method for {@link org.eqcoin.crypto.PublickeyPointCache#getPoint(ID, byte[], ECDSACurve)}.
+	 * @throws Exception 
+	 */
+	@Test
+	final void testGetPoint() throws Exception {
+		PublickeyPointCache cache = PublickeyPointCache.getInstance();
+		cache.clear();
+		ID lockMateId = new ID(7);
+		byte[] publickey = generatePublickey();
+		ECPoint ecPoint = cache.getPoint(lockMateId, publickey, SECP256R1Curve.getInstance());
+		assertArrayEquals(publickey, ecPoint.getEncoded(true));
+		// The repeat lookup is hit
+		assertSame(ecPoint, cache.getPoint(lockMateId, publickey.clone(), SECP256R1Curve.getInstance()));
+		assertEquals(1, cache.size());
+
+		// The out of date entry is never used
+		byte[] newPublickey = generatePublickey();
+		assertArrayEquals(newPublickey, cache.getPoint(lockMateId, newPublickey, SECP256R1Curve.getInstance()).getEncoded(true));
+
+		// The invalid point isn't cached
+		byte[] invalid = newPublickey.clone();
+		invalid[0] = 0x05;
+		assertNull(cache.getPoint(new ID(8), invalid, SECP256R1Curve.getInstance()));
+		assertEquals(1, cache.size());
+
+		cache.remove(lockMateId);
+		assertEquals(0, cache.size());
+	}
+
+	private static byte[] generatePublickey() throws Exception {
+		KeyPairGenerator keyPairGenerator = KeyPairGenerator.getInstance("EC", "SunEC");
+		keyPairGenerator.initialize(new ECGenParameterSpec("secp256r1"));
+		EQCECCPublicKey eqcPublicKey = new EQCECCPublicKey(ECCTYPE.P256);
+		eqcPublicKey.setECPoint((ECPublicKey) keyPairGenerator.generateKeyPair().getPublic());
+		return eqcPublicKey.getCompressedPublicKeyEncoded();
+	}
+
+}
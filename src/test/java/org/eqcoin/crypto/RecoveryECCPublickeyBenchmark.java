@@ -0,0 +1,146 @@
+/**
+ * EQcoin core
+ *
+ * http://www.eqcoin.org
+ * 
+ * @Copyright 2018-present Xun Wang All Rights Reserved...
+ * The copyright of all works released by Xun Wang or jointly released by
+ * Xun Wang with cooperative partners are owned by Xun Wang and entitled
+ * to protection available from copyright law by country as well as international
+ * conventions.
+ * Attribution — You must give appropriate credit, provide a link to the license.
+ * Non Commercial — You may not use the material for commercial purposes.
+ * No Derivatives — If you remix, transform, or build upon the material, you may
+ * not distribute the modified material.
+ * Xun Wang reserves any and all current and future rights, titles and interests
+ * in any and all intellectual property rights of Xun Wang including but not limited
+ * to discoveries, ideas, marks, concepts, methods, formulas, processes, codes,
+ * software, inventions, compositions, techniques, information and data, whether
+ * or not protectable in trademark, copyrightable or patentable, and any trademarks,
+ * copyrights or patents based thereon. For the use of any and all intellectual
+ * property rights of Xun Wang without prior written permission, Xun Wang reserves
+ * all rights to take any legal action and pursue any rights or remedies under
+ * applicable law.
+ */
+package org.eqcoin.crypto;
+
+import java.math.BigInteger;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.Signature;
+import java.security.interfaces.ECPublicKey;
+import java.security.spec.ECGenParameterSpec;
+import java.util.Arrays;
+import java.util.Random;
+
+import org.bouncycastle.asn1.x9.X9IntegerConverter;
+import org.bouncycastle.math.ec.ECAlgorithms;
+import org.bouncycastle.math.ec.ECPoint;
+import org.eqcoin.keystore.Keystore.ECCTYPE;
+import org.eqcoin.util.Log;
+
+/**
+ * Benchmark the recoveries/sec of the candidate publickeys for recovery id 0
+ * and 1 with the previous per recovery id sumOfTwoMultiplies, the
+ * RecoveryECCPublickey one by one and in batch for P256 and P521.
+ * 
+ * @author agent
+ * @date Oct 18, 2026
+ * @email agent@local
+ */
+public class RecoveryECCPublickeyBenchmark {
+	private final static int SIGNATURES = 200;
+	private final static int ROUNDS = 5;
+
+	public static void main(String[] args) throws Exception {
+		benchmark(ECCTYPE.P256, "secp256r1", RecoverySECP256R1Publickey.getInstance());
+		benchmark(ECCTYPE.P521, "secp521r1", RecoverySECP521R1Publickey.getInstance());
+	}
+
+	private static void benchmark(ECCTYPE type, String curveName, RecoveryECCPublickey recovery) throws Exception {
+		KeyPairGenerator keyPairGenerator = KeyPairGenerator.getInstance("EC", "SunEC");
+		keyPairGenerator.initialize(new ECGenParameterSpec(curveName));
+		Random random = new Random(SIGNATURES);
+		byte[][] publickeys = new byte[SIGNATURES][];
+		byte[][] messageHashes = new byte[SIGNATURES][];
+		ECDSASignature[] ecdsaSignatures = new ECDSASignature[SIGNATURES];
+		int[] recIdHints = new int[SIGNATURES];
+		Arrays.fill(recIdHints, -1);
+		for (int i = 0; i < SIGNATURES; ++i) {
+			KeyPair keyPair = keyPairGenerator.generateKeyPair();
+			EQCECCPublicKey eqcPublicKey = new EQCECCPublicKey(type);
+			eqcPublicKey.setECPoint((ECPublicKey) keyPair.getPublic());
+			publickeys[i] = eqcPublicKey.getCompressedPublicKeyEncoded();
+			// The Transaction's sign bytes hash is SHA3-512
+			messageHashes[i] = new byte[64];
+			random.nextBytes(messageHashes[i]);
+			Signature signature = Signature.getInstance("NONEwithECDSA", "SunEC");
+			signature.initSign(keyPair.getPrivate());
+			signature.update(messageHashes[i]);
+			ecdsaSignatures[i] = ECDSASignature.decodeFromDER(signature.sign());
+		}
+
+		long previousCost = 0, singleCost = 0, batchCost = 0;
+		for (int round = 0; round < ROUNDS; ++round) {
+			long begin = System.nanoTime();
+			for (int i = 0; i < SIGNATURES; ++i) {
+				BigInteger e = recovery.calculateE(messageHashes[i]);
+				if (!Arrays.equals(publickeys[i], previousRecover(recovery.ecdsaCurve, 0, ecdsaSignatures[i], e))
+						&& !Arrays.equals(publickeys[i], previousRecover(recovery.ecdsaCurve, 1, ecdsaSignatures[i], e))) {
+					throw new IllegalStateException("Previous recovery failed");
+				}
+			}
+			previousCost += System.nanoTime() - begin;
+			begin = System.nanoTime();
+			for (int i = 0; i < SIGNATURES; ++i) {
+				if (!contains(recovery.recoverFromSignature(ecdsaSignatures[i], messageHashes[i], -1), publickeys[i])) {
+					throw new IllegalStateException("Recovery failed");
+				}
+			}
+			singleCost += System.nanoTime() - begin;
+			begin = System.nanoTime();
+			byte[][][] batch = recovery.recoverFromSignatures(ecdsaSignatures, messageHashes, recIdHints);
+			for (int i = 0; i < SIGNATURES; ++i) {
+				if (!contains(batch[i], publickeys[i])) {
+					throw new IllegalStateException("Batch recovery failed");
+				}
+			}
+			batchCost += System.nanoTime() - begin;
+		}
+		Log.info(type + " previous: " + perSecond(previousCost) + " recoveries/sec one by one: " + perSecond(singleCost)
+				+ " recoveries/sec batch: " + perSecond(batchCost) + " recoveries/sec");
+	}
+
+	/**
+	 * The recovery before the generator's comb table and the shared
+	 * multiplication of recovery id 0 and 1
+	 */
+	private static byte[] previousRecover(ECDSACurve ecdsaCurve, int recId, ECDSASignature ecdsaSignature, BigInteger e) {
+		BigInteger n = ecdsaCurve.getCURVE().getN();
+		X9IntegerConverter x9 = new X9IntegerConverter();
+		byte[] compEnc = x9.integerToBytes(ecdsaSignature.getR(), 1 + x9.getByteLength(ecdsaCurve.getCURVE().getCurve()));
+		compEnc[0] = (byte) ((recId & 1) == 1 ? 0x03 : 0x02);
+		ECPoint R = ecdsaCurve.getCURVE().getCurve().decodePoint(compEnc);
+		if (!R.multiply(n).isInfinity()) {
+			return null;
+		}
+		BigInteger rInv = ecdsaSignature.getR().modInverse(n);
+		BigInteger srInv = rInv.multiply(ecdsaSignature.getS()).mod(n);
+		BigInteger eInvrInv = rInv.multiply(BigInteger.ZERO.subtract(e).mod(n)).mod(n);
+		return ECAlgorithms.sumOfTwoMultiplies(ecdsaCurve.getCURVE().getG(), eInvrInv, R, srInv).getEncoded(true);
+	}
+
+	private static long perSecond(long cost) {
+		return (long) SIGNATURES * ROUNDS * 1000000000L / cost;
+	}
+
+	private static boolean contains(byte[][] publickeys, byte[] publickey) {
+		for (byte[] candidate : publickeys) {
+			if (Arrays.equals(candidate, publickey)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+}
@@ -0,0 +1,196 @@
+/**
+ * EQcoin core
+ *
+ * http://www.eqcoin.org
+ * 
+ * @Copyright 2018-present Xun Wang All Rights Reserved...
+ * The copyright of all works released by Xun Wang or jointly released by
+ * Xun Wang with cooperative partners are owned by Xun Wang and entitled
+ * to protection available from copyright law by country as well as international
+ * conventions.
+ * Attribution — You must give appropriate credit, provide a link to the license.
+ * Non Commercial — You may not use the material for commercial purposes.
+ * No Derivatives — If you remix, transform, or build upon the material, you may
+ * not distribute the modified material.
+ * Xun Wang reserves any and all current and future rights, titles and interests
+ * in any and all intellectual property rights of Xun Wang including but not limited
+ * to discoveries, ideas, marks, concepts, methods, formulas, processes, codes,
+ * software, inventions, compositions, techniques, information and data, whether
+ * or not protectable in trademark, copyrightable or patentable, and any trademarks,
+ * copyrights or patents based thereon. For the use of any and all intellectual
+ * property rights of Xun Wang without prior written permission, Xun Wang reserves
+ * all rights to take any legal action and pursue any rights or remedies under
+ * applicable law.
+ */
+package org.eqcoin.crypto;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.math.BigInteger;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.MessageDigest;
+import java.security.Signature;
+import java.security.interfaces.ECPublicKey;
+import java.security.spec.ECGenParameterSpec;
+import java.util.Arrays;
+
+import org.eqcoin.keystore.Keystore.ECCTYPE;
+import org.eqcoin.util.Util;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Cross check the fused recover and verify against the independent signature
+ * verification with the same vectors as ECCSignatureTest: SunEC signs the
+ * SHA3 digest of the message.
+ * 
+ * @author agent
+ * @date Oct 18, 2026
+ * @email agent@local
+ */
+class RecoveryECCPublickeyTest {
+	private final static int VECTORS = 64;
+
+	/**
+	 * Test method for {@link org.eqcoin.crypto.RecoveryECCPublickey#recoverFromSignature(ECDSASignature, byte[], int)}.
+	 * @throws Exception 
+	 */
+	@Test
+	final void testRecoverFromSignatureP256() throws Exception {
+		crossCheck(ECCTYPE.P256, "secp256r1", RecoverySECP256R1Publickey.getInstance());
+	}
+
+	/**
+	 * Test method for {@link org.eqcoin.crypto.RecoveryECCPublickey#recoverFromSignature(ECDSASignature, byte[], int)}.
+	 * @throws Exception 
+	 */
+	@Test
+	final void testRecoverFromSignatureP521() throws Exception {
+		crossCheck(ECCTYPE.P521, "secp521r1", RecoverySECP521R1Publickey.getInstance());
+	}
+
+	/**
+	 * Test method for {@link org.eqcoin.crypto.RecoveryECCPublickey#recoverFromSignature(ECDSASignature, byte[], int)}.
+	 * @throws Exception 
+	 */
+	@Test
+	final void testRecoverFromSignatureOutOfRange() throws Exception {
+		RecoveryECCPublickey recovery = RecoverySECP256R1Publickey.getInstance();
+		BigInteger n = SECP256R1Curve.getInstance().getCURVE().getN();
+		byte[] messageHash = MessageDigest.getInstance(Util.SHA3_512).digest("message to sign".getBytes("UTF-8"));
+		BigInteger[][] invalids = { { BigInteger.ZERO, BigInteger.ONE }, { BigInteger.ONE, BigInteger.ZERO },
+				{ n, BigInteger.ONE }, { BigInteger.ONE, n }, { BigInteger.ONE, n.add(BigInteger.ONE) } };
+		for (BigInteger[] invalid : invalids) {
+			assertEquals(0, recovery.recoverFromSignature(new ECDSASignature(invalid[0], invalid[1]), messageHash, -1).length);
+		}
+	}
+
+	/**
+	 * Test method for {@link org.eqcoin.crypto.RecoveryECCPublickey#recoverFromSignatures(ECDSASignature[], byte[][], int[])}.
+	 * @throws Exception 
+	 */
+	@Test
+	final void testRecoverFromSignatures() throws Exception {
+		RecoveryECCPublickey recovery = RecoverySECP521R1Publickey.getInstance();
+		KeyPairGenerator keyPairGenerator = KeyPairGenerator.getInstance("EC", "SunEC");
+		keyPairGenerator.initialize(new ECGenParameterSpec("secp521r1"));
+		ECDSASignature[] ecdsaSignatures = new ECDSASignature[VECTORS];
+		byte[][] messageHashes = new byte[VECTORS][];
+		int[] recIdHints = new int[VECTORS];
+		byte[][] publickeys = new byte[VECTORS][];
+		for (int i = 0; i < VECTORS; ++i) {
+			KeyPair keyPair = keyPairGenerator.generateKeyPair();
+			EQCECCPublicKey eqcPublicKey = new EQCECCPublicKey(ECCTYPE.P521);
+			eqcPublicKey.setECPoint((ECPublicKey) keyPair.getPublic());
+			publickeys[i] = eqcPublicKey.getCompressedPublicKeyEncoded();
+			messageHashes[i] = MessageDigest.getInstance(Util.SHA3_512).digest(("message to sign " + i).getBytes("UTF-8"));
+			Signature signature = Signature.getInstance("NONEwithECDSA", "SunEC");
+			signature.initSign(keyPair.getPrivate());
+			signature.update(messageHashes[i]);
+			ecdsaSignatures[i] = ECDSASignature.decodeFromDER(signature.sign());
+			// Mix the signatures with and without recovery id hint
+			recIdHints[i] = (i % 2 == 0) ? -1 : recovery.getRecoveryId(ecdsaSignatures[i], messageHashes[i], publickeys[i]);
+		}
+		// One signature which can't recover anything in the middle of the batch
+		ecdsaSignatures[VECTORS / 2] = new ECDSASignature(BigInteger.ZERO, BigInteger.ONE);
+
+		byte[][][] batch = recovery.recoverFromSignatures(ecdsaSignatures, messageHashes, recIdHints);
+		for (int i = 0; i < VECTORS; ++i) {
+			byte[][] single = recovery.recoverFromSignature(ecdsaSignatures[i], messageHashes[i], recIdHints[i]);
+			assertEquals(single.length, batch[i].length);
+			for (int j = 0; j < single.length; ++j) {
+				assertArrayEquals(single[j], batch[i][j]);
+			}
+			if (i == VECTORS / 2) {
+				assertEquals(0, batch[i].length);
+			} else {
+				assertTrue(contains(batch[i], publickeys[i]));
+				assertEquals((i % 2 == 0) ? 2 : 1, batch[i].length);
+			}
+		}
+	}
+
+	private static void crossCheck(ECCTYPE type, String curveName, RecoveryECCPublickey recovery) throws Exception {
+		KeyPairGenerator keyPairGenerator = KeyPairGenerator.getInstance("EC", "SunEC");
+		keyPairGenerator.initialize(new ECGenParameterSpec(curveName));
+		for (int i = 0; i < VECTORS; ++i) {
+			KeyPair keyPair = keyPairGenerator.generateKeyPair();
+			EQCECCPublicKey eqcPublicKey = new EQCECCPublicKey(type);
+			eqcPublicKey.setECPoint((ECPublicKey) keyPair.getPublic());
+			byte[] publickey = eqcPublicKey.getCompressedPublicKeyEncoded();
+			byte[] messageHash = MessageDigest.getInstance((i % 2 == 0) ? Util.SHA3_256 : Util.SHA3_512)
+					.digest(("message to sign " + i).getBytes("UTF-8"));
+			Signature signature = Signature.getInstance("NONEwithECDSA", "SunEC");
+			signature.initSign(keyPair.getPrivate());
+			signature.update(messageHash);
+			ECDSASignature ecdsaSignature = ECDSASignature.decodeFromDER(signature.sign());
+
+			// The signer's publickey is recovered and every recovered publickey verify
+			byte[][] publickeys = recovery.recoverFromSignature(ecdsaSignature, messageHash, -1);
+			assertTrue(contains(publickeys, publickey));
+			for (byte[] candidate : publickeys) {
+				assertTrue(verify(type, candidate, messageHash, ecdsaSignature));
+			}
+
+			// The tampered message hash or signature recover other publickeys which
+			// still verify but none of them is the signer's so the lock doesn't match
+			byte[] tamperedHash = messageHash.clone();
+			// Only the leftmost bits of the hash are used when it is longer than the curve order
+			tamperedHash[i % 16] ^= 1 << (i % 8);
+			ECDSASignature tamperedSignature = new ECDSASignature(ecdsaSignature.getR(),
+					ecdsaSignature.getS().flipBit(i % 8));
+			assertFalse(verify(type, publickey, tamperedHash, ecdsaSignature));
+			assertFalse(verify(type, publickey, messageHash, tamperedSignature));
+			publickeys = recovery.recoverFromSignature(ecdsaSignature, tamperedHash, -1);
+			assertFalse(contains(publickeys, publickey));
+			for (byte[] candidate : publickeys) {
+				assertTrue(verify(type, candidate, tamperedHash, ecdsaSignature));
+			}
+			publickeys = recovery.recoverFromSignature(tamperedSignature, messageHash, -1);
+			assertFalse(contains(publickeys, publickey));
+			for (byte[] candidate : publickeys) {
+				assertTrue(verify(type, candidate, messageHash, tamperedSignature));
+			}
+		}
+	}
+
+	private static boolean verify(ECCTYPE type, byte[] publickey, byte[] messageHash, ECDSASignature ecdsaSignature)
+			throws Exception {
+		Signature signature = Signature.getInstance("NONEwithECDSA", "SunEC");
+		EQCECCPublicKey eqcPublicKey = new EQCECCPublicKey(type);
+		eqcPublicKey.setECPoint(publickey);
+		signature.initVerify(eqcPublicKey);
+		signature.update(messageHash);
+		return signature.verify(ecdsaSignature.encodeToDER());
+	}
+
+	private static boolean contains(byte[][] publickeys, byte[] publickey) {
+		for (byte[] candidate : publickeys) {
+			if (Arrays.equals(candidate, publickey)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+}
@@ -0,0 +1,92 @@
+/**
+ * EQcoin core
+ *
+ * http://www.eqcoin.org
+ * 
+ * @Copyright 2018-present Xun Wang All Rights Reserved...
+ * The copyright of all works released by Xun Wang or jointly released by
+ * Xun Wang with cooperative partners are owned by Xun Wang and entitled
+ * to protection available from copyright law by country as well as international
+ * conventions.
+ * Attribution — You must give appropriate credit, provide a link to the license.
+ * Non Commercial — You may not use the material for commercial purposes.
+ * No Derivatives — If you remix, transform, or build upon the material, you may
+ * not distribute the modified material.
+ * Xun Wang reserves any and all current and future rights, titles and interests
+ * in any and all intellectual property rights of Xun Wang including but not limited
+ * to discoveries, ideas, marks, concepts, methods, formulas, processes, codes,
+ * software, inventions, compositions, techniques, information and data, whether
+ * or not protectable in trademark, copyrightable or patentable, and any trademarks,
+ * copyrights or patents based thereon. For the use of any and all intellectual
+ * property rights of Xun Wang without prior written permission, Xun Wang reserves
+ * all rights to take any legal action and pursue any rights or remedies under
+ * applicable law.
+ */
+package org.eqcoin.hive;
+
+import java.util.Vector;
+import java.util.concurrent.ForkJoinPool;
+
+import org.eqcoin.persistence.globalstate.GlobalState;
+import org.eqcoin.persistence.globalstate.h2.GlobalStateH2;
+import org.eqcoin.util.ID;
+import org.eqcoin.util.Log;
+
+/**
+ * Benchmark the sync's decode stage on the local stored EQCHives with 1, 2, 4
+ * and 8 cores and report the throughput in hives/sec. The EQCHives are taken
+ * in order by the single thread which replay the EQCSeeds' proof as the verify
+ * stage.
+ * 
+ * @author agent
+ * @date Oct 18, 2026
+ * @email agent@local
+ */
+public class EQCHiveDecoderBenchmark {
+	private final static int ROUNDS = 5;
+	private final static int[] PARALLELISM_LIST = { 1, 2, 4, 8 };
+
+	public static void main(String[] args) throws Exception {
+		GlobalState globalState = new GlobalStateH2();
+		ID tailHeight = globalState.getEQCHiveTailHeight();
+		Vector<byte[]> eqcHiveList = new Vector<>();
+		for (ID height = ID.ZERO; height.compareTo(tailHeight) <= 0; height = height.getNextID()) {
+			eqcHiveList.add(globalState.getEQCHive(height));
+		}
+		Log.info("Loaded " + eqcHiveList.size() + " EQCHives");
+
+		long begin = System.nanoTime();
+		for (int i = 0; i < ROUNDS; ++i) {
+			for (byte[] bytes : eqcHiveList) {
+				verify(EQCHiveDecoder.decode(bytes));
+			}
+		}
+		report("Sequential", eqcHiveList.size(), System.nanoTime() - begin);
+
+		for (int parallelism : PARALLELISM_LIST) {
+			ForkJoinPool pool = new ForkJoinPool(parallelism);
+			EQCHiveDecoder eqcHiveDecoder = new EQCHiveDecoder(pool, parallelism * 2);
+			begin = System.nanoTime();
+			for (int i = 0; i < ROUNDS; ++i) {
+				int offered = 0;
+				for (int taken = 0; taken < eqcHiveList.size(); ++taken) {
+					for (; !eqcHiveDecoder.isFull() && offered < eqcHiveList.size(); ++offered) {
+						eqcHiveDecoder.offer(eqcHiveList.get(offered));
+					}
+					verify(eqcHiveDecoder.take());
+				}
+			}
+			report(parallelism + " cores", eqcHiveList.size(), System.nanoTime() - begin);
+			pool.shutdown();
+		}
+	}
+
+	private static void verify(EQCHive eqcHive) throws Exception {
+		eqcHive.getEQCoinSeeds().getProof();
+	}
+
+	private static void report(String name, int size, long cost) {
+		Log.info(name + " throughput: " + (long) size * ROUNDS * 1000000000L / Math.max(cost, 1) + " hives/sec");
+	}
+
+}
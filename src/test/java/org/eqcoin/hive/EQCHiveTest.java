@@ -0,0 +1,221 @@
+/**
+ * EQcoin core
+ *
+ * http://www.eqcoin.org
+ * 
+ * @Copyright 2018-present Xun Wang All Rights Reserved...
+ * The copyright of all works released by Xun Wang or jointly released by
+ * Xun Wang with cooperative partners are owned by Xun Wang and entitled
+ * to protection available from copyright law by country as well as international
+ * conventions.
+ * Attribution — You must give appropriate credit, provide a link to the license.
+ * Non Commercial — You may not use the material for commercial purposes.
+ * No Derivatives — If you remix, transform, or build upon the material, you may
+ * not distribute the modified material.
+ * Xun Wang reserves any and all current and future rights, titles and interests
+ * in any and all intellectual property rights of Xun Wang including but not limited
+ * to discoveries, ideas, marks, concepts, methods, formulas, processes, codes,
+ * software, inventions, compositions, techniques, information and data, whether
+ * or not protectable in trademark, copyrightable or patentable, and any trademarks,
+ * copyrights or patents based thereon. For the use of any and all intellectual
+ * property rights of Xun Wang without prior written permission, Xun Wang reserves
+ * all rights to take any legal action and pursue any rights or remedies under
+ * applicable law.
+ */
+package org.eqcoin.hive;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.Signature;
+import java.security.spec.ECGenParameterSpec;
+import java.util.Arrays;
+import java.util.Random;
+
+import org.eqcoin.crypto.HashTool;
+import org.eqcoin.lock.LockTool.LockType;
+import org.eqcoin.lock.witness.T2Witness;
+import org.eqcoin.serialization.EQCObject;
+import org.eqcoin.transaction.Transaction;
+import org.eqcoin.transaction.Transaction.TRANSACTION_PRIORITY;
+import org.eqcoin.transaction.TransferTransaction;
+import org.eqcoin.transaction.txout.TransferTxOut;
+import org.eqcoin.util.ID;
+import org.eqcoin.util.Util;
+import org.eqcoin.util.Value;
+import org.junit.jupiter.api.Test;
+
+/**
+ * The sealed EQCHive's and Transaction's memoized bytes must follow the change
+ * of their sub objects such as the EQCHiveRoot, the Witness and the TxOut.
+ * 
+ * @author agent
+ * @date Oct 18, 2026
+ * @email agent@local
+ */
+class EQCHiveTest {
+
+	/**
+	 * Test method for {@link org.eqcoin.hive.EQCHive#getBytes()}.
+	 */
+	@Test
+	final void testSealedGetBytes() throws Exception {
+		EQCHive eqcHive = newEQCHive();
+		EQCHiveRoot eqcHiveRoot = eqcHive.getRoot();
+
+		EQCHive parsed = new EQCHive(eqcHive.getBytes());
+		assertTrue(parsed.isSealed());
+		byte[] bytes = parsed.getBytes();
+		assertArrayEquals(eqcHive.getBytes(), bytes);
+		assertSame(bytes, parsed.getBytes());
+
+		// Change the parsed EQCHive's EQCHiveRoot should drop the memoized bytes
+		parsed.getRoot().setNonce(ID.ONE);
+		eqcHiveRoot.setNonce(ID.ONE);
+		assertFalse(Arrays.equals(bytes, parsed.getBytes()));
+		assertArrayEquals(eqcHive.getBytes(), parsed.getBytes());
+		assertArrayEquals(eqcHive.getBytesHash(), parsed.getBytesHash());
+	}
+
+	/**
+	 * Test method for {@link org.eqcoin.transaction.Transaction#getBytes()}.
+	 */
+	@Test
+	final void testSealedTransactionGetBytes() throws Exception {
+		KeyPair keyPair = newKeyPair();
+		TransferTransaction transaction = newTransaction(keyPair);
+		transaction.seal();
+		byte[] bytes = transaction.getBytes();
+		byte[] hash = transaction.getBytesHash();
+		assertSame(bytes, transaction.getBytes());
+
+		// Change the Witness after sealed should drop the memoized bytes and hash
+		transaction.getWitness().setWitness(sign(keyPair, new Random(52)));
+		assertFalse(Arrays.equals(bytes, transaction.getBytes()));
+		assertFalse(Arrays.equals(hash, transaction.getBytesHash()));
+		assertNotMemoized(transaction);
+
+		// So does change the TxOut
+		bytes = transaction.getBytes();
+		transaction.getTxOutList().get(0).setValue(new Value(Util.MIN_BALANCE.add(Value.ONE)));
+		assertFalse(Arrays.equals(bytes, transaction.getBytes()));
+		assertNotMemoized(transaction);
+	}
+
+	/**
+	 * Test method for {@link org.eqcoin.seeds.EQCSeeds#getTransaction(int)}.
+	 */
+	@Test
+	final void testSealedLazyEQCHiveGetBytes() throws Exception {
+		KeyPair keyPair = newKeyPair();
+		EQCHive eqcHive = newEQCHive();
+		Transaction transaction = newTransaction(keyPair);
+		eqcHive.getEQCoinSeeds().addTransaction(transaction);
+
+		EQCHive parsed = new EQCHive(eqcHive.getBytes());
+		assertTrue(parsed.getEQCoinSeeds().isLazy());
+		byte[] bytes = parsed.getBytes();
+		byte[] hash = parsed.getBytesHash();
+
+		// Change the lazy decoded Transaction's Witness should drop the unparsed body
+		// and the EQCHive's memoized bytes and hash
+		byte[] witness = sign(keyPair, new Random(52));
+		parsed.getEQCoinSeeds().getTransaction(0).getWitness().setWitness(witness);
+		transaction.getWitness().setWitness(witness);
+		assertFalse(parsed.getEQCoinSeeds().isLazy());
+		assertFalse(Arrays.equals(bytes, parsed.getBytes()));
+		assertFalse(Arrays.equals(hash, parsed.getBytesHash()));
+		assertArrayEquals(eqcHive.getBytes(), parsed.getBytes());
+		assertArrayEquals(eqcHive.getBytesHash(), parsed.getBytesHash());
+	}
+
+	/**
+	 * The sealed object's bytes and hash should be the same as the one which
+	 * encoded from scratch.
+	 */
+	/**
+	 * Test method for {@link org.eqcoin.hive.EQCHive#EQCHive(byte[])}.
+	 * @throws Exception 
+	 */
+	@Test
+	final void testDefaultProtocolVersion() throws Exception {
+		EQCHive eqcHive = newEQCHive();
+		eqcHive.getRoot().setProtocolVersion(Util.DEFAULT_PROTOCOL_VERSION);
+		byte[] bytes = eqcHive.getBytes();
+		// Before SEEDS_BIN_PROTOCOL_VERSION the EQCSeeds doesn't have body
+		assertArrayEquals(eqcHive.getRoot().getBytes(), bytes);
+		EQCHive parsedEQCHive = new EQCHive(bytes);
+		assertEquals(0, parsedEQCHive.getEQCoinSeeds().getNewTransactionListSize());
+		assertArrayEquals(bytes, parsedEQCHive.getBytes());
+		// Which can't carry Transaction
+		eqcHive.getEQCoinSeeds().addTransaction(newTransaction(newKeyPair()));
+		assertThrows(IllegalStateException.class, eqcHive::getBytes);
+	}
+
+	private static void assertNotMemoized(EQCObject eqcObject) throws Exception {
+		byte[] bytes = eqcObject.getBytes();
+		byte[] hash = eqcObject.getBytesHash();
+		eqcObject.unseal();
+		assertArrayEquals(eqcObject.getBytes(), bytes);
+		assertArrayEquals(HashTool.SHA3_512(bytes), hash);
+		eqcObject.seal();
+	}
+
+	private static KeyPair newKeyPair() throws Exception {
+		KeyPairGenerator keyPairGenerator = KeyPairGenerator.getInstance("EC", "SunEC");
+		keyPairGenerator.initialize(new ECGenParameterSpec("secp521r1"));
+		return keyPairGenerator.generateKeyPair();
+	}
+
+	/**
+	 * @return the DER signature of random bytes
+	 */
+	private static byte[] sign(KeyPair keyPair, Random random) throws Exception {
+		byte[] bytes = new byte[Util.HASH_LEN];
+		random.nextBytes(bytes);
+		Signature ecdsa = Signature.getInstance("NONEwithECDSA", "SunEC");
+		ecdsa.initSign(keyPair.getPrivate());
+		ecdsa.update(bytes);
+		return ecdsa.sign();
+	}
+
+	private static TransferTransaction newTransaction(KeyPair keyPair) throws Exception {
+		TransferTransaction transaction = new TransferTransaction();
+		transaction.setLockType(LockType.T2);
+		transaction.setPriority(TRANSACTION_PRIORITY.ASAP);
+		transaction.setNonce(ID.ONE);
+		TransferTxOut txOut = new TransferTxOut();
+		txOut.setPassportId(ID.TWO);
+		txOut.setValue(Util.MIN_BALANCE);
+		transaction.addTxOut(txOut);
+		T2Witness witness = new T2Witness();
+		witness.setWitness(sign(keyPair, new Random(51)));
+		witness.setTransaction(transaction);
+		transaction.setWitness(witness);
+		return transaction;
+	}
+
+	private static EQCHive newEQCHive() throws Exception {
+		Random random = new Random(51);
+		EQCHive eqcHive = new EQCHive();
+		EQCHiveRoot eqcHiveRoot = eqcHive.getRoot();
+		byte[] preProof = new byte[Util.HASH_LEN];
+		random.nextBytes(preProof);
+		byte[] target = new byte[4];
+		random.nextBytes(target);
+		eqcHiveRoot.setHeight(new ID(2020));
+		eqcHiveRoot.setProtocolVersion(Util.PROTOCOL_VERSION);
+		eqcHiveRoot.setPreProof(preProof);
+		eqcHiveRoot.setTarget(target);
+		eqcHiveRoot.setEQCoinSeedsProof(new byte[Util.HASH_LEN]);
+		eqcHiveRoot.setTotalTransactionNumbers(new ID(123456789));
+		eqcHiveRoot.setTotalLockMateNumbers(new ID(12345));
+		eqcHiveRoot.setTotalPassportNumbers(new ID(1234));
+		eqcHiveRoot.setTotalSupply(new Value(Long.MAX_VALUE));
+		eqcHiveRoot.setTimestamp(new ID(System.currentTimeMillis()));
+		eqcHiveRoot.setNonce(ID.ZERO);
+		return eqcHive;
+	}
+
+}
@@ -26,9 +26,14 @@ package org.eqcoin.lock.witness;
 
 import static org.junit.jupiter.api.Assertions.*;
 
+import java.security.KeyPairGenerator;
+import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
 import java.security.Signature;
+import java.security.spec.ECGenParameterSpec;
 
+import org.eqcoin.crypto.ECDSASignature;
+import org.eqcoin.crypto.RecoverySECP521R1Publickey;
 import org.eqcoin.keystore.Keystore;
 import org.eqcoin.keystore.UserProfile;
 import org.eqcoin.lock.LockTool.LockType;
@@ -117,6 +122,36 @@ class T2WitnessTest {
 		assertNotNull(witness.getWitness());
 	}
 
+	/**
+	 * Test method for {@link org.eqcoin.lock.witness.T2Witness#isSanity()}.
+	 * @throws Exception 
+	 */
+	@Test
+	final void testHighestBitsOfR() throws Exception {
+		KeyPairGenerator keyPairGenerator = KeyPairGenerator.getInstance("EC", "SunEC");
+		keyPairGenerator.initialize(new ECGenParameterSpec("secp521r1"));
+		for (int i = 0; i < 16; ++i) {
+			byte[] signBytesHash = MessageDigest.getInstance(Util.SHA3_512).digest(Util.getSecureRandomBytes());
+			Signature ecdsa = Signature.getInstance("NONEwithECDSA", "SunEC");
+			ecdsa.initSign(keyPairGenerator.generateKeyPair().getPrivate());
+			ecdsa.update(signBytesHash);
+			T2Witness witness = new T2Witness();
+			witness.setWitness(ecdsa.sign());
+			assertTrue(witness.isSanity());
+			ECDSASignature ecdsaSignature = witness.getECDSASignature();
+			assertEquals(2, RecoverySECP521R1Publickey.getInstance().recoverFromSignature(ecdsaSignature, signBytesHash).length);
+			// The witness with any of R's unused highest bits set is a second encoding of the same signature
+			byte highest = witness.getWitness()[0];
+			for (int bit = 1; bit < 8; ++bit) {
+				witness.getWitness()[0] = (byte) (highest | (1 << bit));
+				assertFalse(witness.isSanity());
+				assertNotEquals(ecdsaSignature.getR(), witness.getECDSASignature().getR());
+			}
+			witness.getWitness()[0] = highest;
+			assertTrue(witness.isSanity());
+		}
+	}
+
 	/**
 	 * Test method for {@link org.eqcoin.lock.witness.T2Witness#getProof()}.
 	 */
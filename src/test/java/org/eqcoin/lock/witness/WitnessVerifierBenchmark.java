@@ -0,0 +1,95 @@
+/**
+ * EQcoin core
+ *
+ * http://www.eqcoin.org
+ * 
+ * @Copyright 2018-present Xun Wang All Rights Reserved...
+ * The copyright of all works released by Xun Wang or jointly released by
+ * Xun Wang with cooperative partners are owned by Xun Wang and entitled
+ * to protection available from copyright law by country as well as international
+ * conventions.
+ * Attribution — You must give appropriate credit, provide a link to the license.
+ * Non Commercial — You may not use the material for commercial purposes.
+ * No Derivatives — If you remix, transform, or build upon the material, you may
+ * not distribute the modified material.
+ * Xun Wang reserves any and all current and future rights, titles and interests
+ * in any and all intellectual property rights of Xun Wang including but not limited
+ * to discoveries, ideas, marks, concepts, methods, formulas, processes, codes,
+ * software, inventions, compositions, techniques, information and data, whether
+ * or not protectable in trademark, copyrightable or patentable, and any trademarks,
+ * copyrights or patents based thereon. For the use of any and all intellectual
+ * property rights of Xun Wang without prior written permission, Xun Wang reserves
+ * all rights to take any legal action and pursue any rights or remedies under
+ * applicable law.
+ */
+package org.eqcoin.lock.witness;
+
+import java.util.Vector;
+import java.util.concurrent.ForkJoinPool;
+
+import org.eqcoin.crypto.VerifiedSignatureCache;
+import org.eqcoin.hive.EQCHive;
+import org.eqcoin.hive.EQCHiveDecoder;
+import org.eqcoin.persistence.globalstate.GlobalState;
+import org.eqcoin.persistence.globalstate.h2.GlobalStateH2;
+import org.eqcoin.transaction.Transaction;
+import org.eqcoin.util.ID;
+import org.eqcoin.util.Log;
+
+/**
+ * Benchmark the witnesses' pre verify on the local stored EQCHives with 1, 2, 4
+ * and 8 cores and report the throughput in witnesses/sec and the speedup
+ * compare with 1 core. The VerifiedSignatureCache is cleared before each round
+ * so every witness is recovered and verified.
+ * 
+ * @author agent
+ * @date Oct 18, 2026
+ * @email agent@local
+ */
+public class WitnessVerifierBenchmark {
+	private final static int ROUNDS = 5;
+	private final static int[] PARALLELISM_LIST = { 1, 2, 4, 8 };
+
+	public static void main(String[] args) throws Exception {
+		GlobalState globalState = new GlobalStateH2();
+		ID tailHeight = globalState.getEQCHiveTailHeight();
+		Vector<byte[]> eqcHiveList = new Vector<>();
+		for (ID height = ID.ZERO; height.compareTo(tailHeight) <= 0; height = height.getNextID()) {
+			eqcHiveList.add(globalState.getEQCHive(height));
+		}
+		Log.info("Loaded " + eqcHiveList.size() + " EQCHives");
+
+		long baseline = 0;
+		for (int parallelism : PARALLELISM_LIST) {
+			ForkJoinPool pool = new ForkJoinPool(parallelism);
+			WitnessVerifier witnessVerifier = new WitnessVerifier(pool);
+			long witnesses = 0;
+			long cost = 0;
+			for (int i = 0; i < ROUNDS; ++i) {
+				VerifiedSignatureCache.getInstance().clear();
+				for (byte[] bytes : eqcHiveList) {
+					EQCHive eqcHive = EQCHiveDecoder.decode(bytes);
+					Vector<Transaction> transactionList = eqcHive.getEQCoinSeeds().getNewTransactionList();
+					for (Transaction transaction : transactionList) {
+						transaction.init(eqcHive);
+						// Warm up the sign bytes hash so only the recovery and verification are measured
+						transaction.getSignBytesHash();
+					}
+					long begin = System.nanoTime();
+					if (!witnessVerifier.preVerify(transactionList, 1)) {
+						throw new IllegalStateException("Pre verify failed at height " + eqcHive.getRoot().getHeight());
+					}
+					cost += System.nanoTime() - begin;
+					witnesses += Math.max(transactionList.size() - 1, 0);
+				}
+			}
+			if (parallelism == 1) {
+				baseline = cost;
+			}
+			Log.info(parallelism + " cores throughput: " + witnesses * 1000000000L / Math.max(cost, 1)
+					+ " witnesses/sec speedup: " + String.format("%.2f", (double) baseline / Math.max(cost, 1)));
+			pool.shutdown();
+		}
+	}
+
+}
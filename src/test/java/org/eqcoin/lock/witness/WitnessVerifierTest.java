@@ -0,0 +1,113 @@
+/**
+ * EQcoin core
+ *
+ * http://www.eqcoin.org
+ * 
+ * @Copyright 2018-present Xun Wang All Rights Reserved...
+ * The copyright of all works released by Xun Wang or jointly released by
+ * Xun Wang with cooperative partners are owned by Xun Wang and entitled
+ * to protection available from copyright law by country as well as international
+ * conventions.
+ * Attribution — You must give appropriate credit, provide a link to the license.
+ * Non Commercial — You may not use the material for commercial purposes.
+ * No Derivatives — If you remix, transform, or build upon the material, you may
+ * not distribute the modified material.
+ * Xun Wang reserves any and all current and future rights, titles and interests
+ * in any and all intellectual property rights of Xun Wang including but not limited
+ * to discoveries, ideas, marks, concepts, methods, formulas, processes, codes,
+ * software, inventions, compositions, techniques, information and data, whether
+ * or not protectable in trademark, copyrightable or patentable, and any trademarks,
+ * copyrights or patents based thereon. For the use of any and all intellectual
+ * property rights of Xun Wang without prior written permission, Xun Wang reserves
+ * all rights to take any legal action and pursue any rights or remedies under
+ * applicable law.
+ */
+package org.eqcoin.lock.witness;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.MessageDigest;
+import java.security.Signature;
+import java.security.interfaces.ECPublicKey;
+import java.security.spec.ECGenParameterSpec;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import org.eqcoin.crypto.EQCECCPublicKey;
+import org.eqcoin.crypto.VerifiedSignatureCache;
+import org.eqcoin.keystore.Keystore.ECCTYPE;
+import org.eqcoin.lock.LockTool.LockType;
+import org.eqcoin.transaction.Transaction;
+import org.eqcoin.util.Util;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Both the default fused verify and the opt-in batch verify should pre verify
+ * the signer's publickey.
+ * 
+ * @author agent
+ * @date Oct 18, 2026
+ * @email agent@local
+ */
+class WitnessVerifierTest {
+	private final static int WITNESSES = 2 * WitnessVerifier.MIN_BATCH_SIZE + 3;
+
+	/**
+	 * Test method for {@link org.eqcoin.lock.witness.WitnessVerifier#preVerify(java.util.List, int)}.
+	 * @throws Exception 
+	 */
+	@Test
+	final void testPreVerify() throws Exception {
+		final boolean isFusedVerify = Witness.IsFusedVerify;
+		final ForkJoinPool pool = new ForkJoinPool(2);
+		try {
+			for (boolean isFused : new boolean[] { true, false }) {
+				Witness.IsFusedVerify = isFused;
+				VerifiedSignatureCache.getInstance().clear();
+				KeyPairGenerator keyPairGenerator = KeyPairGenerator.getInstance("EC", "SunEC");
+				keyPairGenerator.initialize(new ECGenParameterSpec("secp521r1"));
+				List<Transaction> transactionList = new ArrayList<>();
+				byte[][] publickeys = new byte[WITNESSES][];
+				for (int i = 0; i < WITNESSES; ++i) {
+					KeyPair keyPair = keyPairGenerator.generateKeyPair();
+					EQCECCPublicKey eqcPublicKey = new EQCECCPublicKey(ECCTYPE.P521);
+					eqcPublicKey.setECPoint((ECPublicKey) keyPair.getPublic());
+					publickeys[i] = eqcPublicKey.getCompressedPublicKeyEncoded();
+					byte[] signBytesHash = MessageDigest.getInstance(Util.SHA3_512).digest(Util.getSecureRandomBytes());
+					Signature ecdsa = Signature.getInstance("NONEwithECDSA", "SunEC");
+					ecdsa.initSign(keyPair.getPrivate());
+					ecdsa.update(signBytesHash);
+					T2Witness witness = new T2Witness();
+					witness.setWitness(ecdsa.sign());
+					Transaction transaction = new Transaction() {
+						{
+							lockType = LockType.T2;
+						}
+
+						@Override
+						public byte[] getSignBytesHash() {
+							return signBytesHash;
+						}
+					};
+					transaction.setWitness(witness);
+					witness.setTransaction(transaction);
+					transactionList.add(transaction);
+				}
+				assertTrue(new WitnessVerifier(pool).preVerify(transactionList, 0));
+				for (int i = 0; i < WITNESSES; ++i) {
+					Witness witness = transactionList.get(i).getWitness();
+					assertTrue(witness.isPreVerified());
+					assertNull(witness.getRecoveredPublickeys());
+					assertTrue(witness.isPreVerified(publickeys[i]));
+				}
+			}
+		} finally {
+			Witness.IsFusedVerify = isFusedVerify;
+			pool.shutdown();
+		}
+	}
+
+}
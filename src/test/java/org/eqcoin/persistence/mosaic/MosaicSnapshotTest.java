@@ -0,0 +1,112 @@
+/**
+ * EQcoin core
+ *
+ * http://www.eqcoin.org
+ * 
+ * @Copyright 2018-present Xun Wang All Rights Reserved...
+ * The copyright of all works released by Xun Wang or jointly released by
+ * Xun Wang with cooperative partners are owned by Xun Wang and entitled
+ * to protection available from copyright law by country as well as international
+ * conventions.
+ * Attribution — You must give appropriate credit, provide a link to the license.
+ * Non Commercial — You may not use the material for commercial purposes.
+ * No Derivatives — If you remix, transform, or build upon the material, you may
+ * not distribute the modified material.
+ * Xun Wang reserves any and all current and future rights, titles and interests
+ * in any and all intellectual property rights of Xun Wang including but not limited
+ * to discoveries, ideas, marks, concepts, methods, formulas, processes, codes,
+ * software, inventions, compositions, techniques, information and data, whether
+ * or not protectable in trademark, copyrightable or patentable, and any trademarks,
+ * copyrights or patents based thereon. For the use of any and all intellectual
+ * property rights of Xun Wang without prior written permission, Xun Wang reserves
+ * all rights to take any legal action and pursue any rights or remedies under
+ * applicable law.
+ */
+package org.eqcoin.persistence.mosaic;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.nio.file.Files;
+import java.util.Vector;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * The snapshot keeps each Transaction's rawdata and received timestamp.
+ * 
+ * @author agent
+ * @date Oct 18, 2026
+ * @email agent@local
+ */
+class MosaicSnapshotTest {
+	private File snapshotFile;
+
+	/**
+	 * @throws java.lang.Exception
+	 */
+	@BeforeEach
+	void setUp() throws Exception {
+		snapshotFile = File.createTempFile("MosaicSnapshotTest", ".snapshot");
+		snapshotFile.delete();
+	}
+
+	/**
+	 * @throws java.lang.Exception
+	 */
+	@AfterEach
+	void tearDown() throws Exception {
+		snapshotFile.delete();
+	}
+
+	/**
+	 * Test method for {@link org.eqcoin.persistence.mosaic.MosaicSnapshot#write(java.util.Vector)}.
+	 */
+	@Test
+	final void testWriteRead() throws Exception {
+		final MosaicSnapshot mosaicSnapshot = new MosaicSnapshot(snapshotFile.getPath());
+		assertTrue(mosaicSnapshot.read().isEmpty());
+		final Vector<MosaicSnapshot.Entry> entryList = new Vector<>();
+		entryList.add(new MosaicSnapshot.Entry(new byte[] { 1, 2, 3 }, 1000));
+		entryList.add(new MosaicSnapshot.Entry(new byte[] { 4 }, 2000));
+		mosaicSnapshot.write(entryList);
+		final Vector<MosaicSnapshot.Entry> readList = mosaicSnapshot.read();
+		assertEquals(entryList.size(), readList.size());
+		for (int i = 0; i < entryList.size(); ++i) {
+			assertArrayEquals(entryList.get(i).getRawdata(), readList.get(i).getRawdata());
+			assertEquals(entryList.get(i).getReceivedTimestamp(), readList.get(i).getReceivedTimestamp());
+		}
+	}
+
+	/**
+	 * Test method for {@link org.eqcoin.persistence.mosaic.MosaicSnapshot#read()}.
+	 */
+	@Test
+	final void testReadPreviousVersion() throws Exception {
+		// The previous version's snapshot with priority value after the received timestamp
+		try (DataOutputStream os = new DataOutputStream(new FileOutputStream(snapshotFile))) {
+			os.writeInt(0x45514D53);
+			os.writeInt(1);
+			os.writeInt(2);
+			os.write(new byte[] { 5, 6 });
+			os.writeLong(3000);
+			os.writeLong(99);
+			os.writeInt(1);
+			os.write(new byte[] { 7 });
+			os.writeLong(4000);
+			os.writeLong(0);
+		}
+		final Vector<MosaicSnapshot.Entry> readList = new MosaicSnapshot(snapshotFile.getPath()).read();
+		assertEquals(2, readList.size());
+		assertArrayEquals(new byte[] { 5, 6 }, readList.get(0).getRawdata());
+		assertEquals(3000, readList.get(0).getReceivedTimestamp());
+		assertArrayEquals(new byte[] { 7 }, readList.get(1).getRawdata());
+		assertEquals(4000, readList.get(1).getReceivedTimestamp());
+		assertTrue(Files.notExists(new File(snapshotFile.getPath() + ".tmp").toPath()));
+	}
+
+}
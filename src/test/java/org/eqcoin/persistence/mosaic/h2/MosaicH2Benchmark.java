@@ -0,0 +1,140 @@
+/**
+ * EQcoin core
+ *
+ * http://www.eqcoin.org
+ * 
+ * @Copyright 2018-present Xun Wang All Rights Reserved...
+ * The copyright of all works released by Xun Wang or jointly released by
+ * Xun Wang with cooperative partners are owned by Xun Wang and entitled
+ * to protection available from copyright law by country as well as international
+ * conventions.
+ * Attribution — You must give appropriate credit, provide a link to the license.
+ * Non Commercial — You may not use the material for commercial purposes.
+ * No Derivatives — If you remix, transform, or build upon the material, you may
+ * not distribute the modified material.
+ * Xun Wang reserves any and all current and future rights, titles and interests
+ * in any and all intellectual property rights of Xun Wang including but not limited
+ * to discoveries, ideas, marks, concepts, methods, formulas, processes, codes,
+ * software, inventions, compositions, techniques, information and data, whether
+ * or not protectable in trademark, copyrightable or patentable, and any trademarks,
+ * copyrights or patents based thereon. For the use of any and all intellectual
+ * property rights of Xun Wang without prior written permission, Xun Wang reserves
+ * all rights to take any legal action and pursue any rights or remedies under
+ * applicable law.
+ */
+package org.eqcoin.persistence.mosaic.h2;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.Random;
+
+import org.eqcoin.util.Log;
+
+/**
+ * Benchmark TRANSACTION_POOL's lookup and delete latency before and after
+ * upgrade with 1M pooled transactions.
+ * 
+ * @author agent
+ * @date Oct 18, 2026
+ * @email agent@local
+ */
+public class MosaicH2Benchmark {
+	private final static int POOL_SIZE = 1000000;
+	private final static int PASSPORT_NUMBERS = 100000;
+	private final static int LEGACY_ROUNDS = 20;
+	private final static int ROUNDS = 10000;
+	private static byte[][] witnessList;
+
+	public static void main(String[] args) throws Exception {
+		Connection connection = DriverManager.getConnection("jdbc:h2:mem:MosaicH2Benchmark", "Believer", "God bless us...");
+		Statement statement = connection.createStatement();
+		// The TRANSACTION_POOL which created by previous version
+		statement.execute("CREATE TABLE TRANSACTION_POOL(" + "key BIGINT PRIMARY KEY AUTO_INCREMENT, "
+				+ "passport_id BIGINT," + "nonce BIGINT," + "rawdata BINARY," + "witness BINARY,"
+				+ "proof BINARY(4)," + "priority_value BIGINT," + "receieved_timestamp BIGINT,"
+				+ "record_status BOOLEAN," + "record_height BIGINT" + ")");
+		statement.close();
+		fill(connection);
+
+		Log.info("Before upgrade:");
+		benchmark(connection, "SELECT key FROM TRANSACTION_POOL WHERE witness=?", false, LEGACY_ROUNDS);
+		benchmarkByNonce(connection, LEGACY_ROUNDS);
+
+		long begin = System.nanoTime();
+		MosaicH2.upgradeTransactionPool(connection);
+		Log.info("Upgrade TRANSACTION_POOL cost: " + (System.nanoTime() - begin) / 1000000 + " ms");
+
+		Log.info("After upgrade:");
+		benchmark(connection, "SELECT key FROM TRANSACTION_POOL WHERE witness_hash=?", true, ROUNDS);
+		benchmarkByNonce(connection, ROUNDS);
+		benchmark(connection, "DELETE FROM TRANSACTION_POOL WHERE witness_hash=?", true, ROUNDS);
+		connection.close();
+	}
+
+	private static void fill(Connection connection) throws Exception {
+		Random random = new Random(51);
+		witnessList = new byte[POOL_SIZE][];
+		PreparedStatement preparedStatement = connection.prepareStatement(
+				"INSERT INTO TRANSACTION_POOL (passport_id, nonce, rawdata, witness, proof, priority_value, receieved_timestamp, record_status) VALUES(?, ?, ?, ?, ?, ?, ?, ?)");
+		for (int i = 0; i < POOL_SIZE; ++i) {
+			byte[] rawdata = new byte[128];
+			random.nextBytes(rawdata);
+			witnessList[i] = new byte[64];
+			random.nextBytes(witnessList[i]);
+			preparedStatement.setLong(1, i % PASSPORT_NUMBERS);
+			preparedStatement.setLong(2, i / PASSPORT_NUMBERS);
+			preparedStatement.setBytes(3, rawdata);
+			preparedStatement.setBytes(4, witnessList[i]);
+			preparedStatement.setBytes(5, new byte[] { witnessList[i][0], witnessList[i][9], witnessList[i][20], witnessList[i][31] });
+			preparedStatement.setLong(6, 1);
+			preparedStatement.setLong(7, i);
+			preparedStatement.setBoolean(8, false);
+			preparedStatement.addBatch();
+			if (i % 10000 == 0) {
+				preparedStatement.executeBatch();
+			}
+		}
+		preparedStatement.executeBatch();
+		preparedStatement.close();
+	}
+
+	private static void benchmark(Connection connection, String sql, boolean isHash, int rounds) throws Exception {
+		Random random = new Random(2020);
+		PreparedStatement preparedStatement = connection.prepareStatement(sql);
+		long begin = System.nanoTime();
+		for (int i = 0; i < rounds; ++i) {
+			byte[] witness = witnessList[random.nextInt(POOL_SIZE)];
+			preparedStatement.setBytes(1, isHash ? MosaicH2.getWitnessHash(witness) : witness);
+			if (preparedStatement.execute()) {
+				ResultSet resultSet = preparedStatement.getResultSet();
+				resultSet.next();
+				resultSet.close();
+			}
+		}
+		long cost = System.nanoTime() - begin;
+		preparedStatement.close();
+		Log.info(sql + " average latency: " + cost / rounds / 1000 + " us");
+	}
+
+	private static void benchmarkByNonce(Connection connection, int rounds) throws Exception {
+		Random random = new Random(2020);
+		PreparedStatement preparedStatement = connection
+				.prepareStatement("SELECT key FROM TRANSACTION_POOL WHERE passport_id=? AND nonce=?");
+		long begin = System.nanoTime();
+		for (int i = 0; i < rounds; ++i) {
+			int index = random.nextInt(POOL_SIZE);
+			preparedStatement.setLong(1, index % PASSPORT_NUMBERS);
+			preparedStatement.setLong(2, index / PASSPORT_NUMBERS);
+			ResultSet resultSet = preparedStatement.executeQuery();
+			resultSet.next();
+			resultSet.close();
+		}
+		long cost = System.nanoTime() - begin;
+		preparedStatement.close();
+		Log.info("SELECT by passport_id and nonce average latency: " + cost / rounds / 1000 + " us");
+	}
+
+}
@@ -0,0 +1,97 @@
+/**
+ * EQcoin core
+ *
+ * http://www.eqcoin.org
+ * 
+ * @Copyright 2018-present Xun Wang All Rights Reserved...
+ * The copyright of all works released by Xun Wang or jointly released by
+ * Xun Wang with cooperative partners are owned by Xun Wang and entitled
+ * to protection available from copyright law by country as well as international
+ * conventions.
+ * Attribution — You must give appropriate credit, provide a link to the license.
+ * Non Commercial — You may not use the material for commercial purposes.
+ * No Derivatives — If you remix, transform, or build upon the material, you may
+ * not distribute the modified material.
+ * Xun Wang reserves any and all current and future rights, titles and interests
+ * in any and all intellectual property rights of Xun Wang including but not limited
+ * to discoveries, ideas, marks, concepts, methods, formulas, processes, codes,
+ * software, inventions, compositions, techniques, information and data, whether
+ * or not protectable in trademark, copyrightable or patentable, and any trademarks,
+ * copyrights or patents based thereon. For the use of any and all intellectual
+ * property rights of Xun Wang without prior written permission, Xun Wang reserves
+ * all rights to take any legal action and pursue any rights or remedies under
+ * applicable law.
+ */
+package org.eqcoin.rpc.gateway;
+
+import java.lang.management.ManagementFactory;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.util.concurrent.Executors;
+
+import org.apache.avro.ipc.netty.NettyTransceiver;
+import org.apache.avro.ipc.specific.SpecificRequestor;
+import org.eqcoin.avro.EQCHiveSyncNetwork;
+import org.eqcoin.avro.O;
+import org.eqcoin.rpc.service.avro.EQCHiveSyncNetworkService;
+import org.eqcoin.util.ID;
+import org.eqcoin.util.Log;
+import org.eqcoin.util.Util;
+import org.jboss.netty.channel.socket.oio.OioClientSocketChannelFactory;
+
+/**
+ * Benchmark the bandwidth and CPU of sync the local stored EQCHives over
+ * loopback with and without DEFLATE.
+ * 
+ * @author agent
+ * @date Oct 18, 2026
+ * @email agent@local
+ */
+public class CodecBenchmark {
+	private final static long MAX_EQCHIVE_NUMBERS = 10000;
+
+	public static void main(String[] args) throws Exception {
+		EQCHiveSyncNetworkService.getInstance().start();
+		long eqcHiveNumbers = Math.min(Util.GS().getEQCHiveTailHeight().longValue() + 1, MAX_EQCHIVE_NUMBERS);
+		Log.info("Begin sync " + eqcHiveNumbers + " EQCHives over loopback");
+		NettyTransceiver nettyTransceiver = new NettyTransceiver(
+				new InetSocketAddress(InetAddress.getLoopbackAddress(), Util.SYNCBLOCK_NETWORK_PORT),
+				new OioClientSocketChannelFactory(Executors.newCachedThreadPool()), Util.DEFAULT_TIMEOUT);
+		try {
+			EQCHiveSyncNetwork client = SpecificRequestor.getClient(EQCHiveSyncNetwork.class, nettyTransceiver);
+			// Warm up
+			sync(client, eqcHiveNumbers, false);
+			sync(client, eqcHiveNumbers, true);
+			sync(client, eqcHiveNumbers, false);
+			sync(client, eqcHiveNumbers, true);
+		} finally {
+			nettyTransceiver.close();
+			EQCHiveSyncNetworkService.getInstance().stop();
+		}
+	}
+
+	private static void sync(EQCHiveSyncNetwork client, long eqcHiveNumbers, boolean isAcceptDeflate)
+			throws Exception {
+		com.sun.management.OperatingSystemMXBean osMXBean = (com.sun.management.OperatingSystemMXBean) ManagementFactory
+				.getOperatingSystemMXBean();
+		long wireBytes = 0;
+		long rawBytes = 0;
+		long cpuTime = osMXBean.getProcessCpuTime();
+		long begin = System.nanoTime();
+		for (long i = 0; i < eqcHiveNumbers; ++i) {
+			// The old peer's request doesn't accept any codec
+			O h = new O(ByteBuffer.wrap(ID.valueOf(i).getEQCBits()), isAcceptDeflate ? Codec.ACCEPT_DEFLATE : 0);
+			O o = client.getEQCHive(h);
+			wireBytes += o.getO().remaining();
+			rawBytes += Gateway.parseProtocol(o).length;
+		}
+		long cost = System.nanoTime() - begin;
+		cpuTime = osMXBean.getProcessCpuTime() - cpuTime;
+		Log.info((isAcceptDeflate ? "DEFLATE" : "NONE") + " wire bytes: " + wireBytes + " raw bytes: " + rawBytes
+				+ " ratio: " + wireBytes * 100 / Math.max(rawBytes, 1) + "% throughput: "
+				+ eqcHiveNumbers * 1000000000L / Math.max(cost, 1) + " hives/sec CPU: "
+				+ cpuTime / 1000 / Math.max(eqcHiveNumbers, 1) + " us/hive");
+	}
+
+}
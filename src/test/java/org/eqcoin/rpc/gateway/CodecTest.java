@@ -0,0 +1,99 @@
+/**
+ * EQcoin core
+ *
+ * http://www.eqcoin.org
+ * 
+ * @Copyright 2018-present Xun Wang All Rights Reserved...
+ * The copyright of all works released by Xun Wang or jointly released by
+ * Xun Wang with cooperative partners are owned by Xun Wang and entitled
+ * to protection available from copyright law by country as well as international
+ * conventions.
+ * Attribution — You must give appropriate credit, provide a link to the license.
+ * Non Commercial — You may not use the material for commercial purposes.
+ * No Derivatives — If you remix, transform, or build upon the material, you may
+ * not distribute the modified material.
+ * Xun Wang reserves any and all current and future rights, titles and interests
+ * in any and all intellectual property rights of Xun Wang including but not limited
+ * to discoveries, ideas, marks, concepts, methods, formulas, processes, codes,
+ * software, inventions, compositions, techniques, information and data, whether
+ * or not protectable in trademark, copyrightable or patentable, and any trademarks,
+ * copyrights or patents based thereon. For the use of any and all intellectual
+ * property rights of Xun Wang without prior written permission, Xun Wang reserves
+ * all rights to take any legal action and pursue any rights or remedies under
+ * applicable law.
+ */
+package org.eqcoin.rpc.gateway;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.nio.ByteBuffer;
+import java.util.Random;
+import java.util.zip.DataFormatException;
+
+import org.eqcoin.avro.O;
+import org.eqcoin.util.Util;
+import org.junit.jupiter.api.Test;
+
+/**
+ * @author agent
+ * @date Oct 18, 2026
+ * @email agent@local
+ */
+class CodecTest {
+
+	/**
+	 * Test method for {@link org.eqcoin.rpc.gateway.Gateway#getProtocol(java.lang.Class, byte[], org.eqcoin.rpc.gateway.Codec)}.
+	 */
+	@Test
+	final void testDeflate() throws Exception {
+		// Compressible payload which repeat the same 64 bytes
+		byte[] bytes = new byte[Util.KILOBYTE * 16];
+		Random random = new Random(51);
+		byte[] hash = new byte[Util.HASH_LEN];
+		random.nextBytes(hash);
+		for (int i = 0; i < bytes.length; ++i) {
+			bytes[i] = hash[i % hash.length];
+		}
+		O o = Gateway.getProtocol(O.class, bytes, Codec.DEFLATE);
+		assertEquals(Codec.DEFLATE, Codec.get(o.getC()));
+		assertEquals(Codec.DEFLATE, Codec.getAccepted(o));
+		assertTrue(o.getO().remaining() < bytes.length);
+		assertArrayEquals(bytes, Gateway.parseProtocol(o));
+
+		// Random payload can't be compressed so keep the raw payload
+		random.nextBytes(bytes);
+		o = Gateway.getProtocol(O.class, bytes, Codec.DEFLATE);
+		assertEquals(Codec.NONE, Codec.get(o.getC()));
+		assertArrayEquals(bytes, Gateway.parseProtocol(o));
+
+		// Short payload doesn't worth to be compressed
+		o = Gateway.getProtocol(O.class, new byte[Codec.MIN_COMPRESS_LEN - 1], Codec.DEFLATE);
+		assertEquals(Codec.NONE, Codec.get(o.getC()));
+	}
+
+	/**
+	 * Test method for {@link org.eqcoin.rpc.gateway.Codec#getAccepted(org.eqcoin.avro.O)}.
+	 */
+	@Test
+	final void testGetAccepted() throws Exception {
+		// The O from the old peer doesn't have c
+		O o = new O(ByteBuffer.wrap(new byte[Codec.MIN_COMPRESS_LEN * 2]), 0);
+		assertEquals(Codec.NONE, Codec.getAccepted(o));
+		assertNull(Codec.NONE.encode(o.getO().array()));
+		assertEquals(Codec.DEFLATE, Codec.getAccepted(Gateway.getProtocol(O.class, o.getO().array())));
+		assertThrows(IllegalStateException.class, () -> Codec.get(Codec.CODEC_MASK));
+	}
+
+	/**
+	 * Test method for {@link org.eqcoin.rpc.gateway.Codec#decode(byte[])}.
+	 */
+	@Test
+	final void testDecompressionBomb() throws Exception {
+		byte[] encoded = Codec.DEFLATE.encode(new byte[Codec.MAX_DECODE_LEN + 1]);
+		assertThrows(DataFormatException.class, () -> Codec.DEFLATE.decode(encoded));
+		byte[] truncated = new byte[encoded.length / 2];
+		System.arraycopy(encoded, 0, truncated, 0, truncated.length);
+		assertThrows(DataFormatException.class, () -> Codec.DEFLATE.decode(truncated));
+	}
+
+}
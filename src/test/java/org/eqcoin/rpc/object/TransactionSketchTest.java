@@ -0,0 +1,104 @@
+/**
+ * EQcoin core
+ *
+ * http://www.eqcoin.org
+ * 
+ * @Copyright 2018-present Xun Wang All Rights Reserved...
+ * The copyright of all works released by Xun Wang or jointly released by
+ * Xun Wang with cooperative partners are owned by Xun Wang and entitled
+ * to protection available from copyright law by country as well as international
+ * conventions.
+ * Attribution — You must give appropriate credit, provide a link to the license.
+ * Non Commercial — You may not use the material for commercial purposes.
+ * No Derivatives — If you remix, transform, or build upon the material, you may
+ * not distribute the modified material.
+ * Xun Wang reserves any and all current and future rights, titles and interests
+ * in any and all intellectual property rights of Xun Wang including but not limited
+ * to discoveries, ideas, marks, concepts, methods, formulas, processes, codes,
+ * software, inventions, compositions, techniques, information and data, whether
+ * or not protectable in trademark, copyrightable or patentable, and any trademarks,
+ * copyrights or patents based thereon. For the use of any and all intellectual
+ * property rights of Xun Wang without prior written permission, Xun Wang reserves
+ * all rights to take any legal action and pursue any rights or remedies under
+ * applicable law.
+ */
+package org.eqcoin.rpc.object;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Vector;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * @author agent
+ * @date Oct 18, 2026
+ * @email agent@local
+ */
+class TransactionSketchTest {
+
+	/**
+	 * Test method for {@link org.eqcoin.rpc.object.TransactionSketch#decode(java.util.Vector, java.util.Vector)}.
+	 */
+	@Test
+	final void testDecode() {
+		Random random = new Random(51);
+		TransactionSketch localSketch = new TransactionSketch(TransactionSketch.MIN_CELL_NUMBER * 16);
+		TransactionSketch remoteSketch = new TransactionSketch(TransactionSketch.MIN_CELL_NUMBER * 16);
+		HashSet<Long> localOnly = new HashSet<>();
+		HashSet<Long> remoteOnly = new HashSet<>();
+		for (int i = 0; i < 10000; ++i) {
+			long shortId = random.nextLong();
+			localSketch.addShortId(shortId);
+			remoteSketch.addShortId(shortId);
+		}
+		for (int i = 0; i < 40; ++i) {
+			long shortId = random.nextLong();
+			localSketch.addShortId(shortId);
+			localOnly.add(shortId);
+			shortId = random.nextLong();
+			remoteSketch.addShortId(shortId);
+			remoteOnly.add(shortId);
+		}
+		localSketch.subtract(remoteSketch);
+		Vector<Long> localShortIdList = new Vector<>();
+		Vector<Long> remoteShortIdList = new Vector<>();
+		assertTrue(localSketch.decode(localShortIdList, remoteShortIdList));
+		assertEquals(localOnly, new HashSet<>(localShortIdList));
+		assertEquals(remoteOnly, new HashSet<>(remoteShortIdList));
+	}
+
+	/**
+	 * Test method for {@link org.eqcoin.rpc.object.TransactionSketch#decode(java.util.Vector, java.util.Vector)}.
+	 */
+	@Test
+	final void testDecodeOverflow() {
+		Random random = new Random(51);
+		TransactionSketch localSketch = new TransactionSketch(TransactionSketch.MIN_CELL_NUMBER);
+		TransactionSketch remoteSketch = new TransactionSketch(TransactionSketch.MIN_CELL_NUMBER);
+		for (int i = 0; i < 1000; ++i) {
+			localSketch.addShortId(random.nextLong());
+		}
+		localSketch.subtract(remoteSketch);
+		assertFalse(localSketch.decode(new Vector<>(), new Vector<>()));
+	}
+
+	/**
+	 * Test method for {@link org.eqcoin.rpc.object.TransactionSketch#getBytes()}.
+	 * @throws Exception 
+	 */
+	@Test
+	final void testGetBytes() throws Exception {
+		Random random = new Random(51);
+		TransactionSketch transactionSketch = new TransactionSketch(100);
+		for (int i = 0; i < 30; ++i) {
+			transactionSketch.addShortId(random.nextLong());
+		}
+		assertEquals(0, transactionSketch.getCellNumber() % TransactionSketch.HASH_NUMBERS);
+		TransactionSketch transactionSketch2 = new TransactionSketch(transactionSketch.getProtocol(org.eqcoin.avro.O.class));
+		assertArrayEquals(transactionSketch.getBytes(), transactionSketch2.getBytes());
+	}
+
+}
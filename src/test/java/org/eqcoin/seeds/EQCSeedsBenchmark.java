@@ -0,0 +1,105 @@
+/**
+ * EQcoin core
+ *
+ * http://www.eqcoin.org
+ * 
+ * @Copyright 2018-present Xun Wang All Rights Reserved...
+ * The copyright of all works released by Xun Wang or jointly released by
+ * Xun Wang with cooperative partners are owned by Xun Wang and entitled
+ * to protection available from copyright law by country as well as international
+ * conventions.
+ * Attribution — You must give appropriate credit, provide a link to the license.
+ * Non Commercial — You may not use the material for commercial purposes.
+ * No Derivatives — If you remix, transform, or build upon the material, you may
+ * not distribute the modified material.
+ * Xun Wang reserves any and all current and future rights, titles and interests
+ * in any and all intellectual property rights of Xun Wang including but not limited
+ * to discoveries, ideas, marks, concepts, methods, formulas, processes, codes,
+ * software, inventions, compositions, techniques, information and data, whether
+ * or not protectable in trademark, copyrightable or patentable, and any trademarks,
+ * copyrights or patents based thereon. For the use of any and all intellectual
+ * property rights of Xun Wang without prior written permission, Xun Wang reserves
+ * all rights to take any legal action and pursue any rights or remedies under
+ * applicable law.
+ */
+package org.eqcoin.seeds;
+
+import java.util.Vector;
+
+import org.eqcoin.hive.EQCHive;
+import org.eqcoin.persistence.globalstate.GlobalState;
+import org.eqcoin.persistence.globalstate.h2.GlobalStateH2;
+import org.eqcoin.serialization.EQCObject;
+import org.eqcoin.transaction.Transaction;
+import org.eqcoin.util.ID;
+import org.eqcoin.util.Log;
+
+/**
+ * Benchmark the serialization and hashing which EQCSeeds.isValid() and
+ * EQCHive.isValid() do on the local stored EQCHives with and without seal and
+ * report the seal's hit rate.
+ * 
+ * @author agent
+ * @date Oct 18, 2026
+ * @email agent@local
+ */
+public class EQCSeedsBenchmark {
+	private final static int ROUNDS = 10;
+
+	public static void main(String[] args) throws Exception {
+		GlobalState globalState = new GlobalStateH2();
+		ID tailHeight = globalState.getEQCHiveTailHeight();
+		Vector<byte[]> eqcHiveList = new Vector<>();
+		for (ID height = ID.ZERO; height.compareTo(tailHeight) <= 0; height = height.getNextID()) {
+			eqcHiveList.add(globalState.getEQCHive(height));
+		}
+		Log.info("Loaded " + eqcHiveList.size() + " EQCHives");
+		benchmark(eqcHiveList, false);
+		benchmark(eqcHiveList, true);
+	}
+
+	private static void benchmark(Vector<byte[]> eqcHiveList, boolean isSealed) throws Exception {
+		EQCObject.resetSealStatistics();
+		long cost = 0;
+		for (int i = 0; i < ROUNDS; ++i) {
+			for (byte[] bytes : eqcHiveList) {
+				EQCHive eqcHive = new EQCHive(bytes);
+				if (!isSealed) {
+					eqcHive.unseal();
+					for (Transaction transaction : eqcHive.getEQCoinSeeds().getNewTransactionList()) {
+						transaction.unseal();
+					}
+				}
+				long begin = System.nanoTime();
+				validate(eqcHive);
+				cost += System.nanoTime() - begin;
+			}
+		}
+		long hit = EQCObject.getSealHitCount();
+		long miss = EQCObject.getSealMissCount();
+		Log.info((isSealed ? "Sealed" : "Unsealed") + " average cost: " + cost / ROUNDS / 1000 + " us hit: " + hit
+				+ " miss: " + miss + " hit rate: " + ((hit + miss) == 0 ? 0 : hit * 100 / (hit + miss)) + "%");
+	}
+
+	/**
+	 * Replay the serialization and hashing which EQCSeeds.isValid() and
+	 * EQCHive.isValid() do without touch the GlobalState.
+	 */
+	private static void validate(EQCHive eqcHive) throws Exception {
+		for (Transaction transaction : eqcHive.getEQCoinSeeds().getNewTransactionList()) {
+			// Witness.isMeetPreCondition() and Witness.verifySignature()
+			transaction.getSignBytesHash();
+			transaction.getSignBytesHash();
+			// Transaction.getBillingLength() during check the tx fee
+			transaction.getBytes();
+			// EQCSeeds.isValid() accumulate the Transactions' length
+			transaction.getLength();
+		}
+		// EQCHiveRoot.isValid() verify the EQCoinSeeds' proof
+		eqcHive.getEQCoinSeeds().getProof();
+		// The EQCHive's size and bytes which used during relay and save it
+		eqcHive.getSize();
+		eqcHive.getBytes();
+	}
+
+}
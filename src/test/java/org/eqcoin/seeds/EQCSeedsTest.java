@@ -0,0 +1,95 @@
+/**
+ * EQcoin core
+ *
+ * http://www.eqcoin.org
+ * 
+ * @Copyright 2018-present Xun Wang All Rights Reserved...
+ * The copyright of all works released by Xun Wang or jointly released by
+ * Xun Wang with cooperative partners are owned by Xun Wang and entitled
+ * to protection available from copyright law by country as well as international
+ * conventions.
+ * Attribution — You must give appropriate credit, provide a link to the license.
+ * Non Commercial — You may not use the material for commercial purposes.
+ * No Derivatives — If you remix, transform, or build upon the material, you may
+ * not distribute the modified material.
+ * Xun Wang reserves any and all current and future rights, titles and interests
+ * in any and all intellectual property rights of Xun Wang including but not limited
+ * to discoveries, ideas, marks, concepts, methods, formulas, processes, codes,
+ * software, inventions, compositions, techniques, information and data, whether
+ * or not protectable in trademark, copyrightable or patentable, and any trademarks,
+ * copyrights or patents based thereon. For the use of any and all intellectual
+ * property rights of Xun Wang without prior written permission, Xun Wang reserves
+ * all rights to take any legal action and pursue any rights or remedies under
+ * applicable law.
+ */
+package org.eqcoin.seeds;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * The selected Transactions must keep each Passport's nonce continuous.
+ * 
+ * @author agent
+ * @date Oct 18, 2026
+ * @email agent@local
+ */
+class EQCSeedsTest {
+
+	/**
+	 * Test method for {@link org.eqcoin.seeds.EQCSeeds#selectTransactions(long[], long[], int[], double[], int)}.
+	 */
+	@Test
+	final void testSelectTransactionsNonceGap() {
+		// Passport 1's nonce 3 is missing so its nonce 4 can't be selected even it has the highest fee density
+		final long[] passportIds = { 1, 1, 2 };
+		final long[] nonces = { 2, 4, 5 };
+		final int[] lengths = { 10, 10, 10 };
+		final double[] feeDensities = { 1, 9, 2 };
+		assertArrayEquals(new int[] { 0, 2 }, EQCSeeds.selectTransactions(passportIds, nonces, lengths, feeDensities, 100));
+	}
+
+	/**
+	 * Test method for {@link org.eqcoin.seeds.EQCSeeds#selectTransactions(long[], long[], int[], double[], int)}.
+	 */
+	@Test
+	final void testSelectTransactionsSkippedNonce() {
+		// Passport 1's nonce 2 doesn't fit so its nonce 3 is skipped too but the smaller Passport 2's Transaction fits
+		final long[] passportIds = { 1, 1, 2 };
+		final long[] nonces = { 2, 3, 7 };
+		final int[] lengths = { 60, 10, 30 };
+		final double[] feeDensities = { 1, 9, 5 };
+		assertArrayEquals(new int[] { 2 }, EQCSeeds.selectTransactions(passportIds, nonces, lengths, feeDensities, 50));
+	}
+
+	/**
+	 * Test method for {@link org.eqcoin.seeds.EQCSeeds#selectTransactions(long[], long[], int[], double[], int)}.
+	 */
+	@Test
+	final void testSelectTransactionsNonceOrder() {
+		// Passport 1's Transactions are out of nonce order in pool and the low fee nonce 2 carries the high fee nonce 3
+		final long[] passportIds = { 1, 2, 1 };
+		final long[] nonces = { 3, 9, 2 };
+		final int[] lengths = { 10, 10, 10 };
+		final double[] feeDensities = { 9, 5, 1 };
+		assertArrayEquals(new int[] { 2, 1, 0 }, EQCSeeds.selectTransactions(passportIds, nonces, lengths, feeDensities, 100));
+		// Only two fit, Passport 2 is better than Passport 1's head nonce 2
+		assertArrayEquals(new int[] { 1, 2 }, EQCSeeds.selectTransactions(passportIds, nonces, lengths, feeDensities, 20));
+	}
+
+	/**
+	 * Test method for {@link org.eqcoin.seeds.EQCSeeds#selectTransactions(long[], long[], int[], double[], int)}.
+	 */
+	@Test
+	final void testSelectTransactionsMalformed() {
+		// The malformed Transactions have unique negative id so each one is selected alone to be discarded during planting
+		final long[] passportIds = { 1, -2, 1, -4 };
+		final long[] nonces = { 2, 0, 3, 0 };
+		final int[] lengths = { 10, 0, 10, 0 };
+		final double[] feeDensities = { 1, 0, 9, 0 };
+		assertArrayEquals(new int[] { 0, 1, 2, 3 }, EQCSeeds.selectTransactions(passportIds, nonces, lengths, feeDensities, 20));
+		assertArrayEquals(new int[] { 0, 1, 3 }, EQCSeeds.selectTransactions(passportIds, nonces, lengths, feeDensities, 10));
+	}
+
+}
@@ -0,0 +1,127 @@
+/**
+ * EQcoin core
+ *
+ * http://www.eqcoin.org
+ * 
+ * @Copyright 2018-present Xun Wang All Rights Reserved...
+ * The copyright of all works released by Xun Wang or jointly released by
+ * Xun Wang with cooperative partners are owned by Xun Wang and entitled
+ * to protection available from copyright law by country as well as international
+ * conventions.
+ * Attribution — You must give appropriate credit, provide a link to the license.
+ * Non Commercial — You may not use the material for commercial purposes.
+ * No Derivatives — If you remix, transform, or build upon the material, you may
+ * not distribute the modified material.
+ * Xun Wang reserves any and all current and future rights, titles and interests
+ * in any and all intellectual property rights of Xun Wang including but not limited
+ * to discoveries, ideas, marks, concepts, methods, formulas, processes, codes,
+ * software, inventions, compositions, techniques, information and data, whether
+ * or not protectable in trademark, copyrightable or patentable, and any trademarks,
+ * copyrights or patents based thereon. For the use of any and all intellectual
+ * property rights of Xun Wang without prior written permission, Xun Wang reserves
+ * all rights to take any legal action and pursue any rights or remedies under
+ * applicable law.
+ */
+package org.eqcoin.serialization;
+
+import java.io.ByteArrayOutputStream;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.util.Random;
+
+import org.eqcoin.util.Log;
+
+/**
+ * Benchmark EQCBits' long encoder and decoder against the BigInteger one.
+ * 
+ * @author agent
+ * @date Oct 18, 2026
+ * @email agent@local
+ */
+public class EQCCastleBenchmark {
+	private final static int VALUE_NUMBERS = 1 << 16;
+	private final static int WARMUP_ROUNDS = 20;
+	private final static int ROUNDS = 100;
+
+	public static void main(String[] args) {
+		Random random = new Random(51);
+		long[] valueList = new long[VALUE_NUMBERS];
+		BigInteger[] bigIntegerList = new BigInteger[VALUE_NUMBERS];
+		byte[][] eqcBitsList = new byte[VALUE_NUMBERS][];
+		for (int i = 0; i < VALUE_NUMBERS; ++i) {
+			valueList[i] = random.nextLong() >>> (1 + random.nextInt(Long.SIZE - 1));
+			bigIntegerList[i] = BigInteger.valueOf(valueList[i]);
+			eqcBitsList[i] = EQCCastle.longToEQCBits(valueList[i]);
+		}
+		ByteBuffer buff = ByteBuffer.allocate(VALUE_NUMBERS * EQCCastle.EQCBITS_BUFFER_LEN);
+		long[] costList = new long[4];
+		long checksum = 0;
+		long begin;
+		for (int round = 0; round < WARMUP_ROUNDS + ROUNDS; ++round) {
+			// Discard the warm up rounds' cost which include JIT compiling
+			if (round == WARMUP_ROUNDS) {
+				costList = new long[4];
+			}
+			begin = System.nanoTime();
+			for (int i = 0; i < VALUE_NUMBERS; ++i) {
+				checksum += legacyBigIntegerToEQCBits(bigIntegerList[i]).length;
+			}
+			costList[0] += System.nanoTime() - begin;
+
+			begin = System.nanoTime();
+			buff.clear();
+			for (int i = 0; i < VALUE_NUMBERS; ++i) {
+				checksum += EQCCastle.longToEQCBits(valueList[i], buff);
+			}
+			costList[1] += System.nanoTime() - begin;
+
+			begin = System.nanoTime();
+			for (int i = 0; i < VALUE_NUMBERS; ++i) {
+				checksum += legacyEQCBitsToBigInteger(eqcBitsList[i]).longValue();
+			}
+			costList[2] += System.nanoTime() - begin;
+
+			begin = System.nanoTime();
+			buff.flip();
+			for (int i = 0; i < VALUE_NUMBERS; ++i) {
+				checksum += EQCCastle.eqcBitsToLong(buff);
+			}
+			costList[3] += System.nanoTime() - begin;
+		}
+		Log.info("BigInteger encode average cost: " + costList[0] / ROUNDS / VALUE_NUMBERS + " ns/op");
+		Log.info("long encode into ByteBuffer average cost: " + costList[1] / ROUNDS / VALUE_NUMBERS + " ns/op");
+		Log.info("BigInteger decode average cost: " + costList[2] / ROUNDS / VALUE_NUMBERS + " ns/op");
+		Log.info("long decode from ByteBuffer average cost: " + costList[3] / ROUNDS / VALUE_NUMBERS + " ns/op");
+		// Print the checksum to prevent the JIT eliminate the dead code
+		Log.info("Checksum: " + checksum);
+	}
+
+	/**
+	 * The original BigInteger based implementation which used as the reference
+	 */
+	static byte[] legacyBigIntegerToEQCBits(BigInteger value) {
+		final ByteArrayOutputStream os = new ByteArrayOutputStream();
+		BigInteger remainder = null;
+		byte[] bytes = null;
+		while (value.compareTo(EQCCastle.BASE128) >= 0) {
+			remainder = value.mod(EQCCastle.BASE128);
+			bytes = remainder.toByteArray();
+			os.write(bytes.length == 1 ? bytes[0] : bytes[1]);
+			value = value.subtract(remainder).divide(EQCCastle.BASE128);
+		}
+		bytes = value.toByteArray();
+		os.write((bytes.length == 1 ? bytes[0] : bytes[1]) | EQCCastle.EQCBITS);
+		return os.toByteArray();
+	}
+
+	static BigInteger legacyEQCBitsToBigInteger(final byte[] bytes) {
+		BigInteger foo = BigInteger.ZERO;
+		for (int i = 0; i < bytes.length - 1; ++i) {
+			foo = foo.add(BigInteger.valueOf(bytes[i]).multiply(EQCCastle.BASE128.pow(i)));
+		}
+		foo = foo.add(BigInteger.valueOf(bytes[bytes.length - 1] & EQCCastle.EQCBITS_MASK)
+				.multiply(EQCCastle.BASE128.pow(bytes.length - 1)));
+		return foo;
+	}
+
+}
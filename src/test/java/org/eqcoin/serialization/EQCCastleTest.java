@@ -0,0 +1,181 @@
+/**
+ * EQcoin core
+ *
+ * http://www.eqcoin.org
+ * 
+ * @Copyright 2018-present Xun Wang All Rights Reserved...
+ * The copyright of all works released by Xun Wang or jointly released by
+ * Xun Wang with cooperative partners are owned by Xun Wang and entitled
+ * to protection available from copyright law by country as well as international
+ * conventions.
+ * Attribution — You must give appropriate credit, provide a link to the license.
+ * Non Commercial — You may not use the material for commercial purposes.
+ * No Derivatives — If you remix, transform, or build upon the material, you may
+ * not distribute the modified material.
+ * Xun Wang reserves any and all current and future rights, titles and interests
+ * in any and all intellectual property rights of Xun Wang including but not limited
+ * to discoveries, ideas, marks, concepts, methods, formulas, processes, codes,
+ * software, inventions, compositions, techniques, information and data, whether
+ * or not protectable in trademark, copyrightable or patentable, and any trademarks,
+ * copyrights or patents based thereon. For the use of any and all intellectual
+ * property rights of Xun Wang without prior written permission, Xun Wang reserves
+ * all rights to take any legal action and pursue any rights or remedies under
+ * applicable law.
+ */
+package org.eqcoin.serialization;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * @author agent
+ * @date Oct 18, 2026
+ * @email agent@local
+ */
+class EQCCastleTest {
+	private final static int ROUNDS = 1000000;
+
+	/**
+	 * Test method for {@link org.eqcoin.serialization.EQCCastle#longToEQCBits(long)}.
+	 */
+	@Test
+	final void testLongToEQCBits() {
+		for (long value : getBoundaryList()) {
+			assertEQCBits(value);
+		}
+		Random random = new Random(51);
+		for (int i = 0; i < ROUNDS; ++i) {
+			// Uniform on the bit length so the short EQCBits are covered as well as the long ones
+			assertEQCBits(random.nextLong() >>> (1 + random.nextInt(Long.SIZE - 1)));
+		}
+	}
+
+	/**
+	 * Test method for {@link org.eqcoin.serialization.EQCCastle#eqcBitsToBigInteger(byte[])}.
+	 */
+	@Test
+	final void testBeyond63Bits() {
+		BigInteger value = BigInteger.ONE.shiftLeft(63);
+		for (int i = 0; i < 64; ++i) {
+			byte[] bytes = EQCCastle.bigIntegerToEQCBits(value);
+			assertArrayEquals(EQCCastleBenchmark.legacyBigIntegerToEQCBits(value), bytes);
+			assertEquals(value, EQCCastle.eqcBitsToBigInteger(bytes));
+			value = value.shiftLeft(1).add(BigInteger.valueOf(i));
+		}
+	}
+
+	/**
+	 * Test method for {@link org.eqcoin.serialization.EQCCastle#longToEQCBits(long)}.
+	 */
+	@Test
+	final void testNegative() {
+		assertThrows(IllegalStateException.class, () -> EQCCastle.longToEQCBits(-1));
+		assertThrows(IllegalStateException.class, () -> EQCCastle.intToEQCBits(Integer.MIN_VALUE));
+	}
+
+	/**
+	 * Test method for {@link org.eqcoin.serialization.EQCCastle#longToEQCLight(long)}.
+	 */
+	@Test
+	final void testEQCLight() {
+		Random random = new Random(51);
+		for (int i = 0; i < ROUNDS; ++i) {
+			assertEQCLight(BigInteger.valueOf(EQCLightBenchmark.nextEQCLight(random)));
+		}
+		assertEQCLight(BigInteger.ZERO);
+		assertEQCLight(BigInteger.valueOf(Long.MAX_VALUE / 1000 * 1000));
+		// Beyond 63 bits only the BigInteger version can handle it
+		BigInteger value = BigInteger.ONE.shiftLeft(63).add(EQCCastle.EQCLIGHT_MIN_VALUE).divide(EQCCastle.EQCLIGHT_MIN_VALUE).multiply(EQCCastle.EQCLIGHT_MIN_VALUE);
+		for (; value.bitLength() <= Byte.SIZE * EQCCastle.EQCLIGHT_MAX_LEN; value = value.multiply(BigInteger.valueOf(3))) {
+			byte[] bytes = EQCCastle.bigIntegerToEQCLight(value);
+			assertArrayEquals(EQCLightBenchmark.referenceToRotatedBytes(value, EQCCastle.EQCLIGHT_MIN_LEN), bytes);
+			assertEquals(value, EQCCastle.eqcLightToBigInteger(bytes));
+			assertThrows(IllegalStateException.class, () -> EQCCastle.eqcLightToLong(bytes));
+		}
+		assertThrows(IllegalStateException.class, () -> EQCCastle.longToEQCLight(1001));
+		assertThrows(IllegalStateException.class, () -> EQCCastle.longToEQCLight(-1000));
+	}
+
+	/**
+	 * Test method for {@link org.eqcoin.serialization.EQCCastle#longToEQCQuantum(long)}.
+	 */
+	@Test
+	final void testEQCQuantum() {
+		Random random = new Random(51);
+		for (int i = 0; i < ROUNDS; ++i) {
+			assertEQCQuantum(BigInteger.valueOf(EQCLightBenchmark.nextEQCQuantum(random)));
+		}
+		assertEQCQuantum(BigInteger.ZERO);
+		assertEQCQuantum(BigInteger.valueOf(0xFFFFFFFCL));
+		assertThrows(IllegalStateException.class, () -> EQCCastle.longToEQCQuantum(1L << 32));
+		assertThrows(IllegalStateException.class, () -> EQCCastle.longToEQCQuantum(6));
+	}
+
+	private static void assertEQCLight(BigInteger value) {
+		byte[] expected = EQCLightBenchmark.referenceToRotatedBytes(value, EQCCastle.EQCLIGHT_MIN_LEN);
+		byte[] bytes = EQCCastle.longToEQCLight(value.longValue());
+		assertArrayEquals(expected, bytes, "Value: " + value);
+		assertArrayEquals(expected, EQCCastle.bigIntegerToEQCLight(value));
+		assertEquals(value.longValue(), EQCCastle.eqcLightToLong(bytes));
+		assertEquals(value, EQCCastle.eqcLightToBigInteger(bytes));
+		// The decoder shouldn't change the input bytes
+		assertArrayEquals(expected, bytes);
+		assertEquals(value, EQCLightBenchmark.referenceRotatedBytesToBigInteger(bytes, EQCCastle.EQCLIGHT_MASK));
+	}
+
+	private static void assertEQCQuantum(BigInteger value) {
+		byte[] expected = EQCLightBenchmark.referenceToRotatedBytes(value, EQCCastle.EQCQUANTUM_MIN_LEN);
+		byte[] bytes = EQCCastle.longToEQCQuantum(value.longValue());
+		assertArrayEquals(expected, bytes, "Value: " + value);
+		assertArrayEquals(expected, EQCCastle.bigIntegerToEQCQuantum(value));
+		assertEquals(value.longValue(), EQCCastle.eqcQuantumToLong(bytes));
+		assertEquals(value, EQCCastle.eqcQuantumToBigInteger(bytes));
+		assertArrayEquals(expected, bytes);
+		assertEquals(value, EQCLightBenchmark.referenceRotatedBytesToBigInteger(bytes, EQCCastle.EQCQUANTUM_MASK));
+	}
+
+	private static void assertEQCBits(long value) {
+		BigInteger bigInteger = BigInteger.valueOf(value);
+		byte[] expected = EQCCastleBenchmark.legacyBigIntegerToEQCBits(bigInteger);
+		byte[] bytes = EQCCastle.longToEQCBits(value);
+		assertArrayEquals(expected, bytes, "Value: " + value);
+		assertArrayEquals(expected, EQCCastle.bigIntegerToEQCBits(bigInteger));
+		assertEquals(expected.length, EQCCastle.getEQCBitsLength(value));
+		assertEquals(value, EQCCastle.eqcBitsToLong(bytes));
+		assertEquals(bigInteger, EQCCastle.eqcBitsToBigInteger(bytes));
+		assertEquals(EQCCastleBenchmark.legacyEQCBitsToBigInteger(bytes), EQCCastle.eqcBitsToBigInteger(bytes));
+		assertEquals(bigInteger.intValue(), EQCCastle.eqcBitsToInt(bytes));
+
+		byte[] dst = new byte[EQCCastle.EQCBITS_BUFFER_LEN + 3];
+		assertEquals(expected.length, EQCCastle.longToEQCBits(value, dst, 3));
+		assertEquals(value, EQCCastle.eqcBitsToLong(dst, 3, expected.length));
+
+		ByteBuffer buff = ByteBuffer.allocate(EQCCastle.EQCBITS_BUFFER_LEN + 1);
+		buff.put((byte) 0x7F);
+		assertEquals(expected.length, EQCCastle.longToEQCBits(value, buff));
+		buff.flip();
+		buff.get();
+		assertEquals(value, EQCCastle.eqcBitsToLong(buff));
+		assertFalse(buff.hasRemaining());
+	}
+
+	private static long[] getBoundaryList() {
+		long[] boundaryList = new long[3 * 10 + 2];
+		int index = 0;
+		for (int i = 0; i < 10; ++i) {
+			long power = 1L << Math.min(7 * i, 62);
+			boundaryList[index++] = power - 1;
+			boundaryList[index++] = power;
+			boundaryList[index++] = power + 1;
+		}
+		boundaryList[index++] = Integer.MAX_VALUE;
+		boundaryList[index++] = Long.MAX_VALUE;
+		return boundaryList;
+	}
+
+}
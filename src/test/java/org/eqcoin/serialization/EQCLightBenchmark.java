@@ -0,0 +1,164 @@
+/**
+ * EQcoin core
+ *
+ * http://www.eqcoin.org
+ * 
+ * @Copyright 2018-present Xun Wang All Rights Reserved...
+ * The copyright of all works released by Xun Wang or jointly released by
+ * Xun Wang with cooperative partners are owned by Xun Wang and entitled
+ * to protection available from copyright law by country as well as international
+ * conventions.
+ * Attribution — You must give appropriate credit, provide a link to the license.
+ * Non Commercial — You may not use the material for commercial purposes.
+ * No Derivatives — If you remix, transform, or build upon the material, you may
+ * not distribute the modified material.
+ * Xun Wang reserves any and all current and future rights, titles and interests
+ * in any and all intellectual property rights of Xun Wang including but not limited
+ * to discoveries, ideas, marks, concepts, methods, formulas, processes, codes,
+ * software, inventions, compositions, techniques, information and data, whether
+ * or not protectable in trademark, copyrightable or patentable, and any trademarks,
+ * copyrights or patents based thereon. For the use of any and all intellectual
+ * property rights of Xun Wang without prior written permission, Xun Wang reserves
+ * all rights to take any legal action and pursue any rights or remedies under
+ * applicable law.
+ */
+package org.eqcoin.serialization;
+
+import java.math.BigInteger;
+import java.util.Random;
+
+import org.eqcoin.util.Log;
+
+/**
+ * Benchmark EQCLight and EQCQuantum's long encoder and decoder against the
+ * BigInteger reference one.
+ * 
+ * @author agent
+ * @date Oct 18, 2026
+ * @email agent@local
+ */
+public class EQCLightBenchmark {
+	private final static int VALUE_NUMBERS = 1000000;
+	private final static int WARMUP_ROUNDS = 5;
+	private final static int ROUNDS = 20;
+	private final static BigInteger BYTE_MASK = BigInteger.valueOf(0xFF);
+
+	public static void main(String[] args) {
+		Random random = new Random(51);
+		long[] lightList = new long[VALUE_NUMBERS];
+		long[] quantumList = new long[VALUE_NUMBERS];
+		byte[][] eqcLightList = new byte[VALUE_NUMBERS][];
+		byte[][] eqcQuantumList = new byte[VALUE_NUMBERS][];
+		for (int i = 0; i < VALUE_NUMBERS; ++i) {
+			lightList[i] = nextEQCLight(random);
+			quantumList[i] = nextEQCQuantum(random);
+			eqcLightList[i] = EQCCastle.longToEQCLight(lightList[i]);
+			eqcQuantumList[i] = EQCCastle.longToEQCQuantum(quantumList[i]);
+		}
+		long[] costList = new long[8];
+		long checksum = 0;
+		long begin;
+		for (int round = 0; round < WARMUP_ROUNDS + ROUNDS; ++round) {
+			// Discard the warm up rounds' cost which include JIT compiling
+			if (round == WARMUP_ROUNDS) {
+				costList = new long[8];
+			}
+			begin = System.nanoTime();
+			for (int i = 0; i < VALUE_NUMBERS; ++i) {
+				checksum += referenceToRotatedBytes(BigInteger.valueOf(lightList[i]), EQCCastle.EQCLIGHT_MIN_LEN).length;
+			}
+			costList[0] += System.nanoTime() - begin;
+
+			begin = System.nanoTime();
+			for (int i = 0; i < VALUE_NUMBERS; ++i) {
+				checksum += EQCCastle.longToEQCLight(lightList[i]).length;
+			}
+			costList[1] += System.nanoTime() - begin;
+
+			begin = System.nanoTime();
+			for (int i = 0; i < VALUE_NUMBERS; ++i) {
+				checksum += referenceRotatedBytesToBigInteger(eqcLightList[i], EQCCastle.EQCLIGHT_MASK).longValue();
+			}
+			costList[2] += System.nanoTime() - begin;
+
+			begin = System.nanoTime();
+			for (int i = 0; i < VALUE_NUMBERS; ++i) {
+				checksum += EQCCastle.eqcLightToLong(eqcLightList[i]);
+			}
+			costList[3] += System.nanoTime() - begin;
+
+			begin = System.nanoTime();
+			for (int i = 0; i < VALUE_NUMBERS; ++i) {
+				checksum += referenceToRotatedBytes(BigInteger.valueOf(quantumList[i]), EQCCastle.EQCQUANTUM_MIN_LEN).length;
+			}
+			costList[4] += System.nanoTime() - begin;
+
+			begin = System.nanoTime();
+			for (int i = 0; i < VALUE_NUMBERS; ++i) {
+				checksum += EQCCastle.longToEQCQuantum(quantumList[i]).length;
+			}
+			costList[5] += System.nanoTime() - begin;
+
+			begin = System.nanoTime();
+			for (int i = 0; i < VALUE_NUMBERS; ++i) {
+				checksum += referenceRotatedBytesToBigInteger(eqcQuantumList[i], EQCCastle.EQCQUANTUM_MASK).longValue();
+			}
+			costList[6] += System.nanoTime() - begin;
+
+			begin = System.nanoTime();
+			for (int i = 0; i < VALUE_NUMBERS; ++i) {
+				checksum += EQCCastle.eqcQuantumToLong(eqcQuantumList[i]);
+			}
+			costList[7] += System.nanoTime() - begin;
+		}
+		Log.info("EQCLight BigInteger encode average cost: " + costList[0] / ROUNDS / VALUE_NUMBERS + " ns/op");
+		Log.info("EQCLight long encode average cost: " + costList[1] / ROUNDS / VALUE_NUMBERS + " ns/op");
+		Log.info("EQCLight BigInteger decode average cost: " + costList[2] / ROUNDS / VALUE_NUMBERS + " ns/op");
+		Log.info("EQCLight long decode average cost: " + costList[3] / ROUNDS / VALUE_NUMBERS + " ns/op");
+		Log.info("EQCQuantum BigInteger encode average cost: " + costList[4] / ROUNDS / VALUE_NUMBERS + " ns/op");
+		Log.info("EQCQuantum long encode average cost: " + costList[5] / ROUNDS / VALUE_NUMBERS + " ns/op");
+		Log.info("EQCQuantum BigInteger decode average cost: " + costList[6] / ROUNDS / VALUE_NUMBERS + " ns/op");
+		Log.info("EQCQuantum long decode average cost: " + costList[7] / ROUNDS / VALUE_NUMBERS + " ns/op");
+		// Print the checksum to prevent the JIT eliminate the dead code
+		Log.info("Checksum: " + checksum);
+	}
+
+	/**
+	 * @return random value divisible by 1000 which is uniform on the bit length
+	 */
+	static long nextEQCLight(final Random random) {
+		return (random.nextLong() >>> (1 + random.nextInt(Long.SIZE - 1))) / 1000 * 1000;
+	}
+
+	/**
+	 * @return random value divisible by 4 which less than 2^32 and is uniform on
+	 *         the bit length
+	 */
+	static long nextEQCQuantum(final Random random) {
+		return (random.nextLong() >>> (Integer.SIZE + random.nextInt(Integer.SIZE))) & ~3L;
+	}
+
+	/**
+	 * The BigInteger based implementation which straight follows the EQCLight and
+	 * EQCQuantum's specification and used as the reference: the lowest byte with
+	 * the status bits at the head and the rest bytes follow it in big endian.
+	 */
+	static byte[] referenceToRotatedBytes(final BigInteger value, final int minLen) {
+		final int len = Math.max((value.bitLength() + Byte.SIZE - 1) / Byte.SIZE, minLen);
+		final byte[] bytes = new byte[len];
+		bytes[0] = (byte) (value.and(BYTE_MASK).intValue() | (len - minLen));
+		for (int i = 1; i < len; ++i) {
+			bytes[i] = value.shiftRight(Byte.SIZE * (len - i)).and(BYTE_MASK).byteValue();
+		}
+		return bytes;
+	}
+
+	static BigInteger referenceRotatedBytesToBigInteger(final byte[] bytes, final int mask) {
+		BigInteger value = BigInteger.valueOf(bytes[0] & mask);
+		for (int i = 1; i < bytes.length; ++i) {
+			value = value.or(BigInteger.valueOf(bytes[i] & 0xFF).shiftLeft(Byte.SIZE * (bytes.length - i)));
+		}
+		return value;
+	}
+
+}
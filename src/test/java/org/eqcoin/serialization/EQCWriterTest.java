@@ -0,0 +1,192 @@
+/**
+ * EQcoin core
+ *
+ * http://www.eqcoin.org
+ * 
+ * @Copyright 2018-present Xun Wang All Rights Reserved...
+ * The copyright of all works released by Xun Wang or jointly released by
+ * Xun Wang with cooperative partners are owned by Xun Wang and entitled
+ * to protection available from copyright law by country as well as international
+ * conventions.
+ * Attribution — You must give appropriate credit, provide a link to the license.
+ * Non Commercial — You may not use the material for commercial purposes.
+ * No Derivatives — If you remix, transform, or build upon the material, you may
+ * not distribute the modified material.
+ * Xun Wang reserves any and all current and future rights, titles and interests
+ * in any and all intellectual property rights of Xun Wang including but not limited
+ * to discoveries, ideas, marks, concepts, methods, formulas, processes, codes,
+ * software, inventions, compositions, techniques, information and data, whether
+ * or not protectable in trademark, copyrightable or patentable, and any trademarks,
+ * copyrights or patents based thereon. For the use of any and all intellectual
+ * property rights of Xun Wang without prior written permission, Xun Wang reserves
+ * all rights to take any legal action and pursue any rights or remedies under
+ * applicable law.
+ */
+package org.eqcoin.serialization;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.ReadOnlyBufferException;
+import java.util.Random;
+
+import org.eqcoin.hive.EQCHiveRoot;
+import org.eqcoin.util.ID;
+import org.eqcoin.util.Util;
+import org.eqcoin.util.Value;
+import org.junit.jupiter.api.Test;
+
+/**
+ * @author agent
+ * @date Oct 18, 2026
+ * @email agent@local
+ */
+class EQCWriterTest {
+
+	/**
+	 * Test method for {@link org.eqcoin.serialization.EQCWriter#writeBIN(byte[])}.
+	 */
+	@Test
+	final void testWriteBIN() throws Exception {
+		Random random = new Random(51);
+		// Begin with small capacity to make sure the buffer can grow
+		EQCWriter writer = new EQCWriter(16);
+		for (int len : new int[] { 1, 247, 248, 255, 256, 65535, 65536 }) {
+			byte[] bytes = new byte[len];
+			random.nextBytes(bytes);
+			writer.reset();
+			assertArrayEquals(EQCCastle.bytesToBIN(bytes), writer.writeBIN(bytes).toByteArray());
+			EQCReader reader = new EQCReader(writer.toByteArray());
+			assertArrayEquals(bytes, reader.readBIN());
+			reader.assertNoRedundantData();
+		}
+		writer.reset();
+		assertArrayEquals(EQCCastle.bytesToBIN(null), writer.writeBIN(null).toByteArray());
+	}
+
+	/**
+	 * Test method for {@link org.eqcoin.serialization.EQCReader#sliceOfRange(int, int)}.
+	 */
+	@Test
+	final void testSliceOfRange() throws Exception {
+		Random random = new Random(51);
+		byte[] bytes = new byte[300];
+		random.nextBytes(bytes);
+		byte[] hash = new byte[Util.HASH_LEN];
+		random.nextBytes(hash);
+		EQCWriter writer = new EQCWriter(16);
+		byte[] encoded = writer.writeBIN(bytes).write(hash).writeBIN(null).toByteArray();
+		EQCReader reader = new EQCReader(encoded);
+		assertEquals(bytes.length, reader.skipBIN());
+		ByteBuffer bin = reader.sliceOfRange(reader.position() - bytes.length, reader.position());
+		assertEquals(ByteBuffer.wrap(bytes), bin);
+		assertTrue(bin.isReadOnly());
+		assertThrows(ReadOnlyBufferException.class, () -> bin.put(0, (byte) 0));
+		ByteBuffer slice = reader.sliceOfRange(reader.position(), reader.position() + Util.HASH_LEN);
+		assertEquals(ByteBuffer.wrap(hash), slice);
+		assertArrayEquals(hash, reader.readNBytes(Util.HASH_LEN));
+		assertEquals(0, reader.skipBIN());
+		reader.assertNoRedundantData();
+		assertThrows(IndexOutOfBoundsException.class, () -> reader.sliceOfRange(0, encoded.length + 1));
+		// The slice is a view of the original bytes without copy
+		encoded[encoded.length - 2] ^= 1;
+		assertNotEquals(ByteBuffer.wrap(hash), slice);
+		// Write the slice back should get the same bytes
+		writer.reset();
+		assertArrayEquals(bytes, writer.write(bin).toByteArray());
+		assertEquals(bytes.length, bin.remaining());
+	}
+
+	/**
+	 * Test method for {@link org.eqcoin.serialization.EQCWriter#writeEQCBits(java.math.BigInteger)}.
+	 */
+	@Test
+	final void testWriteEQCBits() throws Exception {
+		EQCWriter writer = new EQCWriter(1);
+		BigInteger value = BigInteger.ONE.shiftLeft(70).add(BigInteger.TEN);
+		writer.writeEQCBits(value).writeEQCBits(Long.MAX_VALUE).writeEQCBits(0);
+		byte[] expected = concatenate(EQCCastle.bigIntegerToEQCBits(value),
+				EQCCastle.longToEQCBits(Long.MAX_VALUE), EQCCastle.longToEQCBits(0));
+		assertArrayEquals(expected, writer.toByteArray());
+		EQCReader reader = new EQCReader(concatenate(EQCCastle.longToEQCBits(Long.MAX_VALUE),
+				EQCCastle.longToEQCBits(127)));
+		assertEquals(Long.MAX_VALUE, reader.peekEQCBits());
+		assertEquals(Long.MAX_VALUE, reader.readEQCBits());
+		assertEquals(127, reader.readEQCBits());
+		assertThrows(IllegalStateException.class, () -> reader.readEQCBits());
+	}
+
+	/**
+	 * Test method for {@link org.eqcoin.serialization.EQCReader#getInputStream()}.
+	 */
+	@Test
+	final void testGetInputStream() throws Exception {
+		Random random = new Random(51);
+		byte[] bytes = new byte[300];
+		random.nextBytes(bytes);
+		byte[] encoded = new EQCWriter().writeBIN(bytes).writeEQCBits(127).toByteArray();
+		// The read only buffer doesn't have an accessible array
+		EQCReader reader = new EQCReader(ByteBuffer.wrap(encoded).asReadOnlyBuffer());
+		ByteArrayInputStream is = reader.getInputStream();
+		assertEquals(encoded.length, is.available());
+		is.mark(0);
+		assertEquals(encoded[0] & 0xFF, is.read());
+		is.reset();
+		assertArrayEquals(bytes, EQCCastle.parseBIN(is));
+		reader.skip(is);
+		assertEquals(encoded.length - 1, reader.position());
+		is = reader.getInputStream();
+		assertArrayEquals(EQCCastle.longToEQCBits(127), is.readAllBytes());
+		assertEquals(-1, is.read());
+		assertEquals(-1, is.read(new byte[1], 0, 1));
+		reader.skip(is);
+		reader.assertNoRedundantData();
+	}
+
+	/**
+	 * Test method for {@link org.eqcoin.hive.EQCHiveRoot#getBytes(org.eqcoin.serialization.EQCWriter)}.
+	 */
+	@Test
+	final void testEQCHiveRoot() throws Exception {
+		Random random = new Random(51);
+		EQCHiveRoot eqcHiveRoot = new EQCHiveRoot();
+		byte[] preProof = new byte[Util.HASH_LEN];
+		random.nextBytes(preProof);
+		byte[] target = new byte[4];
+		random.nextBytes(target);
+		byte[] eqCoinSeedsProof = new byte[Util.HASH_LEN];
+		random.nextBytes(eqCoinSeedsProof);
+		eqcHiveRoot.setHeight(new ID(2020));
+		eqcHiveRoot.setProtocolVersion(ID.ONE);
+		eqcHiveRoot.setPreProof(preProof);
+		eqcHiveRoot.setTarget(target);
+		eqcHiveRoot.setEQCoinSeedsProof(eqCoinSeedsProof);
+		eqcHiveRoot.setTotalTransactionNumbers(new ID(123456789));
+		eqcHiveRoot.setTotalLockMateNumbers(new ID(12345));
+		eqcHiveRoot.setTotalPassportNumbers(new ID(1234));
+		eqcHiveRoot.setTotalSupply(new Value(Long.MAX_VALUE));
+		eqcHiveRoot.setTimestamp(new ID(System.currentTimeMillis()));
+		eqcHiveRoot.setNonce(new ID(random.nextInt(Integer.MAX_VALUE)));
+
+		byte[] bytes = eqcHiveRoot.getBytes();
+		assertArrayEquals(bytes, eqcHiveRoot.getBytes(new EQCWriter()).toByteArray());
+
+		EQCReader reader = new EQCReader(bytes);
+		EQCHiveRoot parsed = new EQCHiveRoot(reader);
+		reader.assertNoRedundantData();
+		assertArrayEquals(bytes, parsed.getBytes());
+		assertArrayEquals(bytes, new EQCHiveRoot(new ByteArrayInputStream(bytes)).getBytes());
+	}
+
+	private static byte[] concatenate(byte[]... bytesList) throws Exception {
+		ByteArrayOutputStream os = new ByteArrayOutputStream();
+		for (byte[] bytes : bytesList) {
+			os.write(bytes);
+		}
+		return os.toByteArray();
+	}
+
+}
@@ -0,0 +1,151 @@
+/**
+ * EQcoin core
+ *
+ * http://www.eqcoin.org
+ * 
+ * @Copyright 2018-present Xun Wang All Rights Reserved...
+ * The copyright of all works released by Xun Wang or jointly released by
+ * Xun Wang with cooperative partners are owned by Xun Wang and entitled
+ * to protection available from copyright law by country as well as international
+ * conventions.
+ * Attribution — You must give appropriate credit, provide a link to the license.
+ * Non Commercial — You may not use the material for commercial purposes.
+ * No Derivatives — If you remix, transform, or build upon the material, you may
+ * not distribute the modified material.
+ * Xun Wang reserves any and all current and future rights, titles and interests
+ * in any and all intellectual property rights of Xun Wang including but not limited
+ * to discoveries, ideas, marks, concepts, methods, formulas, processes, codes,
+ * software, inventions, compositions, techniques, information and data, whether
+ * or not protectable in trademark, copyrightable or patentable, and any trademarks,
+ * copyrights or patents based thereon. For the use of any and all intellectual
+ * property rights of Xun Wang without prior written permission, Xun Wang reserves
+ * all rights to take any legal action and pursue any rights or remedies under
+ * applicable law.
+ */
+package org.eqcoin.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Vector;
+
+import org.eqcoin.rpc.object.TransactionIndex;
+import org.eqcoin.rpc.object.TransactionIndexList;
+import org.eqcoin.rpc.object.TransactionSketch;
+import org.eqcoin.util.ID;
+import org.eqcoin.util.Util;
+import org.junit.jupiter.api.Test;
+
+/**
+ * @author agent
+ * @date Oct 18, 2026
+ * @email agent@local
+ */
+class SyncServiceTest {
+	private final static int COMMON_SIZE = 1000;
+	private final static int MISSING_SIZE = 150;
+	private final static ID SYNC_TIME = ID.valueOf(1000);
+
+	/**
+	 * Test method for {@link org.eqcoin.service.SyncService#getTransactionIndexListBySketch(long[], org.eqcoin.service.SyncService.SketchRequester)}.
+	 * @throws Exception 
+	 */
+	@Test
+	final void testEnlargeSketch() throws Exception {
+		TransactionIndexList poolIndexList = new TransactionIndexList();
+		long[] shortIds = new long[COMMON_SIZE];
+		HashSet<Long> missingShortIdSet = new HashSet<>();
+		initPool(poolIndexList, shortIds, missingShortIdSet);
+		Vector<Integer> cellNumberList = new Vector<>();
+		TransactionIndexList transactionIndexList = SyncService.getTransactionIndexListBySketch(shortIds, (transactionSketch) -> {
+			cellNumberList.add(transactionSketch.getCellNumber());
+			return reply(transactionSketch.reconcile(poolIndexList, SYNC_TIME));
+		});
+		// The minimum sketch can't decode the difference so the bigger one is tried
+		assertTrue(cellNumberList.size() > 1);
+		assertEquals(TransactionSketch.MIN_CELL_NUMBER, cellNumberList.get(0).intValue());
+		assertNotNull(transactionIndexList);
+		assertEquals(SYNC_TIME, transactionIndexList.getSyncTime());
+		assertEquals(missingShortIdSet, getShortIdSet(transactionIndexList));
+	}
+
+	/**
+	 * Test method for {@link org.eqcoin.service.SyncService#getTransactionIndexListBySketch(long[], org.eqcoin.service.SyncService.SketchRequester)}.
+	 * @throws Exception 
+	 */
+	@Test
+	final void testRequestFailure() throws Exception {
+		TransactionIndexList poolIndexList = new TransactionIndexList();
+		long[] shortIds = new long[COMMON_SIZE];
+		HashSet<Long> missingShortIdSet = new HashSet<>();
+		initPool(poolIndexList, shortIds, missingShortIdSet);
+		Vector<Integer> cellNumberList = new Vector<>();
+		TransactionIndexList transactionIndexList = SyncService.getTransactionIndexListBySketch(shortIds, (transactionSketch) -> {
+			cellNumberList.add(transactionSketch.getCellNumber());
+			if (cellNumberList.size() == 1) {
+				throw new IllegalStateException("Remote error");
+			}
+			return reply(transactionSketch.reconcile(poolIndexList, SYNC_TIME));
+		});
+		// The failed round doesn't end the reconciliation
+		assertTrue(cellNumberList.size() > 1);
+		assertNotNull(transactionIndexList);
+		assertEquals(missingShortIdSet, getShortIdSet(transactionIndexList));
+	}
+
+	/**
+	 * Test method for {@link org.eqcoin.rpc.object.TransactionSketch#reconcile(TransactionIndexList, ID)}.
+	 * @throws Exception 
+	 */
+	@Test
+	final void testDifferenceTooLarge() throws Exception {
+		TransactionIndexList poolIndexList = new TransactionIndexList();
+		initPool(poolIndexList, new long[COMMON_SIZE], new HashSet<>());
+		TransactionIndexList transactionIndexList = new TransactionSketch(TransactionSketch.MIN_CELL_NUMBER)
+				.reconcile(poolIndexList, SYNC_TIME);
+		assertTrue(transactionIndexList.isDifferenceTooLarge());
+		// The reply should survive the O round trip
+		assertTrue(new TransactionIndexList(transactionIndexList.getProtocol(org.eqcoin.avro.O.class)).isDifferenceTooLarge());
+		assertNull(SyncService.getTransactionIndexListBySketch(new long[0], (transactionSketch) -> reply(TransactionIndexList.differenceTooLarge())));
+	}
+
+	/**
+	 * The same as EQCTransactionNetworkClient treat the difference too large reply
+	 */
+	private static TransactionIndexList reply(TransactionIndexList transactionIndexList) {
+		return transactionIndexList.isDifferenceTooLarge() ? null : transactionIndexList;
+	}
+
+	/**
+	 * The SP's pool contains all the requester's Transactions and MISSING_SIZE
+	 * Transactions which the requester doesn't have.
+	 */
+	private static void initPool(TransactionIndexList poolIndexList, long[] shortIds, HashSet<Long> missingShortIdSet) throws Exception {
+		Random random = new Random(27);
+		poolIndexList.setSyncTime(SYNC_TIME);
+		for (int i = 0; i < shortIds.length + MISSING_SIZE; ++i) {
+			TransactionIndex transactionIndex = new TransactionIndex();
+			transactionIndex.setId(ID.valueOf(i));
+			transactionIndex.setNonce(ID.ONE);
+			byte[] proof = new byte[Util.PROOF_SIZE];
+			random.nextBytes(proof);
+			transactionIndex.setProof(proof);
+			poolIndexList.addTransactionIndex(transactionIndex);
+			if (i < shortIds.length) {
+				shortIds[i] = transactionIndex.getShortId();
+			} else {
+				missingShortIdSet.add(transactionIndex.getShortId());
+			}
+		}
+	}
+
+	private static HashSet<Long> getShortIdSet(TransactionIndexList transactionIndexList) throws Exception {
+		HashSet<Long> shortIdSet = new HashSet<>();
+		for (TransactionIndex transactionIndex : transactionIndexList.getTransactionIndexList()) {
+			shortIdSet.add(transactionIndex.getShortId());
+		}
+		return shortIdSet;
+	}
+
+}
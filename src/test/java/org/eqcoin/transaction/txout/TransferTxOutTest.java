@@ -0,0 +1,78 @@
+/**
+ * EQcoin core
+ *
+ * http://www.eqcoin.org
+ * 
+ * @Copyright 2018-present Xun Wang All Rights Reserved...
+ * The copyright of all works released by Xun Wang or jointly released by
+ * Xun Wang with cooperative partners are owned by Xun Wang and entitled
+ * to protection available from copyright law by country as well as international
+ * conventions.
+ * Attribution — You must give appropriate credit, provide a link to the license.
+ * Non Commercial — You may not use the material for commercial purposes.
+ * No Derivatives — If you remix, transform, or build upon the material, you may
+ * not distribute the modified material.
+ * Xun Wang reserves any and all current and future rights, titles and interests
+ * in any and all intellectual property rights of Xun Wang including but not limited
+ * to discoveries, ideas, marks, concepts, methods, formulas, processes, codes,
+ * software, inventions, compositions, techniques, information and data, whether
+ * or not protectable in trademark, copyrightable or patentable, and any trademarks,
+ * copyrights or patents based thereon. For the use of any and all intellectual
+ * property rights of Xun Wang without prior written permission, Xun Wang reserves
+ * all rights to take any legal action and pursue any rights or remedies under
+ * applicable law.
+ */
+package org.eqcoin.transaction.txout;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Random;
+
+import org.eqcoin.util.ID;
+import org.eqcoin.util.Value;
+import org.junit.jupiter.api.Test;
+
+/**
+ * The TransferTxOut's bytes must be parsed back to the same passport id and
+ * value.
+ *
+ * @author agent
+ * @date Oct 18, 2026
+ * @email agent@local
+ */
+class TransferTxOutTest {
+	private final static int ROUNDS = 10000;
+
+	/**
+	 * Test method for {@link org.eqcoin.transaction.txout.TransferTxOut#getBytes()}
+	 * and {@link org.eqcoin.transaction.txout.TransferTxOut#TransferTxOut(byte[])}.
+	 * @throws Exception 
+	 */
+	@Test
+	final void testRoundTrip() throws Exception {
+		Random random = new Random(37);
+		// The small passport ids which aren't divisible by 4
+		for (long passportId = 0; passportId < 9; ++passportId) {
+			assertRoundTrip(passportId, 100000);
+		}
+		for (int i = 0; i < ROUNDS; ++i) {
+			long passportId = random.nextLong() >>> (1 + random.nextInt(Long.SIZE - 1));
+			// The positive value which is divisible by 100000 and doesn't overflow
+			long value = (1 + (random.nextLong() >>> (18 + random.nextInt(Long.SIZE - 18)))) * 100000;
+			assertRoundTrip(passportId, value);
+		}
+	}
+
+	private static void assertRoundTrip(long passportId, long value) throws Exception {
+		TransferTxOut txOut = new TransferTxOut();
+		txOut.setPassportId(new ID(passportId));
+		txOut.setValue(new Value(value));
+		byte[] bytes = txOut.getBytes();
+		TransferTxOut parsedTxOut = new TransferTxOut(bytes);
+		String message = passportId + " " + value;
+		assertEquals(txOut.getPassportId(), parsedTxOut.getPassportId(), message);
+		assertEquals(txOut.getValue(), parsedTxOut.getValue(), message);
+		assertArrayEquals(bytes, parsedTxOut.getBytes(), message);
+	}
+
+}
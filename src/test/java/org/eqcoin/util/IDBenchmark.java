@@ -0,0 +1,154 @@
+/**
+ * EQcoin core
+ *
+ * http://www.eqcoin.org
+ * 
+ * @Copyright 2018-present Xun Wang All Rights Reserved...
+ * The copyright of all works released by Xun Wang or jointly released by
+ * Xun Wang with cooperative partners are owned by Xun Wang and entitled
+ * to protection available from copyright law by country as well as international
+ * conventions.
+ * Attribution — You must give appropriate credit, provide a link to the license.
+ * Non Commercial — You may not use the material for commercial purposes.
+ * No Derivatives — If you remix, transform, or build upon the material, you may
+ * not distribute the modified material.
+ * Xun Wang reserves any and all current and future rights, titles and interests
+ * in any and all intellectual property rights of Xun Wang including but not limited
+ * to discoveries, ideas, marks, concepts, methods, formulas, processes, codes,
+ * software, inventions, compositions, techniques, information and data, whether
+ * or not protectable in trademark, copyrightable or patentable, and any trademarks,
+ * copyrights or patents based thereon. For the use of any and all intellectual
+ * property rights of Xun Wang without prior written permission, Xun Wang reserves
+ * all rights to take any legal action and pursue any rights or remedies under
+ * applicable law.
+ */
+package org.eqcoin.util;
+
+import java.lang.management.ManagementFactory;
+import java.math.BigInteger;
+import java.util.Random;
+
+import org.eqcoin.serialization.EQCCastle;
+
+/**
+ * Benchmark the allocation rate of the ID and Value arithmetic which used during
+ * validate the Transactions and the IDs' parsing during replay 10k EQCHives. The
+ * legacy result is measured with the same allocation pattern as the BigInteger
+ * based ID and Value.
+ * 
+ * @author agent
+ * @date Oct 18, 2026
+ * @email agent@local
+ */
+public class IDBenchmark {
+	private final static int TRANSACTIONS = 1000000;
+	private final static long BALANCE = 51000000000L;
+	private final static long TRANSFER = 100000000L;
+	private final static int HIVES = 10000;
+	private final static int HIVE_TRANSACTIONS = 100;
+	private final static int PASSPORTS = 100000;
+	private static byte[][] eqcBitsList;
+
+	public static void main(String[] args) throws Exception {
+		// Warm up
+		legacy();
+		compact();
+		measure("Legacy", IDBenchmark::legacy, TRANSACTIONS);
+		measure("Compact", IDBenchmark::compact, TRANSACTIONS);
+
+		initEQCBitsList();
+		// Warm up
+		parse(false);
+		parse(true);
+		measure("Parse with new ID", () -> parse(false), HIVES * HIVE_TRANSACTIONS);
+		measure("Parse with ID.valueOf", () -> parse(true), HIVES * HIVE_TRANSACTIONS);
+	}
+
+	/**
+	 * Build the EQCBits of the IDs which parsed during replay 10k EQCHives that is
+	 * each EQCHive's height and each Transaction's passport id and nonce.
+	 */
+	private static void initEQCBitsList() {
+		Random random = new Random(2020);
+		eqcBitsList = new byte[HIVES * (1 + HIVE_TRANSACTIONS * 2)][];
+		int index = 0;
+		for (int i = 0; i < HIVES; ++i) {
+			eqcBitsList[index++] = EQCCastle.longToEQCBits(i);
+			for (int j = 0; j < HIVE_TRANSACTIONS; ++j) {
+				eqcBitsList[index++] = EQCCastle.longToEQCBits(random.nextInt(PASSPORTS));
+				eqcBitsList[index++] = EQCCastle.longToEQCBits(1 + random.nextInt(i + 1));
+			}
+		}
+	}
+
+	private static void parse(boolean isInterned) {
+		ID id = null;
+		for (byte[] eqcBits : eqcBitsList) {
+			id = isInterned ? ID.valueOf(eqcBits) : new ID(eqcBits);
+		}
+		if (id == null) {
+			throw new IllegalStateException("Parse failed");
+		}
+	}
+
+	private static void measure(String name, Runnable runnable, int transactions) {
+		com.sun.management.ThreadMXBean threadMXBean = (com.sun.management.ThreadMXBean) ManagementFactory
+				.getThreadMXBean();
+		long thread = Thread.currentThread().getId();
+		long bytes = threadMXBean.getThreadAllocatedBytes(thread);
+		long begin = System.nanoTime();
+		runnable.run();
+		long cost = System.nanoTime() - begin;
+		bytes = threadMXBean.getThreadAllocatedBytes(thread) - bytes;
+		Log.info(name + " cost: " + cost / 1000000 + " ms allocated: " + bytes / transactions
+				+ " bytes per Transaction allocation rate: " + bytes * 1000 / cost + " MB/s");
+	}
+
+	/**
+	 * Replay the nonce check, nonce update, balance update and height update of
+	 * each Transaction with the legacy allocation pattern which is new ID(super.add(val))
+	 * and getNextID() which is new ID(this.add(BigInteger.ONE)).
+	 */
+	private static void legacy() {
+		BigInteger nonce = BigInteger.ZERO;
+		BigInteger sender = BigInteger.valueOf(BALANCE * TRANSACTIONS);
+		BigInteger receiver = BigInteger.valueOf(BALANCE);
+		BigInteger height = BigInteger.ZERO;
+		final BigInteger transfer = BigInteger.valueOf(TRANSFER);
+		for (int i = 0; i < TRANSACTIONS; ++i) {
+			final ID txNonce = new ID(new ID(nonce.add(BigInteger.ONE)));
+			if (txNonce.compareTo(nonce.add(BigInteger.ONE)) != 0) {
+				throw new IllegalStateException("Invalid nonce");
+			}
+			nonce = txNonce;
+			sender = new Value(sender.subtract(transfer));
+			receiver = new Value(receiver.add(transfer));
+			if (sender.compareTo(Util.MAX_EQC) > 0) {
+				throw new IllegalStateException("Invalid balance");
+			}
+			height = new ID(new ID(height.add(BigInteger.ONE)));
+		}
+	}
+
+	private static void compact() {
+		ID nonce = ID.ZERO;
+		Value sender = new Value(BALANCE * TRANSACTIONS);
+		Value receiver = new Value(BALANCE);
+		ID height = ID.ZERO;
+		final Value transfer = new Value(TRANSFER);
+		for (int i = 0; i < TRANSACTIONS; ++i) {
+			final ID txNonce = nonce.getNextID();
+			if (!txNonce.isNextID(nonce)) {
+				throw new IllegalStateException("Invalid nonce");
+			}
+			nonce = txNonce;
+			sender = sender.subtract(transfer);
+			receiver = receiver.add(transfer);
+			if (sender.compareTo(Util.MAX_EQC) > 0) {
+				throw new IllegalStateException("Invalid balance");
+			}
+			height = height.getNextID();
+		}
+	}
+
+}
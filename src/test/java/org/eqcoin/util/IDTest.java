@@ -0,0 +1,202 @@
+/**
+ * EQcoin core
+ *
+ * http://www.eqcoin.org
+ * 
+ * @Copyright 2018-present Xun Wang All Rights Reserved...
+ * The copyright of all works released by Xun Wang or jointly released by
+ * Xun Wang with cooperative partners are owned by Xun Wang and entitled
+ * to protection available from copyright law by country as well as international
+ * conventions.
+ * Attribution — You must give appropriate credit, provide a link to the license.
+ * Non Commercial — You may not use the material for commercial purposes.
+ * No Derivatives — If you remix, transform, or build upon the material, you may
+ * not distribute the modified material.
+ * Xun Wang reserves any and all current and future rights, titles and interests
+ * in any and all intellectual property rights of Xun Wang including but not limited
+ * to discoveries, ideas, marks, concepts, methods, formulas, processes, codes,
+ * software, inventions, compositions, techniques, information and data, whether
+ * or not protectable in trademark, copyrightable or patentable, and any trademarks,
+ * copyrights or patents based thereon. For the use of any and all intellectual
+ * property rights of Xun Wang without prior written permission, Xun Wang reserves
+ * all rights to take any legal action and pursue any rights or remedies under
+ * applicable law.
+ */
+package org.eqcoin.util;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.math.BigInteger;
+import java.util.Objects;
+import java.util.Random;
+import java.util.function.Supplier;
+
+import org.eqcoin.serialization.EQCCastle;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Differential check of ID's compact long fast path against the plain
+ * BigInteger arithmetic and encoding on the random and boundary operands. Both
+ * the results and the exceptions thrown should be the same.
+ *
+ * @author agent
+ * @date Oct 18, 2026
+ * @email agent@local
+ */
+class IDTest {
+	private final static int ROUNDS = 200000;
+
+	/**
+	 * Test method for {@link org.eqcoin.util.ID#add(java.math.BigInteger)},
+	 * {@link org.eqcoin.util.ID#subtract(java.math.BigInteger)},
+	 * {@link org.eqcoin.util.ID#multiply(java.math.BigInteger)} and
+	 * {@link org.eqcoin.util.ID#divide(java.math.BigInteger)}.
+	 */
+	@Test
+	final void testArithmetic() {
+		Random random = new Random(35);
+		for (int i = 0; i < ROUNDS; ++i) {
+			ID id = nextID(random);
+			BigInteger value = toBigInteger(id);
+			BigInteger val = nextVal(random);
+			BigInteger operand = toBigInteger(val);
+			String message = id + " " + operand;
+			assertSameID(() -> new ID(value.add(operand)), () -> id.add(val), message);
+			assertSameID(() -> new ID(value.subtract(operand)), () -> id.subtract(val), message);
+			assertSameID(() -> new ID(value.multiply(operand)), () -> id.multiply(val), message);
+			assertSameID(() -> new ID(value.divide(operand)), () -> id.divide(val), message);
+			assertSameID(() -> new ID(value.add(BigInteger.ONE)), id::getNextID, message);
+			assertSameID(() -> new ID(value.subtract(BigInteger.ONE)), id::getPreviousID, message);
+		}
+	}
+
+	/**
+	 * Test method for {@link org.eqcoin.util.ID#compareTo(java.math.BigInteger)}
+	 * and {@link org.eqcoin.util.ID#isNextID(ID)}.
+	 */
+	@Test
+	final void testCompareTo() {
+		Random random = new Random(36);
+		for (int i = 0; i < ROUNDS; ++i) {
+			ID id = nextID(random);
+			BigInteger value = toBigInteger(id);
+			BigInteger val = nextVal(random);
+			BigInteger operand = toBigInteger(val);
+			String message = id + " " + operand;
+			assertEquals(Integer.signum(value.compareTo(operand)), Integer.signum(id.compareTo(val)), message);
+			if (operand.signum() >= 0) {
+				ID previousID = new ID(operand);
+				boolean isNextID = value.equals(operand.add(BigInteger.ONE));
+				assertEquals(isNextID, id.isNextID(previousID), message);
+				assertEquals(isNextID, id.isNextID(EQCCastle.bigIntegerToEQCBits(operand)), message);
+			}
+			assertTrue(id.getNextID().isNextID(id), message);
+			assertTrue(id.getNextID().isNextID(id.getEQCBits()), message);
+		}
+	}
+
+	/**
+	 * Test method for {@link org.eqcoin.util.ID#getEQCBits()},
+	 * {@link org.eqcoin.util.ID#getEQCQuantum()} and
+	 * {@link org.eqcoin.util.ID#valueOf(byte[])}.
+	 */
+	@Test
+	final void testEQCBits() {
+		Random random = new Random(37);
+		for (int i = 0; i < ROUNDS; ++i) {
+			assertEncoding(nextID(random));
+		}
+	}
+
+	/**
+	 * @return the random operand which is uniform on the bit length or around
+	 *         the boundaries such as the power of two and Util.MAX_EQC, there is
+	 *         one eighth chance it's negative
+	 */
+	final static BigInteger nextOperand(Random random) {
+		BigInteger operand = null;
+		switch (random.nextInt(4)) {
+		case 0:
+			operand = BigInteger.valueOf(random.nextInt(1 << 17));
+			break;
+		case 1:
+			operand = new BigInteger(1 + random.nextInt(Long.SIZE + 8), random);
+			break;
+		case 2:
+			operand = BigInteger.ONE.shiftLeft(random.nextInt(Long.SIZE + 8)).add(BigInteger.valueOf(random.nextInt(5) - 2));
+			break;
+		default:
+			operand = Util.MAX_EQC.add(BigInteger.valueOf(random.nextInt(5) - 2));
+			break;
+		}
+		return (random.nextInt(8) == 0) ? operand.negate() : operand;
+	}
+
+	/**
+	 * @return the plain BigInteger which doesn't go through any overridden method
+	 */
+	final static BigInteger toBigInteger(BigInteger value) {
+		return new BigInteger(value.toByteArray());
+	}
+
+	/**
+	 * Make sure the compact result is the same as the legacy one or both of them
+	 * throw the same type of exception.
+	 * @return the compact result or null if both of them throw exception
+	 */
+	final static <T> T assertSameResult(Supplier<T> legacy, Supplier<T> compact, String message) {
+		T expected = null;
+		RuntimeException expectedException = null;
+		try {
+			expected = legacy.get();
+		} catch (RuntimeException e) {
+			expectedException = e;
+		}
+		T actual = null;
+		try {
+			actual = compact.get();
+		} catch (RuntimeException e) {
+			assertNotNull(expectedException, message + " unexpected " + e);
+			assertEquals(expectedException.getClass(), e.getClass(), message);
+			return null;
+		}
+		assertNull(expectedException, message + " expected " + expectedException + " but " + actual);
+		assertTrue(Objects.deepEquals(expected, actual), message + " expected " + expected + " but " + actual);
+		return actual;
+	}
+
+	/**
+	 * Besides the same result also make sure the result's compact long is
+	 * consistent with its BigInteger value.
+	 */
+	private static void assertSameID(Supplier<ID> legacy, Supplier<ID> compact, String message) {
+		ID id = assertSameResult(legacy, compact, message);
+		if (id != null) {
+			assertArrayEquals(EQCCastle.bigIntegerToEQCBits(toBigInteger(id)), id.getEQCBits(), message);
+		}
+	}
+
+	private static ID nextID(Random random) {
+		BigInteger value = nextOperand(random).abs();
+		// Cover both the long constructor and the BigInteger constructor
+		return (value.bitLength() < Long.SIZE && random.nextBoolean()) ? ID.valueOf(value.longValue())
+				: new ID(value);
+	}
+
+	private static BigInteger nextVal(Random random) {
+		BigInteger val = nextOperand(random);
+		// Cover the compareTo and isNextID fast path which only apply to the ID
+		return (val.signum() >= 0 && random.nextBoolean()) ? new ID(val) : val;
+	}
+
+	private static void assertEncoding(ID id) {
+		BigInteger value = toBigInteger(id);
+		byte[] eqcBits = EQCCastle.bigIntegerToEQCBits(value);
+		assertArrayEquals(eqcBits, id.getEQCBits(), value.toString());
+		// Not every ID can be encoded as EQCQuantum
+		assertSameResult(() -> EQCCastle.bigIntegerToEQCQuantum(value), id::getEQCQuantum, value.toString());
+		assertEquals(value, new ID(eqcBits), value.toString());
+		assertEquals(value, ID.valueOf(eqcBits), value.toString());
+	}
+
+}
@@ -0,0 +1,136 @@
+/**
+ * EQcoin core
+ *
+ * http://www.eqcoin.org
+ * 
+ * @Copyright 2018-present Xun Wang All Rights Reserved...
+ * The copyright of all works released by Xun Wang or jointly released by
+ * Xun Wang with cooperative partners are owned by Xun Wang and entitled
+ * to protection available from copyright law by country as well as international
+ * conventions.
+ * Attribution — You must give appropriate credit, provide a link to the license.
+ * Non Commercial — You may not use the material for commercial purposes.
+ * No Derivatives — If you remix, transform, or build upon the material, you may
+ * not distribute the modified material.
+ * Xun Wang reserves any and all current and future rights, titles and interests
+ * in any and all intellectual property rights of Xun Wang including but not limited
+ * to discoveries, ideas, marks, concepts, methods, formulas, processes, codes,
+ * software, inventions, compositions, techniques, information and data, whether
+ * or not protectable in trademark, copyrightable or patentable, and any trademarks,
+ * copyrights or patents based thereon. For the use of any and all intellectual
+ * property rights of Xun Wang without prior written permission, Xun Wang reserves
+ * all rights to take any legal action and pursue any rights or remedies under
+ * applicable law.
+ */
+package org.eqcoin.util;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.math.BigInteger;
+import java.util.Random;
+import java.util.function.Supplier;
+
+import org.eqcoin.serialization.EQCCastle;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Differential check of Value's compact long fast path against the plain
+ * BigInteger arithmetic and encoding on the random and boundary operands, the
+ * result which isn't in (0, Util.MAX_EQC] should be rejected by both of them.
+ *
+ * @author agent
+ * @date Oct 18, 2026
+ * @email agent@local
+ */
+class ValueTest {
+	private final static int ROUNDS = 200000;
+
+	/**
+	 * Test method for {@link org.eqcoin.util.Value#add(java.math.BigInteger)},
+	 * {@link org.eqcoin.util.Value#subtract(java.math.BigInteger)},
+	 * {@link org.eqcoin.util.Value#multiply(java.math.BigInteger)} and
+	 * {@link org.eqcoin.util.Value#divide(java.math.BigInteger)}.
+	 */
+	@Test
+	final void testArithmetic() {
+		Random random = new Random(35);
+		for (int i = 0; i < ROUNDS; ++i) {
+			Value value = nextValue(random);
+			BigInteger amount = IDTest.toBigInteger(value);
+			BigInteger val = nextVal(random);
+			BigInteger operand = IDTest.toBigInteger(val);
+			String message = value + " " + operand;
+			assertSameValue(() -> new Value(amount.add(operand)), () -> value.add(val), message);
+			assertSameValue(() -> new Value(amount.subtract(operand)), () -> value.subtract(val), message);
+			assertSameValue(() -> new Value(amount.multiply(operand)), () -> value.multiply(val), message);
+			assertSameValue(() -> new Value(amount.divide(operand)), () -> value.divide(val), message);
+		}
+	}
+
+	/**
+	 * Test method for {@link org.eqcoin.util.Value#compareTo(java.math.BigInteger)}.
+	 */
+	@Test
+	final void testCompareTo() {
+		Random random = new Random(36);
+		for (int i = 0; i < ROUNDS; ++i) {
+			Value value = nextValue(random);
+			BigInteger val = nextVal(random);
+			assertEquals(Integer.signum(IDTest.toBigInteger(value).compareTo(IDTest.toBigInteger(val))),
+					Integer.signum(value.compareTo(val)), value + " " + val);
+		}
+	}
+
+	/**
+	 * Test method for {@link org.eqcoin.util.Value#getEQCBits()} and
+	 * {@link org.eqcoin.util.Value#getEQCLight()}.
+	 */
+	@Test
+	final void testEQCBits() {
+		Random random = new Random(37);
+		for (int i = 0; i < ROUNDS; ++i) {
+			assertEncoding(nextValue(random));
+		}
+		assertEncoding(new Value(Util.MAX_EQC));
+		assertEncoding(new Value(1));
+	}
+
+	/**
+	 * Besides the same result also make sure the result's compact long is
+	 * consistent with its BigInteger value.
+	 */
+	private static void assertSameValue(Supplier<Value> legacy, Supplier<Value> compact, String message) {
+		Value value = IDTest.assertSameResult(legacy, compact, message);
+		if (value != null) {
+			assertArrayEquals(EQCCastle.bigIntegerToEQCBits(IDTest.toBigInteger(value)), value.getEQCBits(), message);
+		}
+	}
+
+	/**
+	 * @return the random Value in (0, Util.MAX_EQC] which keeps the operand's
+	 *         boundaries such as 1 and Util.MAX_EQC
+	 */
+	private static Value nextValue(Random random) {
+		BigInteger amount = IDTest.nextOperand(random).abs().subtract(BigInteger.ONE).mod(Util.MAX_EQC)
+				.add(BigInteger.ONE);
+		// Cover both the long constructor and the BigInteger constructor
+		return (amount.bitLength() < Long.SIZE && random.nextBoolean()) ? new Value(amount.longValue())
+				: new Value(amount);
+	}
+
+	private static BigInteger nextVal(Random random) {
+		BigInteger val = IDTest.nextOperand(random);
+		// Cover the compareTo fast path which only apply to the Value
+		return (val.signum() > 0 && val.compareTo(Util.MAX_EQC) <= 0 && random.nextBoolean()) ? new Value(val) : val;
+	}
+
+	private static void assertEncoding(Value value) {
+		BigInteger amount = IDTest.toBigInteger(value);
+		byte[] eqcBits = EQCCastle.bigIntegerToEQCBits(amount);
+		assertArrayEquals(eqcBits, value.getEQCBits(), amount.toString());
+		// Not every Value can be encoded as EQCLight
+		IDTest.assertSameResult(() -> EQCCastle.bigIntegerToEQCLight(amount), value::getEQCLight, amount.toString());
+		assertEquals(amount, new Value(eqcBits), amount.toString());
+	}
+
+}